@@ -3,13 +3,17 @@ package dev.hugog.minecraft.wonderquests;
 import com.google.inject.Guice;
 import com.google.inject.Inject;
 import com.google.inject.Injector;
+import dev.hugog.minecraft.wonderquests.cache.ActiveQuestsWriteBehind;
 import dev.hugog.minecraft.wonderquests.cache.CacheScheduler;
+import dev.hugog.minecraft.wonderquests.cache.implementation.ActiveQuestsCache;
 import dev.hugog.minecraft.wonderquests.commands.BukkitCommandExecutor;
 import dev.hugog.minecraft.wonderquests.concurrency.ConcurrencyHandler;
 import dev.hugog.minecraft.wonderquests.config.PluginConfigHandler;
 import dev.hugog.minecraft.wonderquests.data.connectivity.DataSource;
 import dev.hugog.minecraft.wonderquests.data.connectivity.DbInitializer;
+import dev.hugog.minecraft.wonderquests.data.services.PlayerSessionService;
 import dev.hugog.minecraft.wonderquests.data.services.QuestsService;
+import dev.hugog.minecraft.wonderquests.data.services.SignService;
 import dev.hugog.minecraft.wonderquests.hooks.EconomyHook;
 import dev.hugog.minecraft.wonderquests.injection.BasicBinderModule;
 import dev.hugog.minecraft.wonderquests.language.Messaging;
@@ -18,10 +22,13 @@ import dev.hugog.minecraft.wonderquests.listeners.ActiveQuestUpdateListener;
 import dev.hugog.minecraft.wonderquests.listeners.GuiClickListener;
 import dev.hugog.minecraft.wonderquests.listeners.InteractiveChatListener;
 import dev.hugog.minecraft.wonderquests.listeners.PlayerJoinListener;
+import dev.hugog.minecraft.wonderquests.listeners.PlayerSessionListener;
 import dev.hugog.minecraft.wonderquests.listeners.QuestGoalsListener;
 import dev.hugog.minecraft.wonderquests.listeners.SignUpdateListener;
+import dev.hugog.minecraft.wonderquests.signs.SignRefreshScheduler;
 import java.util.concurrent.CompletableFuture;
 import org.bukkit.command.PluginCommand;
+import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
 
 /**
@@ -41,12 +48,20 @@ public final class WonderQuests extends JavaPlugin {
   @Inject private InteractiveChatListener interactiveChatListener;
   @Inject private GuiClickListener guiClickListener;
   @Inject private PlayerJoinListener playerJoinListener;
+  @Inject private PlayerSessionListener playerSessionListener;
   @Inject private QuestGoalsListener questGoalsListener;
   @Inject private SignUpdateListener signUpdateListener;
   @Inject private ActiveQuestUpdateListener activeQuestUpdateListener;
   @Inject private CacheScheduler cacheScheduler;
+  @Inject private SignRefreshScheduler signRefreshScheduler;
+  @Inject private PluginConfigHandler pluginConfigHandler;
+  @Inject private ActiveQuestsWriteBehind activeQuestsWriteBehind;
+  @Inject private ActiveQuestsCache activeQuestsCache;
   @Inject private MessagingConfigurator messagingConfigurator;
   @Inject private EconomyHook economyHook;
+  @Inject private PlayerSessionService playerSessionService;
+  @Inject private QuestsService questsService;
+  @Inject private SignService signService;
 
   /**
    * This method is called when the plugin is enabled.
@@ -77,41 +92,77 @@ public final class WonderQuests extends JavaPlugin {
     CompletableFuture<?>[] futuresToWaitFor = concurrencyHandler.getListOfFutures(
         databaseCheckFuture);
 
-    // Wait for the database check to finish before continuing.
+    // Load localized messaging bundles
+    messaging.loadBundles();
+
+    // Setup Vault Economy Hook
+    economyHook.setupEconomy();
+
+    // Register the commands and listeners right away - the rest of the plugin is enabled on a
+    // later tick, after the database check, and the players who join meanwhile must not be missed
+    registerCommands();
+    registerListeners();
+
+    // Wait for the database check to finish before continuing, without blocking the main thread.
     concurrencyHandler.runAfterMultiple(futuresToWaitFor, () -> {
 
       // Sync Logic
       getLogger().info("Database check finished! Enabling plugin...");
 
-      // Load localized messaging bundles
-      messaging.loadBundles();
+      // Load the quest catalog - until it's loaded, quests are read from the database
+      questsService.reloadCatalog();
 
-      // Register Commands
-      registerCommands();
+      // Load the sign registry - until it's loaded, signs are read from the database
+      signService.loadSigns();
 
-      // Register Listener
-      registerListeners();
+      // Start the sessions of the players that are already online (e.g., after a reload), so
+      // their data is loaded before they trigger any quest goal event. The players who joined
+      // since the listeners were registered already have a session.
+      playerSessionService.startSessions(getServer().getOnlinePlayers().stream()
+          .map(Player::getUniqueId)
+          .toList());
 
-      // Start cache scheduler
-      cacheScheduler.runTaskTimerAsynchronously(this, 10 * 20L, 10 * 20L);
+      // Start cache scheduler - it runs every second, so the flush interval of the active quests
+      // can be honored
+      cacheScheduler.runTaskTimerAsynchronously(this, 10 * 20L, 20L);
 
-      // Setup Vault Economy Hook
-      economyHook.setupEconomy();
+      // Start sign refresh scheduler - the quests signs of each player are refreshed at most once
+      // per interval
+      long signsRefreshInterval = Math.max(1, pluginConfigHandler.getSignsRefreshInterval());
+      signRefreshScheduler.runTaskTimerAsynchronously(this, signsRefreshInterval,
+          signsRefreshInterval);
 
       getLogger().info("Plugin successfully enabled!");
 
-    }, false);
+    }, false).exceptionally(throwable -> {
+      getLogger().severe("Unable to enable the plugin! Caused by: " + throwable.getMessage());
+      return null;
+    });
 
   }
 
   /**
    * This method is called when the plugin is disabled.
    *
-   * <p>It closes the data source.</p>
+   * <p>It writes the pending active quests changes and closes the data source.</p>
    */
   @Override
   public void onDisable() {
 
+    // The plugin may be disabled before it finished enabling (e.g., no database connection)
+    if (activeQuestsWriteBehind != null && activeQuestsWriteBehind.getPendingCount() > 0) {
+      activeQuestsWriteBehind.flush().join();
+    }
+
+    if (activeQuestsCache != null) {
+      getLogger().info("Active quests cache: " + activeQuestsCache.getStatistics());
+    }
+
+    if (economyHook != null) {
+      getLogger().info("Economy balances cache: " + economyHook.getBalanceStatistics());
+      getLogger().info("Economy calls: " + economyHook.getEconomyStatistics());
+    }
+
     dataSource.closeDataSource();
     getLogger().info("Plugin successfully disabled!");
 
@@ -148,6 +199,7 @@ public final class WonderQuests extends JavaPlugin {
     getServer().getPluginManager().registerEvents(interactiveChatListener, this);
     getServer().getPluginManager().registerEvents(guiClickListener, this);
     getServer().getPluginManager().registerEvents(playerJoinListener, this);
+    getServer().getPluginManager().registerEvents(playerSessionListener, this);
     getServer().getPluginManager().registerEvents(questGoalsListener, this);
     getServer().getPluginManager().registerEvents(signUpdateListener, this);
     getServer().getPluginManager().registerEvents(activeQuestUpdateListener, this);
@@ -158,21 +158,11 @@ public class CreateQuestAction extends AbstractAction<Boolean> {
         .withStep(mobNameStep)
         .withStep(amountStep)
         .withSessionEndCallback(() -> {
-          questsService.createNewQuest(questDto)
-              .thenAccept((questId) -> {
-                objectiveDto.setQuestId(questId);
-                questsService.addQuestObjective(objectiveDto)
-                    .thenAccept((objective) -> player.sendMessage(
-                        messaging.getLocalizedChatInfo("commands.quest.create.success")))
-                    .exceptionally((exception) -> {
-                      player.sendMessage(
-                          messaging.getLocalizedChatInfo("commands.quest.create.error")
-                              .color(NamedTextColor.RED)
-                      );
-                      logger.warning("Error creating quest objective: " + exception.getMessage());
-                      return null;
-                    });
-              })
+          // The quest and its objective are written in a single transaction
+          questDto.setObjective(objectiveDto);
+          questsService.createQuestAggregate(questDto)
+              .thenAccept((questId) -> player.sendMessage(
+                  messaging.getLocalizedChatInfo("commands.quest.create.success")))
               .exceptionally((exception) -> {
                 player.sendMessage(
                     messaging.getLocalizedChatInfo("commands.quest.create.error")
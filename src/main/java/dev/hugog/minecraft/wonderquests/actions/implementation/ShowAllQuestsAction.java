@@ -14,6 +14,8 @@ import org.bukkit.entity.Player;
  */
 public class ShowAllQuestsAction extends AbstractAction<Boolean> {
 
+  private static final int PAGE_SIZE = 10;
+
   private final int page;
   private final Messaging messaging;
   private final QuestsService questsService;
@@ -38,7 +40,7 @@ public class ShowAllQuestsAction extends AbstractAction<Boolean> {
       return false;
     }
 
-    questsService.getAllQuestsInInterval(page * 10, page * 10 + 10)
+    questsService.getQuestsPage(player.getUniqueId(), page, PAGE_SIZE)
         .thenAccept(quests -> {
 
           if (quests.isEmpty()) {
@@ -2,68 +2,107 @@ package dev.hugog.minecraft.wonderquests.cache;
 
 import java.time.Duration;
 import java.util.Iterator;
-import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Consumer;
 
+/**
+ * Base implementation of a cache whose entries expire a fixed amount of time after being written.
+ *
+ * <p>Reads are lock-free and writes are atomic per key. Since every entry has the same time to
+ * live, entries expire in the same order they were written - the expiry queue is therefore kept in
+ * write order and only its head needs to be checked when looking for expired entries.</p>
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
 public abstract class AbstractCache<K, V> implements Cache<K, V> {
 
-  protected final Map<K, V> cache;
-  protected final Map<K, Long> writeTimestamps;
-  private final Duration expirationTime;
+  protected final ConcurrentHashMap<K, CacheEntry<K, V>> cache;
+  private final Queue<CacheEntry<K, V>> expiryQueue;
+  private final long expirationTimeMillis;
 
   public AbstractCache(Duration expirationTime) {
 
-    this.expirationTime = expirationTime;
+    this.expirationTimeMillis = expirationTime.toMillis();
 
     this.cache = new ConcurrentHashMap<>();
-    this.writeTimestamps = new ConcurrentHashMap<>();
+    this.expiryQueue = new ConcurrentLinkedQueue<>();
 
   }
 
   @Override
-  public synchronized boolean has(K key) {
+  public boolean has(K key) {
     return cache.containsKey(key);
   }
 
   @Override
-  public synchronized V get(K key) {
-    return cache.get(key);
+  public V get(K key) {
+    CacheEntry<K, V> entry = cache.get(key);
+    return entry != null ? entry.value() : null;
   }
 
   @Override
-  public synchronized void put(K key, V value) {
-    writeTimestamps.put(key, System.currentTimeMillis());
-    cache.put(key, value);
+  public void put(K key, V value) {
+
+    CacheEntry<K, V> newEntry = new CacheEntry<>(key, value, System.currentTimeMillis());
+
+    cache.compute(key, (k, previousEntry) -> {
+      if (previousEntry != null) {
+        onEntryRemoved(k, previousEntry.value());
+      }
+      onEntryAdded(k, value);
+      return newEntry;
+    });
+
+    expiryQueue.offer(newEntry);
+
   }
 
   @Override
-  public synchronized void invalidate(K key) {
-    writeTimestamps.remove(key);
-    cache.remove(key);
+  public void invalidate(K key) {
+    cache.computeIfPresent(key, (k, entry) -> {
+      onEntryRemoved(k, entry.value());
+      return null;
+    });
   }
 
   @Override
   public void invalidateExpired() {
-    keysIterator().forEachRemaining(key -> {
-      if (isExpired(key)) {
-        invalidate(key);
+
+    long now = System.currentTimeMillis();
+
+    CacheEntry<K, V> head;
+    while ((head = expiryQueue.peek()) != null && head.isExpired(now, expirationTimeMillis)) {
+      // Pinned entries leave the expiry queue but stay cached, until they are invalidated
+      if (expiryQueue.remove(head) && !isPinned(head.key())) {
+        invalidateEntry(head);
       }
-    });
+    }
+
   }
 
   public void doForAllExpiredKeys(Consumer<V> doForAllExpiredKeys) {
-    keysIterator().forEachRemaining(key -> {
-      if (isExpired(key)) {
-        doForAllExpiredKeys.accept(get(key));
+
+    long now = System.currentTimeMillis();
+
+    for (CacheEntry<K, V> entry : expiryQueue) {
+      if (!entry.isExpired(now, expirationTimeMillis)) {
+        break;
       }
-    });
+      // Entries that were invalidated or overwritten stay in the queue until they reach its head
+      if (cache.get(entry.key()) == entry) {
+        doForAllExpiredKeys.accept(entry.value());
+      }
+    }
+
   }
 
   @Override
   public boolean isExpired(K key) {
-    return writeTimestamps.containsKey(key)
-        && System.currentTimeMillis() - writeTimestamps.get(key) > expirationTime.toMillis();
+    CacheEntry<K, V> entry = cache.get(key);
+    return entry != null && entry.isExpired(System.currentTimeMillis(), expirationTimeMillis);
   }
 
   @Override
@@ -73,7 +112,95 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 
   @Override
   public Iterator<V> valuesIterator() {
-    return cache.values().iterator();
+    return cache.values().stream().map(CacheEntry::value).iterator();
+  }
+
+  /**
+   * Called, inside the atomic update of the key, after an entry is added to the cache.
+   *
+   * <p>Subclasses can override this method to keep secondary structures in sync with the
+   * cache.</p>
+   *
+   * @param key the key of the added entry
+   * @param value the value of the added entry
+   */
+  protected void onEntryAdded(K key, V value) {
+  }
+
+  /**
+   * Called, inside the atomic update of the key, after an entry is removed from the cache, either
+   * because it was invalidated or because it was replaced by a new value.
+   *
+   * @param key the key of the removed entry
+   * @param value the value of the removed entry
+   */
+  protected void onEntryRemoved(K key, V value) {
+  }
+
+  /**
+   * Checks if an entry must be kept in the cache, even after it expires.
+   *
+   * <p>Pinned entries are only removed by {@link #invalidate(Object)}.</p>
+   *
+   * @param key the key of the entry
+   * @return true if the entry is pinned, false otherwise
+   */
+  protected boolean isPinned(K key) {
+    return false;
+  }
+
+  /**
+   * Removes the given entry from the cache, unless the key was written again in the meantime.
+   *
+   * @param expiredEntry the entry to remove
+   */
+  private void invalidateEntry(CacheEntry<K, V> expiredEntry) {
+    cache.computeIfPresent(expiredEntry.key(), (k, entry) -> {
+      if (entry != expiredEntry) {
+        return entry;
+      }
+      onEntryRemoved(k, entry.value());
+      return null;
+    });
+  }
+
+  /**
+   * A cached value together with the time it was written.
+   *
+   * <p>Entries are compared by identity, so an entry that was overwritten can be told apart from
+   * the current one, even if they hold the same value.</p>
+   *
+   * @param <K> the type of the key
+   * @param <V> the type of the value
+   */
+  protected static final class CacheEntry<K, V> {
+
+    private final K key;
+    private final V value;
+    private final long writeTimestamp;
+
+    private CacheEntry(K key, V value, long writeTimestamp) {
+      this.key = key;
+      this.value = value;
+      this.writeTimestamp = writeTimestamp;
+    }
+
+    public K key() {
+      return key;
+    }
+
+    public V value() {
+      return value;
+    }
+
+    public long writeTimestamp() {
+      return writeTimestamp;
+    }
+
+    private boolean isExpired(long now, long expirationTimeMillis) {
+      return now - writeTimestamp > expirationTimeMillis;
+    }
+
   }
 
 }
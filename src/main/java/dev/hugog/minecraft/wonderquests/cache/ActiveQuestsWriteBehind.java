@@ -0,0 +1,197 @@
+package dev.hugog.minecraft.wonderquests.cache;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import dev.hugog.minecraft.wonderquests.config.PluginConfigHandler;
+import dev.hugog.minecraft.wonderquests.data.dtos.ActiveQuestDto;
+import dev.hugog.minecraft.wonderquests.data.keys.PlayerQuestKey;
+import dev.hugog.minecraft.wonderquests.data.models.ActiveQuestModel;
+import dev.hugog.minecraft.wonderquests.data.repositories.ActiveQuestRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * This class buffers the changes made to active quests and writes them to the database in
+ * batches.
+ *
+ * <p>Changes to the same active quest are coalesced, so only its latest state is written. A flush
+ * is triggered when the number of pending changes reaches the configured batch size, or by the
+ * {@link CacheScheduler} once the configured interval has elapsed since the last flush. Active
+ * quests that didn't change are never written.</p>
+ *
+ * <p>The batch size isn't checked while a flush is running, as the quests being written are still
+ * pending until their write succeeds. The changes made meanwhile are written by the next flush.</p>
+ */
+@Singleton
+public class ActiveQuestsWriteBehind {
+
+  private final Logger logger;
+  private final ActiveQuestRepository activeQuestRepository;
+
+  // Changed active quests, including the ones being flushed, until their write succeeds
+  private final Map<PlayerQuestKey, ActiveQuestDto> pendingWrites;
+  private final int batchSize;
+  private final long flushIntervalMillis;
+  private final AtomicInteger runningFlushes;
+
+  private volatile long lastFlushTimestamp;
+
+  /**
+   * Constructor for the ActiveQuestsWriteBehind class.
+   *
+   * @param logger The logger instance used for logging.
+   * @param activeQuestRepository The repository used to write the active quests.
+   * @param pluginConfigHandler The plugin's configuration handler.
+   */
+  @Inject
+  public ActiveQuestsWriteBehind(@Named("bukkitLogger") Logger logger,
+      ActiveQuestRepository activeQuestRepository, PluginConfigHandler pluginConfigHandler) {
+
+    this.logger = logger;
+    this.activeQuestRepository = activeQuestRepository;
+    this.pendingWrites = new ConcurrentHashMap<>();
+    this.batchSize = Math.max(1, pluginConfigHandler.getCacheActiveQuestsFlushBatchSize());
+    this.flushIntervalMillis = pluginConfigHandler.getCacheActiveQuestsFlushInterval() * 1000L;
+    this.runningFlushes = new AtomicInteger();
+    this.lastFlushTimestamp = System.currentTimeMillis();
+
+  }
+
+  /**
+   * This method schedules an active quest to be written to the database, if it has changed.
+   *
+   * @param activeQuestDto The active quest to write.
+   */
+  public void enqueue(ActiveQuestDto activeQuestDto) {
+
+    if (!activeQuestDto.isDirty()) {
+      return;
+    }
+
+    pendingWrites.put(getKey(activeQuestDto), activeQuestDto);
+
+    if (runningFlushes.get() == 0 && pendingWrites.size() >= batchSize) {
+      flush();
+    }
+
+  }
+
+  /**
+   * This method gets the active quest waiting to be written to the database, if there is one,
+   * including the active quests being written by a running flush.
+   *
+   * <p>It should be preferred over the database state, which may not include the latest
+   * changes yet.</p>
+   *
+   * @param key The key of the active quest.
+   * @return the pending active quest, or null if there isn't one.
+   */
+  public ActiveQuestDto getPending(PlayerQuestKey key) {
+    return pendingWrites.get(key);
+  }
+
+  /**
+   * This method discards the pending changes of an active quest, e.g., because the quest was
+   * completed or cancelled.
+   *
+   * @param key The key of the active quest.
+   */
+  public void discard(PlayerQuestKey key) {
+    pendingWrites.remove(key);
+  }
+
+  /**
+   * This method gets the number of active quests waiting to be written to the database.
+   *
+   * @return the number of pending active quests.
+   */
+  public int getPendingCount() {
+    return pendingWrites.size();
+  }
+
+  /**
+   * This method flushes the pending changes if the flush interval has elapsed since the last
+   * flush.
+   *
+   * @return a CompletableFuture that will be completed when the flush is done.
+   */
+  public CompletableFuture<Void> flushIfDue() {
+
+    if (pendingWrites.isEmpty()
+        || System.currentTimeMillis() - lastFlushTimestamp < flushIntervalMillis) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    return flush();
+
+  }
+
+  /**
+   * This method writes the pending changes to the database in a single batch.
+   *
+   * <p>The changes already being written by a running flush aren't written again. If the write
+   * fails, the changes are kept and retried on the next flush.</p>
+   *
+   * @return a CompletableFuture that will be completed when the flush is done.
+   */
+  public CompletableFuture<Void> flush() {
+
+    lastFlushTimestamp = System.currentTimeMillis();
+    runningFlushes.incrementAndGet();
+
+    // Claim the changes to write. Entries already claimed by a running flush are skipped.
+    List<ActiveQuestDto> batch = new ArrayList<>();
+    pendingWrites.values().forEach(activeQuestDto -> {
+      if (activeQuestDto.clearDirty()) {
+        batch.add(activeQuestDto);
+      }
+    });
+
+    if (batch.isEmpty()) {
+      runningFlushes.decrementAndGet();
+      return CompletableFuture.completedFuture(null);
+    }
+
+    List<ActiveQuestModel> models = batch.stream().map(ActiveQuestDto::toModel).toList();
+
+    return activeQuestRepository.saveAll(models)
+        .handle((updatedRows, throwable) -> {
+
+          if (throwable != null) {
+            logger.warning(String.format("Unable to flush %d active quests - Exception: %s",
+                batch.size(), throwable.getMessage()));
+            batch.forEach(ActiveQuestDto::markDirty);
+          } else {
+            batch.forEach(this::completeWrite);
+          }
+
+          runningFlushes.decrementAndGet();
+          return null;
+
+        });
+
+  }
+
+  private void completeWrite(ActiveQuestDto activeQuestDto) {
+
+    PlayerQuestKey key = getKey(activeQuestDto);
+
+    // The quest may have changed again while it was being written. In that case, it must stay
+    // pending, so the new changes are written by the next flush.
+    if (pendingWrites.remove(key, activeQuestDto) && activeQuestDto.isDirty()) {
+      pendingWrites.putIfAbsent(key, activeQuestDto);
+    }
+
+  }
+
+  private PlayerQuestKey getKey(ActiveQuestDto activeQuestDto) {
+    return new PlayerQuestKey(activeQuestDto.getPlayerId(), activeQuestDto.getQuestId());
+  }
+
+}
@@ -2,29 +2,68 @@ package dev.hugog.minecraft.wonderquests.cache;
 
 import com.google.inject.Inject;
 import dev.hugog.minecraft.wonderquests.cache.implementation.ActiveQuestsCache;
-import dev.hugog.minecraft.wonderquests.data.services.ActiveQuestsService;
+import dev.hugog.minecraft.wonderquests.data.dtos.ActiveQuestDto;
+import dev.hugog.minecraft.wonderquests.data.services.PlayerSessionService;
+import dev.hugog.minecraft.wonderquests.mediators.QuestsMediator;
+import org.bukkit.Server;
+import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitRunnable;
 
 public class CacheScheduler extends BukkitRunnable {
 
-  private final ActiveQuestsService activeQuestsService;
+  private final ActiveQuestsWriteBehind activeQuestsWriteBehind;
   private final ActiveQuestsCache activeQuestsCache;
+  private final Server server;
+  private final QuestsMediator questsMediator;
+  private final PlayerSessionService playerSessionService;
 
   @Inject
   public CacheScheduler(ActiveQuestsCache activeQuestsCache,
-      ActiveQuestsService activeQuestsService) {
+      ActiveQuestsWriteBehind activeQuestsWriteBehind, Server server,
+      QuestsMediator questsMediator, PlayerSessionService playerSessionService) {
 
-    this.activeQuestsService = activeQuestsService;
+    this.activeQuestsWriteBehind = activeQuestsWriteBehind;
     this.activeQuestsCache = activeQuestsCache;
+    this.server = server;
+    this.questsMediator = questsMediator;
+    this.playerSessionService = playerSessionService;
 
   }
 
   @Override
   public void run() {
 
-    activeQuestsCache.doForAllExpiredKeys(activeQuestsService::saveActiveQuest);
+    // Only the active quests that changed are written. The write-behind queue keeps them until
+    // they are flushed, even after they leave the cache.
+    activeQuestsCache.doForAllExpiredKeys(activeQuestsWriteBehind::enqueue);
+    activeQuestsWriteBehind.flushIfDue();
     activeQuestsCache.invalidateExpired();
 
+    // The pinned quests of the players who never finished logging in would never expire
+    playerSessionService.endAbandonedSessions();
+
+    notifyExpiredQuests();
+
+  }
+
+  /**
+   * Notifies an update of the active quests of the online players that ran out of time, so the
+   * ActiveQuestUpdateListener removes them and tells the players.
+   *
+   * <p>Goal events only notify the quests whose objective they match, so a quest that expires
+   * without any more progress is only noticed here.</p>
+   */
+  private void notifyExpiredQuests() {
+
+    for (Player player : server.getOnlinePlayers()) {
+      for (ActiveQuestDto activeQuest : activeQuestsCache.get(player.getUniqueId())) {
+        if (activeQuest.getQuestDetails() != null && activeQuest.isExpired()
+            && !activeQuest.isExpiryHandled()) {
+          questsMediator.notifyQuestUpdate(player, activeQuest);
+        }
+      }
+    }
+
   }
 
 }
@@ -0,0 +1,49 @@
+package dev.hugog.minecraft.wonderquests.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the hits and misses of a cache.
+ *
+ * <p>The counters are meant to be updated from many threads at once, so they are striped
+ * ({@link LongAdder}) instead of being a single contended atomic.</p>
+ */
+public class CacheStatistics {
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  public void recordHit() {
+    hits.increment();
+  }
+
+  public void recordMiss() {
+    misses.increment();
+  }
+
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  /**
+   * This method gets the ratio of lookups that were answered by the cache.
+   *
+   * @return the hit rate, between 0 and 1, or 0 if there were no lookups yet.
+   */
+  public double getHitRate() {
+    long hitCount = getHitCount();
+    long lookups = hitCount + getMissCount();
+    return lookups == 0 ? 0 : (double) hitCount / lookups;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%d hits, %d misses (%.1f%% hit rate)", getHitCount(), getMissCount(),
+        getHitRate() * 100);
+  }
+
+}
@@ -0,0 +1,144 @@
+package dev.hugog.minecraft.wonderquests.cache.implementation;
+
+import com.google.inject.Singleton;
+import dev.hugog.minecraft.wonderquests.data.keys.PlayerQuestKey;
+import dev.hugog.minecraft.wonderquests.data.types.ObjectiveType;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This class indexes the objectives of the active quests by objective type and objective value.
+ *
+ * <p>It allows the quest goal listeners to find the active quests affected by an event without
+ * iterating over every active quest of the player. Unlike the active quests cache, the entries of
+ * this index do not expire - they are only removed when the quest is completed or cancelled.</p>
+ */
+@Singleton
+public class ActiveObjectivesIndex {
+
+  private final Map<ObjectiveType, Map<String, Map<UUID, Set<Integer>>>> objectives;
+  private final Map<PlayerQuestKey, IndexedObjective> indexedQuests;
+
+  public ActiveObjectivesIndex() {
+
+    this.objectives = new EnumMap<>(ObjectiveType.class);
+    this.indexedQuests = new ConcurrentHashMap<>();
+
+    for (ObjectiveType objectiveType : ObjectiveType.values()) {
+      objectives.put(objectiveType, new ConcurrentHashMap<>());
+    }
+
+  }
+
+  /**
+   * This method adds the objective of an active quest to the index.
+   *
+   * <p>If the quest was already indexed with a different objective, the old entry is replaced.</p>
+   *
+   * @param key The key of the active quest.
+   * @param objectiveType The type of the quest objective.
+   * @param objectiveValue The value of the quest objective (e.g., the material or entity type).
+   */
+  public void index(PlayerQuestKey key, ObjectiveType objectiveType, String objectiveValue) {
+
+    if (objectiveType == null || objectiveValue == null) {
+      return;
+    }
+
+    IndexedObjective objective = new IndexedObjective(objectiveType, objectiveValue);
+    IndexedObjective previousObjective = indexedQuests.put(key, objective);
+
+    if (objective.equals(previousObjective)) {
+      return;
+    }
+
+    if (previousObjective != null) {
+      removeEntry(key, previousObjective);
+    }
+
+    objectives.get(objectiveType).compute(objectiveValue, (value, players) -> {
+      Map<UUID, Set<Integer>> indexedPlayers =
+          players != null ? players : new ConcurrentHashMap<>();
+      indexedPlayers.computeIfAbsent(key.playerId(), playerId -> ConcurrentHashMap.newKeySet())
+          .add(key.questId());
+      return indexedPlayers;
+    });
+
+  }
+
+  /**
+   * This method removes an active quest from the index.
+   *
+   * @param key The key of the active quest.
+   */
+  public void remove(PlayerQuestKey key) {
+
+    IndexedObjective objective = indexedQuests.remove(key);
+
+    if (objective != null) {
+      removeEntry(key, objective);
+    }
+
+  }
+
+  /**
+   * This method checks if an active quest is indexed.
+   *
+   * @param key The key of the active quest.
+   * @return true if the active quest is indexed, false otherwise.
+   */
+  public boolean isIndexed(PlayerQuestKey key) {
+    return indexedQuests.containsKey(key);
+  }
+
+  /**
+   * This method gets the ids of the active quests of a player whose objective matches the given
+   * type and value.
+   *
+   * <p>When nothing matches, a shared empty set is returned, so the lookup doesn't allocate.</p>
+   *
+   * @param playerId The id of the player.
+   * @param objectiveType The type of the objective.
+   * @param objectiveValue The value of the objective (e.g., the material or entity type).
+   * @return an unmodifiable Set containing the ids of the matching quests.
+   */
+  public Set<Integer> getMatchingQuests(UUID playerId, ObjectiveType objectiveType,
+      String objectiveValue) {
+
+    Map<UUID, Set<Integer>> players = objectives.get(objectiveType).get(objectiveValue);
+
+    if (players == null) {
+      return Collections.emptySet();
+    }
+
+    Set<Integer> questIds = players.get(playerId);
+
+    if (questIds == null) {
+      return Collections.emptySet();
+    }
+
+    return Collections.unmodifiableSet(questIds);
+
+  }
+
+  private void removeEntry(PlayerQuestKey key, IndexedObjective objective) {
+
+    objectives.get(objective.type()).computeIfPresent(objective.value(), (value, players) -> {
+      players.computeIfPresent(key.playerId(), (playerId, questIds) -> {
+        questIds.remove(key.questId());
+        return questIds.isEmpty() ? null : questIds;
+      });
+      return players.isEmpty() ? null : players;
+    });
+
+  }
+
+  private record IndexedObjective(ObjectiveType type, String value) {
+
+  }
+
+}
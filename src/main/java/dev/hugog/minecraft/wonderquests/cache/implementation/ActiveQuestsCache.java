@@ -3,32 +3,68 @@ package dev.hugog.minecraft.wonderquests.cache.implementation;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import dev.hugog.minecraft.wonderquests.cache.AbstractCache;
+import dev.hugog.minecraft.wonderquests.cache.CacheStatistics;
 import dev.hugog.minecraft.wonderquests.config.PluginConfigHandler;
 import dev.hugog.minecraft.wonderquests.data.dtos.ActiveQuestDto;
 import dev.hugog.minecraft.wonderquests.data.keys.PlayerQuestKey;
 import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Singleton
 public class ActiveQuestsCache extends AbstractCache<PlayerQuestKey, ActiveQuestDto> {
 
+  // Secondary index by player, kept in sync with the main cache by the entry hooks. Each player
+  // is updated inside a compute call, so concurrent writes for the same player are serialized.
+  private final Map<UUID, PlayerQuests> playerQuests;
+  private final CacheStatistics statistics;
+
+  // Online players, whose active quests must not expire while their session lasts
+  private final Set<UUID> pinnedPlayers;
+
   @Inject
   public ActiveQuestsCache(PluginConfigHandler pluginConfigHandler) {
     super(Duration.ofSeconds(pluginConfigHandler.getCacheActiveQuestsExpirationTime()));
+    this.playerQuests = new ConcurrentHashMap<>();
+    this.statistics = new CacheStatistics();
+    this.pinnedPlayers = ConcurrentHashMap.newKeySet();
   }
 
   public boolean has(UUID playerId) {
-    return cache.keySet().stream()
-        .anyMatch(playerQuestKey -> playerQuestKey.playerId().equals(playerId));
+    return playerQuests.containsKey(playerId);
   }
 
   public Set<ActiveQuestDto> get(UUID playerId) {
-    return cache.keySet().stream()
-        .filter(playerQuestKey -> playerQuestKey.playerId().equals(playerId))
-        .map(cache::get)
-        .collect(Collectors.toSet());
+    PlayerQuests quests = playerQuests.get(playerId);
+    return quests != null ? quests.view : Collections.emptySet();
+  }
+
+  /**
+   * Gets the active quests of a player in a single lookup, recording it as a hit or a miss.
+   *
+   * @param playerId the id of the player
+   * @return the active quests of the player, or null if they aren't cached
+   */
+  public Set<ActiveQuestDto> getIfPresent(UUID playerId) {
+
+    PlayerQuests quests = playerQuests.get(playerId);
+
+    if (quests == null) {
+      statistics.recordMiss();
+      return null;
+    }
+
+    statistics.recordHit();
+    return quests.view;
+
+  }
+
+  public ActiveQuestDto get(UUID playerId, Integer questId) {
+    PlayerQuests quests = playerQuests.get(playerId);
+    return quests != null ? quests.questsById.get(questId) : null;
   }
 
   public void put(UUID playerId, Set<ActiveQuestDto> activeQuests) {
@@ -37,4 +73,78 @@ public class ActiveQuestsCache extends AbstractCache<PlayerQuestKey, ActiveQuest
             activeQuestDto));
   }
 
+  /**
+   * Removes all the active quests of a player from the cache.
+   *
+   * @param playerId the id of the player
+   */
+  public void invalidate(UUID playerId) {
+    get(playerId).forEach(activeQuestDto -> invalidate(
+        new PlayerQuestKey(playerId, activeQuestDto.getQuestId())));
+  }
+
+  /**
+   * Keeps the active quests of a player cached, even after they expire, until the player is
+   * unpinned.
+   *
+   * @param playerId the id of the player
+   */
+  public void pin(UUID playerId) {
+    pinnedPlayers.add(playerId);
+  }
+
+  public void unpin(UUID playerId) {
+    pinnedPlayers.remove(playerId);
+  }
+
+  public boolean isPinned(UUID playerId) {
+    return pinnedPlayers.contains(playerId);
+  }
+
+  public CacheStatistics getStatistics() {
+    return statistics;
+  }
+
+  @Override
+  protected boolean isPinned(PlayerQuestKey key) {
+    return pinnedPlayers.contains(key.playerId());
+  }
+
+  @Override
+  protected void onEntryAdded(PlayerQuestKey key, ActiveQuestDto value) {
+    playerQuests.compute(key.playerId(), (id, quests) -> {
+      PlayerQuests updatedQuests = quests != null ? quests : new PlayerQuests();
+      updatedQuests.questsById.put(key.questId(), value);
+      updatedQuests.refreshView();
+      return updatedQuests;
+    });
+  }
+
+  @Override
+  protected void onEntryRemoved(PlayerQuestKey key, ActiveQuestDto value) {
+    playerQuests.computeIfPresent(key.playerId(), (id, quests) -> {
+      quests.questsById.remove(key.questId());
+      if (quests.questsById.isEmpty()) {
+        return null;
+      }
+      quests.refreshView();
+      return quests;
+    });
+  }
+
+  /**
+   * Active quests of a single player. The view is rebuilt on every write, so reads can return it
+   * directly without copying.
+   */
+  private static final class PlayerQuests {
+
+    private final Map<Integer, ActiveQuestDto> questsById = new ConcurrentHashMap<>();
+    private volatile Set<ActiveQuestDto> view = Collections.emptySet();
+
+    private void refreshView() {
+      view = Set.copyOf(questsById.values());
+    }
+
+  }
+
 }
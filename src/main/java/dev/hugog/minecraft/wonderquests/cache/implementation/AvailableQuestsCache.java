@@ -0,0 +1,126 @@
+package dev.hugog.minecraft.wonderquests.cache.implementation;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import dev.hugog.minecraft.wonderquests.cache.implementation.QuestCatalog.Snapshot;
+import dev.hugog.minecraft.wonderquests.data.dtos.QuestDto;
+import dev.hugog.minecraft.wonderquests.requirements.CompiledRequirement;
+import dev.hugog.minecraft.wonderquests.requirements.RequirementContext;
+import dev.hugog.minecraft.wonderquests.requirements.RequirementsPlanCache;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches, for each online player, the quests that they could accept.
+ *
+ * <p>An entry keeps the quests of the catalog that the player hasn't completed and whose tracked
+ * requirements (see {@link CompiledRequirement#isTracked()}) are met, together with the inputs it
+ * was computed from: the catalog version, the completed quests and the level of the player.
+ * Entries are checked against the current inputs when read, so they are only recomputed after an
+ * input changes - and completing a quest only removes the completed quests from the entry. The
+ * remaining requirements are checked on every read, but only for the quests in the entry.</p>
+ */
+@Singleton
+public class AvailableQuestsCache {
+
+  private final QuestCatalog questCatalog;
+  private final RequirementsPlanCache requirementsPlanCache;
+
+  private final Map<UUID, AvailableQuests> availableQuests;
+
+  /**
+   * Constructor for the AvailableQuestsCache class.
+   *
+   * @param questCatalog The in-memory catalog of all quests.
+   * @param requirementsPlanCache The cache of the compiled requirements of the quests.
+   */
+  @Inject
+  public AvailableQuestsCache(QuestCatalog questCatalog,
+      RequirementsPlanCache requirementsPlanCache) {
+    this.questCatalog = questCatalog;
+    this.requirementsPlanCache = requirementsPlanCache;
+    this.availableQuests = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Checks if the available quests can be computed, i.e., if the quest catalog is loaded.
+   *
+   * @return true if the quest catalog is loaded, false otherwise
+   */
+  public boolean isReady() {
+    return questCatalog.isLoaded();
+  }
+
+  /**
+   * Gets the quests that a player could accept, ordered by id.
+   *
+   * @param playerId the id of the player
+   * @param context the current state of the player
+   * @param completedQuestIds the ids of the quests completed by the player
+   * @return the available quests
+   */
+  public List<QuestDto> get(UUID playerId, RequirementContext context,
+      QuestIdSet completedQuestIds) {
+
+    Snapshot snapshot = questCatalog.getSnapshot();
+    AvailableQuests cached = availableQuests.get(playerId);
+    AvailableQuests current = cached;
+
+    if (current == null || current.catalogVersion() != snapshot.version()
+        || current.level() != context.getLevel()
+        || !completedQuestIds.containsAll(current.completedQuestIds())) {
+      current = compute(snapshot, context, completedQuestIds);
+    } else if (!current.completedQuestIds().equals(completedQuestIds)) {
+      current = current.withoutCompleted(completedQuestIds);
+    }
+
+    // Entries computed concurrently may replace each other, but any of them is checked against the
+    // inputs on the next read
+    if (current != cached) {
+      availableQuests.put(playerId, current);
+    }
+
+    return current.quests().stream()
+        .filter(quest -> requirementsPlanCache.getPlan(quest).areLiveRequirementsMetBy(context))
+        .toList();
+
+  }
+
+  public void invalidate(UUID playerId) {
+    availableQuests.remove(playerId);
+  }
+
+  private AvailableQuests compute(Snapshot snapshot, RequirementContext context,
+      QuestIdSet completedQuestIds) {
+
+    List<QuestDto> quests = snapshot.quests().stream()
+        .filter(quest -> !completedQuestIds.contains(quest.getId()))
+        .filter(quest -> requirementsPlanCache.getPlan(quest).areTrackedRequirementsMetBy(context))
+        .toList();
+
+    return new AvailableQuests(snapshot.version(), context.getLevel(), completedQuestIds, quests);
+
+  }
+
+  /**
+   * The quests that a player could accept, before checking the requirements that aren't tracked.
+   *
+   * @param catalogVersion the version of the catalog the quests were taken from
+   * @param level the level of the player
+   * @param completedQuestIds the ids of the quests completed by the player
+   * @param quests the quests, ordered by id
+   */
+  private record AvailableQuests(long catalogVersion, int level, QuestIdSet completedQuestIds,
+      List<QuestDto> quests) {
+
+    private AvailableQuests withoutCompleted(QuestIdSet newCompletedQuestIds) {
+      return new AvailableQuests(catalogVersion, level, newCompletedQuestIds, quests.stream()
+          .filter(quest -> !newCompletedQuestIds.contains(quest.getId()))
+          .toList());
+    }
+
+  }
+
+}
@@ -0,0 +1,57 @@
+package dev.hugog.minecraft.wonderquests.cache.implementation;
+
+import com.google.inject.Singleton;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the ids of the quests completed by the online players.
+ *
+ * <p>The ids are loaded when the player's session starts and dropped when it ends, so they don't
+ * expire while the player is online. They are kept in a {@link QuestIdSet}, which is replaced
+ * rather than modified when the player completes a quest, so reads need no locking.</p>
+ */
+@Singleton
+public class CompletedQuestsCache {
+
+  private final Map<UUID, QuestIdSet> completedQuests;
+
+  public CompletedQuestsCache() {
+    this.completedQuests = new ConcurrentHashMap<>();
+  }
+
+  public boolean has(UUID playerId) {
+    return completedQuests.containsKey(playerId);
+  }
+
+  /**
+   * Gets the ids of the quests completed by a player.
+   *
+   * @param playerId the id of the player
+   * @return the completed quest ids, or null if they aren't cached
+   */
+  public QuestIdSet get(UUID playerId) {
+    return completedQuests.get(playerId);
+  }
+
+  public void put(UUID playerId, Collection<Integer> questIds) {
+    completedQuests.put(playerId, QuestIdSet.of(questIds));
+  }
+
+  /**
+   * Adds a completed quest to the cached ids of a player, if they are cached.
+   *
+   * @param playerId the id of the player
+   * @param questId the id of the completed quest
+   */
+  public void add(UUID playerId, Integer questId) {
+    completedQuests.computeIfPresent(playerId, (id, questIds) -> questIds.with(questId));
+  }
+
+  public void invalidate(UUID playerId) {
+    completedQuests.remove(playerId);
+  }
+
+}
@@ -0,0 +1,146 @@
+package dev.hugog.minecraft.wonderquests.cache.implementation;
+
+import com.google.inject.Singleton;
+import dev.hugog.minecraft.wonderquests.data.dtos.QuestDto;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Holds every quest in memory, as an immutable snapshot.
+ *
+ * <p>The catalog is small and read-mostly, so reads are served from the current snapshot without
+ * any lock, and every change to the quests installs a whole new snapshot. Snapshots are versioned:
+ * a reload only installs its snapshot if no newer reload was installed in the meantime, so a slow
+ * reload can't overwrite the result of a newer one.</p>
+ */
+@Singleton
+public class QuestCatalog {
+
+  private final AtomicReference<Snapshot> snapshot;
+  private final AtomicLong versions;
+
+  public QuestCatalog() {
+    this.snapshot = new AtomicReference<>(Snapshot.EMPTY);
+    this.versions = new AtomicLong();
+  }
+
+  public Snapshot getSnapshot() {
+    return snapshot.get();
+  }
+
+  public boolean isLoaded() {
+    return snapshot.get().version() > 0;
+  }
+
+  /**
+   * Reserves the version of a new snapshot. It must be called before the quests are read from the
+   * database, so reloads started later always get a newer version.
+   *
+   * @return the version of the new snapshot
+   */
+  public long nextVersion() {
+    return versions.incrementAndGet();
+  }
+
+  /**
+   * Installs a new snapshot with the given quests, unless a newer one is already installed.
+   *
+   * @param version the version of the snapshot, reserved with {@link #nextVersion()}
+   * @param quests the quests of the snapshot
+   * @return true if the snapshot was installed, false if a newer one is already installed
+   */
+  public boolean install(long version, Collection<QuestDto> quests) {
+
+    Snapshot newSnapshot = Snapshot.of(version, quests);
+
+    Snapshot currentSnapshot;
+    do {
+      currentSnapshot = snapshot.get();
+      if (currentSnapshot.version() >= version) {
+        return false;
+      }
+    } while (!snapshot.compareAndSet(currentSnapshot, newSnapshot));
+
+    return true;
+
+  }
+
+  /**
+   * An immutable view of all the quests.
+   *
+   * @param version the version of the snapshot
+   * @param questsById the quests, by id
+   * @param quests the quests, ordered by id
+   */
+  public record Snapshot(long version, Map<Integer, QuestDto> questsById, List<QuestDto> quests) {
+
+    private static final Snapshot EMPTY = new Snapshot(0, Map.of(), List.of());
+
+    private static Snapshot of(long version, Collection<QuestDto> quests) {
+
+      List<QuestDto> orderedQuests = quests.stream()
+          .sorted(Comparator.comparing(QuestDto::getId))
+          .toList();
+
+      Map<Integer, QuestDto> questsById = orderedQuests.stream()
+          .collect(Collectors.toUnmodifiableMap(QuestDto::getId, Function.identity()));
+
+      return new Snapshot(version, questsById, orderedQuests);
+
+    }
+
+    public Optional<QuestDto> getQuest(Integer id) {
+      return Optional.ofNullable(questsById.get(id));
+    }
+
+    /**
+     * Gets the quests in the interval [start, end[, ordered by id.
+     *
+     * @param start the position of the first quest
+     * @param end the position after the last quest
+     * @return the quests in the interval, or an empty list if there are none
+     */
+    public List<QuestDto> getQuests(int start, int end) {
+
+      int fromIndex = Math.max(0, Math.min(start, quests.size()));
+      int toIndex = Math.max(fromIndex, Math.min(end, quests.size()));
+
+      return quests.subList(fromIndex, toIndex);
+
+    }
+
+    /**
+     * Gets the quests with an id greater than the given one, ordered by id.
+     *
+     * @param afterId the id after which the quests start
+     * @param limit the maximum number of quests
+     * @return the quests after the given id, or an empty list if there are none
+     */
+    public List<QuestDto> getQuestsAfter(int afterId, int limit) {
+
+      // Binary search for the first quest with an id greater than afterId
+      int low = 0;
+      int high = quests.size();
+      while (low < high) {
+        int middle = (low + high) >>> 1;
+        if (quests.get(middle).getId() <= afterId) {
+          low = middle + 1;
+        } else {
+          high = middle;
+        }
+      }
+
+      return getQuests(low, low + limit);
+
+    }
+
+  }
+
+}
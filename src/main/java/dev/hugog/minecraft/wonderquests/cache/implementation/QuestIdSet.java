@@ -0,0 +1,174 @@
+package dev.hugog.minecraft.wonderquests.cache.implementation;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * An immutable set of quest ids, stored as a bitset.
+ *
+ * <p>Quest ids are generated by a sequence, so they are small and dense: a bitset takes one bit
+ * per quest up to the greatest id in the set, instead of a boxed Integer and a hash table entry
+ * per id, and answers membership checks without hashing.</p>
+ */
+public final class QuestIdSet {
+
+  private static final QuestIdSet EMPTY = new QuestIdSet(new long[0], 0);
+
+  private final long[] words;
+  private final int size;
+
+  private QuestIdSet(long[] words, int size) {
+    this.words = words;
+    this.size = size;
+  }
+
+  public static QuestIdSet empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Creates a set with the given quest ids.
+   *
+   * @param questIds the quest ids, which can't be negative
+   * @return the set of quest ids
+   */
+  public static QuestIdSet of(Collection<Integer> questIds) {
+
+    if (questIds.isEmpty()) {
+      return EMPTY;
+    }
+
+    int maxQuestId = 0;
+    for (Integer questId : questIds) {
+      maxQuestId = Math.max(maxQuestId, checkQuestId(questId));
+    }
+
+    long[] words = new long[wordIndex(maxQuestId) + 1];
+    int size = 0;
+
+    for (Integer questId : questIds) {
+      if (!isSet(words, questId)) {
+        words[wordIndex(questId)] |= 1L << questId;
+        size++;
+      }
+    }
+
+    return new QuestIdSet(words, size);
+
+  }
+
+  public boolean contains(int questId) {
+    return questId >= 0 && wordIndex(questId) < words.length && isSet(words, questId);
+  }
+
+  /**
+   * Checks if this set contains every quest id of another set.
+   *
+   * @param other the other set
+   * @return true if the other set is a subset of this one, false otherwise
+   */
+  public boolean containsAll(QuestIdSet other) {
+
+    for (int wordIndex = 0; wordIndex < other.words.length; wordIndex++) {
+      long word = wordIndex < words.length ? words[wordIndex] : 0;
+      if ((other.words[wordIndex] & ~word) != 0) {
+        return false;
+      }
+    }
+
+    return true;
+
+  }
+
+  /**
+   * Returns a set with the quest ids of this set and the given one.
+   *
+   * @param questId the quest id to add, which can't be negative
+   * @return this set, if it already contains the quest id, or a copy of it with the quest id
+   */
+  public QuestIdSet with(int questId) {
+
+    if (contains(checkQuestId(questId))) {
+      return this;
+    }
+
+    long[] newWords = Arrays.copyOf(words, Math.max(words.length, wordIndex(questId) + 1));
+    newWords[wordIndex(questId)] |= 1L << questId;
+
+    return new QuestIdSet(newWords, size + 1);
+
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+
+    if (this == o) {
+      return true;
+    }
+
+    if (!(o instanceof QuestIdSet other) || size != other.size) {
+      return false;
+    }
+
+    // Trailing empty words don't change the set
+    int commonLength = Math.min(words.length, other.words.length);
+    return Arrays.equals(words, 0, commonLength, other.words, 0, commonLength);
+
+  }
+
+  @Override
+  public int hashCode() {
+
+    int lastWord = words.length - 1;
+    while (lastWord >= 0 && words[lastWord] == 0) {
+      lastWord--;
+    }
+
+    return Arrays.hashCode(Arrays.copyOf(words, lastWord + 1));
+
+  }
+
+  @Override
+  public String toString() {
+
+    StringBuilder builder = new StringBuilder("[");
+
+    for (int wordIndex = 0; wordIndex < words.length; wordIndex++) {
+      long word = words[wordIndex];
+      while (word != 0) {
+        if (builder.length() > 1) {
+          builder.append(", ");
+        }
+        builder.append(wordIndex * Long.SIZE + Long.numberOfTrailingZeros(word));
+        word &= word - 1;
+      }
+    }
+
+    return builder.append(']').toString();
+
+  }
+
+  private static int checkQuestId(Integer questId) {
+    if (questId == null || questId < 0) {
+      throw new IllegalArgumentException("Invalid quest id: " + questId);
+    }
+    return questId;
+  }
+
+  private static int wordIndex(int questId) {
+    return questId >>> 6;
+  }
+
+  private static boolean isSet(long[] words, int questId) {
+    return (words[wordIndex(questId)] & (1L << questId)) != 0;
+  }
+
+}
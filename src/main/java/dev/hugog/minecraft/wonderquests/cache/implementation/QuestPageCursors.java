@@ -0,0 +1,72 @@
+package dev.hugog.minecraft.wonderquests.cache.implementation;
+
+import com.google.inject.Singleton;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches, for each player, the cursors of the pages of the quest list they visited.
+ *
+ * <p>The cursor of a page is the id of the last quest shown before it, so the page is read with a
+ * range scan over the quest ids (quests with a greater id), instead of counting quests from the
+ * start. A player only keeps the cursors of a few pages, since they usually browse the list page
+ * by page.</p>
+ */
+@Singleton
+public class QuestPageCursors {
+
+  // Maximum number of cursors kept for each player
+  private static final int MAX_CURSORS_PER_PLAYER = 32;
+
+  private final Map<UUID, Map<Integer, Integer>> cursors;
+
+  public QuestPageCursors() {
+    this.cursors = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Gets the cursor of a page of the quest list of a player.
+   *
+   * @param playerId the id of the player
+   * @param page the page, starting at 0
+   * @return the id of the last quest before the page, or null if the cursor isn't cached
+   */
+  public Integer get(UUID playerId, int page) {
+
+    // The first page starts before every quest
+    if (page == 0) {
+      return 0;
+    }
+
+    Map<Integer, Integer> playerCursors = cursors.get(playerId);
+    return playerCursors != null ? playerCursors.get(page) : null;
+
+  }
+
+  /**
+   * Caches the cursor of a page of the quest list of a player.
+   *
+   * @param playerId the id of the player
+   * @param page the page, starting at 0
+   * @param afterId the id of the last quest before the page
+   */
+  public void put(UUID playerId, int page, int afterId) {
+
+    Map<Integer, Integer> playerCursors = cursors.computeIfAbsent(playerId,
+        id -> new ConcurrentHashMap<>());
+
+    // Players rarely go back many pages, so it's cheaper to forget the cursors than to track usage
+    if (playerCursors.size() >= MAX_CURSORS_PER_PLAYER && !playerCursors.containsKey(page)) {
+      playerCursors.clear();
+    }
+
+    playerCursors.put(page, afterId);
+
+  }
+
+  public void invalidate(UUID playerId) {
+    cursors.remove(playerId);
+  }
+
+}
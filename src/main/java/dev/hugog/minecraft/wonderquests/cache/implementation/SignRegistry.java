@@ -0,0 +1,211 @@
+package dev.hugog.minecraft.wonderquests.cache.implementation;
+
+import com.google.inject.Singleton;
+import dev.hugog.minecraft.wonderquests.data.dtos.SignDto;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds every registered sign in memory, indexed by world and chunk.
+ *
+ * <p>Signs are loaded once, when the plugin is enabled, and kept in sync when signs are registered
+ * or unregistered, so finding the signs around a player doesn't touch the database. The signs of a
+ * chunk are kept in an immutable list, which is replaced when a sign is added or removed, so reads
+ * need no locking.</p>
+ */
+@Singleton
+public class SignRegistry {
+
+  private final Map<String, Map<Long, List<SignDto>>> signsByChunk;
+  private volatile boolean loaded;
+
+  // Positions of the signs registered or unregistered while the signs were being loaded, which
+  // are newer than the loaded signs at the same positions. Guarded by the lock.
+  private final Object loadLock;
+  private final Set<SignPosition> positionsChangedDuringLoad;
+
+  public SignRegistry() {
+    this.signsByChunk = new ConcurrentHashMap<>();
+    this.loadLock = new Object();
+    this.positionsChangedDuringLoad = new HashSet<>();
+  }
+
+  public boolean isLoaded() {
+    return loaded;
+  }
+
+  /**
+   * Adds the signs read from the database and marks the registry as loaded.
+   *
+   * <p>Signs registered or unregistered while the signs were being read are newer than the read
+   * signs at the same positions, so those read signs are skipped.</p>
+   *
+   * @param signs the signs read from the database
+   */
+  public void load(Collection<SignDto> signs) {
+
+    synchronized (loadLock) {
+
+      signs.stream()
+          .filter(sign -> !positionsChangedDuringLoad.contains(new SignPosition(
+              sign.getWorldName(), sign.getX(), sign.getY(), sign.getZ())))
+          .forEach(this::put);
+
+      positionsChangedDuringLoad.clear();
+      loaded = true;
+
+    }
+
+  }
+
+  /**
+   * Adds a sign, replacing the sign at the same position, if any.
+   *
+   * @param sign the sign to add
+   */
+  public void add(SignDto sign) {
+    recordChangeDuringLoad(sign.getWorldName(), sign.getX(), sign.getY(), sign.getZ());
+    put(sign);
+  }
+
+  /**
+   * Removes the sign at the given position, if any.
+   *
+   * @param worldName the name of the world of the sign
+   * @param x the x coordinate of the sign
+   * @param y the y coordinate of the sign
+   * @param z the z coordinate of the sign
+   */
+  public void remove(String worldName, int x, int y, int z) {
+
+    recordChangeDuringLoad(worldName, x, y, z);
+
+    Map<Long, List<SignDto>> worldSigns = signsByChunk.get(worldName);
+
+    if (worldSigns == null) {
+      return;
+    }
+
+    worldSigns.computeIfPresent(chunkKey(toChunk(x), toChunk(z)), (key, chunkSigns) -> {
+      List<SignDto> newChunkSigns = chunkSigns.stream()
+          .filter(chunkSign -> !isAt(chunkSign, x, y, z))
+          .toList();
+      return newChunkSigns.isEmpty() ? null : newChunkSigns;
+    });
+
+  }
+
+  /**
+   * Gets the signs in the chunks around a chunk.
+   *
+   * @param worldName the name of the world
+   * @param chunkX the x coordinate of the center chunk
+   * @param chunkZ the z coordinate of the center chunk
+   * @param chunkRadius the number of chunks around the center chunk to include
+   * @return the signs in the chunks, in no particular order
+   */
+  public List<SignDto> getSignsNear(String worldName, int chunkX, int chunkZ, int chunkRadius) {
+
+    Map<Long, List<SignDto>> worldSigns = signsByChunk.get(worldName);
+
+    if (worldSigns == null || worldSigns.isEmpty()) {
+      return List.of();
+    }
+
+    List<SignDto> signs = new ArrayList<>();
+    long side = 2L * chunkRadius + 1;
+
+    // Look up each chunk of the area, unless there are fewer chunks with signs than that
+    if (side * side <= worldSigns.size()) {
+      for (int x = chunkX - chunkRadius; x <= chunkX + chunkRadius; x++) {
+        for (int z = chunkZ - chunkRadius; z <= chunkZ + chunkRadius; z++) {
+          List<SignDto> chunkSigns = worldSigns.get(chunkKey(x, z));
+          if (chunkSigns != null) {
+            signs.addAll(chunkSigns);
+          }
+        }
+      }
+    } else {
+      worldSigns.forEach((key, chunkSigns) -> {
+        if (Math.abs(chunkX(key) - chunkX) <= chunkRadius
+            && Math.abs(chunkZ(key) - chunkZ) <= chunkRadius) {
+          signs.addAll(chunkSigns);
+        }
+      });
+    }
+
+    return signs;
+
+  }
+
+  /**
+   * Gets the number of registered signs.
+   *
+   * @return the number of signs
+   */
+  public int size() {
+    return signsByChunk.values().stream()
+        .flatMap(worldSigns -> worldSigns.values().stream())
+        .mapToInt(List::size)
+        .sum();
+  }
+
+  /**
+   * Gets the chunk coordinate of a block coordinate.
+   *
+   * @param blockCoordinate the x or z coordinate of a block
+   * @return the x or z coordinate of the chunk of the block
+   */
+  public static int toChunk(int blockCoordinate) {
+    return blockCoordinate >> 4;
+  }
+
+  private void put(SignDto sign) {
+    signsByChunk.computeIfAbsent(sign.getWorldName(), worldName -> new ConcurrentHashMap<>())
+        .compute(chunkKey(toChunk(sign.getX()), toChunk(sign.getZ())), (key, chunkSigns) -> {
+          List<SignDto> newChunkSigns = new ArrayList<>();
+          if (chunkSigns != null) {
+            chunkSigns.stream()
+                .filter(chunkSign -> !isAt(chunkSign, sign.getX(), sign.getY(), sign.getZ()))
+                .forEach(newChunkSigns::add);
+          }
+          newChunkSigns.add(sign);
+          return List.copyOf(newChunkSigns);
+        });
+  }
+
+  private void recordChangeDuringLoad(String worldName, int x, int y, int z) {
+    if (!loaded) {
+      synchronized (loadLock) {
+        if (!loaded) {
+          positionsChangedDuringLoad.add(new SignPosition(worldName, x, y, z));
+        }
+      }
+    }
+  }
+
+  private static long chunkKey(int chunkX, int chunkZ) {
+    return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+  }
+
+  private static int chunkX(long chunkKey) {
+    return (int) (chunkKey >> 32);
+  }
+
+  private static int chunkZ(long chunkKey) {
+    return (int) chunkKey;
+  }
+
+  private static boolean isAt(SignDto sign, int x, int y, int z) {
+    return sign.getX() == x && sign.getY() == y && sign.getZ() == z;
+  }
+
+  private record SignPosition(String worldName, int x, int y, int z) {
+  }
+
+}
@@ -0,0 +1,78 @@
+package dev.hugog.minecraft.wonderquests.concurrency;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+
+/**
+ * An executor that limits how many tasks its delegate runs at the same time.
+ *
+ * <p>Tasks over the limit are kept in a queue and only handed to the delegate once a running task
+ * finishes. Unlike blocking inside the task, waiting tasks don't hold a thread - this matters for
+ * delegates that start a new thread per task, such as virtual threads.</p>
+ */
+class BoundedExecutor implements Executor {
+
+  private final Executor delegate;
+  private final Semaphore permits;
+  private final Queue<Runnable> waitingTasks;
+
+  /**
+   * Constructor for the BoundedExecutor class.
+   *
+   * @param delegate The executor that runs the tasks.
+   * @param maxConcurrentTasks The maximum number of tasks running at the same time.
+   */
+  BoundedExecutor(Executor delegate, int maxConcurrentTasks) {
+    this.delegate = delegate;
+    this.permits = new Semaphore(Math.max(1, maxConcurrentTasks));
+    this.waitingTasks = new ConcurrentLinkedQueue<>();
+  }
+
+  @Override
+  public void execute(Runnable task) {
+    waitingTasks.offer(task);
+    dispatchWaitingTasks();
+  }
+
+  /**
+   * This method gets the number of tasks waiting for a running task to finish.
+   *
+   * @return the number of waiting tasks.
+   */
+  int getWaitingTaskCount() {
+    return waitingTasks.size();
+  }
+
+  private void dispatchWaitingTasks() {
+
+    while (!waitingTasks.isEmpty() && permits.tryAcquire()) {
+
+      Runnable task = waitingTasks.poll();
+
+      // Another thread dispatched the task in the meantime
+      if (task == null) {
+        permits.release();
+        continue;
+      }
+
+      try {
+        delegate.execute(() -> {
+          try {
+            task.run();
+          } finally {
+            permits.release();
+            dispatchWaitingTasks();
+          }
+        });
+      } catch (RuntimeException e) {
+        permits.release();
+        throw e;
+      }
+
+    }
+
+  }
+
+}
@@ -3,23 +3,34 @@ package dev.hugog.minecraft.wonderquests.concurrency;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import com.google.inject.name.Named;
 import dev.hugog.minecraft.wonderquests.WonderQuests;
-import java.util.Arrays;
+import dev.hugog.minecraft.wonderquests.config.PluginConfigHandler;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
+import java.util.logging.Logger;
 
 /**
  * This class handles the concurrency in the application.
+ *
+ * <p>Tasks are run according to the configured {@link ExecutionMode}. Database tasks never run
+ * with more concurrency than the database pool allows, so bursts of tasks wait in a queue instead
+ * of blocking threads while waiting for a connection.</p>
  */
 @Singleton
 public class ConcurrencyHandler {
 
-  private final Executor executorPool;
+  // Runs the tasks submitted by the repositories, which hold a database connection
+  private final Executor ioExecutor;
+
+  // Runs continuations, i.e., tasks that run after other tasks completed, and delayed tasks
+  private final Executor continuationExecutor;
 
   private final WonderQuests plugin;
 
@@ -27,15 +38,53 @@ public class ConcurrencyHandler {
    * Constructor for the ConcurrencyHandler class.
    *
    * @param plugin The plugin instance used for scheduling tasks.
+   * @param logger The logger instance used for logging.
+   * @param pluginConfigHandler The plugin's configuration handler.
    */
   @Inject
-  public ConcurrencyHandler(WonderQuests plugin) {
+  public ConcurrencyHandler(WonderQuests plugin, @Named("bukkitLogger") Logger logger,
+      PluginConfigHandler pluginConfigHandler) {
+    this(plugin, logger, resolveExecutionMode(logger, pluginConfigHandler.getConcurrencyMode()),
+        pluginConfigHandler.getDatabaseMaxPoolSize());
+  }
 
-    ThreadFactory threadFactory = new ThreadFactoryBuilder()
-        .setNameFormat("WonderQuests-Thread-%d")
-        .build();
+  /**
+   * Constructor for the ConcurrencyHandler class.
+   *
+   * @param plugin The plugin instance used for scheduling tasks.
+   * @param logger The logger instance used for logging.
+   * @param executionMode The way asynchronous tasks are run.
+   * @param maxConcurrentIoTasks The maximum number of database tasks running at the same time.
+   */
+  public ConcurrencyHandler(WonderQuests plugin, Logger logger, ExecutionMode executionMode,
+      int maxConcurrentIoTasks) {
+
+    int ioThreads = Math.max(1, maxConcurrentIoTasks);
+
+    switch (executionMode) {
+      case VIRTUAL -> {
+        ExecutorService virtualThreadExecutor = createVirtualThreadExecutor();
+        if (virtualThreadExecutor != null) {
+          this.ioExecutor = new BoundedExecutor(virtualThreadExecutor, ioThreads);
+          this.continuationExecutor = createPool("WonderQuests-Thread-%d",
+              Runtime.getRuntime().availableProcessors());
+        } else {
+          logger.warning("Virtual threads require Java 21 - using the POOLED mode instead.");
+          this.ioExecutor = createPool("WonderQuests-Thread-%d", ioThreads);
+          this.continuationExecutor = ioExecutor;
+        }
+      }
+      case SPLIT -> {
+        this.ioExecutor = createPool("WonderQuests-IO-Thread-%d", ioThreads);
+        this.continuationExecutor = createPool("WonderQuests-CPU-Thread-%d",
+            Runtime.getRuntime().availableProcessors());
+      }
+      default -> {
+        this.ioExecutor = createPool("WonderQuests-Thread-%d", ioThreads);
+        this.continuationExecutor = ioExecutor;
+      }
+    }
 
-    this.executorPool = Executors.newFixedThreadPool(5, threadFactory);
     this.plugin = plugin;
 
   }
@@ -45,7 +94,7 @@ public class ConcurrencyHandler {
    * This constructor is used for testing purposes.
    */
   public ConcurrencyHandler() {
-    this(null);
+    this(null, Logger.getLogger(ConcurrencyHandler.class.getName()), ExecutionMode.POOLED, 5);
   }
 
   /**
@@ -58,7 +107,7 @@ public class ConcurrencyHandler {
   public CompletableFuture<Void> run(Runnable runnable, boolean async) {
 
     if (async) {
-      return CompletableFuture.runAsync(runnable, executorPool);
+      return CompletableFuture.runAsync(runnable, ioExecutor);
     } else {
       runnable.run();
       return CompletableFuture.completedFuture(null);
@@ -69,6 +118,10 @@ public class ConcurrencyHandler {
   /**
    * This method runs a task after multiple other tasks are completed.
    *
+   * <p>If the task is not asynchronous, it runs on the main thread, but the caller is not blocked
+   * while the other tasks are running. The task always runs on a later tick, even if it is called
+   * from the main thread and the other tasks are already completed.</p>
+   *
    * @param completableFutures The tasks to be completed before running the task.
    * @param runnable The task to be run.
    * @param async A boolean indicating if the task should be run asynchronously.
@@ -77,14 +130,43 @@ public class ConcurrencyHandler {
   public CompletableFuture<Void> runAfterMultiple(CompletableFuture<?>[] completableFutures,
       Runnable runnable, boolean async) {
 
+    CompletableFuture<Void> allFutures = CompletableFuture.allOf(completableFutures);
+
     if (async) {
-      return CompletableFuture.allOf(completableFutures).thenRunAsync(runnable, executorPool);
-    } else {
-      Arrays.stream(completableFutures).forEach(CompletableFuture::join);
+      return allFutures.thenRunAsync(runnable, continuationExecutor);
+    }
+
+    // Without a plugin there is no main thread to hand the task to, so wait for the tasks instead
+    if (plugin == null) {
+      allFutures.join();
       runnable.run();
       return CompletableFuture.completedFuture(null);
     }
 
+    // Run the task on the main thread once the other tasks are completed, without blocking it
+    // while they are running
+    CompletableFuture<Void> taskFuture = new CompletableFuture<>();
+    allFutures.whenComplete((result, throwable) -> {
+
+      if (throwable != null) {
+        taskFuture.completeExceptionally(throwable);
+        return;
+      }
+
+      runOnMainThread(() -> {
+        try {
+          runnable.run();
+          taskFuture.complete(null);
+        } catch (RuntimeException e) {
+          taskFuture.completeExceptionally(e);
+          throw e;
+        }
+      });
+
+    });
+
+    return taskFuture;
+
   }
 
   /**
@@ -99,7 +181,8 @@ public class ConcurrencyHandler {
   public CompletableFuture<Void> runDelayed(Runnable runnable, long delay, TimeUnit timeUnit,
       boolean async) {
 
-    Executor delayedExecutor = CompletableFuture.delayedExecutor(delay, timeUnit);
+    Executor delayedExecutor = CompletableFuture.delayedExecutor(delay, timeUnit,
+        continuationExecutor);
 
     if (async) {
       return CompletableFuture.runAsync(runnable, delayedExecutor);
@@ -120,7 +203,7 @@ public class ConcurrencyHandler {
   public <T> CompletableFuture<T> supply(Supplier<T> supplier, boolean async) {
 
     if (async) {
-      return CompletableFuture.supplyAsync(supplier, executorPool);
+      return CompletableFuture.supplyAsync(supplier, ioExecutor);
     } else {
       return CompletableFuture.completedFuture(supplier.get());
     }
@@ -139,7 +222,7 @@ public class ConcurrencyHandler {
       Consumer<? super T> consumer, boolean async) {
 
     if (async) {
-      return completableFuture.thenAcceptAsync(consumer, executorPool);
+      return completableFuture.thenAcceptAsync(consumer, continuationExecutor);
     } else {
       consumer.accept(completableFuture.join());
       return CompletableFuture.completedFuture(null);
@@ -166,4 +249,43 @@ public class ConcurrencyHandler {
     plugin.getServer().getScheduler().runTask(plugin, runnable);
   }
 
+  private static ExecutionMode resolveExecutionMode(Logger logger, String configuredMode) {
+
+    ExecutionMode executionMode = ExecutionMode.fromString(configuredMode);
+
+    if (executionMode == null) {
+      logger.warning("Unknown concurrency mode '" + configuredMode + "' - using POOLED instead.");
+      return ExecutionMode.POOLED;
+    }
+
+    return executionMode;
+
+  }
+
+  private static Executor createPool(String nameFormat, int threads) {
+
+    ThreadFactory threadFactory = new ThreadFactoryBuilder()
+        .setNameFormat(nameFormat)
+        .build();
+
+    return Executors.newFixedThreadPool(threads, threadFactory);
+
+  }
+
+  /**
+   * This method creates an executor that starts a new virtual thread for each task.
+   *
+   * <p>The plugin is compiled for Java 17, so the executor is looked up reflectively.</p>
+   *
+   * @return the executor, or null if virtual threads are not supported by the running JVM.
+   */
+  private static ExecutorService createVirtualThreadExecutor() {
+    try {
+      return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+          .invoke(null);
+    } catch (ReflectiveOperationException e) {
+      return null;
+    }
+  }
+
 }
\ No newline at end of file
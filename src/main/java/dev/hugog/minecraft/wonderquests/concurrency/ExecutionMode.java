@@ -0,0 +1,38 @@
+package dev.hugog.minecraft.wonderquests.concurrency;
+
+/**
+ * The ways the {@link ConcurrencyHandler} can run asynchronous tasks.
+ *
+ * <p>In every mode, at most as many database tasks as there are database connections run at the
+ * same time. The remaining tasks wait in a queue, instead of blocking a thread while waiting for a
+ * connection.</p>
+ */
+public enum ExecutionMode {
+
+  /**
+   * A single pool of platform threads, sized from the database pool, runs every task.
+   */
+  POOLED,
+
+  /**
+   * Database tasks run on a pool sized from the database pool, while continuations (tasks that
+   * run after other tasks completed) run on a separate pool sized from the available processors.
+   */
+  SPLIT,
+
+  /**
+   * Every database task runs on its own virtual thread. Requires Java 21 - on older versions,
+   * {@link #POOLED} is used instead.
+   */
+  VIRTUAL;
+
+  public static ExecutionMode fromString(String string) {
+    for (ExecutionMode executionMode : ExecutionMode.values()) {
+      if (executionMode.name().equalsIgnoreCase(string)) {
+        return executionMode;
+      }
+    }
+    return null;
+  }
+
+}
@@ -74,6 +74,25 @@ public class PluginConfigHandler {
     return pluginConfig.getInt("Database.Pool.MaxSize");
   }
 
+  /**
+   * This method gets the strategy used to load quests with their objectives, requirements and
+   * rewards.
+   *
+   * @return a String representing the quest loading strategy (JOIN, KEYED or JSON).
+   */
+  public String getQuestLoadingStrategy() {
+    return pluginConfig.getString("Database.QuestLoading", "KEYED");
+  }
+
+  /**
+   * This method gets the mode used to run asynchronous tasks.
+   *
+   * @return a String representing the concurrency mode (POOLED, SPLIT or VIRTUAL).
+   */
+  public String getConcurrencyMode() {
+    return pluginConfig.getString("Concurrency.Mode", "POOLED");
+  }
+
   /**
    * This method gets the expiration time of the active quests cache.
    *
@@ -83,4 +102,33 @@ public class PluginConfigHandler {
     return pluginConfig.getInt("Cache.ActiveQuests.TTL");
   }
 
-}
\ No newline at end of file
+  /**
+   * This method gets the number of changed active quests that triggers a flush to the database.
+   *
+   * @return an Integer representing the batch size of the active quests flush.
+   */
+  public Integer getCacheActiveQuestsFlushBatchSize() {
+    return pluginConfig.getInt("Cache.ActiveQuests.Flush.BatchSize");
+  }
+
+  /**
+   * This method gets the maximum time, in seconds, that a changed active quest waits before being
+   * flushed to the database.
+   *
+   * @return an Integer representing the interval of the active quests flush.
+   */
+  public Integer getCacheActiveQuestsFlushInterval() {
+    return pluginConfig.getInt("Cache.ActiveQuests.Flush.Interval");
+  }
+
+  /**
+   * This method gets the minimum time, in ticks, between two refreshes of the quests signs of a
+   * player.
+   *
+   * @return an Integer representing the interval of the quests signs refreshes.
+   */
+  public Integer getSignsRefreshInterval() {
+    return pluginConfig.getInt("Signs.Refresh.Interval", 10);
+  }
+
+}
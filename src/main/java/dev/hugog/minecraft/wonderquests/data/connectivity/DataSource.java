@@ -73,9 +73,13 @@ public class DataSource {
     config.setUsername(username);
     config.setPassword(password);
 
-    config.addDataSourceProperty("cachePrepStmts", "true");
-    config.addDataSourceProperty("prepStmtCacheSize", "250");
-    config.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
+    // The plugin runs a small, fixed set of queries, so each connection prepares them on the server
+    // from their first execution and keeps them in its statement cache
+    config.addDataSourceProperty("prepareThreshold", "1");
+    config.addDataSourceProperty("preparedStatementCacheQueries", "256");
+    config.addDataSourceProperty("preparedStatementCacheSizeMiB", "5");
+    // Send batched inserts as multi-row inserts
+    config.addDataSourceProperty("reWriteBatchedInserts", "true");
 
     try {
       dataSource = new HikariDataSource(config);
@@ -162,6 +166,46 @@ public class DataSource {
 
   }
 
+  /**
+   * This method begins a unit of work, i.e., a transaction on a connection of its own.
+   *
+   * <p>The unit of work must be closed, preferably with a try-with-resources statement, to return
+   * its connection to the pool.</p>
+   *
+   * @return the unit of work.
+   */
+  public UnitOfWork beginUnitOfWork() {
+
+    try {
+      return new UnitOfWork(getConnection());
+    } catch (SQLException e) {
+      logger.severe("Error while beginning a unit of work! Caused by: " + e.getMessage());
+      throw new RuntimeException(e);
+    }
+
+  }
+
+  /**
+   * This method executes an operation in a unit of work and returns a result.
+   *
+   * <p>The unit of work is committed if the operation completes, and rolled back if it throws.</p>
+   *
+   * @param operation The operation to be executed in the unit of work.
+   * @return the result of the operation.
+   */
+  public <T> T executeInTransaction(Function<UnitOfWork, T> operation) {
+
+    try (UnitOfWork unitOfWork = beginUnitOfWork()) {
+      T result = operation.apply(unitOfWork);
+      unitOfWork.commit();
+      return result;
+    } catch (SQLException e) {
+      logger.severe("Error while executing a unit of work! Caused by: " + e.getMessage());
+      throw new RuntimeException(e);
+    }
+
+  }
+
   /**
    * This method closes the data source.
    */
@@ -70,6 +70,8 @@ public class DbInitializer {
               // created in a specific order to avoid foreign key constraint errors
               table.createTable().join();
             } else {
+              // Tables created by older versions may be missing the newer columns
+              table.updateTable().join();
               logger.info(String.format("Table '%s' checked. Good to go!", table.getTableName()));
             }
           });
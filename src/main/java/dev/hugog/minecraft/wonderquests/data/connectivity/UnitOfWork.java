@@ -0,0 +1,82 @@
+package dev.hugog.minecraft.wonderquests.data.connectivity;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * A transaction on a single connection, shared by the repositories that take part in it.
+ *
+ * <p>Nothing is written until {@link #commit()} is called. Closing a unit of work that wasn't
+ * committed rolls it back, so a failure in any of its operations discards all of them.</p>
+ */
+public class UnitOfWork implements AutoCloseable {
+
+  private final Connection connection;
+  private boolean completed;
+
+  /**
+   * Constructor for the UnitOfWork class. Begins a transaction on the connection.
+   *
+   * @param connection The connection of the unit of work, which is closed with it, or right away
+   *     if the transaction can't be started.
+   * @throws SQLException if the transaction can't be started.
+   */
+  UnitOfWork(Connection connection) throws SQLException {
+
+    this.connection = connection;
+
+    // The caller never gets a unit of work to close, so the connection is closed here
+    try {
+      this.connection.setAutoCommit(false);
+    } catch (SQLException e) {
+      try {
+        connection.close();
+      } catch (SQLException closeException) {
+        e.addSuppressed(closeException);
+      }
+      throw e;
+    }
+
+  }
+
+  public Connection getConnection() {
+    return connection;
+  }
+
+  /**
+   * This method commits the operations of the unit of work.
+   *
+   * @throws SQLException if the transaction can't be committed.
+   */
+  public void commit() throws SQLException {
+    connection.commit();
+    completed = true;
+  }
+
+  /**
+   * This method discards the operations of the unit of work.
+   *
+   * @throws SQLException if the transaction can't be rolled back.
+   */
+  public void rollback() throws SQLException {
+    connection.rollback();
+    completed = true;
+  }
+
+  /**
+   * This method rolls back the unit of work, unless it was committed, and closes its connection.
+   *
+   * @throws SQLException if the transaction can't be rolled back or the connection closed.
+   */
+  @Override
+  public void close() throws SQLException {
+    try {
+      if (!completed) {
+        connection.rollback();
+      }
+    } finally {
+      connection.close();
+    }
+  }
+
+}
@@ -2,27 +2,145 @@ package dev.hugog.minecraft.wonderquests.data.dtos;
 
 import dev.hugog.minecraft.wonderquests.data.models.ActiveQuestModel;
 import java.util.UUID;
-import lombok.AllArgsConstructor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 
-@AllArgsConstructor
+/**
+ * An active quest of a player.
+ *
+ * <p>The progress is kept in an atomic counter, so concurrent updates are never lost. Since it
+ * changes all the time, it isn't part of {@link #equals(Object)} and {@link #hashCode()}.</p>
+ */
 @Data
 public class ActiveQuestDto implements Dto<ActiveQuestModel> {
 
   private UUID playerId;
   private Integer questId;
   private Float target;
-  private Float progress;
   private Long startedAt;
   private QuestDto questDetails;
 
+  @Getter(AccessLevel.NONE)
+  @EqualsAndHashCode.Exclude
+  private final AtomicInteger progress = new AtomicInteger();
+
+  // Set once the quest reaches its target, so the completion is only handled once
+  @Getter(AccessLevel.NONE)
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private final AtomicBoolean completed = new AtomicBoolean(false);
+
+  // Set once the expiration is handled, so the quest is only removed and notified once
+  @Getter(AccessLevel.NONE)
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private final AtomicBoolean expiryHandled = new AtomicBoolean(false);
+
+  // Whether the progress changed since it was last written to the database
+  @Getter(AccessLevel.NONE)
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private final AtomicBoolean dirty = new AtomicBoolean(false);
+
+  public ActiveQuestDto(UUID playerId, Integer questId, Float target, Float progress,
+      Long startedAt, QuestDto questDetails) {
+    this.playerId = playerId;
+    this.questId = questId;
+    this.target = target;
+    this.progress.set(progress != null ? progress.intValue() : 0);
+    this.startedAt = startedAt;
+    this.questDetails = questDetails;
+  }
+
   public static ActiveQuestDto startQuest(UUID playerId, Integer questId, Float objectiveTarget) {
     return new ActiveQuestDto(playerId, questId, objectiveTarget, 0f, System.currentTimeMillis(),
         null);
   }
 
+  public void setTarget(Float target) {
+    this.target = target;
+    markDirty();
+  }
+
+  public Float getProgress() {
+    return (float) progress.get();
+  }
+
+  public void setProgress(Float progress) {
+    this.progress.set(progress.intValue());
+    markDirty();
+  }
+
+  /**
+   * Atomically increments the progress by one.
+   *
+   * @return the updated progress.
+   */
+  public int incrementProgress() {
+    int updatedProgress = progress.incrementAndGet();
+    markDirty();
+    return updatedProgress;
+  }
+
+  public boolean isCompleted() {
+    return progress.get() >= target;
+  }
+
+  /**
+   * Marks the quest as completed, if it reached its target.
+   *
+   * <p>Only the first call after the quest reaches its target succeeds, so the completion is
+   * handled exactly once, even if several updates cross the target at the same time.</p>
+   *
+   * @return true if this call marked the quest as completed, false otherwise.
+   */
+  public boolean tryMarkCompleted() {
+    return isCompleted() && completed.compareAndSet(false, true);
+  }
+
+  /**
+   * Marks the expiration of the quest as handled, if it expired.
+   *
+   * <p>Only the first call after the quest expires succeeds, so the expired quest is removed and
+   * the player notified once, even if several updates see it expired.</p>
+   *
+   * @return true if this call marked the expiration as handled, false otherwise.
+   */
+  public boolean tryMarkExpiryHandled() {
+    return isExpired() && expiryHandled.compareAndSet(false, true);
+  }
+
+  public boolean isExpiryHandled() {
+    return expiryHandled.get();
+  }
+
+  public void markDirty() {
+    dirty.set(true);
+  }
+
+  public boolean isDirty() {
+    return dirty.get();
+  }
+
+  /**
+   * Clears the dirty flag, if set.
+   *
+   * <p>Only one caller can clear the flag for each change, so the same change isn't written twice
+   * by concurrent flushes.</p>
+   *
+   * @return true if the flag was set and this call cleared it, false otherwise.
+   */
+  public boolean clearDirty() {
+    return dirty.compareAndSet(true, false);
+  }
+
   public int getProgressPercentage() {
-    return (int) ((progress / target) * 100);
+    return (int) ((progress.get() / target) * 100);
   }
 
   public int getSecondsLeft() {
@@ -36,7 +154,7 @@ public class ActiveQuestDto implements Dto<ActiveQuestModel> {
 
   @Override
   public ActiveQuestModel toModel() {
-    return new ActiveQuestModel(playerId, questId, target, progress, startedAt,
+    return new ActiveQuestModel(playerId, questId, target, getProgress(), startedAt,
         questDetails != null ? questDetails.toModel() : null);
   }
 
@@ -18,14 +18,20 @@ public class SignDto implements Dto<SignModel> {
   private Integer x;
   private Integer y;
   private Integer z;
+  // The quest shown by QUEST_STATUS signs, null for the other types
+  private Integer questId;
 
   public static SignDto createSign(SignType signType, Location location) {
-    return new SignDto(null, signType, location.getWorld().getName(), location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    return createSign(signType, location, null);
+  }
+
+  public static SignDto createSign(SignType signType, Location location, Integer questId) {
+    return new SignDto(null, signType, location.getWorld().getName(), location.getBlockX(), location.getBlockY(), location.getBlockZ(), questId);
   }
 
   @Override
   public SignModel toModel() {
-    return new SignModel(id, type.name(), worldName, x, y, z);
+    return new SignModel(id, type.name(), worldName, x, y, z, questId);
   }
 
 }
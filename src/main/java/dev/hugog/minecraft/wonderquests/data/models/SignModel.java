@@ -9,12 +9,13 @@ public record SignModel(
     String worldName,
     Integer x,
     Integer y,
-    Integer z
+    Integer z,
+    Integer questId
 ) implements DataModel<SignDto> {
 
   @Override
   public SignDto toDto() {
-    return new SignDto(id, SignType.fromString(type), worldName, x, y, z);
+    return new SignDto(id, SignType.fromString(type), worldName, x, y, z, questId);
   }
 
 }
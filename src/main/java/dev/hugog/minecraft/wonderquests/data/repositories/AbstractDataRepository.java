@@ -2,11 +2,14 @@ package dev.hugog.minecraft.wonderquests.data.repositories;
 
 import dev.hugog.minecraft.wonderquests.concurrency.ConcurrencyHandler;
 import dev.hugog.minecraft.wonderquests.data.connectivity.DataSource;
+import dev.hugog.minecraft.wonderquests.data.connectivity.UnitOfWork;
 import dev.hugog.minecraft.wonderquests.data.models.DataModel;
+import java.sql.Connection;
 import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
@@ -23,6 +26,9 @@ import lombok.Getter;
  */
 public abstract class AbstractDataRepository<T extends DataModel<?>, C> {
 
+  // Maximum number of rows written in a single JDBC batch and transaction
+  protected static final int BATCH_SIZE = 500;
+
   @Getter
   protected final String tableName;
 
@@ -64,18 +70,13 @@ public abstract class AbstractDataRepository<T extends DataModel<?>, C> {
 
       try {
 
-        PreparedStatement ps = con.prepareStatement(
+        return QueryExecutor.queryFirst(con,
             "SELECT EXISTS ("
                 + "SELECT FROM information_schema.tables "
                 + "WHERE table_schema = 'public' "
                 + "AND table_name = ?"
-                + ");");
-        ps.setString(1, tableName);
-
-        ResultSet rs = ps.executeQuery();
-        rs.next();
-
-        return rs.getBoolean(1);
+                + ");", ps -> ps.setString(1, tableName), rs -> rs.getBoolean(1))
+            .orElse(false);
 
       } catch (SQLException e) {
         logger.severe("Error while checking if the database exists! Caused by: " + e.getMessage());
@@ -96,9 +97,8 @@ public abstract class AbstractDataRepository<T extends DataModel<?>, C> {
 
       try {
 
-        Statement statement = con.createStatement();
         // In this context, concatenating the table name is safe as the table name is not user input
-        statement.execute(String.format("DROP TABLE IF EXISTS %s CASCADE;", tableName));
+        QueryExecutor.execute(con, String.format("DROP TABLE IF EXISTS %s CASCADE;", tableName));
 
       } catch (SQLException e) {
         logger.severe(String.format("Error while deleting the %s table! Caused by: %s", tableName,
@@ -120,6 +120,16 @@ public abstract class AbstractDataRepository<T extends DataModel<?>, C> {
    */
   public abstract CompletableFuture<Void> createTable();
 
+  /**
+   * Updates an existing table to the current schema, e.g., by adding the columns that were added
+   * after the table was created. By default, the table is left as it is.
+   *
+   * @return a CompletableFuture that will be completed when the table is updated.
+   */
+  public CompletableFuture<Void> updateTable() {
+    return CompletableFuture.completedFuture(null);
+  }
+
   /**
    * Finds a record by its id.
    *
@@ -144,4 +154,186 @@ public abstract class AbstractDataRepository<T extends DataModel<?>, C> {
    */
   public abstract CompletableFuture<Void> delete(C id);
 
-}
\ No newline at end of file
+  /**
+   * Inserts multiple records into the table, using JDBC batches.
+   *
+   * <p>The records are sent in batches of {@link #BATCH_SIZE}, each in its own transaction, so a
+   * batch costs a single round trip to the database. If a batch fails, it's rolled back, but the
+   * previous batches stay committed.</p>
+   *
+   * @param models the records to insert
+   * @return a CompletableFuture that will be completed with the number of inserted records.
+   */
+  public CompletableFuture<Integer> insertAll(Collection<T> models) {
+    return executeBatches("insert", getInsertAllStatement(), models);
+  }
+
+  /**
+   * Deletes multiple records by their ids, using JDBC batches.
+   *
+   * <p>The ids are sent in batches of {@link #BATCH_SIZE}, each in its own transaction.</p>
+   *
+   * @param ids the ids of the records
+   * @return a CompletableFuture that will be completed with the number of deleted records.
+   */
+  public CompletableFuture<Integer> deleteAll(Collection<C> ids) {
+    return executeBatches("delete", getDeleteAllStatement(), ids);
+  }
+
+  /**
+   * Inserts multiple records into the table as part of a unit of work, using JDBC batches.
+   *
+   * <p>Unlike {@link #insertAll(Collection)}, the batches aren't committed, so the records are
+   * only persisted when the unit of work is committed.</p>
+   *
+   * @param unitOfWork the unit of work
+   * @param models the records to insert
+   * @return the number of inserted records.
+   */
+  public int insertAll(UnitOfWork unitOfWork, Collection<T> models) {
+
+    if (models.isEmpty()) {
+      return 0;
+    }
+
+    try {
+      return runBatches(unitOfWork.getConnection(), getInsertAllStatement(), List.copyOf(models),
+          false);
+    } catch (SQLException e) {
+      logger.severe(String.format("Error while running a batched insert of %d %s entries! "
+          + "Caused by: %s", models.size(), tableName, e.getMessage()));
+      throw new RuntimeException(e);
+    }
+
+  }
+
+  /**
+   * Gets the statement used by {@link #insertAll(Collection)}.
+   *
+   * @return the statement
+   */
+  protected abstract BatchStatement<T> getInsertAllStatement();
+
+  /**
+   * Gets the statement used by {@link #deleteAll(Collection)}.
+   *
+   * @return the statement
+   */
+  protected abstract BatchStatement<C> getDeleteAllStatement();
+
+  /**
+   * Rolls back the current transaction of a connection, logging any error.
+   *
+   * @param con the connection
+   */
+  protected void rollback(Connection con) {
+    try {
+      con.rollback();
+    } catch (SQLException e) {
+      logger.severe(String.format("Error while rolling back the %s transaction! Caused by: %s",
+          tableName, e.getMessage()));
+    }
+  }
+
+  /**
+   * Runs a statement in batches of {@link #BATCH_SIZE}, each in its own transaction.
+   *
+   * @param operation the name of the operation, used in the logs
+   * @param statement the statement to run
+   * @param values the values to bind to the statement
+   * @return a CompletableFuture that will be completed with the number of affected records.
+   */
+  protected <V> CompletableFuture<Integer> executeBatches(String operation,
+      BatchStatement<V> statement, Collection<V> values) {
+
+    if (values.isEmpty()) {
+      return CompletableFuture.completedFuture(0);
+    }
+
+    List<V> valuesList = List.copyOf(values);
+
+    return concurrencyHandler.supply(() -> dataSource.execute(con -> {
+
+      try {
+        con.setAutoCommit(false);
+        return runBatches(con, statement, valuesList, true);
+      } catch (SQLException e) {
+        rollback(con);
+        logger.severe(String.format("Error while running a batched %s of %d %s entries! "
+            + "Caused by: %s", operation, valuesList.size(), tableName, e.getMessage()));
+        throw new RuntimeException(e);
+      }
+
+    }), true);
+
+  }
+
+  private <V> int runBatches(Connection con, BatchStatement<V> statement, List<V> values,
+      boolean commitEachBatch) throws SQLException {
+
+    try (PreparedStatement ps = con.prepareStatement(statement.sql())) {
+
+      int affectedRows = 0;
+
+      for (int start = 0; start < values.size(); start += BATCH_SIZE) {
+
+        for (V value : values.subList(start, Math.min(start + BATCH_SIZE, values.size()))) {
+          statement.binder().bind(ps, value);
+          ps.addBatch();
+        }
+
+        affectedRows += countAffectedRows(ps.executeBatch());
+
+        if (commitEachBatch) {
+          con.commit();
+        }
+
+      }
+
+      return affectedRows;
+
+    }
+
+  }
+
+  private static int countAffectedRows(int[] updateCounts) {
+
+    int affectedRows = 0;
+
+    for (int updateCount : updateCounts) {
+      // Rewritten batched inserts report success without the number of rows
+      if (updateCount == Statement.SUCCESS_NO_INFO) {
+        affectedRows++;
+      } else if (updateCount > 0) {
+        affectedRows += updateCount;
+      }
+    }
+
+    return affectedRows;
+
+  }
+
+  /**
+   * Binds a value to the parameters of a statement.
+   *
+   * @param <V> the type of the value
+   */
+  @FunctionalInterface
+  protected interface StatementBinder<V> {
+
+    void bind(PreparedStatement ps, V value) throws SQLException;
+
+  }
+
+  /**
+   * A statement executed in batches, with a value bound to its parameters for each row.
+   *
+   * @param sql the SQL of the statement
+   * @param binder binds a value to the parameters of the statement
+   * @param <V> the type of the values
+   */
+  protected record BatchStatement<V>(String sql, StatementBinder<V> binder) {
+
+  }
+
+}
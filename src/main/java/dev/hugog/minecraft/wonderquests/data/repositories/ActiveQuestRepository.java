@@ -7,9 +7,9 @@ import dev.hugog.minecraft.wonderquests.data.connectivity.DataSource;
 import dev.hugog.minecraft.wonderquests.data.keys.PlayerQuestKey;
 import dev.hugog.minecraft.wonderquests.data.models.ActiveQuestModel;
 import dev.hugog.minecraft.wonderquests.data.models.QuestModel;
-import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Optional;
@@ -52,7 +52,7 @@ public class ActiveQuestRepository extends
 
       try {
 
-        PreparedStatement ps = con.prepareStatement(
+        QueryExecutor.execute(con,
             "CREATE TABLE IF NOT EXISTS active_quest ("
                 + "player_id UUID REFERENCES player(id) NOT NULL,"
                 + "quest_id INTEGER REFERENCES quest(id) NOT NULL,"
@@ -62,8 +62,6 @@ public class ActiveQuestRepository extends
                 + "PRIMARY KEY (player_id, quest_id)"
                 + ");");
 
-        ps.execute();
-
       } catch (SQLException e) {
         logger.severe(String.format("Error while creating the %s table! Caused by: %s", tableName,
             e.getMessage()));
@@ -90,36 +88,12 @@ public class ActiveQuestRepository extends
 
       try {
 
-        PreparedStatement ps = con.prepareStatement(
-            "SELECT * FROM active_quest JOIN quest ON active_quest.quest_id = quest.id WHERE player_id = ? AND quest_id = ?;");
-
-        ps.setObject(1, id.playerId());
-        ps.setInt(2, id.questId());
-
-        ResultSet rs = ps.executeQuery();
-
-        if (rs.next()) {
-
-          return Optional.of(new ActiveQuestModel(
-              rs.getObject("player_id", UUID.class),
-              rs.getInt("quest_id"),
-              rs.getFloat("target"),
-              rs.getFloat("progress"),
-              rs.getTimestamp("started_at").getTime(),
-              new QuestModel(
-                  rs.getInt("id"),
-                  rs.getString("name"),
-                  rs.getString("description"),
-                  rs.getString("opening_msg"),
-                  rs.getString("closing_msg"),
-                  rs.getString("item"),
-                  rs.getInt("time_limit"),
-                  null,
-                  Collections.emptySet(),
-                  Collections.emptySet()
-              )
-          ));
-        }
+        return QueryExecutor.queryFirst(con,
+            "SELECT * FROM active_quest JOIN quest ON active_quest.quest_id = quest.id WHERE player_id = ? AND quest_id = ?;",
+            ps -> {
+              ps.setObject(1, id.playerId());
+              ps.setInt(2, id.questId());
+            }, ActiveQuestRepository::readActiveQuest);
 
       } catch (SQLException e) {
         logger.severe(
@@ -128,8 +102,6 @@ public class ActiveQuestRepository extends
         throw new RuntimeException(e);
       }
 
-      return Optional.empty();
-
     }), true);
   }
 
@@ -146,31 +118,25 @@ public class ActiveQuestRepository extends
       try {
 
         // The timestamp will be completed with the current timestamp
-        PreparedStatement ps = con.prepareStatement(
+        return QueryExecutor.queryFirst(con,
             "INSERT INTO active_quest (player_id, quest_id, target, progress, started_at) "
                 + "VALUES (?, ?, ?, ?, ?) "
-                + "RETURNING player_id, quest_id;");
+                + "RETURNING player_id, quest_id;", ps -> {
 
-        ps.setObject(1, model.playerId());
-        ps.setInt(2, model.questId());
-        ps.setFloat(3, model.target());
-        ps.setFloat(4, model.progress());
+              ps.setObject(1, model.playerId());
+              ps.setInt(2, model.questId());
+              ps.setFloat(3, model.target());
+              ps.setFloat(4, model.progress());
 
-        if (model.startedAt() == null) {
-          ps.setTimestamp(5, null);
-        } else {
-          ps.setTimestamp(5, new java.sql.Timestamp(model.startedAt()));
-        }
+              if (model.startedAt() == null) {
+                ps.setTimestamp(5, null);
+              } else {
+                ps.setTimestamp(5, new java.sql.Timestamp(model.startedAt()));
+              }
 
-        ResultSet rs = ps.executeQuery();
-
-        if (rs.next()) {
-          UUID playerId = rs.getObject("player_id", UUID.class);
-          Integer questId = rs.getInt("quest_id");
-          return new PlayerQuestKey(playerId, questId);
-        } else {
-          throw new SQLException("No keys generated!");
-        }
+            }, rs -> new PlayerQuestKey(rs.getObject("player_id", UUID.class),
+                rs.getInt("quest_id")))
+            .orElseThrow(() -> new SQLException("No keys generated!"));
 
       } catch (SQLException e) {
         logger.severe(String.format("Error while inserting a new %s! Caused by: %s", tableName,
@@ -194,12 +160,11 @@ public class ActiveQuestRepository extends
 
       try {
 
-        PreparedStatement ps = con.prepareStatement(
-            "DELETE FROM active_quest WHERE player_id = ? AND quest_id = ?;");
-
-        ps.setObject(1, id.playerId());
-        ps.setInt(2, id.questId());
-        ps.execute();
+        QueryExecutor.update(con,
+            "DELETE FROM active_quest WHERE player_id = ? AND quest_id = ?;", ps -> {
+              ps.setObject(1, id.playerId());
+              ps.setInt(2, id.questId());
+            });
 
       } catch (SQLException e) {
         logger.severe(String.format("Error while deleting %s with id %s! Caused by: %s",
@@ -222,37 +187,19 @@ public class ActiveQuestRepository extends
 
       try {
 
-        PreparedStatement ps = con.prepareStatement(
-            "SELECT * FROM active_quest JOIN quest ON active_quest.quest_id = quest.id WHERE player_id = ?;");
-
-        ps.setObject(1, playerId);
-
-        ResultSet rs = ps.executeQuery();
-        Set<ActiveQuestModel> activeQuests = new HashSet<>();
-
-        while (rs.next()) {
-          activeQuests.add(new ActiveQuestModel(
-              rs.getObject("player_id", UUID.class),
-              rs.getInt("quest_id"),
-              rs.getFloat("target"),
-              rs.getFloat("progress"),
-              rs.getTimestamp("started_at").getTime(),
-              new QuestModel(
-                  rs.getInt("id"),
-                  rs.getString("name"),
-                  rs.getString("description"),
-                  rs.getString("opening_msg"),
-                  rs.getString("closing_msg"),
-                  rs.getString("item"),
-                  rs.getInt("time_limit"),
-                  null,
-                  Collections.emptySet(),
-                  Collections.emptySet()
-              )
-          ));
-        }
-
-        return activeQuests;
+        return QueryExecutor.query(con,
+            "SELECT * FROM active_quest JOIN quest ON active_quest.quest_id = quest.id WHERE player_id = ?;",
+            ps -> ps.setObject(1, playerId), rs -> {
+
+              Set<ActiveQuestModel> activeQuests = new HashSet<>();
+
+              while (rs.next()) {
+                activeQuests.add(readActiveQuest(rs));
+              }
+
+              return activeQuests;
+
+            });
 
       } catch (SQLException e) {
         logger.severe(
@@ -275,15 +222,14 @@ public class ActiveQuestRepository extends
 
       try {
 
-        PreparedStatement ps = con.prepareStatement(
-            "UPDATE active_quest SET target = ?, progress = ? WHERE player_id = ? AND quest_id = ?;");
-
-        ps.setFloat(1, model.target());
-        ps.setFloat(2, model.progress());
-        ps.setObject(3, model.playerId());
-        ps.setInt(4, model.questId());
-
-        return ps.executeUpdate() > 0;
+        return QueryExecutor.update(con,
+            "UPDATE active_quest SET target = ?, progress = ? WHERE player_id = ? AND quest_id = ?;",
+            ps -> {
+              ps.setFloat(1, model.target());
+              ps.setFloat(2, model.progress());
+              ps.setObject(3, model.playerId());
+              ps.setInt(4, model.questId());
+            }) > 0;
 
       } catch (SQLException e) {
         logger.severe(String.format("Error while updating %s with id %s! Caused by: %s", tableName,
@@ -294,5 +240,75 @@ public class ActiveQuestRepository extends
     }), true);
   }
 
+  /**
+   * Saves (updates) multiple active quests, using JDBC batches.
+   *
+   * <p>The active quests are sent in batches of {@link #BATCH_SIZE}, each in its own
+   * transaction.</p>
+   *
+   * @param models the active quests to save
+   * @return a CompletableFuture that will be completed with the number of saved active quests.
+   */
+  public CompletableFuture<Integer> saveAll(Collection<ActiveQuestModel> models) {
+    return executeBatches("save", getSaveAllStatement(), models);
+  }
+
+  @Override
+  protected BatchStatement<ActiveQuestModel> getInsertAllStatement() {
+    return new BatchStatement<>(
+        "INSERT INTO active_quest (player_id, quest_id, target, progress, started_at) "
+            + "VALUES (?, ?, ?, ?, ?);",
+        (ps, model) -> {
+          ps.setObject(1, model.playerId());
+          ps.setInt(2, model.questId());
+          ps.setFloat(3, model.target());
+          ps.setFloat(4, model.progress());
+          ps.setTimestamp(5,
+              model.startedAt() == null ? null : new java.sql.Timestamp(model.startedAt()));
+        });
+  }
+
+  private BatchStatement<ActiveQuestModel> getSaveAllStatement() {
+    return new BatchStatement<>(
+        "UPDATE active_quest SET target = ?, progress = ? WHERE player_id = ? AND quest_id = ?;",
+        (ps, model) -> {
+          ps.setFloat(1, model.target());
+          ps.setFloat(2, model.progress());
+          ps.setObject(3, model.playerId());
+          ps.setInt(4, model.questId());
+        });
+  }
+
+  @Override
+  protected BatchStatement<PlayerQuestKey> getDeleteAllStatement() {
+    return new BatchStatement<>(
+        "DELETE FROM active_quest WHERE player_id = ? AND quest_id = ?;",
+        (ps, id) -> {
+          ps.setObject(1, id.playerId());
+          ps.setInt(2, id.questId());
+        });
+  }
+
+  private static ActiveQuestModel readActiveQuest(ResultSet rs) throws SQLException {
+    return new ActiveQuestModel(
+        rs.getObject("player_id", UUID.class),
+        rs.getInt("quest_id"),
+        rs.getFloat("target"),
+        rs.getFloat("progress"),
+        rs.getTimestamp("started_at").getTime(),
+        new QuestModel(
+            rs.getInt("id"),
+            rs.getString("name"),
+            rs.getString("description"),
+            rs.getString("opening_msg"),
+            rs.getString("closing_msg"),
+            rs.getString("item"),
+            rs.getInt("time_limit"),
+            null,
+            Collections.emptySet(),
+            Collections.emptySet()
+        )
+    );
+  }
 
 }
@@ -6,10 +6,11 @@ import dev.hugog.minecraft.wonderquests.concurrency.ConcurrencyHandler;
 import dev.hugog.minecraft.wonderquests.data.connectivity.DataSource;
 import dev.hugog.minecraft.wonderquests.data.keys.PlayerQuestKey;
 import dev.hugog.minecraft.wonderquests.data.models.CompletedQuestModel;
-import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -48,15 +49,13 @@ public class CompletedQuestRepository extends
 
       try {
 
-        PreparedStatement ps = con.prepareStatement(
+        QueryExecutor.execute(con,
             "CREATE TABLE IF NOT EXISTS completed_quest ("
                 + "player_id UUID REFERENCES player(id) NOT NULL,"
                 + "quest_id INTEGER REFERENCES quest(id) NOT NULL,"
                 + "PRIMARY KEY (player_id, quest_id)"
                 + ");");
 
-        ps.execute();
-
       } catch (SQLException e) {
         logger.severe(String.format("Error while creating the %s table! Caused by: %s", tableName,
             e.getMessage()));
@@ -84,20 +83,11 @@ public class CompletedQuestRepository extends
 
       try {
 
-        PreparedStatement ps = con.prepareStatement(
-            "SELECT * FROM completed_quest WHERE player_id = ? AND quest_id = ?;");
-
-        ps.setObject(1, id.playerId());
-        ps.setInt(2, id.questId());
-
-        ResultSet rs = ps.executeQuery();
-
-        if (rs.next()) {
-          return Optional.of(new CompletedQuestModel(
-              rs.getObject("player_id", UUID.class),
-              rs.getInt("quest_id")
-          ));
-        }
+        return QueryExecutor.queryFirst(con,
+            "SELECT * FROM completed_quest WHERE player_id = ? AND quest_id = ?;", ps -> {
+              ps.setObject(1, id.playerId());
+              ps.setInt(2, id.questId());
+            }, CompletedQuestRepository::readCompletedQuest);
 
       } catch (SQLException e) {
         logger.severe(
@@ -106,8 +96,6 @@ public class CompletedQuestRepository extends
         throw new RuntimeException(e);
       }
 
-      return Optional.empty();
-
     }), true);
 
   }
@@ -125,21 +113,14 @@ public class CompletedQuestRepository extends
 
       try {
 
-        PreparedStatement ps = con.prepareStatement(
-            "INSERT INTO completed_quest (player_id, quest_id) VALUES (?, ?) RETURNING player_id, quest_id;");
-
-        ps.setObject(1, model.playerId());
-        ps.setInt(2, model.questId());
-
-        ResultSet rs = ps.executeQuery();
-
-        if (rs.next()) {
-          UUID playerId = rs.getObject("player_id", UUID.class);
-          Integer questId = rs.getInt("quest_id");
-          return new PlayerQuestKey(playerId, questId);
-        } else {
-          throw new SQLException("No keys generated!");
-        }
+        return QueryExecutor.queryFirst(con,
+            "INSERT INTO completed_quest (player_id, quest_id) VALUES (?, ?) RETURNING player_id, quest_id;",
+            ps -> {
+              ps.setObject(1, model.playerId());
+              ps.setInt(2, model.questId());
+            }, rs -> new PlayerQuestKey(rs.getObject("player_id", UUID.class),
+                rs.getInt("quest_id")))
+            .orElseThrow(() -> new SQLException("No keys generated!"));
 
       } catch (SQLException e) {
         logger.severe(String.format("Error while inserting a new %s! Caused by: %s", tableName,
@@ -163,12 +144,11 @@ public class CompletedQuestRepository extends
 
       try {
 
-        PreparedStatement ps = con.prepareStatement(
-            "DELETE FROM completed_quest WHERE player_id = ? AND quest_id = ?;");
-
-        ps.setObject(1, id.playerId());
-        ps.setInt(2, id.questId());
-        ps.execute();
+        QueryExecutor.update(con,
+            "DELETE FROM completed_quest WHERE player_id = ? AND quest_id = ?;", ps -> {
+              ps.setObject(1, id.playerId());
+              ps.setInt(2, id.questId());
+            });
 
       } catch (SQLException e) {
         logger.severe(String.format("Error while deleting %s with id %s! Caused by: %s",
@@ -191,22 +171,18 @@ public class CompletedQuestRepository extends
 
       try {
 
-        PreparedStatement ps = con.prepareStatement(
-            "SELECT * FROM completed_quest WHERE player_id = ?;");
+        return QueryExecutor.query(con, "SELECT * FROM completed_quest WHERE player_id = ?;",
+            ps -> ps.setObject(1, playerId), rs -> {
 
-        ps.setObject(1, playerId);
+              Set<CompletedQuestModel> completedQuests = new HashSet<>();
 
-        ResultSet rs = ps.executeQuery();
-        Set<CompletedQuestModel> completedQuests = new HashSet<>();
+              while (rs.next()) {
+                completedQuests.add(readCompletedQuest(rs));
+              }
 
-        while (rs.next()) {
-          completedQuests.add(new CompletedQuestModel(
-              rs.getObject("player_id", UUID.class),
-              rs.getInt("quest_id")
-          ));
-        }
+              return completedQuests;
 
-        return completedQuests;
+            });
 
       } catch (SQLException e) {
         logger.severe(String.format("Error while finding %s with player id %s! Caused by: %s",
@@ -218,4 +194,69 @@ public class CompletedQuestRepository extends
 
   }
 
-}
\ No newline at end of file
+  /**
+   * This method finds the players who completed the most quests.
+   *
+   * @param limit the maximum number of players to find
+   * @return a CompletableFuture that will be completed with the number of quests completed by each
+   *     player, ordered from the player who completed the most.
+   */
+  public CompletableFuture<Map<UUID, Integer>> findTopPlayers(int limit) {
+
+    return concurrencyHandler.supply(() -> dataSource.execute(con -> {
+
+      try {
+
+        return QueryExecutor.query(con,
+            "SELECT player_id, COUNT(*) AS completed FROM completed_quest GROUP BY player_id "
+                + "ORDER BY completed DESC, player_id LIMIT ?;",
+            ps -> ps.setInt(1, limit), rs -> {
+
+              Map<UUID, Integer> topPlayers = new LinkedHashMap<>();
+
+              while (rs.next()) {
+                topPlayers.put(rs.getObject("player_id", UUID.class), rs.getInt("completed"));
+              }
+
+              return topPlayers;
+
+            });
+
+      } catch (SQLException e) {
+        logger.severe(String.format("Error while finding the top players of %s! Caused by: %s",
+            tableName, e.getMessage()));
+        throw new RuntimeException(e);
+      }
+
+    }), true);
+
+  }
+
+  @Override
+  protected BatchStatement<CompletedQuestModel> getInsertAllStatement() {
+    return new BatchStatement<>(
+        "INSERT INTO completed_quest (player_id, quest_id) VALUES (?, ?);",
+        (ps, model) -> {
+          ps.setObject(1, model.playerId());
+          ps.setInt(2, model.questId());
+        });
+  }
+
+  @Override
+  protected BatchStatement<PlayerQuestKey> getDeleteAllStatement() {
+    return new BatchStatement<>(
+        "DELETE FROM completed_quest WHERE player_id = ? AND quest_id = ?;",
+        (ps, id) -> {
+          ps.setObject(1, id.playerId());
+          ps.setInt(2, id.questId());
+        });
+  }
+
+  private static CompletedQuestModel readCompletedQuest(ResultSet rs) throws SQLException {
+    return new CompletedQuestModel(
+        rs.getObject("player_id", UUID.class),
+        rs.getInt("quest_id")
+    );
+  }
+
+}
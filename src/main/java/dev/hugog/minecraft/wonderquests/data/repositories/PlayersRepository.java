@@ -5,10 +5,12 @@ import com.google.inject.name.Named;
 import dev.hugog.minecraft.wonderquests.concurrency.ConcurrencyHandler;
 import dev.hugog.minecraft.wonderquests.data.connectivity.DataSource;
 import dev.hugog.minecraft.wonderquests.data.models.PlayerModel;
-import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
@@ -44,13 +46,11 @@ public class PlayersRepository extends AbstractDataRepository<PlayerModel, UUID>
 
       try {
 
-        PreparedStatement ps = con.prepareStatement(
+        QueryExecutor.execute(con,
             "CREATE TABLE IF NOT EXISTS player ("
                 + "id UUID PRIMARY KEY"
                 + ");");
 
-        ps.execute();
-
       } catch (SQLException e) {
         logger.severe(String.format("Error while creating the %s table! Caused by: %s", tableName,
             e.getMessage()));
@@ -78,17 +78,8 @@ public class PlayersRepository extends AbstractDataRepository<PlayerModel, UUID>
 
       try {
 
-        PreparedStatement ps = con.prepareStatement(
-            "SELECT * FROM player WHERE id = ?;");
-
-        ps.setObject(1, id);
-        ResultSet rs = ps.executeQuery();
-
-        if (rs.next()) {
-          return Optional.of(new PlayerModel(
-              rs.getObject("id", UUID.class)
-          ));
-        }
+        return QueryExecutor.queryFirst(con, "SELECT * FROM player WHERE id = ?;",
+            ps -> ps.setObject(1, id), rs -> new PlayerModel(rs.getObject("id", UUID.class)));
 
       } catch (SQLException e) {
         logger.severe(String.format("Error while finding quest with id %s! Caused by: %s", id,
@@ -96,8 +87,6 @@ public class PlayersRepository extends AbstractDataRepository<PlayerModel, UUID>
         throw new RuntimeException(e);
       }
 
-      return Optional.empty();
-
     }), true);
   }
 
@@ -114,12 +103,9 @@ public class PlayersRepository extends AbstractDataRepository<PlayerModel, UUID>
 
       try {
 
-        PreparedStatement ps = con.prepareStatement(
-            "INSERT INTO player (id) VALUES (?);");
+        QueryExecutor.update(con, "INSERT INTO player (id) VALUES (?);",
+            ps -> ps.setObject(1, model.playerId()));
 
-        ps.setObject(1, model.playerId());
-
-        ps.execute();
         return model.playerId();
 
       } catch (SQLException e) {
@@ -132,6 +118,80 @@ public class PlayersRepository extends AbstractDataRepository<PlayerModel, UUID>
 
   }
 
+  /**
+   * This method inserts a player into the player table, unless it already exists.
+   *
+   * <p>The check and the insert are done by a single statement, so concurrent calls for the same
+   * player don't conflict.</p>
+   *
+   * @param model the player to insert
+   * @return a CompletableFuture that will be completed with true if the player was inserted, or false if it already existed.
+   */
+  public CompletableFuture<Boolean> insertIfAbsent(PlayerModel model) {
+
+    return concurrencyHandler.supply(() -> dataSource.execute(con -> {
+
+      try {
+
+        return QueryExecutor.query(con,
+            "INSERT INTO player (id) VALUES (?) ON CONFLICT (id) DO NOTHING RETURNING id;",
+            ps -> ps.setObject(1, model.playerId()), ResultSet::next);
+
+      } catch (SQLException e) {
+        logger.severe(String.format("Error while inserting a new %s! Caused by: %s", tableName,
+            e.getMessage()));
+        throw new RuntimeException(e);
+      }
+
+    }), true);
+
+  }
+
+  /**
+   * This method inserts multiple players into the player table, skipping the ones that already
+   * exist.
+   *
+   * <p>All the players are inserted by a single statement.</p>
+   *
+   * @param models the players to insert
+   * @return a CompletableFuture that will be completed with the ids of the inserted players.
+   */
+  public CompletableFuture<Set<UUID>> insertAllIfAbsent(Collection<PlayerModel> models) {
+
+    if (models.isEmpty()) {
+      return CompletableFuture.completedFuture(Set.of());
+    }
+
+    return concurrencyHandler.supply(() -> dataSource.execute(con -> {
+
+      try {
+
+        return QueryExecutor.query(con,
+            "INSERT INTO player (id) SELECT * FROM unnest(?) "
+                + "ON CONFLICT (id) DO NOTHING RETURNING id;",
+            ps -> ps.setArray(1, con.createArrayOf("uuid",
+                models.stream().map(PlayerModel::playerId).distinct().toArray())), rs -> {
+
+              Set<UUID> insertedIds = new HashSet<>();
+
+              while (rs.next()) {
+                insertedIds.add(rs.getObject("id", UUID.class));
+              }
+
+              return insertedIds;
+
+            });
+
+      } catch (SQLException e) {
+        logger.severe(String.format("Error while inserting %d new %ss! Caused by: %s",
+            models.size(), tableName, e.getMessage()));
+        throw new RuntimeException(e);
+      }
+
+    }), true);
+
+  }
+
   /**
    * This method deletes a player by its id.
    *
@@ -144,11 +204,7 @@ public class PlayersRepository extends AbstractDataRepository<PlayerModel, UUID>
 
       try {
 
-        PreparedStatement ps = con.prepareStatement(
-            "DELETE FROM player WHERE id = ?;");
-
-        ps.setObject(1, id);
-        ps.execute();
+        QueryExecutor.update(con, "DELETE FROM player WHERE id = ?;", ps -> ps.setObject(1, id));
 
       } catch (SQLException e) {
         logger.severe(String.format("Error while deleting quest with id %s! Caused by: %s",
@@ -159,4 +215,16 @@ public class PlayersRepository extends AbstractDataRepository<PlayerModel, UUID>
     }), true);
   }
 
-}
\ No newline at end of file
+  @Override
+  protected BatchStatement<PlayerModel> getInsertAllStatement() {
+    return new BatchStatement<>("INSERT INTO player (id) VALUES (?);",
+        (ps, model) -> ps.setObject(1, model.playerId()));
+  }
+
+  @Override
+  protected BatchStatement<UUID> getDeleteAllStatement() {
+    return new BatchStatement<>("DELETE FROM player WHERE id = ?;",
+        (ps, id) -> ps.setObject(1, id));
+  }
+
+}
@@ -0,0 +1,126 @@
+package dev.hugog.minecraft.wonderquests.data.repositories;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Optional;
+
+/**
+ * Executes the statements of the repositories on a connection, closing every statement and result
+ * set as soon as it's consumed.
+ *
+ * <p>Closing the statements isn't only about releasing resources: the PostgreSQL driver keeps the
+ * queries of a connection in a cache, and only reuses the server-side prepared statement of a
+ * query once the previous statement that executed it was closed. Statements that are never closed
+ * are parsed and planned again on every execution.</p>
+ */
+final class QueryExecutor {
+
+  private QueryExecutor() {
+  }
+
+  /**
+   * Executes a query and reads its result set.
+   *
+   * @param con the connection to the database
+   * @param sql the SQL of the query
+   * @param parameters sets the parameters of the query
+   * @param reader reads the result set, which is closed afterwards
+   * @param <R> the type of the result
+   * @return the result read from the result set
+   * @throws SQLException if the query can't be executed or its result read
+   */
+  static <R> R query(Connection con, String sql, QueryParameters parameters,
+      ResultSetReader<R> reader) throws SQLException {
+
+    try (PreparedStatement ps = con.prepareStatement(sql)) {
+
+      parameters.set(ps);
+
+      try (ResultSet rs = ps.executeQuery()) {
+        return reader.read(rs);
+      }
+
+    }
+
+  }
+
+  /**
+   * Executes a query and reads its first row, if any.
+   *
+   * @param con the connection to the database
+   * @param sql the SQL of the query
+   * @param parameters sets the parameters of the query
+   * @param reader reads the first row of the result set
+   * @param <R> the type of the result
+   * @return an Optional containing the result read from the first row, or empty if there are no rows
+   * @throws SQLException if the query can't be executed or its result read
+   */
+  static <R> Optional<R> queryFirst(Connection con, String sql, QueryParameters parameters,
+      ResultSetReader<R> reader) throws SQLException {
+    return query(con, sql, parameters, rs -> rs.next() ? Optional.of(reader.read(rs))
+        : Optional.empty());
+  }
+
+  /**
+   * Executes an INSERT, UPDATE or DELETE statement.
+   *
+   * @param con the connection to the database
+   * @param sql the SQL of the statement
+   * @param parameters sets the parameters of the statement
+   * @return the number of affected rows
+   * @throws SQLException if the statement can't be executed
+   */
+  static int update(Connection con, String sql, QueryParameters parameters)
+      throws SQLException {
+
+    try (PreparedStatement ps = con.prepareStatement(sql)) {
+      parameters.set(ps);
+      return ps.executeUpdate();
+    }
+
+  }
+
+  /**
+   * Executes a statement without parameters nor results, such as a DDL statement.
+   *
+   * @param con the connection to the database
+   * @param sql the SQL of the statement
+   * @throws SQLException if the statement can't be executed
+   */
+  static void execute(Connection con, String sql) throws SQLException {
+
+    try (Statement statement = con.createStatement()) {
+      statement.execute(sql);
+    }
+
+  }
+
+  /**
+   * Sets the parameters of a statement.
+   */
+  @FunctionalInterface
+  interface QueryParameters {
+
+    QueryParameters NONE = ps -> {
+    };
+
+    void set(PreparedStatement ps) throws SQLException;
+
+  }
+
+  /**
+   * Reads the result of a query from its result set.
+   *
+   * @param <R> the type of the result
+   */
+  @FunctionalInterface
+  interface ResultSetReader<R> {
+
+    R read(ResultSet rs) throws SQLException;
+
+  }
+
+}
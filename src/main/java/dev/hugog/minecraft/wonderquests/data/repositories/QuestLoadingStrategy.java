@@ -0,0 +1,37 @@
+package dev.hugog.minecraft.wonderquests.data.repositories;
+
+/**
+ * The ways the {@link QuestsRepository} can load quests with their objectives, requirements and
+ * rewards.
+ */
+public enum QuestLoadingStrategy {
+
+  /**
+   * A single query joins the quests with their objectives, requirements and rewards. Returns a row
+   * for every combination of requirement and reward of each quest.
+   */
+  JOIN,
+
+  /**
+   * The quests (with their objectives), requirements and rewards are read with three queries,
+   * keyed by the ids of the quests, and merged in memory. Returns a row for every quest,
+   * requirement and reward.
+   */
+  KEYED,
+
+  /**
+   * A single query returns a row for every quest, with its requirements and rewards aggregated as
+   * JSON arrays, which are decoded once per quest.
+   */
+  JSON;
+
+  public static QuestLoadingStrategy fromString(String string) {
+    for (QuestLoadingStrategy loadingStrategy : QuestLoadingStrategy.values()) {
+      if (loadingStrategy.name().equalsIgnoreCase(string)) {
+        return loadingStrategy;
+      }
+    }
+    return null;
+  }
+
+}
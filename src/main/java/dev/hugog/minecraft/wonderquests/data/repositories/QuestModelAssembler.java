@@ -0,0 +1,299 @@
+package dev.hugog.minecraft.wonderquests.data.repositories;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import dev.hugog.minecraft.wonderquests.data.models.QuestModel;
+import dev.hugog.minecraft.wonderquests.data.models.QuestObjectiveModel;
+import dev.hugog.minecraft.wonderquests.data.models.QuestRequirementModel;
+import dev.hugog.minecraft.wonderquests.data.models.QuestRewardModel;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Assembles quests from the rows of the queries that load them with their objectives,
+ * requirements and rewards, according to the {@link QuestLoadingStrategy}.
+ *
+ * <p>A join returns a row for every combination of requirement and reward of a quest, so the
+ * same requirement or reward appears in many rows. The quests are kept by id and the requirements
+ * and rewards are only read the first time their id is found, so the cost is linear in the number
+ * of rows. The quests are returned in the order they were first found.</p>
+ */
+class QuestModelAssembler {
+
+  private final Map<Integer, AssembledQuest> quests;
+
+  QuestModelAssembler() {
+    this.quests = new LinkedHashMap<>();
+  }
+
+  /**
+   * Assembles the quests from all the remaining rows of a result set.
+   *
+   * @param rs the result set
+   * @return the assembler, to get the quests from
+   * @throws SQLException if the rows can't be read
+   */
+  QuestModelAssembler addRows(ResultSet rs) throws SQLException {
+    while (rs.next()) {
+      addRow(rs);
+    }
+    return this;
+  }
+
+  /**
+   * Adds the current row of a result set to the quest it belongs to.
+   *
+   * @param rs the result set, positioned at the row
+   * @throws SQLException if the row can't be read
+   */
+  void addRow(ResultSet rs) throws SQLException {
+
+    AssembledQuest quest = getOrAddQuest(rs);
+
+    int requirementId = rs.getInt("quest_requirement_id");
+    if (!rs.wasNull() && quest.requirementIds.add(requirementId)) {
+      quest.model.requirements().add(new QuestRequirementModel(
+          requirementId,
+          quest.model.id(),
+          rs.getString("quest_requirement_type"),
+          rs.getString("quest_requirement_str_value"),
+          rs.getFloat("quest_requirement_num_value")
+      ));
+    }
+
+    int rewardId = rs.getInt("quest_reward_id");
+    if (!rs.wasNull() && quest.rewardIds.add(rewardId)) {
+      quest.model.rewards().add(new QuestRewardModel(
+          rewardId,
+          quest.model.id(),
+          rs.getString("quest_reward_type"),
+          rs.getString("quest_reward_str_value"),
+          rs.getFloat("quest_reward_num_value")
+      ));
+    }
+
+  }
+
+  /**
+   * Assembles the quests, with their objectives only, from all the remaining rows of a result set.
+   *
+   * @param rs the result set
+   * @return the assembler, to add the requirements and rewards to
+   * @throws SQLException if the rows can't be read
+   */
+  QuestModelAssembler addQuestRows(ResultSet rs) throws SQLException {
+    while (rs.next()) {
+      getOrAddQuest(rs);
+    }
+    return this;
+  }
+
+  /**
+   * Adds the requirements in all the remaining rows of a result set, read from the
+   * quest_requirement table, to the quests they belong to.
+   *
+   * @param rs the result set
+   * @return the assembler, to get the quests from
+   * @throws SQLException if the rows can't be read
+   */
+  QuestModelAssembler addRequirementRows(ResultSet rs) throws SQLException {
+    while (rs.next()) {
+
+      AssembledQuest quest = quests.get(rs.getInt("quest_id"));
+      int requirementId = rs.getInt("id");
+
+      if (quest != null && quest.requirementIds.add(requirementId)) {
+        quest.model.requirements().add(new QuestRequirementModel(
+            requirementId,
+            quest.model.id(),
+            rs.getString("type"),
+            rs.getString("str_value"),
+            rs.getFloat("num_value")
+        ));
+      }
+
+    }
+    return this;
+  }
+
+  /**
+   * Adds the rewards in all the remaining rows of a result set, read from the quest_reward table,
+   * to the quests they belong to.
+   *
+   * @param rs the result set
+   * @return the assembler, to get the quests from
+   * @throws SQLException if the rows can't be read
+   */
+  QuestModelAssembler addRewardRows(ResultSet rs) throws SQLException {
+    while (rs.next()) {
+
+      AssembledQuest quest = quests.get(rs.getInt("quest_id"));
+      int rewardId = rs.getInt("id");
+
+      if (quest != null && quest.rewardIds.add(rewardId)) {
+        quest.model.rewards().add(new QuestRewardModel(
+            rewardId,
+            quest.model.id(),
+            rs.getString("type"),
+            rs.getString("str_value"),
+            rs.getFloat("num_value")
+        ));
+      }
+
+    }
+    return this;
+  }
+
+  /**
+   * Assembles the quests from all the remaining rows of a result set with a row per quest, where
+   * the requirements and rewards are aggregated as JSON arrays in the requirements and rewards
+   * columns.
+   *
+   * @param rs the result set
+   * @return the assembler, to get the quests from
+   * @throws SQLException if the rows can't be read
+   */
+  QuestModelAssembler addJsonRows(ResultSet rs) throws SQLException {
+    while (rs.next()) {
+
+      AssembledQuest quest = getOrAddQuest(rs);
+      int questId = quest.model.id();
+
+      for (JsonObject requirement : parseJsonArray(rs.getString("requirements"))) {
+        if (quest.requirementIds.add(requirement.get("id").getAsInt())) {
+          quest.model.requirements().add(new QuestRequirementModel(
+              requirement.get("id").getAsInt(),
+              questId,
+              getJsonString(requirement, "type"),
+              getJsonString(requirement, "str_value"),
+              getJsonFloat(requirement, "num_value")
+          ));
+        }
+      }
+
+      for (JsonObject reward : parseJsonArray(rs.getString("rewards"))) {
+        if (quest.rewardIds.add(reward.get("id").getAsInt())) {
+          quest.model.rewards().add(new QuestRewardModel(
+              reward.get("id").getAsInt(),
+              questId,
+              getJsonString(reward, "type"),
+              getJsonString(reward, "str_value"),
+              getJsonFloat(reward, "num_value")
+          ));
+        }
+      }
+
+    }
+    return this;
+  }
+
+  /**
+   * Gets the ids of the quests assembled so far.
+   *
+   * @return the ids of the quests, in the order they were first found
+   */
+  Integer[] getQuestIds() {
+    return quests.keySet().toArray(Integer[]::new);
+  }
+
+  /**
+   * Gets the assembled quests, in the order they were first found.
+   *
+   * @return the assembled quests
+   */
+  List<QuestModel> getQuests() {
+    List<QuestModel> questModels = new ArrayList<>(quests.size());
+    quests.values().forEach(quest -> questModels.add(quest.model));
+    return questModels;
+  }
+
+  private AssembledQuest getOrAddQuest(ResultSet rs) throws SQLException {
+
+    int questId = rs.getInt("id");
+
+    AssembledQuest quest = quests.get(questId);
+    if (quest == null) {
+      quest = new AssembledQuest(readQuest(rs, questId));
+      quests.put(questId, quest);
+    }
+
+    return quest;
+
+  }
+
+  private QuestModel readQuest(ResultSet rs, int questId) throws SQLException {
+
+    int objectiveId = rs.getInt("quest_objective_id");
+
+    QuestObjectiveModel objective = rs.wasNull() ? null : new QuestObjectiveModel(
+        objectiveId,
+        questId,
+        rs.getString("quest_objective_type"),
+        rs.getString("quest_objective_str_value"),
+        rs.getFloat("quest_objective_num_value")
+    );
+
+    return new QuestModel(
+        questId,
+        rs.getString("name"),
+        rs.getString("description"),
+        rs.getString("opening_msg"),
+        rs.getString("closing_msg"),
+        rs.getString("item"),
+        rs.getInt("time_limit"),
+        objective,
+        new HashSet<>(),
+        new HashSet<>()
+    );
+
+  }
+
+  private static List<JsonObject> parseJsonArray(String json) {
+
+    // Quests without requirements or rewards have no aggregated array
+    if (json == null) {
+      return List.of();
+    }
+
+    JsonArray jsonArray = JsonParser.parseString(json).getAsJsonArray();
+    List<JsonObject> jsonObjects = new ArrayList<>(jsonArray.size());
+    jsonArray.forEach(jsonElement -> jsonObjects.add(jsonElement.getAsJsonObject()));
+
+    return jsonObjects;
+
+  }
+
+  private static String getJsonString(JsonObject jsonObject, String memberName) {
+    JsonElement jsonElement = jsonObject.get(memberName);
+    return jsonElement == null || jsonElement.isJsonNull() ? null : jsonElement.getAsString();
+  }
+
+  private static Float getJsonFloat(JsonObject jsonObject, String memberName) {
+    JsonElement jsonElement = jsonObject.get(memberName);
+    // Like ResultSet.getFloat, null values are read as 0
+    return jsonElement == null || jsonElement.isJsonNull() ? 0F : jsonElement.getAsFloat();
+  }
+
+  private static class AssembledQuest {
+
+    private final QuestModel model;
+    private final Set<Integer> requirementIds;
+    private final Set<Integer> rewardIds;
+
+    private AssembledQuest(QuestModel model) {
+      this.model = model;
+      this.requirementIds = new HashSet<>();
+      this.rewardIds = new HashSet<>();
+    }
+
+  }
+
+}
@@ -4,8 +4,9 @@ import com.google.inject.Inject;
 import com.google.inject.name.Named;
 import dev.hugog.minecraft.wonderquests.concurrency.ConcurrencyHandler;
 import dev.hugog.minecraft.wonderquests.data.connectivity.DataSource;
+import dev.hugog.minecraft.wonderquests.data.connectivity.UnitOfWork;
 import dev.hugog.minecraft.wonderquests.data.models.QuestObjectiveModel;
-import java.sql.PreparedStatement;
+import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Optional;
@@ -45,7 +46,7 @@ public class QuestObjectivesRepository extends
 
       try {
 
-        PreparedStatement createTablePs = con.prepareStatement(
+        QueryExecutor.execute(con,
             "CREATE TABLE IF NOT EXISTS quest_objective ("
                 + "id SERIAL PRIMARY KEY,"
                 + "quest_id INT4 UNIQUE REFERENCES quest (id) ON DELETE CASCADE,"
@@ -54,13 +55,9 @@ public class QuestObjectivesRepository extends
                 + "str_value VARCHAR(255)"
                 + ");");
 
-        createTablePs.execute();
-
-        PreparedStatement createIndexPs = con.prepareStatement(
+        QueryExecutor.execute(con,
             "CREATE INDEX IF NOT EXISTS quest_objective_quest_id_idx ON quest_objective (quest_id);");
 
-        createIndexPs.execute();
-
       } catch (SQLException e) {
         logger.severe(String.format("Error while creating the %s table! Caused by: %s", tableName,
             e.getMessage()));
@@ -87,24 +84,8 @@ public class QuestObjectivesRepository extends
 
       try {
 
-        PreparedStatement ps = con.prepareStatement(
-            "SELECT * FROM quest_objective WHERE id = ?;");
-
-        ps.setInt(1, id);
-
-        ResultSet rs = ps.executeQuery();
-
-        if (rs.next()) {
-          return Optional.of(new QuestObjectiveModel(
-              rs.getInt("id"),
-              rs.getInt("quest_id"),
-              rs.getString("type"),
-              rs.getString("str_value"),
-              rs.getFloat("num_value")
-          ));
-        } else {
-          return Optional.empty();
-        }
+        return QueryExecutor.queryFirst(con, "SELECT * FROM quest_objective WHERE id = ?;",
+            ps -> ps.setInt(1, id), QuestObjectivesRepository::readObjective);
 
       } catch (SQLException e) {
         logger.severe(
@@ -124,33 +105,40 @@ public class QuestObjectivesRepository extends
    */
   @Override
   public CompletableFuture<Integer> insert(QuestObjectiveModel model) {
-    return concurrencyHandler.supply(() -> dataSource.execute(con -> {
-
-      try {
+    return concurrencyHandler.supply(() -> dataSource.execute(con -> insert(con, model)), true);
+  }
 
-        PreparedStatement ps = con.prepareStatement(
-            "INSERT INTO quest_objective (quest_id, type, num_value, str_value) VALUES (?, ?, ?, ?) RETURNING id;");
+  /**
+   * This method inserts a quest objective as part of a unit of work.
+   *
+   * @param unitOfWork the unit of work
+   * @param model the quest objective to insert
+   * @return the id of the inserted quest objective.
+   */
+  public Integer insert(UnitOfWork unitOfWork, QuestObjectiveModel model) {
+    return insert(unitOfWork.getConnection(), model);
+  }
 
-        ps.setInt(1, model.questId());
-        ps.setString(2, model.type());
-        ps.setFloat(3, model.numericValue());
-        ps.setString(4, model.stringValue());
+  private Integer insert(Connection con, QuestObjectiveModel model) {
 
-        ResultSet rs = ps.executeQuery();
+    try {
 
-        if (rs.next()) {
-          return rs.getInt(1);
-        } else {
-          throw new SQLException("No keys generated!");
-        }
+      return QueryExecutor.queryFirst(con,
+          "INSERT INTO quest_objective (quest_id, type, num_value, str_value) VALUES (?, ?, ?, ?) RETURNING id;",
+          ps -> {
+            ps.setInt(1, model.questId());
+            ps.setString(2, model.type());
+            ps.setFloat(3, model.numericValue());
+            ps.setString(4, model.stringValue());
+          }, rs -> rs.getInt(1))
+          .orElseThrow(() -> new SQLException("No keys generated!"));
 
-      } catch (SQLException e) {
-        logger.severe(String.format("Error while inserting a new %s! Caused by: %s", tableName,
-            e.getMessage()));
-        throw new RuntimeException(e);
-      }
+    } catch (SQLException e) {
+      logger.severe(String.format("Error while inserting a new %s! Caused by: %s", tableName,
+          e.getMessage()));
+      throw new RuntimeException(e);
+    }
 
-    }), true);
   }
 
   /**
@@ -165,12 +153,8 @@ public class QuestObjectivesRepository extends
 
       try {
 
-        PreparedStatement ps = con.prepareStatement(
-            "DELETE FROM quest_objective WHERE id = ?;");
-
-        ps.setInt(1, id);
-
-        ps.execute();
+        QueryExecutor.update(con, "DELETE FROM quest_objective WHERE id = ?;",
+            ps -> ps.setInt(1, id));
 
       } catch (SQLException e) {
         logger.severe(
@@ -194,22 +178,8 @@ public class QuestObjectivesRepository extends
 
       try {
 
-        PreparedStatement ps = con.prepareStatement(
-            "SELECT * FROM quest_objective WHERE quest_id = ?;");
-
-        ps.setInt(1, questId);
-
-        ResultSet rs = ps.executeQuery();
-
-        if (rs.next()) {
-          return Optional.of(new QuestObjectiveModel(
-              rs.getInt("id"),
-              rs.getInt("quest_id"),
-              rs.getString("type"),
-              rs.getString("str_value"),
-              rs.getFloat("num_value")
-          ));
-        }
+        return QueryExecutor.queryFirst(con, "SELECT * FROM quest_objective WHERE quest_id = ?;",
+            ps -> ps.setInt(1, questId), QuestObjectivesRepository::readObjective);
 
       } catch (SQLException e) {
         logger.severe(
@@ -221,11 +191,36 @@ public class QuestObjectivesRepository extends
         throw new RuntimeException(e);
       }
 
-      return Optional.empty();
-
     }), true);
 
   }
 
+  @Override
+  protected BatchStatement<QuestObjectiveModel> getInsertAllStatement() {
+    return new BatchStatement<>(
+        "INSERT INTO quest_objective (quest_id, type, num_value, str_value) VALUES (?, ?, ?, ?);",
+        (ps, model) -> {
+          ps.setInt(1, model.questId());
+          ps.setString(2, model.type());
+          ps.setFloat(3, model.numericValue());
+          ps.setString(4, model.stringValue());
+        });
+  }
+
+  @Override
+  protected BatchStatement<Integer> getDeleteAllStatement() {
+    return new BatchStatement<>("DELETE FROM quest_objective WHERE id = ?;",
+        (ps, id) -> ps.setInt(1, id));
+  }
+
+  private static QuestObjectiveModel readObjective(ResultSet rs) throws SQLException {
+    return new QuestObjectiveModel(
+        rs.getInt("id"),
+        rs.getInt("quest_id"),
+        rs.getString("type"),
+        rs.getString("str_value"),
+        rs.getFloat("num_value")
+    );
+  }
 
-}
\ No newline at end of file
+}
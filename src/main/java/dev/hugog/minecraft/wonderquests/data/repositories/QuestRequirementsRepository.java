@@ -47,7 +47,7 @@ public class QuestRequirementsRepository extends
 
       try {
 
-        PreparedStatement createTablePs = con.prepareStatement(
+        QueryExecutor.execute(con,
             "CREATE TABLE IF NOT EXISTS quest_requirement ("
                 + "id SERIAL PRIMARY KEY,"
                 + "quest_id INT4 REFERENCES quest (id) ON DELETE CASCADE,"
@@ -56,13 +56,9 @@ public class QuestRequirementsRepository extends
                 + "str_value VARCHAR(255)"
                 + ");");
 
-        createTablePs.execute();
-
-        PreparedStatement createIndexPs = con.prepareStatement(
+        QueryExecutor.execute(con,
             "CREATE INDEX IF NOT EXISTS quest_requirement_quest_id_idx ON quest_requirement (quest_id);");
 
-        createIndexPs.execute();
-
       } catch (SQLException e) {
         logger.severe(String.format("Error while creating the %s table! Caused by: %s", tableName,
             e.getMessage()));
@@ -89,24 +85,8 @@ public class QuestRequirementsRepository extends
 
       try {
 
-        PreparedStatement ps = con.prepareStatement(
-            "SELECT * FROM quest_requirement WHERE id = ?;");
-
-        ps.setInt(1, id);
-
-        ResultSet rs = ps.executeQuery();
-
-        if (rs.next()) {
-          return Optional.of(new QuestRequirementModel(
-              rs.getInt("id"),
-              rs.getInt("quest_id"),
-              rs.getString("type"),
-              rs.getString("str_value"),
-              rs.getFloat("num_value")
-          ));
-        } else {
-          return Optional.empty();
-        }
+        return QueryExecutor.queryFirst(con, "SELECT * FROM quest_requirement WHERE id = ?;",
+            ps -> ps.setInt(1, id), QuestRequirementsRepository::readRequirement);
 
       } catch (SQLException e) {
         logger.severe(
@@ -130,32 +110,11 @@ public class QuestRequirementsRepository extends
 
       try {
 
-        PreparedStatement ps = con.prepareStatement(
-            "INSERT INTO quest_requirement (quest_id, type, num_value, str_value) VALUES (?, ?, ?, ?) RETURNING id;");
-
-        ps.setInt(1, model.questId());
-        ps.setString(2, model.type());
-
-        if (model.numericValue() != null) {
-          ps.setFloat(3, model.numericValue());
-        } else {
-          ps.setNull(3, java.sql.Types.FLOAT);
-        }
-
-        if (model.stringValue() != null) {
-          ps.setString(4, model.stringValue());
-        } else {
-          ps.setNull(4, java.sql.Types.VARCHAR);
-
-        }
-
-        ResultSet rs = ps.executeQuery();
-
-        if (rs.next()) {
-          return rs.getInt("id");
-        } else {
-          throw new SQLException("No id was returned after inserting a new quest requirement!");
-        }
+        return QueryExecutor.queryFirst(con,
+            "INSERT INTO quest_requirement (quest_id, type, num_value, str_value) VALUES (?, ?, ?, ?) RETURNING id;",
+            ps -> bindValues(ps, model), rs -> rs.getInt("id"))
+            .orElseThrow(() -> new SQLException(
+                "No id was returned after inserting a new quest requirement!"));
 
       } catch (SQLException e) {
         logger.severe(String.format("Error while inserting a new %s! Caused by: %s", tableName,
@@ -178,12 +137,8 @@ public class QuestRequirementsRepository extends
 
       try {
 
-        PreparedStatement ps = con.prepareStatement(
-            "DELETE FROM quest_requirement WHERE id = ?;");
-
-        ps.setInt(1, id);
-
-        ps.execute();
+        QueryExecutor.update(con, "DELETE FROM quest_requirement WHERE id = ?;",
+            ps -> ps.setInt(1, id));
 
       } catch (SQLException e) {
         logger.severe(
@@ -207,26 +162,18 @@ public class QuestRequirementsRepository extends
 
       try {
 
-        PreparedStatement ps = con.prepareStatement(
-            "SELECT * FROM quest_requirement WHERE quest_id = ?;");
-
-        ps.setInt(1, questId);
+        return QueryExecutor.query(con, "SELECT * FROM quest_requirement WHERE quest_id = ?;",
+            ps -> ps.setInt(1, questId), rs -> {
 
-        ResultSet rs = ps.executeQuery();
+              List<QuestRequirementModel> requirements = new ArrayList<>();
 
-        List<QuestRequirementModel> objectives = new ArrayList<>();
+              while (rs.next()) {
+                requirements.add(readRequirement(rs));
+              }
 
-        while (rs.next()) {
-          objectives.add(new QuestRequirementModel(
-              rs.getInt("id"),
-              rs.getInt("quest_id"),
-              rs.getString("type"),
-              rs.getString("str_value"),
-              rs.getFloat("num_value")
-          ));
-        }
+              return requirements;
 
-        return objectives;
+            });
 
       } catch (SQLException e) {
         logger.severe(
@@ -240,4 +187,48 @@ public class QuestRequirementsRepository extends
 
   }
 
-}
\ No newline at end of file
+  @Override
+  protected BatchStatement<QuestRequirementModel> getInsertAllStatement() {
+    return new BatchStatement<>(
+        "INSERT INTO quest_requirement (quest_id, type, num_value, str_value) VALUES (?, ?, ?, ?);",
+        QuestRequirementsRepository::bindValues);
+  }
+
+  @Override
+  protected BatchStatement<Integer> getDeleteAllStatement() {
+    return new BatchStatement<>("DELETE FROM quest_requirement WHERE id = ?;",
+        (ps, id) -> ps.setInt(1, id));
+  }
+
+  private static void bindValues(PreparedStatement ps, QuestRequirementModel model)
+      throws SQLException {
+
+    ps.setInt(1, model.questId());
+    ps.setString(2, model.type());
+
+    if (model.numericValue() != null) {
+      ps.setFloat(3, model.numericValue());
+    } else {
+      ps.setNull(3, java.sql.Types.FLOAT);
+    }
+
+    if (model.stringValue() != null) {
+      ps.setString(4, model.stringValue());
+    } else {
+      ps.setNull(4, java.sql.Types.VARCHAR);
+
+    }
+
+  }
+
+  private static QuestRequirementModel readRequirement(ResultSet rs) throws SQLException {
+    return new QuestRequirementModel(
+        rs.getInt("id"),
+        rs.getInt("quest_id"),
+        rs.getString("type"),
+        rs.getString("str_value"),
+        rs.getFloat("num_value")
+    );
+  }
+
+}
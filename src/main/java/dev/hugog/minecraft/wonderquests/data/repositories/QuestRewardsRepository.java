@@ -45,7 +45,7 @@ public class QuestRewardsRepository extends AbstractDataRepository<QuestRewardMo
     return concurrencyHandler.run(() -> dataSource.apply(con -> {
 
       try {
-        PreparedStatement ps = con.prepareStatement(
+        QueryExecutor.execute(con,
             "CREATE TABLE IF NOT EXISTS quest_reward ("
                 + "id SERIAL PRIMARY KEY,"
                 + "quest_id INT4 REFERENCES quest (id) ON DELETE CASCADE,"
@@ -54,13 +54,9 @@ public class QuestRewardsRepository extends AbstractDataRepository<QuestRewardMo
                 + "str_value VARCHAR(255)"
                 + ");");
 
-        ps.execute();
-
-        PreparedStatement createIndexPs = con.prepareStatement(
+        QueryExecutor.execute(con,
             "CREATE INDEX IF NOT EXISTS quest_reward_quest_id_idx ON quest_reward (quest_id);");
 
-        createIndexPs.execute();
-
       } catch (SQLException e) {
         logger.severe(String.format("Error while creating the %s table! Caused by: %s", tableName,
             e.getMessage()));
@@ -87,23 +83,8 @@ public class QuestRewardsRepository extends AbstractDataRepository<QuestRewardMo
 
       try {
 
-        PreparedStatement ps = con.prepareStatement(
-            "SELECT * FROM quest_reward WHERE id = ?;");
-
-        ps.setInt(1, id);
-        ResultSet rs = ps.executeQuery();
-
-        if (rs.next()) {
-          return Optional.of(new QuestRewardModel(
-              rs.getInt("id"),
-              rs.getInt("quest_id"),
-              rs.getString("type"),
-              rs.getString("str_value"),
-              rs.getFloat("num_value")
-          ));
-        } else {
-          return Optional.empty();
-        }
+        return QueryExecutor.queryFirst(con, "SELECT * FROM quest_reward WHERE id = ?;",
+            ps -> ps.setInt(1, id), QuestRewardsRepository::readReward);
 
       } catch (SQLException e) {
         logger.severe(
@@ -127,31 +108,11 @@ public class QuestRewardsRepository extends AbstractDataRepository<QuestRewardMo
 
       try {
 
-        PreparedStatement ps = con.prepareStatement(
-            "INSERT INTO quest_reward (quest_id, type, num_value, str_value) VALUES (?, ?, ?, ?) RETURNING id;");
-
-        ps.setInt(1, model.questId());
-        ps.setString(2, model.type());
-
-        if (model.numericValue() != null) {
-          ps.setFloat(3, model.numericValue());
-        } else {
-          ps.setNull(3, java.sql.Types.FLOAT);
-        }
-
-        if (model.stringValue() != null) {
-          ps.setString(4, model.stringValue());
-        } else {
-          ps.setNull(4, java.sql.Types.VARCHAR);
-        }
-
-        ResultSet rs = ps.executeQuery();
-
-        if (rs.next()) {
-          return rs.getInt("id");
-        } else {
-          throw new SQLException("No id was returned after inserting a new quest reward!");
-        }
+        return QueryExecutor.queryFirst(con,
+            "INSERT INTO quest_reward (quest_id, type, num_value, str_value) VALUES (?, ?, ?, ?) RETURNING id;",
+            ps -> bindValues(ps, model), rs -> rs.getInt("id"))
+            .orElseThrow(() -> new SQLException(
+                "No id was returned after inserting a new quest reward!"));
 
       } catch (SQLException e) {
         logger.severe(String.format("Error while inserting a new %s! Caused by: %s", tableName,
@@ -174,11 +135,8 @@ public class QuestRewardsRepository extends AbstractDataRepository<QuestRewardMo
 
       try {
 
-        PreparedStatement ps = con.prepareStatement(
-            "DELETE FROM quest_reward WHERE id = ?;");
-
-        ps.setInt(1, id);
-        ps.execute();
+        QueryExecutor.update(con, "DELETE FROM quest_reward WHERE id = ?;",
+            ps -> ps.setInt(1, id));
 
       } catch (SQLException e) {
         logger.severe(
@@ -202,26 +160,18 @@ public class QuestRewardsRepository extends AbstractDataRepository<QuestRewardMo
 
       try {
 
-        PreparedStatement ps = con.prepareStatement(
-            "SELECT * FROM quest_reward WHERE quest_id = ?;");
+        return QueryExecutor.query(con, "SELECT * FROM quest_reward WHERE quest_id = ?;",
+            ps -> ps.setInt(1, questId), rs -> {
 
-        ps.setInt(1, questId);
+              List<QuestRewardModel> rewards = new ArrayList<>();
 
-        ResultSet rs = ps.executeQuery();
+              while (rs.next()) {
+                rewards.add(readReward(rs));
+              }
 
-        List<QuestRewardModel> objectives = new ArrayList<>();
+              return rewards;
 
-        while (rs.next()) {
-          objectives.add(new QuestRewardModel(
-              rs.getInt("id"),
-              rs.getInt("quest_id"),
-              rs.getString("type"),
-              rs.getString("str_value"),
-              rs.getFloat("num_value")
-          ));
-        }
-
-        return objectives;
+            });
 
       } catch (SQLException e) {
         logger.severe(
@@ -235,4 +185,47 @@ public class QuestRewardsRepository extends AbstractDataRepository<QuestRewardMo
 
   }
 
-}
\ No newline at end of file
+  @Override
+  protected BatchStatement<QuestRewardModel> getInsertAllStatement() {
+    return new BatchStatement<>(
+        "INSERT INTO quest_reward (quest_id, type, num_value, str_value) VALUES (?, ?, ?, ?);",
+        QuestRewardsRepository::bindValues);
+  }
+
+  @Override
+  protected BatchStatement<Integer> getDeleteAllStatement() {
+    return new BatchStatement<>("DELETE FROM quest_reward WHERE id = ?;",
+        (ps, id) -> ps.setInt(1, id));
+  }
+
+  private static void bindValues(PreparedStatement ps, QuestRewardModel model)
+      throws SQLException {
+
+    ps.setInt(1, model.questId());
+    ps.setString(2, model.type());
+
+    if (model.numericValue() != null) {
+      ps.setFloat(3, model.numericValue());
+    } else {
+      ps.setNull(3, java.sql.Types.FLOAT);
+    }
+
+    if (model.stringValue() != null) {
+      ps.setString(4, model.stringValue());
+    } else {
+      ps.setNull(4, java.sql.Types.VARCHAR);
+    }
+
+  }
+
+  private static QuestRewardModel readReward(ResultSet rs) throws SQLException {
+    return new QuestRewardModel(
+        rs.getInt("id"),
+        rs.getInt("quest_id"),
+        rs.getString("type"),
+        rs.getString("str_value"),
+        rs.getFloat("num_value")
+    );
+  }
+
+}
@@ -3,15 +3,13 @@ package dev.hugog.minecraft.wonderquests.data.repositories;
 import com.google.inject.Inject;
 import com.google.inject.name.Named;
 import dev.hugog.minecraft.wonderquests.concurrency.ConcurrencyHandler;
+import dev.hugog.minecraft.wonderquests.config.PluginConfigHandler;
 import dev.hugog.minecraft.wonderquests.data.connectivity.DataSource;
+import dev.hugog.minecraft.wonderquests.data.connectivity.UnitOfWork;
 import dev.hugog.minecraft.wonderquests.data.models.QuestModel;
-import dev.hugog.minecraft.wonderquests.data.models.QuestObjectiveModel;
-import dev.hugog.minecraft.wonderquests.data.models.QuestRequirementModel;
-import dev.hugog.minecraft.wonderquests.data.models.QuestRewardModel;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
+import dev.hugog.minecraft.wonderquests.data.repositories.QueryExecutor.QueryParameters;
+import java.sql.Connection;
 import java.sql.SQLException;
-import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -25,17 +23,85 @@ import java.util.logging.Logger;
  */
 public class QuestsRepository extends AbstractDataRepository<QuestModel, Integer> {
 
+  // Columns of the quests and their objectives
+  private static final String QUEST_COLUMNS =
+      "quest.id AS id, name, description, opening_msg, closing_msg, item, time_limit, "
+          + "quest_objective.id AS quest_objective_id, "
+          + "quest_objective.type AS quest_objective_type, "
+          + "quest_objective.str_value AS quest_objective_str_value, "
+          + "quest_objective.num_value AS quest_objective_num_value ";
+
+  private static final String FROM_QUESTS =
+      "FROM quest LEFT JOIN quest_objective ON quest.id = quest_objective.quest_id ";
+
+  // Selects the quests joined with their requirements and rewards
+  private static final String SELECT_JOINED_QUESTS = "SELECT " + QUEST_COLUMNS + ", "
+      + "quest_requirement.id AS quest_requirement_id, "
+      + "quest_requirement.type AS quest_requirement_type, "
+      + "quest_requirement.str_value AS quest_requirement_str_value, "
+      + "quest_requirement.num_value AS quest_requirement_num_value, "
+      + "quest_reward.id AS quest_reward_id, "
+      + "quest_reward.type AS quest_reward_type, "
+      + "quest_reward.str_value AS quest_reward_str_value, "
+      + "quest_reward.num_value AS quest_reward_num_value "
+      + FROM_QUESTS
+      + "LEFT JOIN quest_requirement ON quest.id = quest_requirement.quest_id "
+      + "LEFT JOIN quest_reward ON quest.id = quest_reward.quest_id ";
+
+  // Selects the quests, with their requirements and rewards aggregated as JSON arrays
+  private static final String SELECT_JSON_QUESTS = "SELECT " + QUEST_COLUMNS + ", "
+      + "(SELECT json_agg(json_build_object('id', r.id, 'type', r.type, "
+      + "'str_value', r.str_value, 'num_value', r.num_value)) "
+      + "FROM quest_requirement r WHERE r.quest_id = quest.id) AS requirements, "
+      + "(SELECT json_agg(json_build_object('id', r.id, 'type', r.type, "
+      + "'str_value', r.str_value, 'num_value', r.num_value)) "
+      + "FROM quest_reward r WHERE r.quest_id = quest.id) AS rewards "
+      + FROM_QUESTS;
+
+  private static final String SELECT_QUESTS = "SELECT " + QUEST_COLUMNS + FROM_QUESTS;
+
+  private final QuestLoadingStrategy loadingStrategy;
+
   /**
    * Constructor for the QuestsRepository class.
    *
    * @param logger             The logger instance used for logging.
    * @param dataSource         The data source instance used for database connectivity.
    * @param concurrencyHandler The concurrency handler instance used for managing concurrency.
+   * @param pluginConfigHandler The plugin configuration, with the quest loading strategy.
    */
   @Inject
   public QuestsRepository(@Named("bukkitLogger") Logger logger,
-      DataSource dataSource, ConcurrencyHandler concurrencyHandler) {
+      DataSource dataSource, ConcurrencyHandler concurrencyHandler,
+      PluginConfigHandler pluginConfigHandler) {
+    this(logger, dataSource, concurrencyHandler,
+        resolveLoadingStrategy(logger, pluginConfigHandler.getQuestLoadingStrategy()));
+  }
+
+  /**
+   * Constructor for the QuestsRepository class.
+   *
+   * @param logger             The logger instance used for logging.
+   * @param dataSource         The data source instance used for database connectivity.
+   * @param concurrencyHandler The concurrency handler instance used for managing concurrency.
+   * @param loadingStrategy    The way quests are loaded with their objectives, requirements and rewards.
+   */
+  public QuestsRepository(Logger logger, DataSource dataSource,
+      ConcurrencyHandler concurrencyHandler, QuestLoadingStrategy loadingStrategy) {
     super("quest", 0, logger, dataSource, concurrencyHandler);
+    this.loadingStrategy = loadingStrategy;
+  }
+
+  /**
+   * Constructor for the QuestsRepository class, which loads quests with keyed queries.
+   *
+   * @param logger             The logger instance used for logging.
+   * @param dataSource         The data source instance used for database connectivity.
+   * @param concurrencyHandler The concurrency handler instance used for managing concurrency.
+   */
+  public QuestsRepository(Logger logger, DataSource dataSource,
+      ConcurrencyHandler concurrencyHandler) {
+    this(logger, dataSource, concurrencyHandler, QuestLoadingStrategy.KEYED);
   }
 
   /**
@@ -51,7 +117,7 @@ public class QuestsRepository extends AbstractDataRepository<QuestModel, Integer
 
       try {
 
-        PreparedStatement ps = con.prepareStatement(
+        QueryExecutor.execute(con,
             "CREATE TABLE IF NOT EXISTS quest ("
                 + "id SERIAL PRIMARY KEY,"
                 + "name VARCHAR(127) NOT NULL,"
@@ -62,8 +128,6 @@ public class QuestsRepository extends AbstractDataRepository<QuestModel, Integer
                 + "time_limit INTEGER"
                 + ");");
 
-        ps.execute();
-
       } catch (SQLException e) {
         logger.severe(String.format("Error while creating the %s table! Caused by: %s", tableName,
             e.getMessage()));
@@ -91,81 +155,8 @@ public class QuestsRepository extends AbstractDataRepository<QuestModel, Integer
 
       try {
 
-        PreparedStatement ps = con.prepareStatement(
-            "SELECT quest.id AS id, name, description, opening_msg, closing_msg, item, time_limit, "
-                + "quest_objective.id AS quest_objective_id, "
-                + "quest_objective.type AS quest_objective_type, "
-                + "quest_objective.str_value AS quest_objective_str_value, "
-                + "quest_objective.num_value AS quest_objective_num_value, "
-                + "quest_requirement.id AS quest_requirement_id, "
-                + "quest_requirement.type AS quest_requirement_type, "
-                + "quest_requirement.str_value AS quest_requirement_str_value, "
-                + "quest_requirement.num_value AS quest_requirement_num_value, "
-                + "quest_reward.id AS quest_reward_id, "
-                + "quest_reward.type AS quest_reward_type, "
-                + "quest_reward.str_value AS quest_reward_str_value, "
-                + "quest_reward.num_value AS quest_reward_num_value "
-                + "FROM quest "
-                + "LEFT JOIN quest_objective ON quest.id = quest_objective.quest_id "
-                + "LEFT JOIN quest_requirement ON quest.id = quest_requirement.quest_id "
-                + "LEFT JOIN quest_reward ON quest.id = quest_reward.quest_id "
-                + "WHERE quest.id = ?;");
-
-        ps.setInt(1, id);
-
-        ResultSet rs = ps.executeQuery();
-        QuestModel questModel = null;
-
-        while (rs.next()) {
-          if (questModel == null) {
-            questModel = new QuestModel(
-                rs.getInt("id"),
-                rs.getString("name"),
-                rs.getString("description"),
-                rs.getString("opening_msg"),
-                rs.getString("closing_msg"),
-                rs.getString("item"),
-                rs.getInt("time_limit"),
-                rs.getInt("quest_objective_id") == 0 ? null :
-                    new QuestObjectiveModel(
-                        rs.getInt("quest_objective_id"),
-                        rs.getInt("id"),
-                        rs.getString("quest_objective_type"),
-                        rs.getString("quest_objective_str_value"),
-                        rs.getFloat("quest_objective_num_value")
-                    ),
-                new HashSet<>(),
-                new HashSet<>()
-            );
-          }
-
-          rs.getInt("quest_requirement_id");
-
-          if (!rs.wasNull()) {
-            questModel.requirements().add(new QuestRequirementModel(
-                rs.getInt("quest_requirement_id"),
-                rs.getInt("id"),
-                rs.getString("quest_requirement_type"),
-                rs.getString("quest_requirement_str_value"),
-                rs.getFloat("quest_requirement_num_value")
-            ));
-          }
-
-          rs.getInt("quest_reward_id");
-
-          if (!rs.wasNull()) {
-            questModel.rewards().add(new QuestRewardModel(
-                rs.getInt("quest_reward_id"),
-                rs.getInt("id"),
-                rs.getString("quest_reward_type"),
-                rs.getString("quest_reward_str_value"),
-                rs.getFloat("quest_reward_num_value")
-            ));
-          }
-
-        }
-
-        return Optional.ofNullable(questModel);
+        return findQuests(con, "WHERE quest.id = ?;", ps -> ps.setInt(1, id)).stream()
+            .findFirst();
 
       } catch (SQLException e) {
         logger.severe(String.format("Error while finding quest with id %d! Caused by: %s", id,
@@ -185,35 +176,42 @@ public class QuestsRepository extends AbstractDataRepository<QuestModel, Integer
    */
   @Override
   public CompletableFuture<Integer> insert(QuestModel model) {
-    return concurrencyHandler.supply(() -> dataSource.execute(con -> {
-
-      try {
+    return concurrencyHandler.supply(() -> dataSource.execute(con -> insert(con, model)), true);
+  }
 
-        PreparedStatement ps = con.prepareStatement(
-            "INSERT INTO quest (name, description, opening_msg, closing_msg, item, time_limit) VALUES (?, ?, ?, ?, ?, ?) RETURNING id;");
+  /**
+   * This method inserts a quest as part of a unit of work.
+   *
+   * @param unitOfWork the unit of work
+   * @param model the quest to insert
+   * @return the id of the inserted quest.
+   */
+  public Integer insert(UnitOfWork unitOfWork, QuestModel model) {
+    return insert(unitOfWork.getConnection(), model);
+  }
 
-        ps.setString(1, model.name());
-        ps.setString(2, model.description());
-        ps.setString(3, model.openingMsg());
-        ps.setString(4, model.closingMsg());
-        ps.setString(5, model.item());
-        ps.setInt(6, model.timeLimit());
+  private Integer insert(Connection con, QuestModel model) {
 
-        ResultSet resultSet = ps.executeQuery();
+    try {
 
-        if (resultSet.next()) {
-          return resultSet.getInt("id");
-        } else {
-          throw new SQLException("No id returned!");
-        }
+      return QueryExecutor.queryFirst(con,
+          "INSERT INTO quest (name, description, opening_msg, closing_msg, item, time_limit) VALUES (?, ?, ?, ?, ?, ?) RETURNING id;",
+          ps -> {
+            ps.setString(1, model.name());
+            ps.setString(2, model.description());
+            ps.setString(3, model.openingMsg());
+            ps.setString(4, model.closingMsg());
+            ps.setString(5, model.item());
+            ps.setInt(6, model.timeLimit());
+          }, rs -> rs.getInt("id"))
+          .orElseThrow(() -> new SQLException("No id returned!"));
 
-      } catch (SQLException e) {
-        logger.severe(String.format("Error while inserting quest with name %s! Caused by: %s",
-            model.name(), e.getMessage()));
-        throw new RuntimeException(e);
-      }
+    } catch (SQLException e) {
+      logger.severe(String.format("Error while inserting quest with name %s! Caused by: %s",
+          model.name(), e.getMessage()));
+      throw new RuntimeException(e);
+    }
 
-    }), true);
   }
 
   /**
@@ -228,11 +226,7 @@ public class QuestsRepository extends AbstractDataRepository<QuestModel, Integer
 
       try {
 
-        PreparedStatement ps = con.prepareStatement(
-            "DELETE FROM quest WHERE id = ?;");
-
-        ps.setInt(1, id);
-        ps.execute();
+        QueryExecutor.update(con, "DELETE FROM quest WHERE id = ?;", ps -> ps.setInt(1, id));
 
       } catch (SQLException e) {
         logger.severe(String.format("Error while deleting quest with id %d! Caused by: %s",
@@ -253,94 +247,7 @@ public class QuestsRepository extends AbstractDataRepository<QuestModel, Integer
 
       try {
 
-        PreparedStatement ps = con.prepareStatement(
-            "SELECT quest.id AS id, name, description, opening_msg, closing_msg, item, time_limit, "
-                + "quest_objective.id AS quest_objective_id, "
-                + "quest_objective.type AS quest_objective_type, "
-                + "quest_objective.str_value AS quest_objective_str_value, "
-                + "quest_objective.num_value AS quest_objective_num_value, "
-                + "quest_requirement.id AS quest_requirement_id, "
-                + "quest_requirement.type AS quest_requirement_type, "
-                + "quest_requirement.str_value AS quest_requirement_str_value, "
-                + "quest_requirement.num_value AS quest_requirement_num_value, "
-                + "quest_reward.id AS quest_reward_id, "
-                + "quest_reward.type AS quest_reward_type, "
-                + "quest_reward.str_value AS quest_reward_str_value, "
-                + "quest_reward.num_value AS quest_reward_num_value "
-                + "FROM quest "
-                + "LEFT JOIN quest_objective ON quest.id = quest_objective.quest_id "
-                + "LEFT JOIN quest_requirement ON quest.id = quest_requirement.quest_id "
-                + "LEFT JOIN quest_reward ON quest.id = quest_reward.quest_id;");
-
-        ResultSet rs = ps.executeQuery();
-        Set<QuestModel> questModels = new HashSet<>();
-
-        while (rs.next()) {
-
-          int questId = rs.getInt("id");
-
-          Optional<QuestModel> questModelOptional = questModels.stream()
-              .filter(questModel -> questModel.id() == questId)
-              .findFirst();
-
-          if (questModelOptional.isEmpty()) {
-            questModels.add(new QuestModel(
-                questId,
-                rs.getString("name"),
-                rs.getString("description"),
-                rs.getString("opening_msg"),
-                rs.getString("closing_msg"),
-                rs.getString("item"),
-                rs.getInt("time_limit"),
-                rs.getInt("quest_objective_id") == 0 ? null :
-                    new QuestObjectiveModel(
-                        rs.getInt("quest_objective_id"),
-                        rs.getInt("id"),
-                        rs.getString("quest_objective_type"),
-                        rs.getString("quest_objective_str_value"),
-                        rs.getFloat("quest_objective_num_value")
-                    ),
-                new HashSet<>(),
-                new HashSet<>()
-            ));
-            questModelOptional = questModels.stream()
-                .filter(questModel -> questModel.id() == questId)
-                .findFirst();
-          }
-
-          if (questModelOptional.isEmpty()) {
-            continue;
-          }
-
-          QuestModel ownerQuestModel = questModelOptional.get();
-
-          rs.getInt("quest_requirement_id");
-
-          if (!rs.wasNull()) {
-            ownerQuestModel.requirements().add(new QuestRequirementModel(
-                rs.getInt("quest_requirement_id"),
-                rs.getInt("id"),
-                rs.getString("quest_requirement_type"),
-                rs.getString("quest_requirement_str_value"),
-                rs.getFloat("quest_requirement_num_value")
-            ));
-          }
-
-          rs.getInt("quest_reward_id");
-
-          if (!rs.wasNull()) {
-            ownerQuestModel.rewards().add(new QuestRewardModel(
-                rs.getInt("quest_reward_id"),
-                rs.getInt("id"),
-                rs.getString("quest_reward_type"),
-                rs.getString("quest_reward_str_value"),
-                rs.getFloat("quest_reward_num_value")
-            ));
-          }
-
-        }
-
-        return questModels;
+        return new HashSet<>(findQuests(con, ";", QueryParameters.NONE));
 
       } catch (SQLException e) {
         logger.severe(String.format("Error while finding all quests! Caused by: %s",
@@ -354,8 +261,8 @@ public class QuestsRepository extends AbstractDataRepository<QuestModel, Integer
   /**
    * This method finds all quests in a given interval.
    *
-   * @param bottom the lower bound of the interval
-   * @param top the upper bound of the interval
+   * @param bottom the position of the first quest
+   * @param top the position after the last quest
    * @return a CompletableFuture that will be completed with a List containing all found quests in the given interval.
    */
   public CompletableFuture<List<QuestModel>> findAllInInterval(Integer bottom, Integer top) {
@@ -363,99 +270,13 @@ public class QuestsRepository extends AbstractDataRepository<QuestModel, Integer
 
       try {
 
-        PreparedStatement ps = con.prepareStatement(
-            "SELECT quest.id AS id, name, description, opening_msg, closing_msg, item, time_limit, "
-                + "quest_objective.id AS quest_objective_id, "
-                + "quest_objective.type AS quest_objective_type, "
-                + "quest_objective.str_value AS quest_objective_str_value, "
-                + "quest_objective.num_value AS quest_objective_num_value, "
-                + "quest_requirement.id AS quest_requirement_id, "
-                + "quest_requirement.type AS quest_requirement_type, "
-                + "quest_requirement.str_value AS quest_requirement_str_value, "
-                + "quest_requirement.num_value AS quest_requirement_num_value, "
-                + "quest_reward.id AS quest_reward_id, "
-                + "quest_reward.type AS quest_reward_type, "
-                + "quest_reward.str_value AS quest_reward_str_value, "
-                + "quest_reward.num_value AS quest_reward_num_value "
-                + "FROM quest "
-                + "LEFT JOIN quest_objective ON quest.id = quest_objective.quest_id "
-                + "LEFT JOIN quest_requirement ON quest.id = quest_requirement.quest_id "
-                + "LEFT JOIN quest_reward ON quest.id = quest_reward.quest_id "
-                + "ORDER BY quest.id "
-                + "LIMIT ? OFFSET ?;");
-
-        ps.setInt(1, top);
-        ps.setInt(2, bottom);
-
-        ResultSet rs = ps.executeQuery();
-        List<QuestModel> questModels = new ArrayList<>();
-
-        while (rs.next()) {
-
-          int questId = rs.getInt("id");
-
-          Optional<QuestModel> questModelOptional = questModels.stream()
-              .filter(questModel -> questModel.id() == questId)
-              .findFirst();
-
-          if (questModelOptional.isEmpty()) {
-            questModels.add(new QuestModel(
-                questId,
-                rs.getString("name"),
-                rs.getString("description"),
-                rs.getString("opening_msg"),
-                rs.getString("closing_msg"),
-                rs.getString("item"),
-                rs.getInt("time_limit"),
-                rs.getInt("quest_objective_id") == 0 ? null :
-                    new QuestObjectiveModel(
-                        rs.getInt("quest_objective_id"),
-                        rs.getInt("id"),
-                        rs.getString("quest_objective_type"),
-                        rs.getString("quest_objective_str_value"),
-                        rs.getFloat("quest_objective_num_value")
-                    ),
-                new HashSet<>(),
-                new HashSet<>()
-            ));
-            questModelOptional = questModels.stream()
-                .filter(questModel -> questModel.id() == questId)
-                .findFirst();
-          }
-
-          if (questModelOptional.isEmpty()) {
-            continue;
-          }
-
-          QuestModel ownerQuestModel = questModelOptional.get();
-
-          rs.getInt("quest_requirement_id");
-
-          if (!rs.wasNull()) {
-            ownerQuestModel.requirements().add(new QuestRequirementModel(
-                rs.getInt("quest_requirement_id"),
-                rs.getInt("id"),
-                rs.getString("quest_requirement_type"),
-                rs.getString("quest_requirement_str_value"),
-                rs.getFloat("quest_requirement_num_value")
-            ));
-          }
-
-          rs.getInt("quest_reward_id");
-
-          if (!rs.wasNull()) {
-            ownerQuestModel.rewards().add(new QuestRewardModel(
-                rs.getInt("quest_reward_id"),
-                rs.getInt("id"),
-                rs.getString("quest_reward_type"),
-                rs.getString("quest_reward_str_value"),
-                rs.getFloat("quest_reward_num_value")
-            ));
-          }
-
-        }
-
-        return questModels;
+        // The interval is applied to the quests, not to the rows of the loading strategy
+        return findQuests(con, "WHERE quest.id IN "
+            + "(SELECT id FROM quest ORDER BY id LIMIT ? OFFSET ?) "
+            + "ORDER BY quest.id;", ps -> {
+          ps.setInt(1, top - bottom);
+          ps.setInt(2, bottom);
+        });
 
       } catch (SQLException e) {
         logger.severe(String.format("Error while finding all quests! Caused by: %s",
@@ -466,4 +287,124 @@ public class QuestsRepository extends AbstractDataRepository<QuestModel, Integer
     }), true);
   }
 
+  /**
+   * This method finds the quests with an id greater than the given one, ordered by id.
+   *
+   * <p>Unlike {@link #findAllInInterval(Integer, Integer)}, the quests before the given id aren't
+   * counted, so pages are read with a range scan over the primary key.</p>
+   *
+   * @param afterId the id after which the quests start
+   * @param limit the maximum number of quests
+   * @return a CompletableFuture that will be completed with a List containing the found quests.
+   */
+  public CompletableFuture<List<QuestModel>> findAllAfter(Integer afterId, Integer limit) {
+    return concurrencyHandler.supply(() -> dataSource.execute(con -> {
+
+      try {
+
+        // The limit is applied to the quests, not to the rows of the loading strategy
+        return findQuests(con, "WHERE quest.id IN "
+            + "(SELECT id FROM quest WHERE id > ? ORDER BY id LIMIT ?) "
+            + "ORDER BY quest.id;", ps -> {
+          ps.setInt(1, afterId);
+          ps.setInt(2, limit);
+        });
+
+      } catch (SQLException e) {
+        logger.severe(String.format("Error while finding the quests after id %d! Caused by: %s",
+            afterId, e.getMessage()));
+        throw new RuntimeException(e);
+      }
+
+    }), true);
+  }
+
+  @Override
+  protected BatchStatement<QuestModel> getInsertAllStatement() {
+    return new BatchStatement<>(
+        "INSERT INTO quest (name, description, opening_msg, closing_msg, item, time_limit) "
+            + "VALUES (?, ?, ?, ?, ?, ?);",
+        (ps, model) -> {
+          ps.setString(1, model.name());
+          ps.setString(2, model.description());
+          ps.setString(3, model.openingMsg());
+          ps.setString(4, model.closingMsg());
+          ps.setString(5, model.item());
+          ps.setInt(6, model.timeLimit());
+        });
+  }
+
+  @Override
+  protected BatchStatement<Integer> getDeleteAllStatement() {
+    return new BatchStatement<>("DELETE FROM quest WHERE id = ?;",
+        (ps, id) -> ps.setInt(1, id));
+  }
+
+  /**
+   * This method finds the quests selected by a clause, with their objectives, requirements and
+   * rewards, according to the loading strategy.
+   *
+   * @param con the connection to the database
+   * @param clause the clause that selects the quests (e.g., WHERE, ORDER BY, LIMIT)
+   * @param parameters sets the parameters of the clause
+   * @return the found quests, in the order of the clause
+   * @throws SQLException if the quests can't be read
+   */
+  private List<QuestModel> findQuests(Connection con, String clause,
+      QueryParameters parameters) throws SQLException {
+
+    QuestModelAssembler assembler = new QuestModelAssembler();
+
+    switch (loadingStrategy) {
+
+      case JOIN -> QueryExecutor.query(con, SELECT_JOINED_QUESTS + clause, parameters,
+          assembler::addRows);
+
+      case JSON -> QueryExecutor.query(con, SELECT_JSON_QUESTS + clause, parameters,
+          assembler::addJsonRows);
+
+      case KEYED -> {
+
+        QueryExecutor.query(con, SELECT_QUESTS + clause, parameters, assembler::addQuestRows);
+
+        Integer[] questIds = assembler.getQuestIds();
+        if (questIds.length == 0) {
+          break;
+        }
+
+        QueryExecutor.query(con,
+            "SELECT id, quest_id, type, str_value, num_value FROM quest_requirement "
+                + "WHERE quest_id = ANY(?);",
+            ps -> ps.setArray(1, con.createArrayOf("integer", questIds)),
+            assembler::addRequirementRows);
+
+        QueryExecutor.query(con,
+            "SELECT id, quest_id, type, str_value, num_value FROM quest_reward "
+                + "WHERE quest_id = ANY(?);",
+            ps -> ps.setArray(1, con.createArrayOf("integer", questIds)),
+            assembler::addRewardRows);
+
+      }
+
+    }
+
+    return assembler.getQuests();
+
+  }
+
+  private static QuestLoadingStrategy resolveLoadingStrategy(Logger logger,
+      String configuredStrategy) {
+
+    QuestLoadingStrategy loadingStrategy = QuestLoadingStrategy.fromString(configuredStrategy);
+
+    if (loadingStrategy == null) {
+      logger.warning("Unknown quest loading strategy '" + configuredStrategy
+          + "' - using KEYED instead.");
+      return QuestLoadingStrategy.KEYED;
+    }
+
+    return loadingStrategy;
+
+  }
+
 }
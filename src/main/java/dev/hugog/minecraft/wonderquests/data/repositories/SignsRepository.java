@@ -5,9 +5,10 @@ import com.google.inject.name.Named;
 import dev.hugog.minecraft.wonderquests.concurrency.ConcurrencyHandler;
 import dev.hugog.minecraft.wonderquests.data.connectivity.DataSource;
 import dev.hugog.minecraft.wonderquests.data.models.SignModel;
-import java.sql.PreparedStatement;
+import dev.hugog.minecraft.wonderquests.data.repositories.QueryExecutor.QueryParameters;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
@@ -30,18 +31,17 @@ public class SignsRepository extends AbstractDataRepository<SignModel, Integer>
 
       try {
 
-        PreparedStatement ps = con.prepareStatement(
+        QueryExecutor.execute(con,
             "CREATE TABLE IF NOT EXISTS sign ("
                 + "id SERIAL PRIMARY KEY,"
                 + "type VARCHAR(64) NOT NULL,"
                 + "world_name VARCHAR(128) NOT NULL,"
                 + "x INTEGER NOT NULL,"
                 + "y INTEGER NOT NULL,"
-                + "z INTEGER NOT NULL"
+                + "z INTEGER NOT NULL,"
+                + "quest_id INTEGER"
                 + ");");
 
-        ps.execute();
-
       } catch (SQLException e) {
         logger.severe(String.format("Error while creating the %s table! Caused by: %s", tableName,
             e.getMessage()));
@@ -57,22 +57,34 @@ public class SignsRepository extends AbstractDataRepository<SignModel, Integer>
   }
 
   @Override
-  public CompletableFuture<Optional<SignModel>> findById(Integer id) {
+  public CompletableFuture<Void> updateTable() {
 
-    return concurrencyHandler.supply(() -> dataSource.execute(con -> {
+    return concurrencyHandler.run(() -> dataSource.apply(con -> {
 
       try {
 
-        PreparedStatement ps = con.prepareStatement("SELECT * FROM sign WHERE id = ?;");
+        // The quest_id column was added with the quest status signs
+        QueryExecutor.execute(con, "ALTER TABLE sign ADD COLUMN IF NOT EXISTS quest_id INTEGER;");
+
+      } catch (SQLException e) {
+        logger.severe(String.format("Error while updating the %s table! Caused by: %s", tableName,
+            e.getMessage()));
+        throw new RuntimeException(e);
+      }
 
-        ps.setObject(1, id);
-        ResultSet rs = ps.executeQuery();
+    }), true);
+
+  }
+
+  @Override
+  public CompletableFuture<Optional<SignModel>> findById(Integer id) {
+
+    return concurrencyHandler.supply(() -> dataSource.execute(con -> {
+
+      try {
 
-        if (rs.next()) {
-          return Optional.of(
-              new SignModel(rs.getInt("id"), rs.getString("type"), rs.getString("world_name"),
-                  rs.getInt("x"), rs.getInt("y"), rs.getInt("z")));
-        }
+        return QueryExecutor.queryFirst(con, "SELECT * FROM sign WHERE id = ?;",
+            ps -> ps.setObject(1, id), SignsRepository::readSign);
 
       } catch (SQLException e) {
         logger.severe(String.format("Error while finding sign with id %s! Caused by: %s", id,
@@ -80,8 +92,6 @@ public class SignsRepository extends AbstractDataRepository<SignModel, Integer>
         throw new RuntimeException(e);
       }
 
-      return Optional.empty();
-
     }), true);
 
   }
@@ -93,22 +103,18 @@ public class SignsRepository extends AbstractDataRepository<SignModel, Integer>
 
       try {
 
-        PreparedStatement ps = con.prepareStatement(
-            "INSERT INTO sign (type, world_name, x, y, z) VALUES (?, ?, ?, ?, ?) RETURNING id;");
-
-        ps.setString(1, model.type());
-        ps.setString(2, model.worldName());
-        ps.setInt(3, model.x());
-        ps.setInt(4, model.y());
-        ps.setInt(5, model.z());
-
-        ResultSet resultSet = ps.executeQuery();
-
-        if (resultSet.next()) {
-          return resultSet.getInt("id");
-        } else {
-          throw new SQLException("No id returned!");
-        }
+        return QueryExecutor.queryFirst(con,
+            "INSERT INTO sign (type, world_name, x, y, z, quest_id) VALUES (?, ?, ?, ?, ?, ?) "
+                + "RETURNING id;",
+            ps -> {
+              ps.setString(1, model.type());
+              ps.setString(2, model.worldName());
+              ps.setInt(3, model.x());
+              ps.setInt(4, model.y());
+              ps.setInt(5, model.z());
+              ps.setObject(6, model.questId(), Types.INTEGER);
+            }, rs -> rs.getInt("id"))
+            .orElseThrow(() -> new SQLException("No id returned!"));
 
       } catch (SQLException e) {
         logger.severe(String.format("Error while inserting sign! Caused by: %s", e.getMessage()));
@@ -125,10 +131,7 @@ public class SignsRepository extends AbstractDataRepository<SignModel, Integer>
 
       try {
 
-        PreparedStatement ps = con.prepareStatement("DELETE FROM sign WHERE id = ?;");
-
-        ps.setInt(1, id);
-        ps.execute();
+        QueryExecutor.update(con, "DELETE FROM sign WHERE id = ?;", ps -> ps.setInt(1, id));
 
       } catch (SQLException e) {
         logger.severe(String.format("Error while deleting sign with id %d! Caused by: %s", id,
@@ -145,28 +148,17 @@ public class SignsRepository extends AbstractDataRepository<SignModel, Integer>
 
       try {
 
-        PreparedStatement ps = con.prepareStatement(
-            "SELECT * FROM sign;");
+        return QueryExecutor.query(con, "SELECT * FROM sign;", QueryParameters.NONE, rs -> {
 
-        ResultSet rs = ps.executeQuery();
-        Set<SignModel> signs = new HashSet<>();
+          Set<SignModel> signs = new HashSet<>();
 
-        while (rs.next()) {
+          while (rs.next()) {
+            signs.add(readSign(rs));
+          }
 
-          signs.add(
-              new SignModel(
-                  rs.getInt("id"),
-                  rs.getString("type"),
-                  rs.getString("world_name"),
-                  rs.getInt("x"),
-                  rs.getInt("y"),
-                  rs.getInt("z")
-              )
-          );
+          return signs;
 
-        }
-
-        return signs;
+        });
 
       } catch (SQLException e) {
         logger.severe(String.format("Error while finding all signs! Caused by: %s",
@@ -189,19 +181,15 @@ public class SignsRepository extends AbstractDataRepository<SignModel, Integer>
 
       try {
 
-        PreparedStatement ps = con.prepareStatement(
-            "DELETE FROM sign WHERE world_name = ? AND x = ? AND y = ? AND z = ? RETURNING id;");
-
-        ps.setString(1, worldName);
-        ps.setInt(2, x);
-        ps.setInt(3, y);
-        ps.setInt(4, z);
-
-        ResultSet rs = ps.executeQuery();
-
-        if (rs.next()) {
-          return rs.getInt("id");
-        }
+        return QueryExecutor.queryFirst(con,
+            "DELETE FROM sign WHERE world_name = ? AND x = ? AND y = ? AND z = ? RETURNING id;",
+            ps -> {
+              ps.setString(1, worldName);
+              ps.setInt(2, x);
+              ps.setInt(3, y);
+              ps.setInt(4, z);
+            }, rs -> rs.getInt("id"))
+            .orElse(null);
 
       } catch (SQLException e) {
         logger.severe(String.format("Error while deleting sign by location %s! Caused by: %s",
@@ -210,10 +198,40 @@ public class SignsRepository extends AbstractDataRepository<SignModel, Integer>
         throw new RuntimeException(e);
       }
 
-      return null;
-
     }), true);
 
   }
 
+  @Override
+  protected BatchStatement<SignModel> getInsertAllStatement() {
+    return new BatchStatement<>(
+        "INSERT INTO sign (type, world_name, x, y, z, quest_id) VALUES (?, ?, ?, ?, ?, ?);",
+        (ps, model) -> {
+          ps.setString(1, model.type());
+          ps.setString(2, model.worldName());
+          ps.setInt(3, model.x());
+          ps.setInt(4, model.y());
+          ps.setInt(5, model.z());
+          ps.setObject(6, model.questId(), Types.INTEGER);
+        });
+  }
+
+  @Override
+  protected BatchStatement<Integer> getDeleteAllStatement() {
+    return new BatchStatement<>("DELETE FROM sign WHERE id = ?;",
+        (ps, id) -> ps.setInt(1, id));
+  }
+
+  private static SignModel readSign(ResultSet rs) throws SQLException {
+    return new SignModel(
+        rs.getInt("id"),
+        rs.getString("type"),
+        rs.getString("world_name"),
+        rs.getInt("x"),
+        rs.getInt("y"),
+        rs.getInt("z"),
+        rs.getObject("quest_id", Integer.class)
+    );
+  }
+
 }
@@ -1,16 +1,19 @@
 package dev.hugog.minecraft.wonderquests.data.services;
 
 import com.google.inject.Inject;
+import dev.hugog.minecraft.wonderquests.cache.ActiveQuestsWriteBehind;
+import dev.hugog.minecraft.wonderquests.cache.implementation.ActiveObjectivesIndex;
 import dev.hugog.minecraft.wonderquests.cache.implementation.ActiveQuestsCache;
 import dev.hugog.minecraft.wonderquests.data.dtos.ActiveQuestDto;
+import dev.hugog.minecraft.wonderquests.data.dtos.QuestObjectiveDto;
 import dev.hugog.minecraft.wonderquests.data.keys.PlayerQuestKey;
 import dev.hugog.minecraft.wonderquests.data.models.ActiveQuestModel;
 import dev.hugog.minecraft.wonderquests.data.repositories.ActiveQuestRepository;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -20,23 +23,36 @@ public class ActiveQuestsService {
 
   private final ActiveQuestsCache activeQuestsCache;
   private final ActiveQuestRepository activeQuestRepository;
+  private final ActiveObjectivesIndex activeObjectivesIndex;
+  private final QuestsService questsService;
+  private final ActiveQuestsWriteBehind activeQuestsWriteBehind;
 
   /**
    * Constructor for the ActiveQuestsService class.
    *
    * @param activeQuestsCache      The cache instance used for caching active quests.
    * @param activeQuestRepository  The repository instance used for database operations related to active quests.
+   * @param activeObjectivesIndex  The index of the objectives of the active quests.
+   * @param questsService          The service used to retrieve the details of the quests.
+   * @param activeQuestsWriteBehind The write-behind queue used to persist the progress of active quests.
    */
   @Inject
   public ActiveQuestsService(ActiveQuestsCache activeQuestsCache,
-      ActiveQuestRepository activeQuestRepository) {
+      ActiveQuestRepository activeQuestRepository, ActiveObjectivesIndex activeObjectivesIndex,
+      QuestsService questsService, ActiveQuestsWriteBehind activeQuestsWriteBehind) {
     this.activeQuestsCache = activeQuestsCache;
     this.activeQuestRepository = activeQuestRepository;
+    this.activeObjectivesIndex = activeObjectivesIndex;
+    this.questsService = questsService;
+    this.activeQuestsWriteBehind = activeQuestsWriteBehind;
   }
 
   /**
    * This method starts a quest for a player.
    *
+   * <p>Once the quest is stored, its objective is added to the objectives index and, if the
+   * active quests of the player are already cached, the new quest is added to the cache.</p>
+   *
    * @param playerId         The id of the player.
    * @param questId          The id of the quest.
    * @param objectiveTarget  The target objective of the quest.
@@ -46,7 +62,33 @@ public class ActiveQuestsService {
       Float objectiveTarget) {
 
     ActiveQuestDto activeQuestDto = ActiveQuestDto.startQuest(playerId, questId, objectiveTarget);
-    return activeQuestRepository.insert(activeQuestDto.toModel()).thenApply(Objects::nonNull);
+    return activeQuestRepository.insert(activeQuestDto.toModel())
+        .thenCompose(activeQuestKey -> {
+
+          if (activeQuestKey == null) {
+            return CompletableFuture.completedFuture(false);
+          }
+
+          return questsService.getQuestById(questId, true).thenApply(quest -> {
+
+            quest.ifPresent(questDto -> {
+              activeQuestDto.setQuestDetails(questDto);
+              indexObjective(activeQuestKey, questDto.getObjective());
+            });
+
+            // Only add the quest if the player is already cached (or online, with no other active
+            // quests). Otherwise, the other active quests of the player would be hidden until the
+            // cache entries expire.
+            if (quest.isPresent()
+                && (activeQuestsCache.has(playerId) || activeQuestsCache.isPinned(playerId))) {
+              activeQuestsCache.put(activeQuestKey, activeQuestDto);
+            }
+
+            return true;
+
+          });
+
+        });
 
   }
 
@@ -72,21 +114,91 @@ public class ActiveQuestsService {
    */
   public CompletableFuture<Set<ActiveQuestDto>> getActiveQuestsForPlayer(UUID playerId) {
 
-    if (activeQuestsCache.has(playerId)) {
-      return CompletableFuture.completedFuture(activeQuestsCache.get(playerId));
+    Set<ActiveQuestDto> cachedActiveQuests = activeQuestsCache.getIfPresent(playerId);
+
+    if (cachedActiveQuests != null) {
+      return CompletableFuture.completedFuture(cachedActiveQuests);
+    }
+
+    return loadActiveQuestsForPlayer(playerId);
+
+  }
+
+  /**
+   * This method runs an action with all active quests for a player.
+   *
+   * <p>If the active quests are cached, the action runs synchronously, on the calling thread,
+   * without allocating any future. Otherwise, the quests are loaded from the database and the
+   * action runs asynchronously, once they are loaded.</p>
+   *
+   * @param playerId The id of the player.
+   * @param action   The action to run with the active quests of the player.
+   */
+  public void acceptActiveQuestsForPlayer(UUID playerId, Consumer<Set<ActiveQuestDto>> action) {
+
+    Set<ActiveQuestDto> cachedActiveQuests = activeQuestsCache.getIfPresent(playerId);
+
+    if (cachedActiveQuests != null) {
+      action.accept(cachedActiveQuests);
+      return;
     }
 
+    loadActiveQuestsForPlayer(playerId).thenAccept(action);
+
+  }
+
+  private CompletableFuture<Set<ActiveQuestDto>> loadActiveQuestsForPlayer(UUID playerId) {
+
     return activeQuestRepository.findAllByPlayerId(playerId)
         .thenApply(questModels -> {
+              // Changes that weren't written yet are more recent than the database state
               Set<ActiveQuestDto> activeQuests = questModels.stream()
-                  .map(ActiveQuestModel::toDto)
+                  .map(questModel -> Optional.ofNullable(activeQuestsWriteBehind.getPending(
+                          new PlayerQuestKey(questModel.playerId(), questModel.questId())))
+                      .orElseGet(questModel::toDto))
                   .collect(Collectors.toSet());
 
               activeQuestsCache.put(playerId, activeQuests);
 
               return activeQuests;
             }
-        );
+        )
+        .thenCompose(activeQuests -> indexObjectives(activeQuests).thenApply(v -> activeQuests));
+
+  }
+
+  /**
+   * This method loads the active quests of a player and keeps them cached until
+   * {@link #unpinActiveQuestsForPlayer(UUID)} is called, e.g., while the player is online.
+   *
+   * @param playerId The id of the player.
+   * @return a CompletableFuture that will be completed with a Set containing all active quests for the player.
+   */
+  public CompletableFuture<Set<ActiveQuestDto>> pinActiveQuestsForPlayer(UUID playerId) {
+    activeQuestsCache.pin(playerId);
+    return getActiveQuestsForPlayer(playerId);
+  }
+
+  /**
+   * This method writes the pending changes of the active quests of a player and removes them from
+   * the cache.
+   *
+   * @param playerId The id of the player.
+   * @return a CompletableFuture that will be completed when the changes are written.
+   */
+  public CompletableFuture<Void> unpinActiveQuestsForPlayer(UUID playerId) {
+
+    activeQuestsCache.unpin(playerId);
+
+    activeQuestsCache.get(playerId).forEach(activeQuestDto -> {
+      activeQuestsWriteBehind.enqueue(activeQuestDto);
+      activeObjectivesIndex.remove(new PlayerQuestKey(playerId, activeQuestDto.getQuestId()));
+    });
+    activeQuestsCache.invalidate(playerId);
+
+    // The write-behind queue keeps the changes until they are written, so they are still found if
+    // the player joins again in the meantime
+    return activeQuestsWriteBehind.flush();
 
   }
 
@@ -102,6 +214,9 @@ public class ActiveQuestsService {
       activeQuestsCache.invalidate(activeQuestKey);
     }
 
+    activeObjectivesIndex.remove(activeQuestKey);
+    activeQuestsWriteBehind.discard(activeQuestKey);
+
     return activeQuestRepository.delete(activeQuestKey);
 
   }
@@ -115,10 +230,8 @@ public class ActiveQuestsService {
    */
   public boolean isQuestCompleted(UUID playerId, Integer questId) {
 
-    return activeQuestsCache.get(playerId).stream()
-        .filter(activeQuestDto -> activeQuestDto.getQuestId().equals(questId))
-        .findFirst()
-        .map(activeQuestDto -> activeQuestDto.getProgress() >= activeQuestDto.getTarget())
+    return Optional.ofNullable(activeQuestsCache.get(playerId, questId))
+        .map(ActiveQuestDto::isCompleted)
         .orElse(false);
   }
 
@@ -130,9 +243,7 @@ public class ActiveQuestsService {
    * @return a boolean indicating if the quest is expired.
    */
   public boolean isQuestExpired(UUID playerId, Integer questId) {
-    return activeQuestsCache.get(playerId).stream()
-        .filter(activeQuestDto -> activeQuestDto.getQuestId().equals(questId))
-        .findFirst()
+    return Optional.ofNullable(activeQuestsCache.get(playerId, questId))
         .map(activeQuestDto ->
             activeQuestDto.getQuestDetails().getTimeLimit() * 1000 -
                 (System.currentTimeMillis() - activeQuestDto.getStartedAt()) < 0)
@@ -140,21 +251,20 @@ public class ActiveQuestsService {
   }
 
   /**
-   * This method increments the progress of a quest.
+   * This method increments the progress of an active quest.
    *
-   * @param playerId The id of the player.
-   * @param questId  The id of the quest.
+   * <p>The progress is incremented atomically, so concurrent events for the same quest are never
+   * lost. Only the update that makes the quest reach its target reports the completion.</p>
+   *
+   * @param activeQuest The active quest to update.
+   * @return true if this update completed the quest, false otherwise.
    */
-  public void incrementQuestProgress(UUID playerId, Integer questId) {
-
-    getActiveQuestsForPlayer(playerId)
-        .thenAccept((activeQuests) -> {
-          activeQuests.stream()
-              .filter(activeQuestDto -> activeQuestDto.getQuestId().equals(questId))
-              .findFirst()
-              .ifPresent(
-                  activeQuestDto -> activeQuestDto.setProgress(activeQuestDto.getProgress() + 1));
-        });
+  public boolean incrementQuestProgress(ActiveQuestDto activeQuest) {
+
+    activeQuest.incrementProgress();
+    activeQuestsWriteBehind.enqueue(activeQuest);
+
+    return activeQuest.tryMarkCompleted();
 
   }
 
@@ -171,4 +281,33 @@ public class ActiveQuestsService {
 
   }
 
-}
\ No newline at end of file
+  /**
+   * This method adds the objectives of the given active quests to the objectives index.
+   *
+   * <p>Quests that are already indexed are skipped, as their objective doesn't change while the
+   * quest is active.</p>
+   *
+   * @param activeQuests The active quests to index.
+   * @return a CompletableFuture that will be completed when all the objectives are indexed.
+   */
+  private CompletableFuture<Void> indexObjectives(Set<ActiveQuestDto> activeQuests) {
+
+    CompletableFuture<?>[] indexFutures = activeQuests.stream()
+        .map(activeQuest -> new PlayerQuestKey(activeQuest.getPlayerId(), activeQuest.getQuestId()))
+        .filter(activeQuestKey -> !activeObjectivesIndex.isIndexed(activeQuestKey))
+        .map(activeQuestKey -> questsService.getQuestById(activeQuestKey.questId(), true)
+            .thenAccept(quest -> quest.ifPresent(
+                questDto -> indexObjective(activeQuestKey, questDto.getObjective()))))
+        .toArray(CompletableFuture[]::new);
+
+    return CompletableFuture.allOf(indexFutures);
+
+  }
+
+  private void indexObjective(PlayerQuestKey activeQuestKey, QuestObjectiveDto objective) {
+    if (objective != null) {
+      activeObjectivesIndex.index(activeQuestKey, objective.getType(), objective.getStringValue());
+    }
+  }
+
+}
@@ -1,10 +1,15 @@
 package dev.hugog.minecraft.wonderquests.data.services;
 
 import com.google.inject.Inject;
+import dev.hugog.minecraft.wonderquests.cache.implementation.CompletedQuestsCache;
+import dev.hugog.minecraft.wonderquests.cache.implementation.QuestIdSet;
 import dev.hugog.minecraft.wonderquests.data.dtos.CompletedQuestDto;
+import dev.hugog.minecraft.wonderquests.data.keys.PlayerQuestKey;
 import dev.hugog.minecraft.wonderquests.data.models.CompletedQuestModel;
 import dev.hugog.minecraft.wonderquests.data.repositories.CompletedQuestRepository;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -16,15 +21,19 @@ import java.util.stream.Collectors;
 public class CompletedQuestsService {
 
   private final CompletedQuestRepository completedQuestRepository;
+  private final CompletedQuestsCache completedQuestsCache;
 
   /**
    * Constructor for the CompletedQuestsService class.
    *
    * @param completedQuestRepository The repository instance used for database operations related to completed quests.
+   * @param completedQuestsCache The cache of the quests completed by the online players.
    */
   @Inject
-  public CompletedQuestsService(CompletedQuestRepository completedQuestRepository) {
+  public CompletedQuestsService(CompletedQuestRepository completedQuestRepository,
+      CompletedQuestsCache completedQuestsCache) {
     this.completedQuestRepository = completedQuestRepository;
+    this.completedQuestsCache = completedQuestsCache;
   }
 
   /**
@@ -35,7 +44,13 @@ public class CompletedQuestsService {
    */
   public CompletableFuture<Boolean> addCompletedQuest(CompletedQuestDto completedQuestDto) {
     return completedQuestRepository.insert(completedQuestDto.toModel())
-        .thenApply(Objects::nonNull);
+        .thenApply(completedQuestKey -> {
+          if (completedQuestKey != null) {
+            completedQuestsCache.add(completedQuestDto.getPlayerId(),
+                completedQuestDto.getQuestId());
+          }
+          return Objects.nonNull(completedQuestKey);
+        });
   }
 
   /**
@@ -51,17 +66,85 @@ public class CompletedQuestsService {
             .collect(Collectors.toSet()));
   }
 
+  /**
+   * This method gets the ids of the quests completed by a player.
+   *
+   * <p>The ids of online players are read from the cache. The ids of other players are read from
+   * the database, but aren't cached.</p>
+   *
+   * @param playerId The id of the player.
+   * @return a CompletableFuture that will be completed with the ids of the quests completed by the player.
+   */
+  public CompletableFuture<QuestIdSet> getCompletedQuestIds(UUID playerId) {
+
+    QuestIdSet completedQuestIds = completedQuestsCache.get(playerId);
+
+    if (completedQuestIds != null) {
+      return CompletableFuture.completedFuture(completedQuestIds);
+    }
+
+    return completedQuestRepository.findAllByPlayer(playerId)
+        .thenApply(completedQuestModels -> QuestIdSet.of(completedQuestModels.stream()
+            .map(CompletedQuestModel::questId)
+            .toList()));
+
+  }
+
   /**
    * This method checks if a player has completed a specific quest.
    *
+   * <p>For online players, the check is answered by the cache. Otherwise, only the completed quest
+   * is looked up in the database.</p>
+   *
    * @param playerId The id of the player.
    * @param questId  The id of the quest.
    * @return a CompletableFuture that will be completed with a boolean indicating if the player has completed the quest.
    */
   public CompletableFuture<Boolean> hasCompletedQuest(UUID playerId, Integer questId) {
-    return getCompletedQuestByPlayer(playerId)
-        .thenApply(completedQuests -> completedQuests.stream()
-            .anyMatch(completedQuest -> completedQuest.getQuestId().equals(questId)));
+
+    QuestIdSet completedQuestIds = completedQuestsCache.get(playerId);
+
+    if (completedQuestIds != null) {
+      return CompletableFuture.completedFuture(completedQuestIds.contains(questId));
+    }
+
+    return completedQuestRepository.findById(new PlayerQuestKey(playerId, questId))
+        .thenApply(Optional::isPresent);
+
+  }
+
+  /**
+   * This method gets the players who completed the most quests.
+   *
+   * @param limit The maximum number of players to get.
+   * @return a CompletableFuture that will be completed with the number of quests completed by each player, ordered from the player who completed the most.
+   */
+  public CompletableFuture<Map<UUID, Integer>> getTopPlayers(int limit) {
+    return completedQuestRepository.findTopPlayers(limit);
+  }
+
+  /**
+   * This method loads the ids of the quests completed by a player into the cache, where they are
+   * kept until {@link #unloadCompletedQuests(UUID)} is called.
+   *
+   * @param playerId The id of the player.
+   * @return a CompletableFuture that will be completed when the completed quests are loaded.
+   */
+  public CompletableFuture<Void> loadCompletedQuests(UUID playerId) {
+    return completedQuestRepository.findAllByPlayer(playerId)
+        .thenAccept(completedQuestModels -> completedQuestsCache.put(playerId,
+            completedQuestModels.stream()
+                .map(CompletedQuestModel::questId)
+                .toList()));
+  }
+
+  /**
+   * This method removes the ids of the quests completed by a player from the cache.
+   *
+   * @param playerId The id of the player.
+   */
+  public void unloadCompletedQuests(UUID playerId) {
+    completedQuestsCache.invalidate(playerId);
   }
 
 }
\ No newline at end of file
@@ -1,19 +1,34 @@
 package dev.hugog.minecraft.wonderquests.data.services;
 
 import com.google.inject.Inject;
+import com.google.inject.Singleton;
 import dev.hugog.minecraft.wonderquests.data.dtos.PlayerDto;
 import dev.hugog.minecraft.wonderquests.data.repositories.PlayersRepository;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
 /**
  * This class provides services for managing players in the game.
+ *
+ * <p>Player checks are coalesced: the checks requested while a check is running are done together
+ * by the next statement, so a burst of logins (e.g., after a restart) doesn't run a statement per
+ * player.</p>
  */
+@Singleton
 public class PlayerService {
 
   private final PlayersRepository playersRepository;
 
+  // Guards the queued checks and the flag of the running check
+  private final Object checksLock;
+  private Map<UUID, CompletableFuture<Boolean>> queuedChecks;
+  private boolean checkRunning;
+
   /**
    * Constructor for the PlayerService class.
    *
@@ -22,22 +37,50 @@ public class PlayerService {
   @Inject
   public PlayerService(PlayersRepository playersRepository) {
     this.playersRepository = playersRepository;
+    this.checksLock = new Object();
+    this.queuedChecks = new LinkedHashMap<>();
   }
 
   /**
    * This method checks if a player exists in the database.
    * If the player does not exist, it creates a new player.
    *
+   * <p>It is done with a single statement, so it's safe even if the player reconnects while a
+   * previous check is still running. If another check is running, the player is checked with the
+   * other players queued meanwhile, once it completes.</p>
+   *
    * @param uuid The UUID of the player.
    * @return a CompletableFuture that will be completed with a boolean indicating if the player exists or was created successfully.
    */
   public CompletableFuture<Boolean> checkPlayer(UUID uuid) {
-    return playersRepository.findById(uuid).thenCompose(playerModel -> {
-      if (playerModel.isEmpty()) {
-        return createPlayer(uuid);
+
+    CompletableFuture<Boolean> checkFuture;
+
+    synchronized (checksLock) {
+      checkFuture = queuedChecks.computeIfAbsent(uuid, id -> new CompletableFuture<>());
+      if (checkRunning) {
+        return checkFuture;
       }
-      return CompletableFuture.completedFuture(true);
-    });
+      checkRunning = true;
+    }
+
+    runQueuedChecks();
+    return checkFuture;
+
+  }
+
+  /**
+   * This method checks if multiple players exist in the database, creating the ones that don't
+   * exist, with a single statement.
+   *
+   * @param uuids The UUIDs of the players.
+   * @return a CompletableFuture that will be completed when all the players exist.
+   */
+  public CompletableFuture<Void> checkPlayers(Collection<UUID> uuids) {
+    return playersRepository.insertAllIfAbsent(uuids.stream()
+            .map(uuid -> new PlayerDto(uuid).toModel())
+            .toList())
+        .thenAccept(insertedIds -> {});
   }
 
   /**
@@ -51,4 +94,39 @@ public class PlayerService {
     return playersRepository.insert(playerDto.toModel()).thenApply(Objects::nonNull);
   }
 
+  private void runQueuedChecks() {
+
+    Map<UUID, CompletableFuture<Boolean>> checks;
+
+    synchronized (checksLock) {
+      if (queuedChecks.isEmpty()) {
+        checkRunning = false;
+        return;
+      }
+      checks = queuedChecks;
+      queuedChecks = new LinkedHashMap<>();
+    }
+
+    List<UUID> uuids = List.copyOf(checks.keySet());
+
+    CompletableFuture<?> checkFuture = uuids.size() == 1
+        ? playersRepository.insertIfAbsent(new PlayerDto(uuids.get(0)).toModel())
+        : checkPlayers(uuids);
+
+    checkFuture.whenComplete((result, throwable) -> {
+
+      checks.values().forEach(future -> {
+        if (throwable != null) {
+          future.completeExceptionally(throwable);
+        } else {
+          future.complete(true);
+        }
+      });
+
+      runQueuedChecks();
+
+    });
+
+  }
+
 }
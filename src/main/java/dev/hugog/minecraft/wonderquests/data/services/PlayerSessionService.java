@@ -0,0 +1,258 @@
+package dev.hugog.minecraft.wonderquests.data.services;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import dev.hugog.minecraft.wonderquests.cache.implementation.AvailableQuestsCache;
+import dev.hugog.minecraft.wonderquests.hooks.EconomyHook;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * This class manages the data kept in memory while a player is online.
+ *
+ * <p>Each session has its own token, so the data of a session that already ended (e.g., the
+ * player quit before the data was loaded) isn't kept in memory.</p>
+ */
+@Singleton
+public class PlayerSessionService {
+
+  // Maximum time a session waits for the player to log in, after the data was preloaded
+  private static final Duration LOGIN_TIMEOUT = Duration.ofMinutes(1);
+
+  private final PlayerService playerService;
+  private final ActiveQuestsService activeQuestsService;
+  private final CompletedQuestsService completedQuestsService;
+  private final QuestsService questsService;
+  private final AvailableQuestsCache availableQuestsCache;
+  private final EconomyHook economyHook;
+
+  private final long loginTimeoutNanos;
+  private final Map<UUID, Session> sessions;
+
+  /**
+   * Constructor for the PlayerSessionService class.
+   *
+   * @param playerService The service for players.
+   * @param activeQuestsService The service for active quests.
+   * @param completedQuestsService The service for completed quests.
+   * @param questsService The service for quests.
+   * @param availableQuestsCache The cache of the quests available to each player.
+   * @param economyHook The hook that caches the balance of each player.
+   */
+  @Inject
+  public PlayerSessionService(PlayerService playerService,
+      ActiveQuestsService activeQuestsService, CompletedQuestsService completedQuestsService,
+      QuestsService questsService, AvailableQuestsCache availableQuestsCache,
+      EconomyHook economyHook) {
+    this(playerService, activeQuestsService, completedQuestsService, questsService,
+        availableQuestsCache, economyHook, LOGIN_TIMEOUT);
+  }
+
+  /**
+   * Constructor for the PlayerSessionService class.
+   * This constructor is used for testing purposes.
+   *
+   * @param playerService The service for players.
+   * @param activeQuestsService The service for active quests.
+   * @param completedQuestsService The service for completed quests.
+   * @param questsService The service for quests.
+   * @param availableQuestsCache The cache of the quests available to each player.
+   * @param economyHook The hook that caches the balance of each player.
+   * @param loginTimeout How long a session waits for the player to log in.
+   */
+  public PlayerSessionService(PlayerService playerService,
+      ActiveQuestsService activeQuestsService, CompletedQuestsService completedQuestsService,
+      QuestsService questsService, AvailableQuestsCache availableQuestsCache,
+      EconomyHook economyHook, Duration loginTimeout) {
+    this.playerService = playerService;
+    this.activeQuestsService = activeQuestsService;
+    this.completedQuestsService = completedQuestsService;
+    this.questsService = questsService;
+    this.availableQuestsCache = availableQuestsCache;
+    this.economyHook = economyHook;
+    this.loginTimeoutNanos = loginTimeout.toNanos();
+    this.sessions = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * This method starts the session of a player, before the player logs in.
+   *
+   * <p>It registers the player, if needed, and loads their active quests (with the quest details)
+   * and completed quests, which stay in memory until the session ends. The queries run
+   * concurrently.</p>
+   *
+   * <p>The session must be confirmed with {@link #confirmSession(UUID)} once the player logs in.
+   * Otherwise, it's ended by {@link #endAbandonedSessions()}.</p>
+   *
+   * @param playerId The id of the player.
+   * @return a CompletableFuture that will be completed when the player's data is loaded.
+   */
+  public CompletableFuture<Void> startSession(UUID playerId) {
+
+    sessions.put(playerId, new Session(System.nanoTime(), false));
+
+    return CompletableFuture.allOf(
+        playerService.checkPlayer(playerId),
+        loadPlayerQuests(playerId)
+    );
+
+  }
+
+  /**
+   * This method starts the sessions of multiple players, e.g., the players that are online when
+   * the plugin is enabled. The sessions are already confirmed.
+   *
+   * <p>All the players are registered with a single statement. The players who already have a
+   * session (e.g., they joined while the plugin was being enabled) are skipped.</p>
+   *
+   * @param playerIds The ids of the players.
+   * @return a CompletableFuture that will be completed when the players' data is loaded.
+   */
+  public CompletableFuture<Void> startSessions(Collection<UUID> playerIds) {
+
+    long startedAt = System.nanoTime();
+    List<UUID> newPlayerIds = playerIds.stream()
+        .filter(playerId -> sessions.putIfAbsent(playerId, new Session(startedAt, true)) == null)
+        .toList();
+
+    if (newPlayerIds.isEmpty()) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    CompletableFuture<?>[] sessionFutures = Stream.concat(
+        Stream.of(playerService.checkPlayers(newPlayerIds)),
+        newPlayerIds.stream().map(this::loadPlayerQuests)
+    ).toArray(CompletableFuture[]::new);
+
+    return CompletableFuture.allOf(sessionFutures);
+
+  }
+
+  /**
+   * This method confirms the session of a player who logged in, so it lasts until the connection
+   * that logged in leaves.
+   *
+   * @param playerId The id of the player.
+   * @param connection The connection of the player who logged in, e.g., the player instance.
+   */
+  public void confirmSession(UUID playerId, Object connection) {
+    Session session = sessions.get(playerId);
+    if (session != null) {
+      session.connection = connection;
+      session.confirmed = true;
+    }
+  }
+
+  /**
+   * This method ends the session of a player whose login was denied after the session started,
+   * unless the session was already confirmed by another login.
+   *
+   * @param playerId The id of the player.
+   * @return a CompletableFuture that will be completed when the pending changes are written.
+   */
+  public CompletableFuture<Void> cancelSession(UUID playerId) {
+
+    Session session = sessions.get(playerId);
+
+    if (session != null && (session.confirmed || !sessions.remove(playerId, session))) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    return unloadPlayerData(playerId);
+
+  }
+
+  /**
+   * This method ends the session of a player who left.
+   *
+   * <p>It writes the pending changes of the player's active quests and removes the player's data
+   * from memory. If the player already started a new session (e.g., the same account logged in
+   * again before the old connection left), the new session is kept.</p>
+   *
+   * @param playerId The id of the player.
+   * @param connection The connection of the player who left, e.g., the player instance.
+   * @return a CompletableFuture that will be completed when the pending changes are written.
+   */
+  public CompletableFuture<Void> endSession(UUID playerId, Object connection) {
+
+    Session session = sessions.get(playerId);
+
+    if (session != null && (!session.isOwnedBy(connection)
+        || !sessions.remove(playerId, session))) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    return unloadPlayerData(playerId);
+
+  }
+
+  /**
+   * This method ends the sessions of the players who passed the pre-login, but never logged in
+   * (e.g., they disconnected in between), so their data doesn't stay in memory.
+   */
+  public void endAbandonedSessions() {
+
+    long now = System.nanoTime();
+
+    sessions.forEach((playerId, session) -> {
+      // Only this session is removed, not a newer session of the same player
+      if (!session.confirmed && now - session.startedAt >= loginTimeoutNanos
+          && sessions.remove(playerId, session)) {
+        unloadPlayerData(playerId);
+      }
+    });
+
+  }
+
+  private CompletableFuture<Void> loadPlayerQuests(UUID playerId) {
+    return CompletableFuture.allOf(
+        activeQuestsService.pinActiveQuestsForPlayer(playerId),
+        completedQuestsService.loadCompletedQuests(playerId)
+    ).whenComplete((value, throwable) -> {
+      // If the session ended while the data was loading, the data was written after the session
+      // removed it, so it's removed again. The check runs inside compute, so a new session of the
+      // player can't start in the meantime.
+      sessions.compute(playerId, (id, session) -> {
+        if (session == null) {
+          unloadPlayerData(playerId);
+        }
+        return session;
+      });
+    });
+  }
+
+  private CompletableFuture<Void> unloadPlayerData(UUID playerId) {
+    completedQuestsService.unloadCompletedQuests(playerId);
+    questsService.clearQuestPageCursors(playerId);
+    availableQuestsCache.invalidate(playerId);
+    economyHook.invalidateBalance(playerId);
+    return activeQuestsService.unpinActiveQuestsForPlayer(playerId);
+  }
+
+  // Compared by identity, so a session is never mistaken for a newer session of the same player
+  private static final class Session {
+
+    private final long startedAt;
+    private volatile boolean confirmed;
+    // The connection that confirmed the session, or null if it was started already confirmed
+    private volatile Object connection;
+
+    private Session(long startedAt, boolean confirmed) {
+      this.startedAt = startedAt;
+      this.confirmed = confirmed;
+    }
+
+    // The connection is set before the session is confirmed, so it's read after the flag
+    private boolean isOwnedBy(Object connection) {
+      return confirmed && (this.connection == null || this.connection == connection);
+    }
+
+  }
+
+}
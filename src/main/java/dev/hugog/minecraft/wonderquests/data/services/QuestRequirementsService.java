@@ -11,15 +11,19 @@ import java.util.concurrent.CompletableFuture;
 public class QuestRequirementsService {
 
   private final QuestRequirementsRepository questRequirementsRepository;
+  private final QuestsService questsService;
 
   /**
    * Constructor for the QuestRequirementsService class.
    *
    * @param questRequirementsRepository The repository instance used for database operations related to quest requirements.
+   * @param questsService The service for quests, used to reload the quest catalog.
    */
   @Inject
-  public QuestRequirementsService(QuestRequirementsRepository questRequirementsRepository) {
+  public QuestRequirementsService(QuestRequirementsRepository questRequirementsRepository,
+      QuestsService questsService) {
     this.questRequirementsRepository = questRequirementsRepository;
+    this.questsService = questsService;
   }
 
   /**
@@ -29,7 +33,7 @@ public class QuestRequirementsService {
    * @return a CompletableFuture that will be completed when the quest requirement is deleted.
    */
   public CompletableFuture<Void> deleteRequirement(Integer requirementId) {
-    return questRequirementsRepository.delete(requirementId);
+    return questsService.reloadCatalogAfter(questRequirementsRepository.delete(requirementId));
   }
 
   /**
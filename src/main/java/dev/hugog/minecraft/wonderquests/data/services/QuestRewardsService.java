@@ -11,15 +11,19 @@ import java.util.concurrent.CompletableFuture;
 public class QuestRewardsService {
 
   private final QuestRewardsRepository questRewardsRepository;
+  private final QuestsService questsService;
 
   /**
    * Constructor for the QuestRewardsService class.
    *
    * @param questRewardsRepository The repository instance used for database operations related to quest rewards.
+   * @param questsService The service for quests, used to reload the quest catalog.
    */
   @Inject
-  public QuestRewardsService(QuestRewardsRepository questRewardsRepository) {
+  public QuestRewardsService(QuestRewardsRepository questRewardsRepository,
+      QuestsService questsService) {
     this.questRewardsRepository = questRewardsRepository;
+    this.questsService = questsService;
   }
 
   /**
@@ -29,7 +33,7 @@ public class QuestRewardsService {
    * @return a CompletableFuture that will be completed when the quest reward is deleted.
    */
   public CompletableFuture<Void> deleteReward(Integer rewardId) {
-    return questRewardsRepository.delete(rewardId);
+    return questsService.reloadCatalogAfter(questRewardsRepository.delete(rewardId));
   }
 
   /**
@@ -1,7 +1,10 @@
 package dev.hugog.minecraft.wonderquests.data.services;
 
 import com.google.inject.Inject;
-import dev.hugog.minecraft.wonderquests.cache.implementation.QuestsCache;
+import dev.hugog.minecraft.wonderquests.cache.implementation.QuestCatalog;
+import dev.hugog.minecraft.wonderquests.cache.implementation.QuestPageCursors;
+import dev.hugog.minecraft.wonderquests.concurrency.ConcurrencyHandler;
+import dev.hugog.minecraft.wonderquests.data.connectivity.DataSource;
 import dev.hugog.minecraft.wonderquests.data.dtos.QuestDto;
 import dev.hugog.minecraft.wonderquests.data.dtos.QuestObjectiveDto;
 import dev.hugog.minecraft.wonderquests.data.dtos.QuestRewardDto;
@@ -16,6 +19,7 @@ import dev.hugog.minecraft.wonderquests.data.repositories.QuestRewardsRepository
 import dev.hugog.minecraft.wonderquests.data.repositories.QuestsRepository;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
@@ -28,7 +32,10 @@ public class QuestsService {
   private final QuestObjectivesRepository questObjectivesRepository;
   private final QuestRequirementsRepository questRequirementsRepository;
   private final QuestRewardsRepository questRewardsRepository;
-  private final QuestsCache questsCache;
+  private final QuestCatalog questCatalog;
+  private final QuestPageCursors questPageCursors;
+  private final DataSource dataSource;
+  private final ConcurrencyHandler concurrencyHandler;
 
   /**
    * Constructor for the QuestsService class.
@@ -37,19 +44,27 @@ public class QuestsService {
    * @param questObjectivesRepository The repository instance used for database operations related to quest objectives.
    * @param questRequirementsRepository The repository instance used for database operations related to quest requirements.
    * @param questRewardsRepository The repository instance used for database operations related to quest rewards.
-   * @param questsCache The cache instance used for caching quests.
+   * @param questCatalog The in-memory catalog of all quests.
+   * @param questPageCursors The cache of the cursors of the quest list pages visited by the players.
+   * @param dataSource The data source used to write quests in a single transaction.
+   * @param concurrencyHandler The concurrency handler used to run the transactions asynchronously.
    */
   @Inject
   public QuestsService(QuestsRepository questsRepository,
       QuestObjectivesRepository questObjectivesRepository,
       QuestRequirementsRepository questRequirementsRepository,
-      QuestRewardsRepository questRewardsRepository, QuestsCache questsCache) {
+      QuestRewardsRepository questRewardsRepository, QuestCatalog questCatalog,
+      QuestPageCursors questPageCursors, DataSource dataSource,
+      ConcurrencyHandler concurrencyHandler) {
 
     this.questsRepository = questsRepository;
     this.questObjectivesRepository = questObjectivesRepository;
     this.questRequirementsRepository = questRequirementsRepository;
     this.questRewardsRepository = questRewardsRepository;
-    this.questsCache = questsCache;
+    this.questCatalog = questCatalog;
+    this.questPageCursors = questPageCursors;
+    this.dataSource = dataSource;
+    this.concurrencyHandler = concurrencyHandler;
 
   }
 
@@ -61,7 +76,51 @@ public class QuestsService {
    */
   public CompletableFuture<Integer> createNewQuest(QuestDto questDto) {
     QuestModel questModel = questDto.toModel();
-    return questsRepository.insert(questModel);
+    return reloadCatalogAfter(questsRepository.insert(questModel));
+  }
+
+  /**
+   * This method creates a new quest with its objective, requirements and rewards.
+   *
+   * <p>Everything is written in a single transaction, on a single connection, so either the
+   * whole quest is created or nothing is. The ids of the children are ignored, and their quest id
+   * is set to the id of the created quest.</p>
+   *
+   * @param questDto The DTO of the quest, with its objective, requirements and rewards.
+   * @return a CompletableFuture that will be completed with the id of the created quest.
+   */
+  public CompletableFuture<Integer> createQuestAggregate(QuestDto questDto) {
+
+    QuestObjectiveDto objective = questDto.getObjective();
+    List<QuestRequirementDto> requirements =
+        questDto.getRequirements() != null ? questDto.getRequirements() : List.of();
+    List<QuestRewardDto> rewards =
+        questDto.getRewards() != null ? questDto.getRewards() : List.of();
+
+    return reloadCatalogAfter(concurrencyHandler.supply(() -> dataSource.executeInTransaction(
+        unitOfWork -> {
+
+          Integer questId = questsRepository.insert(unitOfWork, questDto.toModel());
+
+          if (objective != null) {
+            objective.setQuestId(questId);
+            questObjectivesRepository.insert(unitOfWork, objective.toModel());
+          }
+
+          requirements.forEach(requirement -> requirement.setQuestId(questId));
+          questRequirementsRepository.insertAll(unitOfWork, requirements.stream()
+              .map(QuestRequirementDto::toModel)
+              .toList());
+
+          rewards.forEach(reward -> reward.setQuestId(questId));
+          questRewardsRepository.insertAll(unitOfWork, rewards.stream()
+              .map(QuestRewardDto::toModel)
+              .toList());
+
+          return questId;
+
+        }), true));
+
   }
 
   /**
@@ -72,7 +131,7 @@ public class QuestsService {
    */
   public CompletableFuture<Integer> addQuestObjective(QuestObjectiveDto questObjectiveDto) {
     QuestObjectiveModel questObjectiveModel = questObjectiveDto.toModel();
-    return questObjectivesRepository.insert(questObjectiveModel);
+    return reloadCatalogAfter(questObjectivesRepository.insert(questObjectiveModel));
   }
 
   /**
@@ -83,7 +142,7 @@ public class QuestsService {
    */
   public CompletableFuture<Integer> addQuestRequirement(QuestRequirementDto questRequirementDto) {
     QuestRequirementModel questRequirementModel = questRequirementDto.toModel();
-    return questRequirementsRepository.insert(questRequirementModel);
+    return reloadCatalogAfter(questRequirementsRepository.insert(questRequirementModel));
   }
 
   /**
@@ -94,45 +153,45 @@ public class QuestsService {
    */
   public CompletableFuture<Integer> addQuestReward(QuestRewardDto questRewardDto) {
     QuestRewardModel questRewardModel = questRewardDto.toModel();
-    return questRewardsRepository.insert(questRewardModel);
+    return reloadCatalogAfter(questRewardsRepository.insert(questRewardModel));
   }
 
   /**
    * This method retrieves a quest by its id.
    *
+   * <p>Once the quest catalog is loaded, the quest is read from it, without accessing the
+   * database.</p>
+   *
    * @param id The id of the quest.
    * @return a CompletableFuture that will be completed with an Optional containing the quest if it exists, or empty if it does not.
    */
   public CompletableFuture<Optional<QuestDto>> getQuestById(Integer id) {
+
+    if (questCatalog.isLoaded()) {
+      return CompletableFuture.completedFuture(questCatalog.getSnapshot().getQuest(id));
+    }
+
     return questsRepository.findById(id)
         .thenApply(questModel -> questModel.map(QuestModel::toDto));
+
   }
 
   /**
-   * This method retrieves a quest by its id, with an option to use cache.
+   * This method retrieves a quest by its id, with an option to use the quest catalog.
    *
    * @param id The id of the quest.
-   * @param useCache A boolean indicating whether to use cache for retrieving the quest.
+   * @param useCache A boolean indicating whether to use the quest catalog for retrieving the quest.
    * @return a CompletableFuture that will be completed with an Optional containing the quest if it exists, or empty if it does not.
    */
   public CompletableFuture<Optional<QuestDto>> getQuestById(Integer id, boolean useCache) {
 
-    // If cache is not to be used, retrieve the quest directly from the repository
+    // If the catalog is not to be used, retrieve the quest directly from the repository
     if (!useCache) {
-      return getQuestById(id);
+      return questsRepository.findById(id)
+          .thenApply(questModel -> questModel.map(QuestModel::toDto));
     }
 
-    // If the quest is in the cache, retrieve it from there
-    if (questsCache.has(id)) {
-      return CompletableFuture.completedFuture(Optional.of(questsCache.get(id)));
-    }
-
-    // If the quest is not in the cache, retrieve it from the repository and store it in the cache for future requests
-    return questsRepository.findById(id).thenApply(questModel -> {
-      Optional<QuestDto> questDto = questModel.map(QuestModel::toDto);
-      questDto.ifPresent(dto -> questsCache.put(id, dto));
-      return questDto;
-    });
+    return getQuestById(id);
 
   }
 
@@ -143,8 +202,7 @@ public class QuestsService {
    * @return a CompletableFuture that will be completed with a boolean indicating if the quest exists.
    */
   public CompletableFuture<Boolean> checkIfQuestExists(Integer id) {
-    return questsRepository.findById(id)
-        .thenApply(Optional::isPresent);
+    return getQuestById(id).thenApply(Optional::isPresent);
   }
 
   /**
@@ -155,10 +213,76 @@ public class QuestsService {
    * @return a CompletableFuture that will be completed with a list of quests in the given interval.
    */
   public CompletableFuture<List<QuestDto>> getAllQuestsInInterval(Integer start, Integer end) {
+
+    if (questCatalog.isLoaded()) {
+      return CompletableFuture.completedFuture(questCatalog.getSnapshot().getQuests(start, end));
+    }
+
     return questsRepository.findAllInInterval(start, end)
         .thenApply(questModels -> questModels.stream()
             .map(QuestModel::toDto)
             .collect(Collectors.toList()));
+
+  }
+
+  /**
+   * This method retrieves the quests with an id greater than the given one, ordered by id.
+   *
+   * @param afterId The id after which the quests start.
+   * @param limit The maximum number of quests.
+   * @return a CompletableFuture that will be completed with a list of the quests after the given id.
+   */
+  public CompletableFuture<List<QuestDto>> getQuestsAfter(Integer afterId, Integer limit) {
+
+    if (questCatalog.isLoaded()) {
+      return CompletableFuture.completedFuture(
+          questCatalog.getSnapshot().getQuestsAfter(afterId, limit));
+    }
+
+    return questsRepository.findAllAfter(afterId, limit)
+        .thenApply(questModels -> questModels.stream()
+            .map(QuestModel::toDto)
+            .collect(Collectors.toList()));
+
+  }
+
+  /**
+   * This method retrieves a page of the quest list shown to a player.
+   *
+   * <p>Pages are read after the last quest of the previous page (keyset pagination), so deleted
+   * quests don't leave holes in the pages. The cursor of the next page is kept for the player,
+   * so going to the next page only reads the quests of that page.</p>
+   *
+   * @param playerId The id of the player.
+   * @param page The page, starting at 0.
+   * @param pageSize The number of quests per page.
+   * @return a CompletableFuture that will be completed with a list of the quests in the page.
+   */
+  public CompletableFuture<List<QuestDto>> getQuestsPage(UUID playerId, int page, int pageSize) {
+
+    Integer afterId = questPageCursors.get(playerId, page);
+
+    // Without a cursor (e.g., the player jumped to the page), the quests before it are counted
+    CompletableFuture<List<QuestDto>> pageFuture = afterId != null
+        ? getQuestsAfter(afterId, pageSize)
+        : getAllQuestsInInterval(page * pageSize, page * pageSize + pageSize);
+
+    return pageFuture.thenApply(quests -> {
+      if (!quests.isEmpty()) {
+        questPageCursors.put(playerId, page + 1, quests.get(quests.size() - 1).getId());
+      }
+      return quests;
+    });
+
+  }
+
+  /**
+   * This method forgets the cursors of the quest list pages visited by a player.
+   *
+   * @param playerId The id of the player.
+   */
+  public void clearQuestPageCursors(UUID playerId) {
+    questPageCursors.invalidate(playerId);
   }
 
   /**
@@ -167,10 +291,16 @@ public class QuestsService {
    * @return a CompletableFuture that will be completed with a list of all quests.
    */
   public CompletableFuture<List<QuestDto>> getAllQuests() {
+
+    if (questCatalog.isLoaded()) {
+      return CompletableFuture.completedFuture(questCatalog.getSnapshot().quests());
+    }
+
     return questsRepository.findAll()
         .thenApply(questModels -> questModels.stream()
             .map(QuestModel::toDto)
             .collect(Collectors.toList()));
+
   }
 
   /**
@@ -180,7 +310,39 @@ public class QuestsService {
    * @return a CompletableFuture that will be completed when the quest is deleted.
    */
   public CompletableFuture<Void> deleteQuest(Integer id) {
-    return questsRepository.delete(id);
+    return reloadCatalogAfter(questsRepository.delete(id));
+  }
+
+  /**
+   * This method loads all quests from the database into the quest catalog.
+   *
+   * <p>It must be called when the plugin is enabled, and after every change to the quests. The
+   * catalog keeps serving the previous snapshot until the new one is loaded.</p>
+   *
+   * @return a CompletableFuture that will be completed when the quest catalog is loaded.
+   */
+  public CompletableFuture<Void> reloadCatalog() {
+
+    long version = questCatalog.nextVersion();
+
+    return questsRepository.findAll()
+        .thenAccept(questModels -> questCatalog.install(version, questModels.stream()
+            .map(QuestModel::toDto)
+            .toList()));
+
+  }
+
+  /**
+   * This method reloads the quest catalog once a change to the quests is written.
+   *
+   * @param writeFuture The future of the change.
+   * @return a CompletableFuture that will be completed with the result of the change, after the quest catalog is reloaded.
+   */
+  <T> CompletableFuture<T> reloadCatalogAfter(CompletableFuture<T> writeFuture) {
+    // The change was written even if the reload fails, which the repository already logs
+    return writeFuture.thenCompose(result -> reloadCatalog()
+        .exceptionally(throwable -> null)
+        .thenApply(v -> result));
   }
 
 }
\ No newline at end of file
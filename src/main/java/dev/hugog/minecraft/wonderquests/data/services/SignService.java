@@ -1,10 +1,12 @@
 package dev.hugog.minecraft.wonderquests.data.services;
 
 import com.google.inject.Inject;
+import dev.hugog.minecraft.wonderquests.cache.implementation.SignRegistry;
 import dev.hugog.minecraft.wonderquests.data.dtos.SignDto;
 import dev.hugog.minecraft.wonderquests.data.models.SignModel;
 import dev.hugog.minecraft.wonderquests.data.repositories.SignsRepository;
 import dev.hugog.minecraft.wonderquests.data.types.SignType;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
@@ -16,15 +18,29 @@ import org.bukkit.Location;
 public class SignService {
 
   private final SignsRepository signRepository;
+  private final SignRegistry signRegistry;
 
   /**
    * Constructor for the SignService class.
    *
    * @param signRepository The repository instance used for database operations related to signs.
+   * @param signRegistry The in-memory registry of all signs.
    */
   @Inject
-  public SignService(SignsRepository signRepository) {
+  public SignService(SignsRepository signRepository, SignRegistry signRegistry) {
     this.signRepository = signRepository;
+    this.signRegistry = signRegistry;
+  }
+
+  /**
+   * This method loads all signs into the sign registry.
+   *
+   * <p>Until the signs are loaded, they are read from the database.</p>
+   *
+   * @return a CompletableFuture that will be completed when the signs are loaded.
+   */
+  public CompletableFuture<Void> loadSigns() {
+    return getAllSigns().thenAccept(signRegistry::load);
   }
 
   /**
@@ -35,9 +51,30 @@ public class SignService {
    * @return a CompletableFuture that will be completed with the id of the registered sign.
    */
   public CompletableFuture<Integer> registerSign(SignType signType, Location location) {
+    return registerSign(signType, location, null);
+  }
 
-    SignDto signDto = SignDto.createSign(signType, location);
-    return signRepository.insert(signDto.toModel());
+  /**
+   * This method registers a new sign in the game, showing a specific quest.
+   *
+   * @param signType The type of the sign.
+   * @param location The location of the sign.
+   * @param questId The id of the quest shown by the sign, or null if the sign type doesn't show a
+   *     specific quest.
+   * @return a CompletableFuture that will be completed with the id of the registered sign.
+   */
+  public CompletableFuture<Integer> registerSign(SignType signType, Location location,
+      Integer questId) {
+
+    SignDto signDto = SignDto.createSign(signType, location, questId);
+
+    return signRepository.insert(signDto.toModel()).thenApply(id -> {
+      if (id != null) {
+        signRegistry.add(new SignDto(id, signDto.getType(), signDto.getWorldName(),
+            signDto.getX(), signDto.getY(), signDto.getZ(), signDto.getQuestId()));
+      }
+      return id;
+    });
 
   }
 
@@ -48,12 +85,19 @@ public class SignService {
    * @return a CompletableFuture that will be completed with the id of the unregistered sign.
    */
   public CompletableFuture<Integer> unregisterSign(Location location) {
-    return signRepository.deleteByLocation(
-        location.getWorld().getName(),
-        location.getBlockX(),
-        location.getBlockY(),
-        location.getBlockZ()
-    );
+
+    String worldName = location.getWorld().getName();
+    int x = location.getBlockX();
+    int y = location.getBlockY();
+    int z = location.getBlockZ();
+
+    return signRepository.deleteByLocation(worldName, x, y, z).thenApply(id -> {
+      if (id != null) {
+        signRegistry.remove(worldName, x, y, z);
+      }
+      return id;
+    });
+
   }
 
   /**
@@ -66,4 +110,71 @@ public class SignService {
         .thenApply(signs -> signs.stream().map(SignModel::toDto).collect(Collectors.toSet()));
   }
 
-}
\ No newline at end of file
+  /**
+   * This method retrieves the signs around a location.
+   *
+   * <p>Once the signs are loaded, they are read from the sign registry, without touching the
+   * database.</p>
+   *
+   * @param location The location, e.g., of a player.
+   * @param chunkRadius The number of chunks around the chunk of the location to include.
+   * @return a CompletableFuture that will be completed with the signs in the same world, at most
+   *     the given number of chunks away from the location.
+   */
+  public CompletableFuture<List<SignDto>> getSignsNear(Location location, int chunkRadius) {
+
+    String worldName = location.getWorld().getName();
+    int chunkX = SignRegistry.toChunk(location.getBlockX());
+    int chunkZ = SignRegistry.toChunk(location.getBlockZ());
+
+    if (signRegistry.isLoaded()) {
+      return CompletableFuture.completedFuture(
+          signRegistry.getSignsNear(worldName, chunkX, chunkZ, chunkRadius));
+    }
+
+    return getAllSigns().thenApply(signs -> signs.stream()
+        .filter(sign -> sign.getWorldName().equals(worldName))
+        .filter(sign -> Math.abs(SignRegistry.toChunk(sign.getX()) - chunkX) <= chunkRadius
+            && Math.abs(SignRegistry.toChunk(sign.getZ()) - chunkZ) <= chunkRadius)
+        .toList());
+
+  }
+
+  /**
+   * This method retrieves the signs that come into view when moving between two locations.
+   *
+   * <p>It's called whenever a player moves to another chunk, so it only reads the sign registry
+   * and returns no signs until the registry is loaded.</p>
+   *
+   * @param from The location before moving.
+   * @param to The location after moving.
+   * @param chunkRadius The number of chunks around the location that are in view.
+   * @return the signs in view from the new location that weren't in view from the old one.
+   */
+  public List<SignDto> getSignsEnteringView(Location from, Location to, int chunkRadius) {
+
+    if (!signRegistry.isLoaded()) {
+      return List.of();
+    }
+
+    String worldName = to.getWorld().getName();
+    int chunkX = SignRegistry.toChunk(to.getBlockX());
+    int chunkZ = SignRegistry.toChunk(to.getBlockZ());
+
+    List<SignDto> signs = signRegistry.getSignsNear(worldName, chunkX, chunkZ, chunkRadius);
+
+    if (!from.getWorld().getName().equals(worldName)) {
+      return signs;
+    }
+
+    int fromChunkX = SignRegistry.toChunk(from.getBlockX());
+    int fromChunkZ = SignRegistry.toChunk(from.getBlockZ());
+
+    return signs.stream()
+        .filter(sign -> Math.abs(SignRegistry.toChunk(sign.getX()) - fromChunkX) > chunkRadius
+            || Math.abs(SignRegistry.toChunk(sign.getZ()) - fromChunkZ) > chunkRadius)
+        .toList();
+
+  }
+
+}
@@ -1,7 +1,7 @@
 package dev.hugog.minecraft.wonderquests.data.types;
 
 public enum SignType {
-  ACTIVE_QUEST;
+  ACTIVE_QUEST, AVAILABLE_QUESTS, QUEST_STATUS, LEADERBOARD;
 
   public static SignType fromString(String string) {
     for (SignType signType : SignType.values()) {
@@ -3,25 +3,74 @@ package dev.hugog.minecraft.wonderquests.hooks;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
+import dev.hugog.minecraft.wonderquests.cache.CacheStatistics;
+import java.time.Duration;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
 import net.milkbowl.vault.economy.Economy;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.Server;
 import org.bukkit.plugin.RegisteredServiceProvider;
 
+/**
+ * Hooks into the Vault economy.
+ *
+ * <p>Some economy plugins read the balance from a database on every call, so balances are cached
+ * for a short time. The cached balance of a player is dropped when we deposit money into their
+ * account; changes made by other plugins are only seen once the cached balance expires.</p>
+ */
 @Singleton
 public class EconomyHook {
 
+  private static final Duration BALANCE_TIME_TO_LIVE = Duration.ofSeconds(5);
+
   private final Logger logger;
   private final Server server;
 
+  private final long balanceTimeToLiveNanos;
+  private final Map<UUID, CachedBalance> balances;
+  // Incremented on every invalidation, so balances read before it are not cached
+  private final AtomicLong balancesGeneration;
+
+  private final CacheStatistics balanceStatistics;
+  private final LatencyStatistics economyStatistics;
+
   private Economy economy;
 
+  /**
+   * Constructor for the EconomyHook class.
+   *
+   * @param logger The logger instance used for logging.
+   * @param server The server, used to look up the economy and the players.
+   */
   @Inject
   public EconomyHook(@Named("bukkitLogger") Logger logger, Server server) {
+    this(logger, server, BALANCE_TIME_TO_LIVE);
+  }
+
+  /**
+   * Constructor for the EconomyHook class.
+   * This constructor is used for testing purposes.
+   *
+   * @param logger The logger instance used for logging.
+   * @param server The server, used to look up the economy and the players.
+   * @param balanceTimeToLive How long a balance is cached after being read.
+   */
+  public EconomyHook(Logger logger, Server server, Duration balanceTimeToLive) {
+
     this.server = server;
     this.logger = logger;
+
+    this.balanceTimeToLiveNanos = balanceTimeToLive.toNanos();
+    this.balances = new ConcurrentHashMap<>();
+    this.balancesGeneration = new AtomicLong();
+
+    this.balanceStatistics = new CacheStatistics();
+    this.economyStatistics = new LatencyStatistics();
+
   }
 
   public void setupEconomy() {
@@ -37,26 +86,108 @@ public class EconomyHook {
       logger.warning("Unable to hook into Vault economy. Economy features will be disabled.");
     }
 
+    invalidateBalances();
+
   }
 
   public void depositPlayer(UUID playerId, double amount) {
     if (checkEconomy()) {
-      economy.depositPlayer(getOfflinePlayer(playerId), amount);
+      try {
+        long start = System.nanoTime();
+        economy.depositPlayer(getOfflinePlayer(playerId), amount);
+        economyStatistics.recordCall(System.nanoTime() - start);
+      } finally {
+        invalidateBalance(playerId);
+      }
     }
   }
 
+  /**
+   * This method gets the balance of a player, from the cache if it was read recently.
+   *
+   * @param playerId the id of the player.
+   * @return the balance of the player, or 0 if the economy isn't hooked.
+   */
   public double getBalance(UUID playerId) {
-    if (checkEconomy()) {
-      return economy.getBalance(getOfflinePlayer(playerId));
+
+    if (!checkEconomy()) {
+      return 0;
     }
-    return 0;
+
+    CachedBalance cachedBalance = getCachedBalance(playerId);
+
+    if (cachedBalance != null) {
+      balanceStatistics.recordHit();
+      return cachedBalance.balance();
+    }
+
+    balanceStatistics.recordMiss();
+    return readBalance(playerId);
+
   }
 
   public boolean has(UUID playerId, double amount) {
-    if (checkEconomy()) {
-      return economy.has(getOfflinePlayer(playerId), amount);
+    return checkEconomy() && getBalance(playerId) >= amount;
+  }
+
+  public void invalidateBalance(UUID playerId) {
+    balancesGeneration.incrementAndGet();
+    balances.remove(playerId);
+  }
+
+  public CacheStatistics getBalanceStatistics() {
+    return balanceStatistics;
+  }
+
+  public LatencyStatistics getEconomyStatistics() {
+    return economyStatistics;
+  }
+
+  private CachedBalance getCachedBalance(UUID playerId) {
+
+    CachedBalance cachedBalance = balances.get(playerId);
+
+    if (cachedBalance == null) {
+      return null;
+    }
+
+    // Expired balances are removed when found, unless a newer balance replaced them meanwhile
+    if (cachedBalance.isExpired(System.nanoTime(), balanceTimeToLiveNanos)) {
+      balances.remove(playerId, cachedBalance);
+      return null;
+    }
+
+    return cachedBalance;
+
+  }
+
+  private double readBalance(UUID playerId) {
+
+    long generation = balancesGeneration.get();
+
+    long start = System.nanoTime();
+    double balance = economy.getBalance(getOfflinePlayer(playerId));
+    long end = System.nanoTime();
+
+    economyStatistics.recordCall(end - start);
+
+    // A deposit made while reading may not be reflected in the balance that was read, so the
+    // balance is only kept if there was no invalidation since the read started
+    if (balancesGeneration.get() == generation) {
+      CachedBalance cachedBalance = new CachedBalance(balance, end);
+      balances.put(playerId, cachedBalance);
+      if (balancesGeneration.get() != generation) {
+        balances.remove(playerId, cachedBalance);
+      }
     }
-    return false;
+
+    return balance;
+
+  }
+
+  private void invalidateBalances() {
+    balancesGeneration.incrementAndGet();
+    balances.clear();
   }
 
   private boolean checkEconomy() {
@@ -71,4 +202,12 @@ public class EconomyHook {
     return server.getOfflinePlayer(playerId);
   }
 
+  private record CachedBalance(double balance, long readNanos) {
+
+    private boolean isExpired(long now, long timeToLiveNanos) {
+      return now - readNanos >= timeToLiveNanos;
+    }
+
+  }
+
 }
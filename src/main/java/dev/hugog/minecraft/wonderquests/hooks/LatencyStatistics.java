@@ -0,0 +1,58 @@
+package dev.hugog.minecraft.wonderquests.hooks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures how long the calls to an external service take.
+ *
+ * <p>Like the cache statistics, the counters are striped, so they can be updated from many threads
+ * at once without contention.</p>
+ */
+public class LatencyStatistics {
+
+  private final LongAdder calls = new LongAdder();
+  private final LongAdder totalNanos = new LongAdder();
+  private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+  /**
+   * This method records a call to the service.
+   *
+   * @param elapsedNanos how long the call took, in nanoseconds.
+   */
+  public void recordCall(long elapsedNanos) {
+    calls.increment();
+    totalNanos.add(elapsedNanos);
+    maxNanos.accumulate(elapsedNanos);
+  }
+
+  public long getCallCount() {
+    return calls.sum();
+  }
+
+  /**
+   * This method gets the average duration of the calls.
+   *
+   * @return the average duration, in milliseconds, or 0 if there were no calls yet.
+   */
+  public double getAverageMillis() {
+    long callCount = getCallCount();
+    return callCount == 0 ? 0 : toMillis(totalNanos.sum()) / callCount;
+  }
+
+  public double getMaxMillis() {
+    return toMillis(maxNanos.get());
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%d calls, %.2f ms average, %.2f ms max", getCallCount(),
+        getAverageMillis(), getMaxMillis());
+  }
+
+  private static double toMillis(long nanos) {
+    return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+  }
+
+}
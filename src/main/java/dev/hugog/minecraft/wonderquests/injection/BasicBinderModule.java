@@ -18,6 +18,11 @@ import dev.hugog.minecraft.wonderquests.data.repositories.QuestsRepository;
 import dev.hugog.minecraft.wonderquests.data.repositories.SignsRepository;
 import dev.hugog.minecraft.wonderquests.injection.factories.ActionsFactory;
 import dev.hugog.minecraft.wonderquests.injection.factories.GuiFactory;
+import dev.hugog.minecraft.wonderquests.signs.SignRenderer;
+import dev.hugog.minecraft.wonderquests.signs.implementation.ActiveQuestSignRenderer;
+import dev.hugog.minecraft.wonderquests.signs.implementation.AvailableQuestsSignRenderer;
+import dev.hugog.minecraft.wonderquests.signs.implementation.LeaderboardSignRenderer;
+import dev.hugog.minecraft.wonderquests.signs.implementation.QuestStatusSignRenderer;
 import java.io.File;
 import org.bukkit.Server;
 
@@ -81,4 +86,21 @@ public class BasicBinderModule extends AbstractModule {
 
   }
 
+  @Singleton
+  @Provides
+  @Inject
+  public List<SignRenderer> signRenderers(
+      ActiveQuestSignRenderer activeQuestSignRenderer,
+      AvailableQuestsSignRenderer availableQuestsSignRenderer,
+      QuestStatusSignRenderer questStatusSignRenderer,
+      LeaderboardSignRenderer leaderboardSignRenderer
+  ) {
+    return List.of(
+        activeQuestSignRenderer,
+        availableQuestsSignRenderer,
+        questStatusSignRenderer,
+        leaderboardSignRenderer
+    );
+  }
+
 }
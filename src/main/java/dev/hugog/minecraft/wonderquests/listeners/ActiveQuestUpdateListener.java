@@ -7,7 +7,7 @@ import dev.hugog.minecraft.wonderquests.data.services.ActiveQuestsService;
 import dev.hugog.minecraft.wonderquests.events.ActiveQuestUpdateEvent;
 import dev.hugog.minecraft.wonderquests.events.QuestUpdateType;
 import dev.hugog.minecraft.wonderquests.language.Messaging;
-import dev.hugog.minecraft.wonderquests.mediators.SignsMediator;
+import dev.hugog.minecraft.wonderquests.signs.SignRefreshScheduler;
 import net.kyori.adventure.text.Component;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -18,21 +18,21 @@ import org.bukkit.event.Listener;
  */
 public class ActiveQuestUpdateListener implements Listener {
 
-  private final SignsMediator signsMediator;
+  private final SignRefreshScheduler signRefreshScheduler;
   private final ActiveQuestsService activeQuestsService;
   private final Messaging messaging;
 
   /**
    * Constructor for the ActiveQuestUpdateListener class.
    *
-   * @param signsMediator The mediator for signs.
+   * @param signRefreshScheduler The scheduler of the signs refreshes.
    * @param activeQuestsService The service for active quests.
    * @param messaging The messaging instance used for sending messages.
    */
   @Inject
-  public ActiveQuestUpdateListener(SignsMediator signsMediator,
+  public ActiveQuestUpdateListener(SignRefreshScheduler signRefreshScheduler,
       ActiveQuestsService activeQuestsService, Messaging messaging) {
-    this.signsMediator = signsMediator;
+    this.signRefreshScheduler = signRefreshScheduler;
     this.activeQuestsService = activeQuestsService;
     this.messaging = messaging;
   }
@@ -46,18 +46,15 @@ public class ActiveQuestUpdateListener implements Listener {
   public void onActiveQuestUpdate(ActiveQuestUpdateEvent event) {
 
     Player player = event.getPlayer();
-    QuestUpdateType updateType = event.getUpdateType();
     ActiveQuestDto activeQuest = event.getActiveQuest();
 
-    // Update the quests sign based on the type of update
-    if (updateType == QuestUpdateType.UPDATED || updateType == QuestUpdateType.STARTED) {
-      signsMediator.updateQuestsSign(player);
-    } else {
-      signsMediator.updateQuestsSignUsingActiveQuest(player, null);
-    }
+    // The signs changed by the update are refreshed on the next run of the scheduler, with the
+    // latest state, no matter how many updates happen until then
+    signRefreshScheduler.markDirty(player, event.getUpdateType());
 
-    // If the active quest is expired, remove it and send a message to the player
-    if (activeQuest != null && activeQuest.isExpired()) {
+    // If the active quest is expired, remove it and send a message to the player, only once
+    if (activeQuest != null && activeQuest.getQuestDetails() != null
+        && activeQuest.tryMarkExpiryHandled()) {
       activeQuestsService.removeQuest(
               new PlayerQuestKey(player.getUniqueId(), activeQuest.getQuestDetails().getId())
           )
@@ -66,10 +63,9 @@ public class ActiveQuestUpdateListener implements Listener {
                 "general.quest.expired",
                 Component.text(activeQuest.getQuestDetails().getName()))
             );
-            signsMediator.updateQuestsSign(player);
+            // Removing an expired quest changes the signs as much as cancelling it
+            signRefreshScheduler.markDirty(player, QuestUpdateType.CANCELLED);
           });
-    } else {
-      signsMediator.updateQuestsSign(player);
     }
 
   }
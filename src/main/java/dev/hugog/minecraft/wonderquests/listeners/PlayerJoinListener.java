@@ -2,7 +2,6 @@ package dev.hugog.minecraft.wonderquests.listeners;
 
 import com.google.inject.Inject;
 import dev.hugog.minecraft.wonderquests.concurrency.ConcurrencyHandler;
-import dev.hugog.minecraft.wonderquests.data.services.PlayerService;
 import dev.hugog.minecraft.wonderquests.injection.factories.ActionsFactory;
 import dev.hugog.minecraft.wonderquests.mediators.SignsMediator;
 import java.util.concurrent.TimeUnit;
@@ -16,7 +15,6 @@ import org.bukkit.event.player.PlayerJoinEvent;
  */
 public class PlayerJoinListener implements Listener {
 
-  private final PlayerService playerService;
   private final ActionsFactory actionsFactory;
   private final SignsMediator signsMediator;
   private final ConcurrencyHandler concurrencyHandler;
@@ -24,16 +22,14 @@ public class PlayerJoinListener implements Listener {
   /**
    * Constructor for the PlayerJoinListener class.
    *
-   * @param playerService The service for players.
    * @param actionsFactory The factory for actions.
    * @param signsMediator The mediator for signs.
    * @param concurrencyHandler The handler for concurrency.
    */
   @Inject
-  public PlayerJoinListener(PlayerService playerService, ActionsFactory actionsFactory,
-      SignsMediator signsMediator, ConcurrencyHandler concurrencyHandler) {
+  public PlayerJoinListener(ActionsFactory actionsFactory, SignsMediator signsMediator,
+      ConcurrencyHandler concurrencyHandler) {
 
-    this.playerService = playerService;
     this.actionsFactory = actionsFactory;
     this.signsMediator = signsMediator;
     this.concurrencyHandler = concurrencyHandler;
@@ -42,8 +38,8 @@ public class PlayerJoinListener implements Listener {
   /**
    * This method handles the PlayerJoinEvent.
    *
-   * <p>It checks if the player is registered in the database and updates the quests sign for the
-   * player.</p>
+   * <p>It shows the active quests to the player and updates the quests sign for the player. The
+   * player is registered in the database by the {@link PlayerSessionListener}, before joining.</p>
    *
    * @param event The PlayerJoinEvent to be handled.
    */
@@ -51,13 +47,12 @@ public class PlayerJoinListener implements Listener {
   public void onPlayerJoin(PlayerJoinEvent event) {
 
     Player player = event.getPlayer();
-    playerService.checkPlayer(player.getUniqueId());
 
     actionsFactory.buildShowActiveQuestsAction(player).execute();
 
-    // Update the quests sign for the player after a delay of 1 second
+    // Update the signs for the player after a delay of 1 second
     concurrencyHandler.runDelayed(() -> {
-      signsMediator.updateQuestsSign(player);
+      signsMediator.updateSigns(player);
     }, 1, TimeUnit.SECONDS, true);
 
   }
@@ -0,0 +1,106 @@
+package dev.hugog.minecraft.wonderquests.listeners;
+
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+import dev.hugog.minecraft.wonderquests.data.services.PlayerSessionService;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Logger;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+import org.bukkit.event.player.PlayerLoginEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+/**
+ * This class listens for the events that start and end the session of a player.
+ *
+ * <p>The player's data is loaded before the player joins, so the first quest goal events don't
+ * wait for the database, and the pending changes are written when the player leaves.</p>
+ */
+public class PlayerSessionListener implements Listener {
+
+  // Maximum time, in seconds, a login waits for the player's data to be loaded
+  private static final long PRELOAD_TIMEOUT = 5;
+
+  private final Logger logger;
+  private final PlayerSessionService playerSessionService;
+
+  /**
+   * Constructor for the PlayerSessionListener class.
+   *
+   * @param logger The logger instance used for logging.
+   * @param playerSessionService The service for player sessions.
+   */
+  @Inject
+  public PlayerSessionListener(@Named("bukkitLogger") Logger logger,
+      PlayerSessionService playerSessionService) {
+    this.logger = logger;
+    this.playerSessionService = playerSessionService;
+  }
+
+  /**
+   * This method handles the AsyncPlayerPreLoginEvent.
+   *
+   * <p>It loads the player's data. The event runs on its own thread, so waiting for the data
+   * doesn't block the server. If the data takes too long to load, the player joins anyway and the
+   * data is loaded on demand. The data that finishes loading after the session ended is
+   * discarded.</p>
+   *
+   * @param event The AsyncPlayerPreLoginEvent to be handled.
+   */
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onAsyncPlayerPreLogin(AsyncPlayerPreLoginEvent event) {
+
+    if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+      return;
+    }
+
+    UUID playerId = event.getUniqueId();
+
+    try {
+      playerSessionService.startSession(playerId).get(PRELOAD_TIMEOUT, TimeUnit.SECONDS);
+    } catch (ExecutionException | TimeoutException e) {
+      logger.warning(String.format("Unable to preload the data of player %s - Exception: %s",
+          event.getName(), e.getMessage()));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+  }
+
+  /**
+   * This method handles the PlayerLoginEvent.
+   *
+   * <p>If the login is denied after the player's data was loaded (e.g., the server is full), the
+   * session is ended right away. Otherwise, it's confirmed, so it lasts until this player
+   * leaves.</p>
+   *
+   * @param event The PlayerLoginEvent to be handled.
+   */
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onPlayerLogin(PlayerLoginEvent event) {
+    if (event.getResult() != PlayerLoginEvent.Result.ALLOWED) {
+      playerSessionService.cancelSession(event.getPlayer().getUniqueId());
+    } else {
+      playerSessionService.confirmSession(event.getPlayer().getUniqueId(), event.getPlayer());
+    }
+  }
+
+  /**
+   * This method handles the PlayerQuitEvent.
+   *
+   * <p>It writes the pending changes of the player's active quests and removes the player's data
+   * from memory, unless the same account already logged in again with another connection.</p>
+   *
+   * @param event The PlayerQuitEvent to be handled.
+   */
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onPlayerQuit(PlayerQuitEvent event) {
+    playerSessionService.endSession(event.getPlayer().getUniqueId(), event.getPlayer());
+  }
+
+}
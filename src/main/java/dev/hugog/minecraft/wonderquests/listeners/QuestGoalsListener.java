@@ -1,15 +1,15 @@
 package dev.hugog.minecraft.wonderquests.listeners;
 
 import com.google.inject.Inject;
+import dev.hugog.minecraft.wonderquests.cache.CacheScheduler;
+import dev.hugog.minecraft.wonderquests.cache.implementation.ActiveObjectivesIndex;
 import dev.hugog.minecraft.wonderquests.data.dtos.ActiveQuestDto;
-import dev.hugog.minecraft.wonderquests.data.dtos.QuestObjectiveDto;
 import dev.hugog.minecraft.wonderquests.data.services.ActiveQuestsService;
-import dev.hugog.minecraft.wonderquests.data.services.QuestsService;
 import dev.hugog.minecraft.wonderquests.data.types.ObjectiveType;
 import dev.hugog.minecraft.wonderquests.mediators.QuestsMediator;
+import java.util.Set;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
-import org.bukkit.Material;
 import org.bukkit.block.Block;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
@@ -26,21 +26,21 @@ import org.bukkit.event.entity.EntityDeathEvent;
 public class QuestGoalsListener implements Listener {
 
   private final ActiveQuestsService activeQuestsService;
-  private final QuestsService questsService;
+  private final ActiveObjectivesIndex activeObjectivesIndex;
   private final QuestsMediator questsMediator;
 
   /**
    * Constructor for the QuestGoalsListener class.
    *
    * @param activeQuestsService The service for active quests.
-   * @param questsService The service for quests.
+   * @param activeObjectivesIndex The index of the objectives of the active quests.
    * @param questsMediator The mediator for quests.
    */
   @Inject
-  public QuestGoalsListener(ActiveQuestsService activeQuestsService, QuestsService questsService,
-      QuestsMediator questsMediator) {
+  public QuestGoalsListener(ActiveQuestsService activeQuestsService,
+      ActiveObjectivesIndex activeObjectivesIndex, QuestsMediator questsMediator) {
     this.activeQuestsService = activeQuestsService;
-    this.questsService = questsService;
+    this.activeObjectivesIndex = activeObjectivesIndex;
     this.questsMediator = questsMediator;
   }
 
@@ -57,59 +57,7 @@ public class QuestGoalsListener implements Listener {
     Player player = event.getPlayer();
     Block block = event.getBlock();
 
-    Material brokenBlockMaterial = block.getType();
-
-    activeQuestsService.getActiveQuestsForPlayer(player.getUniqueId())
-        .thenAccept((activeQuests) -> {
-
-          // The player doesn't have any active quests - no need to continue
-          if (activeQuests.isEmpty()) {
-            return;
-          }
-
-          activeQuests.forEach((activeQuest) -> {
-
-            // Even if the quest is expired, we still need to notify that the quest was updated.
-            // This is because we need to trigger the ActiveQuestUpdateEvent, so we can remove
-            // the quest if it is expired.
-            questsMediator.notifyQuestUpdate(player, activeQuest);
-
-            // If the quest is expired, we don't need to do anything with this event
-            if (activeQuestsService.isQuestExpired(activeQuest.getPlayerId(),
-                activeQuest.getQuestId())) {
-              return;
-            }
-
-            questsService.getQuestById(activeQuest.getQuestId(), true).thenAccept((quest) -> {
-
-              // The quest doesn't exist
-              if (quest.isEmpty()) {
-                return;
-              }
-
-              QuestObjectiveDto objective = quest.get().getObjective();
-
-              // If the broken block is the one we're looking for, we increase the progress
-              if (objective.getType() == ObjectiveType.BREAK_BLOCK && objective.getStringValue()
-                  .equals(brokenBlockMaterial.toString())) {
-
-                questsMediator.updateQuestProgress(player, activeQuest);
-
-                // Send a message to the player, using the action bar, with the quest progress
-                sendProgressMessage(player, activeQuest);
-
-                if (activeQuestsService.isQuestCompleted(activeQuest.getPlayerId(),
-                    activeQuest.getQuestId())) {
-                  questsMediator.handleQuestCompletion(player, activeQuest);
-                }
-
-              }
-
-            });
-
-          });
-
-        });
+    handleObjectiveEvent(player, ObjectiveType.BREAK_BLOCK, block.getType().toString());
 
   }
 
@@ -126,55 +74,7 @@ public class QuestGoalsListener implements Listener {
     Player player = event.getPlayer();
     Block block = event.getBlock();
 
-    activeQuestsService.getActiveQuestsForPlayer(player.getUniqueId())
-        .thenAccept((activeQuests) -> {
-
-          // The player doesn't have any active quests - no need to continue
-          if (activeQuests.isEmpty()) {
-            return;
-          }
-
-          activeQuests.forEach((activeQuest) -> {
-
-            // Even if the quest is expired, we still need to notify that the quest was updated.
-            // This is because we need to trigger the ActiveQuestUpdateEvent, so we can remove
-            // the quest if it is expired.
-            questsMediator.notifyQuestUpdate(player, activeQuest);
-
-            // If the quest is expired, we don't need to do anything with this event
-            if (activeQuestsService.isQuestExpired(activeQuest.getPlayerId(),
-                activeQuest.getQuestId())) {
-              return;
-            }
-
-            questsService.getQuestById(activeQuest.getQuestId(), true).thenAccept((quest) -> {
-
-              // The quest doesn't exist
-              if (quest.isEmpty()) {
-                return;
-              }
-
-              QuestObjectiveDto objective = quest.get().getObjective();
-              if (objective.getStringValue().equals(block.getType().toString())
-                  && objective.getType() == ObjectiveType.PLACE_BLOCK) {
-
-                questsMediator.updateQuestProgress(player, activeQuest);
-
-                // Send a message to the player, using the action bar, with the quest progress
-                sendProgressMessage(player, activeQuest);
-
-                if (activeQuestsService.isQuestCompleted(activeQuest.getPlayerId(),
-                    activeQuest.getQuestId())) {
-                  questsMediator.handleQuestCompletion(player, activeQuest);
-                }
-
-              }
-
-            });
-
-          });
-
-        });
+    handleObjectiveEvent(player, ObjectiveType.PLACE_BLOCK, block.getType().toString());
 
   }
 
@@ -195,55 +95,65 @@ public class QuestGoalsListener implements Listener {
       return;
     }
 
-    activeQuestsService.getActiveQuestsForPlayer(player.getUniqueId())
-        .thenAccept((activeQuests) -> {
-
-          // The player doesn't have any active quests - no need to continue
-          if (activeQuests.isEmpty()) {
-            return;
-          }
-
-          activeQuests.forEach((activeQuest) -> {
+    handleObjectiveEvent(player, ObjectiveType.KILL_MOBS, killedEntity.getType().toString());
 
-            // Even if the quest is expired, we still need to notify that the quest was updated.
-            // This is because we need to trigger the ActiveQuestUpdateEvent, so we can remove
-            // the quest if it is expired.
-            questsMediator.notifyQuestUpdate(player, activeQuest);
+  }
 
-            // If the quest is expired, we don't need to do anything with this event
-            if (activeQuestsService.isQuestExpired(activeQuest.getPlayerId(),
-                activeQuest.getQuestId())) {
-              return;
-            }
+  /**
+   * This method updates the progress of the active quests of a player whose objective matches the
+   * given type and value.
+   *
+   * <p>The objectives index is checked first, so events that don't match any active quest return
+   * immediately, without scheduling any asynchronous work. The quests that expire without matching
+   * any event are removed by the {@link CacheScheduler}.</p>
+   *
+   * @param player The player that triggered the event.
+   * @param objectiveType The type of objective affected by the event.
+   * @param objectiveValue The value of the objective affected by the event (e.g., the material).
+   */
+  private void handleObjectiveEvent(Player player, ObjectiveType objectiveType,
+      String objectiveValue) {
 
-            questsService.getQuestById(activeQuest.getQuestId(), true).thenAccept((quest) -> {
+    Set<Integer> matchingQuests = activeObjectivesIndex.getMatchingQuests(player.getUniqueId(),
+        objectiveType, objectiveValue);
 
-              // The quest doesn't exist
-              if (quest.isEmpty()) {
-                return;
-              }
+    // No active quest is waiting for this event - no need to continue
+    if (matchingQuests.isEmpty()) {
+      return;
+    }
 
-              QuestObjectiveDto objective = quest.get().getObjective();
-              if (objective.getStringValue().equals(killedEntity.getType().toString())
-                  && objective.getType() == ObjectiveType.KILL_MOBS) {
+    // Cache hits are handled synchronously, on the event thread. Only misses go through the
+    // database, asynchronously.
+    activeQuestsService.acceptActiveQuestsForPlayer(player.getUniqueId(),
+        (activeQuests) -> activeQuests.forEach((activeQuest) -> {
 
-                questsMediator.updateQuestProgress(player, activeQuest);
+          if (!matchingQuests.contains(activeQuest.getQuestId())) {
+            return;
+          }
 
-                // Send a message to the player, using the action bar, with the quest progress
-                sendProgressMessage(player, activeQuest);
+          // Even if the quest is expired, we still need to notify that the quest was updated.
+          // This is because we need to trigger the ActiveQuestUpdateEvent, so we can remove
+          // the quest if it is expired.
+          questsMediator.notifyQuestUpdate(player, activeQuest);
 
-                if (activeQuestsService.isQuestCompleted(activeQuest.getPlayerId(),
-                    activeQuest.getQuestId())) {
-                  questsMediator.handleQuestCompletion(player, activeQuest);
-                }
+          // If the quest is expired, we don't need to do anything with this event
+          if (activeQuestsService.isQuestExpired(activeQuest.getPlayerId(),
+              activeQuest.getQuestId())) {
+            return;
+          }
 
-              }
+          boolean completedQuest = questsMediator.updateQuestProgress(player, activeQuest);
 
-            });
+          // Send a message to the player, using the action bar, with the quest progress
+          sendProgressMessage(player, activeQuest);
 
-          });
+          // Only the update that completed the quest handles the completion, so the rewards are
+          // given once, even if several events complete the quest at the same time
+          if (completedQuest) {
+            questsMediator.handleQuestCompletion(player, activeQuest);
+          }
 
-        });
+        }));
 
   }
 
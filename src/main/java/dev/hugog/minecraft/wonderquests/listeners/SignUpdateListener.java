@@ -1,7 +1,9 @@
 package dev.hugog.minecraft.wonderquests.listeners;
 
 import com.google.inject.Inject;
+import dev.hugog.minecraft.wonderquests.cache.implementation.SignRegistry;
 import dev.hugog.minecraft.wonderquests.concurrency.ConcurrencyHandler;
+import dev.hugog.minecraft.wonderquests.data.dtos.SignDto;
 import dev.hugog.minecraft.wonderquests.data.services.SignService;
 import dev.hugog.minecraft.wonderquests.data.types.SignType;
 import dev.hugog.minecraft.wonderquests.language.Messaging;
@@ -10,6 +12,7 @@ import java.util.List;
 import java.util.concurrent.TimeUnit;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.TextComponent;
+import org.bukkit.Location;
 import org.bukkit.Server;
 import org.bukkit.block.Block;
 import org.bukkit.block.Sign;
@@ -17,9 +20,13 @@ import org.bukkit.block.sign.Side;
 import org.bukkit.block.sign.SignSide;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.block.BlockBreakEvent;
 import org.bukkit.event.block.SignChangeEvent;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
 
 /**
  * This class listens for sign update events and handles them accordingly.
@@ -58,7 +65,9 @@ public class SignUpdateListener implements Listener {
   /**
    * This method handles the SignChangeEvent.
    *
-   * <p>It is used to listen for signs creation and register signs.</p>
+   * <p>It is used to listen for signs creation and register signs. The second line of the sign is
+   * its type (e.g., "active_quest"), and quest status signs have the id of the quest on the third
+   * line.</p>
    *
    * @param event The SignChangeEvent to be handled.
    */
@@ -79,34 +88,51 @@ public class SignUpdateListener implements Listener {
         return;
       }
 
-      String pluginSignType = ((TextComponent) lines.get(1)).content();
+      SignType signType = SignType.fromString(((TextComponent) lines.get(1)).content());
 
-      if (pluginSignType.equalsIgnoreCase("active_quest")) {
+      if (signType == null) {
+        return;
+      }
+
+      Sign sign = (Sign) event.getBlock().getState();
+      Player player = event.getPlayer();
+
+      // Quest status signs show the quest whose id is written on the third line
+      Integer questId = null;
 
-        Sign sign = (Sign) event.getBlock().getState();
-        Player player = event.getPlayer();
+      if (signType == SignType.QUEST_STATUS) {
 
-        player.sendMessage(messaging.getLocalizedChatWithPrefix("signs.creation.scheduled"));
+        questId = readQuestId(lines.get(2));
 
-        signService.registerSign(SignType.ACTIVE_QUEST, sign.getLocation()).thenAccept(id -> {
-          if (id == null) {
-            player.sendMessage(messaging.getLocalizedChatWithPrefix("signs.creation.failed"));
-            return;
-          }
+        if (questId == null) {
+          player.sendMessage(messaging.getLocalizedChatWithPrefix("signs.creation.invalid_quest"));
+          return;
+        }
 
-          player.sendMessage(messaging.getLocalizedChatWithPrefix("signs.creation.successful"));
+      }
 
-          // Send packet to all online players to update the recently created sign
-          concurrencyHandler.runDelayed(() -> {
-            server.getOnlinePlayers().forEach(signsMediator::updateQuestsSign);
-          }, 1, TimeUnit.SECONDS, false);
+      player.sendMessage(messaging.getLocalizedChatWithPrefix("signs.creation.scheduled"));
 
-        }).exceptionally(throwable -> {
+      SignDto newSign = SignDto.createSign(signType, sign.getLocation(), questId);
+
+      signService.registerSign(signType, sign.getLocation(), questId).thenAccept(id -> {
+        if (id == null) {
           player.sendMessage(messaging.getLocalizedChatWithPrefix("signs.creation.failed"));
-          return null;
-        });
+          return;
+        }
 
-      }
+        player.sendMessage(messaging.getLocalizedChatWithPrefix("signs.creation.successful"));
+
+        // Send the recently created sign to the players that can see it
+        newSign.setId(id);
+        concurrencyHandler.runDelayed(
+            () -> signsMediator.showNewSign(newSign, server.getOnlinePlayers()),
+            1, TimeUnit.SECONDS, false);
+
+      }).exceptionally(throwable -> {
+        player.sendMessage(messaging.getLocalizedChatWithPrefix("signs.creation.failed"));
+        return null;
+      });
 
     }
 
@@ -160,4 +186,69 @@ public class SignUpdateListener implements Listener {
 
   }
 
-}
\ No newline at end of file
+  /**
+   * This method handles the PlayerMoveEvent.
+   *
+   * <p>It is used to send the signs that come into view when the player moves to another
+   * chunk.</p>
+   *
+   * @param event The PlayerMoveEvent to be handled.
+   */
+  @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+  public void onPlayerMove(PlayerMoveEvent event) {
+    handleMove(event.getPlayer(), event.getFrom(), event.getTo());
+  }
+
+  /**
+   * This method handles the PlayerTeleportEvent.
+   *
+   * @param event The PlayerTeleportEvent to be handled.
+   * @see #onPlayerMove(PlayerMoveEvent)
+   */
+  @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+  public void onPlayerTeleport(PlayerTeleportEvent event) {
+    handleMove(event.getPlayer(), event.getFrom(), event.getTo());
+  }
+
+  /**
+   * This method handles the PlayerChangedWorldEvent.
+   *
+   * <p>It is used to send the signs of the new world that the player can see.</p>
+   *
+   * @param event The PlayerChangedWorldEvent to be handled.
+   */
+  @EventHandler
+  public void onPlayerChangedWorld(PlayerChangedWorldEvent event) {
+    Player player = event.getPlayer();
+    concurrencyHandler.runDelayed(() -> signsMediator.updateSigns(player),
+        1, TimeUnit.SECONDS, true);
+  }
+
+  private Integer readQuestId(Component line) {
+
+    if (!(line instanceof TextComponent textComponent)) {
+      return null;
+    }
+
+    try {
+      return Integer.parseInt(textComponent.content().trim());
+    } catch (NumberFormatException e) {
+      return null;
+    }
+
+  }
+
+  private void handleMove(Player player, Location from, Location to) {
+
+    // Most moves stay in the same chunk, and changing worlds is handled by onPlayerChangedWorld
+    if (to == null || !from.getWorld().equals(to.getWorld())
+        || (SignRegistry.toChunk(from.getBlockX()) == SignRegistry.toChunk(to.getBlockX())
+        && SignRegistry.toChunk(from.getBlockZ()) == SignRegistry.toChunk(to.getBlockZ()))) {
+      return;
+    }
+
+    signsMediator.updateSignsEnteringView(player, from, to);
+
+  }
+
+}
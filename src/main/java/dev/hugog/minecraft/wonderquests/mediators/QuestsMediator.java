@@ -3,11 +3,11 @@ package dev.hugog.minecraft.wonderquests.mediators;
 import com.google.inject.Inject;
 import com.google.inject.name.Named;
 import dev.hugog.minecraft.wonderquests.WonderQuests;
+import dev.hugog.minecraft.wonderquests.cache.implementation.AvailableQuestsCache;
 import dev.hugog.minecraft.wonderquests.concurrency.ConcurrencyHandler;
 import dev.hugog.minecraft.wonderquests.data.dtos.ActiveQuestDto;
 import dev.hugog.minecraft.wonderquests.data.dtos.CompletedQuestDto;
 import dev.hugog.minecraft.wonderquests.data.dtos.QuestDto;
-import dev.hugog.minecraft.wonderquests.data.dtos.QuestRequirementDto;
 import dev.hugog.minecraft.wonderquests.data.keys.PlayerQuestKey;
 import dev.hugog.minecraft.wonderquests.data.services.ActiveQuestsService;
 import dev.hugog.minecraft.wonderquests.data.services.CompletedQuestsService;
@@ -16,8 +16,10 @@ import dev.hugog.minecraft.wonderquests.events.ActiveQuestUpdateEvent;
 import dev.hugog.minecraft.wonderquests.events.QuestUpdateType;
 import dev.hugog.minecraft.wonderquests.hooks.EconomyHook;
 import dev.hugog.minecraft.wonderquests.language.Messaging;
+import dev.hugog.minecraft.wonderquests.requirements.RequirementContext;
+import dev.hugog.minecraft.wonderquests.requirements.RequirementsPlanCache;
 import java.util.HashSet;
-import java.util.List;
+import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -44,6 +46,8 @@ public class QuestsMediator {
   private final WonderQuests plugin;
   private final Messaging messaging;
   private final EconomyHook economyHook;
+  private final RequirementsPlanCache requirementsPlanCache;
+  private final AvailableQuestsCache availableQuestsCache;
 
   /**
    * Constructor for the QuestsMediator class.
@@ -56,12 +60,15 @@ public class QuestsMediator {
    * @param plugin The plugin instance.
    * @param messaging The messaging instance used for sending messages.
    * @param economyHook The economy hook instance.
+   * @param requirementsPlanCache The cache of the compiled requirements of the quests.
+   * @param availableQuestsCache The cache of the quests available to each player.
    */
   @Inject
   public QuestsMediator(@Named("bukkitLogger") Logger logger,
       ConcurrencyHandler concurrencyHandler, QuestsService questsService,
       ActiveQuestsService activeQuestsService, CompletedQuestsService completedQuestsService,
-      WonderQuests plugin, Messaging messaging, EconomyHook economyHook) {
+      WonderQuests plugin, Messaging messaging, EconomyHook economyHook,
+      RequirementsPlanCache requirementsPlanCache, AvailableQuestsCache availableQuestsCache) {
 
     this.logger = logger;
     this.concurrencyHandler = concurrencyHandler;
@@ -71,6 +78,8 @@ public class QuestsMediator {
     this.plugin = plugin;
     this.messaging = messaging;
     this.economyHook = economyHook;
+    this.requirementsPlanCache = requirementsPlanCache;
+    this.availableQuestsCache = availableQuestsCache;
 
   }
 
@@ -123,11 +132,12 @@ public class QuestsMediator {
    *
    * @param player The player whose quest progress is to be updated.
    * @param activeQuest The active quest to be updated.
+   * @return true if this update completed the quest, false otherwise.
    */
-  public void updateQuestProgress(Player player, ActiveQuestDto activeQuest) {
+  public boolean updateQuestProgress(Player player, ActiveQuestDto activeQuest) {
 
     notifyQuestUpdate(player, activeQuest);
-    activeQuestsService.incrementQuestProgress(player.getUniqueId(), activeQuest.getQuestId());
+    return activeQuestsService.incrementQuestProgress(activeQuest);
 
   }
 
@@ -152,35 +162,51 @@ public class QuestsMediator {
   /**
    * This method gets the potential available quests for the player.
    *
+   * <p>The state of the player (e.g., the balance) is read once and shared by all the quests.</p>
+   *
    * @param player The player to get the potential available quests for.
    * @return A CompletableFuture that contains a set of potential available quests.
    */
   public CompletableFuture<Set<QuestDto>> getPotentialAvailableQuests(Player player) {
-    return questsService.getAllQuests().thenApply(quests -> quests.stream()
-        .filter(quest -> playerHasRequirements(player, quest))
-        .collect(Collectors.toSet()));
+    return questsService.getAllQuests().thenApply(quests -> {
+
+      RequirementContext context = new RequirementContext(player, economyHook);
+
+      return quests.stream()
+          .filter(quest -> requirementsPlanCache.getPlan(quest).isMetBy(context))
+          .collect(Collectors.toSet());
+
+    });
   }
 
   /**
    * This method gets the available quests for the player.
    *
+   * <p>Once the quest catalog is loaded, the available quests are read from the
+   * {@link AvailableQuestsCache}, which only recomputes them when the quests, the completed quests
+   * or the level of the player change.</p>
+   *
    * @param player The player to get the available quests for.
-   * @return A CompletableFuture that contains a set of available quests.
+   * @return A CompletableFuture that contains a set of available quests, ordered by id.
    */
   public CompletableFuture<Set<QuestDto>> getAvailableQuests(Player player) {
 
+    if (availableQuestsCache.isReady()) {
+      return completedQuestsService.getCompletedQuestIds(player.getUniqueId())
+          .thenApply(completedQuestIds -> new LinkedHashSet<>(availableQuestsCache.get(
+              player.getUniqueId(), new RequirementContext(player, economyHook),
+              completedQuestIds)));
+    }
+
     return getPotentialAvailableQuests(player)
         .thenCompose(
-            quests -> completedQuestsService.getCompletedQuestByPlayer(player.getUniqueId())
-                .thenApply(questsCompleted -> {
+            quests -> completedQuestsService.getCompletedQuestIds(player.getUniqueId())
+                .thenApply(completedQuestIds -> {
 
                   Set<QuestDto> availableQuests = new HashSet<>();
-                  Set<Integer> completedQuestsIds = questsCompleted.stream()
-                      .map(CompletedQuestDto::getQuestId)
-                      .collect(Collectors.toSet());
 
                   quests.forEach(quest -> {
-                    if (!completedQuestsIds.contains(quest.getId())) {
+                    if (!completedQuestIds.contains(quest.getId())) {
                       availableQuests.add(quest);
                     }
                   });
@@ -199,31 +225,8 @@ public class QuestsMediator {
    * @return A boolean indicating if the player has the requirements for the quest.
    */
   public boolean playerHasRequirements(Player player, QuestDto quest) {
-
-    boolean hasRequirements = true;
-
-    List<QuestRequirementDto> questRequirements = quest.getRequirements();
-
-    for (QuestRequirementDto requirement : questRequirements) {
-
-      hasRequirements = switch (requirement.getType()) {
-        case MONEY -> hasRequirements
-            && economyHook.getBalance(player.getUniqueId()) >= requirement.getNumericValue();
-        case EXPERIENCE -> hasRequirements
-            && player.getLevel() >= requirement.getNumericValue().intValue();
-        case PERMISSION -> hasRequirements && player.hasPermission(requirement.getStringValue());
-        case ITEM -> hasRequirements && player.getInventory().containsAtLeast(
-            new ItemStack(
-                Objects.requireNonNull(Material.matchMaterial(requirement.getStringValue()))
-            ),
-            1
-        );
-      };
-
-    }
-
-    return hasRequirements;
-
+    return requirementsPlanCache.getPlan(quest)
+        .isMetBy(new RequirementContext(player, economyHook));
   }
 
   /**
@@ -238,18 +241,17 @@ public class QuestsMediator {
             new PlayerQuestKey(player.getUniqueId(), activeQuest.getQuestId()))
         .thenRun(() -> {
 
-          // Call the ActiveQuestUpdateEvent to update the signs, for example.
-          concurrencyHandler.run(() -> plugin.getServer().getPluginManager()
-                  .callEvent(
-                      new ActiveQuestUpdateEvent(player, QuestUpdateType.COMPLETED, activeQuest)),
-              true);
-
           giveQuestRewardsToPlayer(player, activeQuest.getQuestId());
 
+          // Call the ActiveQuestUpdateEvent to update the signs, for example. It's called once the
+          // completion is saved, so the signs that show the completed quests include it.
           completedQuestsService.addCompletedQuest(new CompletedQuestDto(
               player.getUniqueId(),
               activeQuest.getQuestId()
-          ));
+          )).whenComplete((added, throwable) -> concurrencyHandler.run(
+              () -> plugin.getServer().getPluginManager().callEvent(
+                  new ActiveQuestUpdateEvent(player, QuestUpdateType.COMPLETED, activeQuest)),
+              true));
 
           questsService.getQuestById(activeQuest.getQuestId()).thenAccept((quest) -> {
 
@@ -1,134 +1,176 @@
 package dev.hugog.minecraft.wonderquests.mediators;
 
 import com.google.inject.Inject;
-import dev.hugog.minecraft.wonderquests.data.dtos.ActiveQuestDto;
-import dev.hugog.minecraft.wonderquests.data.services.ActiveQuestsService;
+import dev.hugog.minecraft.wonderquests.cache.implementation.SignRegistry;
+import dev.hugog.minecraft.wonderquests.concurrency.ConcurrencyHandler;
+import dev.hugog.minecraft.wonderquests.data.dtos.SignDto;
 import dev.hugog.minecraft.wonderquests.data.services.SignService;
 import dev.hugog.minecraft.wonderquests.data.types.SignType;
-import dev.hugog.minecraft.wonderquests.language.Messaging;
-import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.format.NamedTextColor;
-import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
-import org.bukkit.Bukkit;
+import dev.hugog.minecraft.wonderquests.signs.SignRenderer;
+import dev.hugog.minecraft.wonderquests.signs.SignRendererRegistry;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.entity.Player;
 
 /**
  * This class mediates between the sign services and the player.
+ *
+ * <p>The lines of each sign are rendered by the {@link SignRenderer} of its type.</p>
  */
 public class SignsMediator {
 
   private final SignService signService;
-  private final ActiveQuestsService activeQuestsService;
-  private final Messaging messaging;
+  private final ConcurrencyHandler concurrencyHandler;
+  private final SignRendererRegistry signRendererRegistry;
 
   /**
    * Constructor for the SignsMediator class.
    *
    * @param signService The service for signs.
-   * @param activeQuestsService The service for active quests.
-   * @param messaging The messaging instance used for sending messages.
+   * @param concurrencyHandler The handler for concurrency.
+   * @param signRendererRegistry The registry of the renderers of each sign type.
    */
   @Inject
-  public SignsMediator(SignService signService, ActiveQuestsService activeQuestsService,
-      Messaging messaging) {
+  public SignsMediator(SignService signService, ConcurrencyHandler concurrencyHandler,
+      SignRendererRegistry signRendererRegistry) {
     this.signService = signService;
-    this.activeQuestsService = activeQuestsService;
-    this.messaging = messaging;
+    this.concurrencyHandler = concurrencyHandler;
+    this.signRendererRegistry = signRendererRegistry;
   }
 
   /**
-   * This method updates the quests sign for the player.
+   * This method updates all the signs that the player can see.
    *
-   * @param player The player to update the quests sign for.
+   * @param player The player to update the signs for.
    */
-  public void updateQuestsSign(Player player) {
-
-    activeQuestsService.getActiveQuestsForPlayer(player.getUniqueId())
-        .thenAccept(activeQuests -> {
-          activeQuests.stream().min(
-                  (a, b) -> b.getStartedAt().compareTo(a.getStartedAt())
-              ) // Get the most recent quest
-              .ifPresentOrElse(activeQuest -> updateQuestsSignUsingActiveQuest(player, activeQuest),
-                  () -> updateQuestsSignUsingActiveQuest(player, null));
-        });
+  public void updateSigns(Player player) {
+    getNearbySigns(player).thenAccept(signs -> updateSigns(player, signs));
+  }
 
+  /**
+   * This method updates the signs of some types that the player can see, e.g., the types
+   * invalidated by a quest update.
+   *
+   * @param player The player to update the signs for.
+   * @param types The types of the signs to update.
+   */
+  public void updateSigns(Player player, Set<SignType> types) {
+    getNearbySigns(player).thenAccept(signs -> updateSigns(player, signs.stream()
+        .filter(sign -> types.contains(sign.getType()))
+        .toList()));
   }
 
   /**
-   * This method updates the quests sign using the active quest.
+   * This method updates some signs for the player, e.g., the signs that just came into view.
+   *
+   * <p>The signs of each type are rendered together, so the state of the player is read once per
+   * type. Only the signs in the world of the player are sent.</p>
    *
-   * @param player The player to update the quests sign for.
-   * @param activeQuest The active quest to be used for updating the quests sign.
+   * @param player The player to update the signs for.
+   * @param signs The signs to update.
    */
   @SuppressWarnings("deprecation")
-  public void updateQuestsSignUsingActiveQuest(Player player, ActiveQuestDto activeQuest) {
-
-    if (activeQuest != null) {
-      signService.getAllSigns().thenAccept(signs -> {
-        signs.stream()
-            .filter(sign -> sign.getType() == SignType.ACTIVE_QUEST)
-            .forEach(sign -> {
-
-              World world = Bukkit.getWorld(sign.getWorldName());
-              Location location = new Location(world, sign.getX(), sign.getY(),
-                  sign.getZ());
-
-              player.sendSignChange(location, new String[]{
-                  LegacyComponentSerializer.legacySection().serialize(
-                      Component.text("WonderQuests", NamedTextColor.GREEN)
-                  ),
-                  LegacyComponentSerializer.legacySection().serialize(
-                      Component.text(
-                          activeQuest.getQuestDetails().getName(),
-                          NamedTextColor.BLUE
-                      )
-                  ),
-                  LegacyComponentSerializer.legacySection().serialize(
-                      Component.text(
-                          activeQuest.getProgressPercentage() + "%",
-                          NamedTextColor.YELLOW
-                      )
-                  ),
-                  LegacyComponentSerializer.legacySection().serialize(
-                      Component.text(
-                          activeQuest.getProgress() + "/" + activeQuest.getTarget(),
-                          NamedTextColor.GRAY
-                      )
-                  )
-              });
-
-            });
-      });
-    } else {
-
-      signService.getAllSigns().thenAccept(signs -> {
-        signs.stream()
-            .filter(sign -> sign.getType() == SignType.ACTIVE_QUEST)
-            .forEach(sign -> {
-
-              World world = Bukkit.getWorld(sign.getWorldName());
-              Location location = new Location(world, sign.getX(), sign.getY(),
-                  sign.getZ());
-
-              player.sendSignChange(location, new String[]{
-                  LegacyComponentSerializer.legacySection().serialize(
-                      Component.text("WonderQuests", NamedTextColor.GREEN)
-                  ),
-                  null,
-                  LegacyComponentSerializer.legacySection().serialize(
-                      messaging.getLocalizedRawMessage("signs.quests.none")
-                          .color(NamedTextColor.GRAY)
-                  ),
-                  null
-              });
-
-            });
-      });
+  public void updateSigns(Player player, List<SignDto> signs) {
 
+    if (signs.isEmpty()) {
+      return;
     }
 
+    signs.stream()
+        .collect(Collectors.groupingBy(SignDto::getType, () -> new EnumMap<>(SignType.class),
+            Collectors.toList()))
+        .forEach((type, signsOfType) -> {
+
+          SignRenderer renderer = signRendererRegistry.getRenderer(type);
+
+          if (renderer == null) {
+            return;
+          }
+
+          renderer.render(player, signsOfType).thenAccept(lines -> {
+
+            // The player may have changed worlds while the signs were rendered
+            World world = player.getWorld();
+
+            for (int i = 0; i < signsOfType.size(); i++) {
+              SignDto sign = signsOfType.get(i);
+              if (world.getName().equals(sign.getWorldName())) {
+                player.sendSignChange(
+                    new Location(world, sign.getX(), sign.getY(), sign.getZ()), lines.get(i));
+              }
+            }
+
+          });
+
+        });
+
+  }
+
+  /**
+   * This method updates a new sign for the players that can see it.
+   *
+   * <p>Only the new sign is sent, and only to the players in the same world, within their view
+   * distance of the sign.</p>
+   *
+   * @param sign The new sign.
+   * @param players The online players.
+   */
+  public void showNewSign(SignDto sign, Collection<? extends Player> players) {
+    players.stream()
+        .filter(player -> canSee(player, sign))
+        .forEach(player -> updateSigns(player, List.of(sign)));
+  }
+
+  /**
+   * This method updates the signs that come into view when a player moves to another
+   * chunk.
+   *
+   * <p>The client replaces the text of the signs in the chunks it receives, so the signs are sent
+   * again after a delay, once the chunks are likely to have been received.</p>
+   *
+   * @param player The player who moved.
+   * @param from The location the player moved from.
+   * @param to The location the player moved to.
+   */
+  public void updateSignsEnteringView(Player player, Location from, Location to) {
+
+    List<SignDto> signs = signService.getSignsEnteringView(from, to, player.getViewDistance());
+
+    if (!signs.isEmpty()) {
+      concurrencyHandler.runDelayed(() -> updateSigns(player, signs), 1, TimeUnit.SECONDS,
+          true);
+    }
+
+  }
+
+  /**
+   * This method gets the signs that the player can see, i.e., the signs in the same world, within
+   * the view distance of the player.
+   *
+   * @param player The player.
+   * @return a CompletableFuture that will be completed with the signs near the player.
+   */
+  private CompletableFuture<List<SignDto>> getNearbySigns(Player player) {
+    return signService.getSignsNear(player.getLocation(), player.getViewDistance());
+  }
+
+  private boolean canSee(Player player, SignDto sign) {
+
+    Location location = player.getLocation();
+
+    return location.getWorld().getName().equals(sign.getWorldName())
+        && Math.abs(SignRegistry.toChunk(location.getBlockX())
+        - SignRegistry.toChunk(sign.getX())) <= player.getViewDistance()
+        && Math.abs(SignRegistry.toChunk(location.getBlockZ())
+        - SignRegistry.toChunk(sign.getZ())) <= player.getViewDistance();
+
   }
 
-}
\ No newline at end of file
+}
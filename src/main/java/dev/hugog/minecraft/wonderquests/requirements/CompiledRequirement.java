@@ -0,0 +1,137 @@
+package dev.hugog.minecraft.wonderquests.requirements;
+
+import org.bukkit.inventory.ItemStack;
+
+/**
+ * A quest requirement, with its value already parsed, ready to be checked against a player.
+ */
+public sealed interface CompiledRequirement {
+
+  /**
+   * Gets the relative cost of checking the requirement, used to check the cheapest requirements
+   * first.
+   *
+   * @return the cost of the requirement, where lower is cheaper
+   */
+  int cost();
+
+  boolean isMetBy(RequirementContext context);
+
+  /**
+   * Checks if the result of the requirement only changes when the level of the player changes, so
+   * it can be kept until then.
+   *
+   * <p>The other requirements depend on state that can change without notice (e.g., permissions
+   * granted by other plugins), so they must be checked every time.</p>
+   *
+   * @return true if the requirement only depends on the level of the player, false otherwise
+   */
+  default boolean isTracked() {
+    return false;
+  }
+
+  /**
+   * Requires the player to be at least at the given level.
+   *
+   * @param level the minimum level
+   */
+  record Experience(int level) implements CompiledRequirement {
+
+    @Override
+    public int cost() {
+      return 0;
+    }
+
+    @Override
+    public boolean isMetBy(RequirementContext context) {
+      return context.getLevel() >= level;
+    }
+
+    @Override
+    public boolean isTracked() {
+      return true;
+    }
+
+  }
+
+  /**
+   * Requires the player to have the given permission.
+   *
+   * @param permission the permission
+   */
+  record Permission(String permission) implements CompiledRequirement {
+
+    @Override
+    public int cost() {
+      return 1;
+    }
+
+    @Override
+    public boolean isMetBy(RequirementContext context) {
+      return context.hasPermission(permission);
+    }
+
+  }
+
+  /**
+   * Requires the player to have at least one item like the given one.
+   *
+   * @param item the item, created once when the requirement is compiled
+   */
+  record Item(ItemStack item) implements CompiledRequirement {
+
+    @Override
+    public int cost() {
+      return 2;
+    }
+
+    @Override
+    public boolean isMetBy(RequirementContext context) {
+      return context.hasItem(item);
+    }
+
+  }
+
+  /**
+   * Requires the player to have at least the given balance. It's the most expensive requirement,
+   * since the balance is read from the economy plugin.
+   *
+   * @param amount the minimum balance
+   */
+  record Money(double amount) implements CompiledRequirement {
+
+    @Override
+    public int cost() {
+      return 3;
+    }
+
+    @Override
+    public boolean isMetBy(RequirementContext context) {
+      return context.getBalance() >= amount;
+    }
+
+  }
+
+  /**
+   * A requirement that can never be met, e.g., because it requires an unknown item.
+   */
+  record Unsatisfiable() implements CompiledRequirement {
+
+    @Override
+    public int cost() {
+      return -1;
+    }
+
+    @Override
+    public boolean isMetBy(RequirementContext context) {
+      return false;
+    }
+
+    @Override
+    public boolean isTracked() {
+      return true;
+    }
+
+  }
+
+}
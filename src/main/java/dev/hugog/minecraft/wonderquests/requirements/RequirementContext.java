@@ -0,0 +1,65 @@
+package dev.hugog.minecraft.wonderquests.requirements;
+
+import dev.hugog.minecraft.wonderquests.hooks.EconomyHook;
+import java.util.EnumMap;
+import java.util.Map;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+
+/**
+ * The state of a player that the quest requirements are checked against.
+ *
+ * <p>A context is created once per evaluation and shared by all the quests being checked, so the
+ * balance of the player is read at most once, and the inventory at most once per material, no
+ * matter how many quests require them. Each value is only read when a requirement needs it.</p>
+ */
+public final class RequirementContext {
+
+  private final Player player;
+  private final EconomyHook economyHook;
+
+  private final int level;
+  private final Map<Material, Boolean> inventoryItems;
+  private Double balance;
+
+  /**
+   * Constructor for the RequirementContext class.
+   *
+   * @param player The player whose requirements are checked.
+   * @param economyHook The economy hook, used to read the balance of the player.
+   */
+  public RequirementContext(Player player, EconomyHook economyHook) {
+    this.player = player;
+    this.economyHook = economyHook;
+    this.level = player.getLevel();
+    this.inventoryItems = new EnumMap<>(Material.class);
+  }
+
+  public int getLevel() {
+    return level;
+  }
+
+  public boolean hasPermission(String permission) {
+    return player.hasPermission(permission);
+  }
+
+  /**
+   * Checks if the inventory of the player has at least one item like the given one.
+   *
+   * @param item the item to look for
+   * @return true if the inventory has the item, false otherwise
+   */
+  public boolean hasItem(ItemStack item) {
+    return inventoryItems.computeIfAbsent(item.getType(),
+        material -> player.getInventory().containsAtLeast(item, 1));
+  }
+
+  public double getBalance() {
+    if (balance == null) {
+      balance = economyHook.getBalance(player.getUniqueId());
+    }
+    return balance;
+  }
+
+}
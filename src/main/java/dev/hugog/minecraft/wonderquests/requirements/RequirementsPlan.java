@@ -0,0 +1,121 @@
+package dev.hugog.minecraft.wonderquests.requirements;
+
+import dev.hugog.minecraft.wonderquests.data.dtos.QuestRequirementDto;
+import java.util.Comparator;
+import java.util.List;
+import java.util.logging.Logger;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+
+/**
+ * The compiled requirements of a quest, sorted from the cheapest to the most expensive to check.
+ *
+ * @param requirements the compiled requirements, in the order they are checked
+ */
+public record RequirementsPlan(List<CompiledRequirement> requirements) {
+
+  private static final RequirementsPlan EMPTY = new RequirementsPlan(List.of());
+
+  /**
+   * Compiles the requirements of a quest.
+   *
+   * <p>Requirements with an unknown item can never be met, as the item can't be in the inventory
+   * of the player.</p>
+   *
+   * @param requirements the requirements of the quest
+   * @param logger the logger, used to report invalid requirements
+   * @return the plan of the requirements
+   */
+  public static RequirementsPlan compile(List<QuestRequirementDto> requirements, Logger logger) {
+
+    if (requirements == null || requirements.isEmpty()) {
+      return EMPTY;
+    }
+
+    return new RequirementsPlan(requirements.stream()
+        .map(requirement -> compile(requirement, logger))
+        .sorted(Comparator.comparingInt(CompiledRequirement::cost))
+        .toList());
+
+  }
+
+  private static CompiledRequirement compile(QuestRequirementDto requirement, Logger logger) {
+
+    float numericValue = requirement.getNumericValue() != null
+        ? requirement.getNumericValue() : 0;
+
+    return switch (requirement.getType()) {
+      case EXPERIENCE -> new CompiledRequirement.Experience((int) numericValue);
+      case PERMISSION -> new CompiledRequirement.Permission(requirement.getStringValue());
+      case MONEY -> new CompiledRequirement.Money(numericValue);
+      case ITEM -> {
+
+        Material material = requirement.getStringValue() != null
+            ? Material.matchMaterial(requirement.getStringValue()) : null;
+
+        if (material == null) {
+          logger.warning(String.format("Unknown item '%s' required by quest %d.",
+              requirement.getStringValue(), requirement.getQuestId()));
+          yield new CompiledRequirement.Unsatisfiable();
+        }
+
+        yield new CompiledRequirement.Item(new ItemStack(material));
+
+      }
+    };
+
+  }
+
+  /**
+   * Checks if a player meets all the requirements, stopping at the first one that isn't met.
+   *
+   * @param context the state of the player
+   * @return true if the player meets all the requirements, false otherwise
+   */
+  public boolean isMetBy(RequirementContext context) {
+
+    for (CompiledRequirement requirement : requirements) {
+      if (!requirement.isMetBy(context)) {
+        return false;
+      }
+    }
+
+    return true;
+
+  }
+
+  /**
+   * Checks if a player meets the requirements that only depend on their level.
+   *
+   * @param context the state of the player
+   * @return true if the player meets all the tracked requirements, false otherwise
+   * @see CompiledRequirement#isTracked()
+   */
+  public boolean areTrackedRequirementsMetBy(RequirementContext context) {
+    return isMetBy(context, true);
+  }
+
+  /**
+   * Checks if a player meets the requirements that must be checked every time.
+   *
+   * @param context the state of the player
+   * @return true if the player meets all the live requirements, false otherwise
+   * @see CompiledRequirement#isTracked()
+   */
+  public boolean areLiveRequirementsMetBy(RequirementContext context) {
+    return isMetBy(context, false);
+  }
+
+  private boolean isMetBy(RequirementContext context, boolean tracked) {
+
+    for (CompiledRequirement requirement : requirements) {
+      if (requirement.isTracked() == tracked && !requirement.isMetBy(context)) {
+        return false;
+      }
+    }
+
+    return true;
+
+  }
+
+}
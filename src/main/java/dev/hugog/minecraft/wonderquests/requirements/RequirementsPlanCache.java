@@ -0,0 +1,81 @@
+package dev.hugog.minecraft.wonderquests.requirements;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import dev.hugog.minecraft.wonderquests.cache.implementation.QuestCatalog;
+import dev.hugog.minecraft.wonderquests.cache.implementation.QuestCatalog.Snapshot;
+import dev.hugog.minecraft.wonderquests.data.dtos.QuestDto;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the requirements plans of the quests in the quest catalog.
+ *
+ * <p>The plans of all the quests are compiled together, the first time a plan is needed after the
+ * catalog changes, and reused until the catalog changes again. Quests that aren't in the current
+ * snapshot of the catalog (e.g., read from the database before the catalog was loaded) are
+ * compiled every time.</p>
+ */
+@Singleton
+public class RequirementsPlanCache {
+
+  private final Logger logger;
+  private final QuestCatalog questCatalog;
+
+  private final AtomicReference<CompiledCatalog> compiledCatalog;
+
+  /**
+   * Constructor for the RequirementsPlanCache class.
+   *
+   * @param logger The logger instance, used to report invalid requirements.
+   * @param questCatalog The in-memory catalog of all quests.
+   */
+  @Inject
+  public RequirementsPlanCache(@Named("bukkitLogger") Logger logger, QuestCatalog questCatalog) {
+    this.logger = logger;
+    this.questCatalog = questCatalog;
+    this.compiledCatalog = new AtomicReference<>(new CompiledCatalog(0, Map.of()));
+  }
+
+  /**
+   * Gets the requirements plan of a quest.
+   *
+   * @param quest the quest
+   * @return the requirements plan of the quest
+   */
+  public RequirementsPlan getPlan(QuestDto quest) {
+
+    Snapshot snapshot = questCatalog.getSnapshot();
+
+    if (snapshot.questsById().get(quest.getId()) != quest) {
+      return RequirementsPlan.compile(quest.getRequirements(), logger);
+    }
+
+    CompiledCatalog compiled = compiledCatalog.get();
+
+    if (compiled.version() != snapshot.version()) {
+      compiled = compile(snapshot);
+      // Concurrent compilations of the same snapshot are equivalent, but an older one must not win
+      CompiledCatalog newCompiled = compiled;
+      compiledCatalog.updateAndGet(current -> current.version() < newCompiled.version()
+          ? newCompiled : current);
+    }
+
+    return compiled.plans().get(quest.getId());
+
+  }
+
+  private CompiledCatalog compile(Snapshot snapshot) {
+    return new CompiledCatalog(snapshot.version(), snapshot.quests().stream()
+        .collect(Collectors.toUnmodifiableMap(QuestDto::getId,
+            quest -> RequirementsPlan.compile(quest.getRequirements(), logger))));
+  }
+
+  private record CompiledCatalog(long version, Map<Integer, RequirementsPlan> plans) {
+
+  }
+
+}
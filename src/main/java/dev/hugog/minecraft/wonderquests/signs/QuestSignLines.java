@@ -0,0 +1,200 @@
+package dev.hugog.minecraft.wonderquests.signs;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import dev.hugog.minecraft.wonderquests.data.dtos.ActiveQuestDto;
+import dev.hugog.minecraft.wonderquests.data.dtos.QuestDto;
+import dev.hugog.minecraft.wonderquests.language.Messaging;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import net.kyori.adventure.translation.GlobalTranslator;
+
+/**
+ * Renders the lines of the quests signs, as legacy formatted text.
+ *
+ * <p>The lines that never change (the header and the localized messages) are serialized once -
+ * the messages once per locale. The lines that show values (e.g., the progress of a quest) are
+ * built by prefixing the values with the legacy code of their color, which is what serializing a
+ * colored text component produces, without creating and serializing a component per line.</p>
+ */
+@Singleton
+public class QuestSignLines {
+
+  private static final String HEADER = LegacyComponentSerializer.legacySection()
+      .serialize(Component.text("WonderQuests", NamedTextColor.GREEN));
+
+  private static final String NAME_COLOR = colorCode(NamedTextColor.BLUE);
+  private static final String PERCENTAGE_COLOR = colorCode(NamedTextColor.YELLOW);
+  private static final String PROGRESS_COLOR = colorCode(NamedTextColor.GRAY);
+
+  private final Messaging messaging;
+  private final Map<Locale, String[]> noQuestLines;
+  private final Map<LocalizedMessage, String> messages;
+
+  /**
+   * Constructor for the QuestSignLines class.
+   *
+   * @param messaging The messaging instance used to get the localized messages.
+   */
+  @Inject
+  public QuestSignLines(Messaging messaging) {
+    this.messaging = messaging;
+    this.noQuestLines = new ConcurrentHashMap<>();
+    this.messages = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Renders the lines of a quests sign showing an active quest.
+   *
+   * @param activeQuest the active quest
+   * @return the four lines of the sign
+   */
+  public String[] activeQuest(ActiveQuestDto activeQuest) {
+    return new String[]{
+        HEADER,
+        NAME_COLOR + activeQuest.getQuestDetails().getName(),
+        PERCENTAGE_COLOR + activeQuest.getProgressPercentage() + "%",
+        PROGRESS_COLOR + activeQuest.getProgress() + "/" + activeQuest.getTarget()
+    };
+  }
+
+  /**
+   * Renders the lines of a quests sign when the player has no active quest.
+   *
+   * <p>The lines are rendered once per locale and shared, so they must not be modified.</p>
+   *
+   * @param locale the locale of the player
+   * @return the four lines of the sign
+   */
+  public String[] noQuest(Locale locale) {
+    return noQuestLines.computeIfAbsent(locale != null ? locale : Locale.US, this::renderNoQuest);
+  }
+
+  /**
+   * Renders the lines of an available quests sign.
+   *
+   * @param locale the locale of the player
+   * @param count the number of quests available to the player
+   * @return the four lines of the sign
+   */
+  public String[] availableQuests(Locale locale, int count) {
+    return new String[]{
+        HEADER,
+        message("signs.available.title", NamedTextColor.GRAY, locale),
+        PERCENTAGE_COLOR + count,
+        null
+    };
+  }
+
+  /**
+   * Renders the lines of a quest status sign, for a quest that the player isn't doing.
+   *
+   * <p>While the player is doing the quest, the sign shows its progress, as rendered by
+   * {@link #activeQuest(ActiveQuestDto)}.</p>
+   *
+   * @param locale the locale of the player
+   * @param quest the quest shown by the sign
+   * @param completed whether the player completed the quest
+   * @return the four lines of the sign
+   */
+  public String[] questStatus(Locale locale, QuestDto quest, boolean completed) {
+    return new String[]{
+        HEADER,
+        NAME_COLOR + quest.getName(),
+        completed
+            ? message("signs.status.completed", NamedTextColor.GREEN, locale)
+            : message("signs.status.not_started", NamedTextColor.GRAY, locale),
+        null
+    };
+  }
+
+  /**
+   * Renders the lines of a quest status sign whose quest doesn't exist, e.g., because it was
+   * deleted.
+   *
+   * @param locale the locale of the player
+   * @return the four lines of the sign
+   */
+  public String[] unknownQuest(Locale locale) {
+    return new String[]{
+        HEADER,
+        null,
+        message("signs.status.unknown", NamedTextColor.GRAY, locale),
+        null
+    };
+  }
+
+  /**
+   * Renders the lines of a leaderboard sign.
+   *
+   * @param locale the locale of the player
+   * @param topPlayers the number of quests completed by the top players, ordered from the player
+   *     who completed the most. Only the first three players fit in the sign.
+   * @return the four lines of the sign
+   */
+  public String[] leaderboard(Locale locale, Map<String, Integer> topPlayers) {
+
+    if (topPlayers.isEmpty()) {
+      return new String[]{
+          HEADER,
+          null,
+          message("signs.leaderboard.empty", NamedTextColor.GRAY, locale),
+          null
+      };
+    }
+
+    String[] lines = new String[4];
+    lines[0] = HEADER;
+
+    int rank = 1;
+
+    for (Map.Entry<String, Integer> player : topPlayers.entrySet()) {
+
+      if (rank == lines.length) {
+        break;
+      }
+
+      lines[rank] = PROGRESS_COLOR + rank + ". " + NAME_COLOR + player.getKey() + " "
+          + PERCENTAGE_COLOR + player.getValue();
+      rank++;
+
+    }
+
+    return lines;
+
+  }
+
+  private String[] renderNoQuest(Locale locale) {
+    return new String[]{
+        HEADER,
+        null,
+        message("signs.quests.none", NamedTextColor.GRAY, locale),
+        null
+    };
+  }
+
+  // Localized messages are rendered once per locale, as they don't depend on the player
+  private String message(String key, NamedTextColor color, Locale locale) {
+    return messages.computeIfAbsent(
+        new LocalizedMessage(key, color, locale != null ? locale : Locale.US),
+        message -> LegacyComponentSerializer.legacySection().serialize(GlobalTranslator.render(
+            messaging.getLocalizedRawMessage(message.key()).color(message.color()),
+            message.locale())));
+  }
+
+  // Serializing a colored text component gives the legacy code of the color followed by the text
+  private static String colorCode(NamedTextColor color) {
+    String serialized = LegacyComponentSerializer.legacySection()
+        .serialize(Component.text(" ", color));
+    return serialized.substring(0, serialized.length() - 1);
+  }
+
+  private record LocalizedMessage(String key, NamedTextColor color, Locale locale) {
+
+  }
+
+}
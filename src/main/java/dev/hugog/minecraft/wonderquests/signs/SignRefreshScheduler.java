@@ -0,0 +1,107 @@
+package dev.hugog.minecraft.wonderquests.signs;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import dev.hugog.minecraft.wonderquests.data.types.SignType;
+import dev.hugog.minecraft.wonderquests.events.QuestUpdateType;
+import dev.hugog.minecraft.wonderquests.mediators.SignsMediator;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.bukkit.Server;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitRunnable;
+
+/**
+ * Refreshes the signs of the players whose quests changed.
+ *
+ * <p>Quest updates only mark the sign types they invalidate as dirty, and the dirty signs of each
+ * player are rendered once per run of this task, with the state of the quests at that time. A
+ * player who makes progress many times between two runs (e.g., breaking many blocks) gets a single
+ * refresh, which skips the signs that the updates don't change.</p>
+ */
+@Singleton
+public class SignRefreshScheduler extends BukkitRunnable {
+
+  private final Server server;
+  private final SignsMediator signsMediator;
+  private final SignRendererRegistry signRendererRegistry;
+
+  private final Map<UUID, Set<SignType>> dirtySigns;
+
+  /**
+   * Constructor for the SignRefreshScheduler class.
+   *
+   * @param server The server instance, used to find the dirty players.
+   * @param signsMediator The mediator for signs.
+   * @param signRendererRegistry The registry of the renderers of each sign type.
+   */
+  @Inject
+  public SignRefreshScheduler(Server server, SignsMediator signsMediator,
+      SignRendererRegistry signRendererRegistry) {
+    this.server = server;
+    this.signsMediator = signsMediator;
+    this.signRendererRegistry = signRendererRegistry;
+    this.dirtySigns = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Marks the signs invalidated by a quest update of a player as needing a refresh, on the next
+   * run of this task.
+   *
+   * <p>The signs that show the same lines to every player are marked for all the online
+   * players.</p>
+   *
+   * @param player the player whose quest was updated
+   * @param updateType the type of the update
+   */
+  public void markDirty(Player player, QuestUpdateType updateType) {
+
+    for (SignType type : signRendererRegistry.getInvalidatedTypes(updateType)) {
+
+      SignRenderer renderer = signRendererRegistry.getRenderer(type);
+
+      if (renderer.isShared()) {
+        renderer.invalidate();
+        server.getOnlinePlayers().forEach(onlinePlayer -> markDirty(onlinePlayer, type));
+      } else {
+        markDirty(player, type);
+      }
+
+    }
+
+  }
+
+  private void markDirty(Player player, SignType type) {
+    // The set of a player is only modified inside compute, which is atomic for each key
+    dirtySigns.compute(player.getUniqueId(), (playerId, types) -> {
+      Set<SignType> dirtyTypes = types != null ? types : EnumSet.noneOf(SignType.class);
+      dirtyTypes.add(type);
+      return dirtyTypes;
+    });
+  }
+
+  public int getDirtyCount() {
+    return dirtySigns.size();
+  }
+
+  @Override
+  public void run() {
+
+    for (UUID playerId : dirtySigns.keySet()) {
+
+      // Removed before rendering, so an update made while rendering marks the player again
+      Set<SignType> types = dirtySigns.remove(playerId);
+      Player player = server.getPlayer(playerId);
+
+      if (types != null && player != null && player.isOnline()) {
+        signsMediator.updateSigns(player, types);
+      }
+
+    }
+
+  }
+
+}
@@ -0,0 +1,59 @@
+package dev.hugog.minecraft.wonderquests.signs;
+
+import dev.hugog.minecraft.wonderquests.data.dtos.SignDto;
+import dev.hugog.minecraft.wonderquests.data.types.SignType;
+import dev.hugog.minecraft.wonderquests.events.QuestUpdateType;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import org.bukkit.entity.Player;
+
+/**
+ * Renders the lines of the signs of a type, as seen by a player.
+ *
+ * <p>Each renderer declares the quest updates that change what its signs show, so a quest update
+ * only refreshes the signs of the types it affects.</p>
+ */
+public interface SignRenderer {
+
+  /**
+   * Gets the type of the signs rendered by this renderer.
+   *
+   * @return the sign type
+   */
+  SignType getType();
+
+  /**
+   * Gets the quest updates that change the lines of the signs rendered by this renderer.
+   *
+   * @return the quest updates that invalidate the signs
+   */
+  Set<QuestUpdateType> getInvalidatingUpdates();
+
+  /**
+   * Checks if the signs show the same lines to every player, e.g., a leaderboard. An update of a
+   * player invalidates these signs for all the players.
+   *
+   * @return true if the lines don't depend on the player
+   */
+  default boolean isShared() {
+    return false;
+  }
+
+  /**
+   * Discards the state kept by a shared renderer, after an update that invalidates its signs.
+   */
+  default void invalidate() {
+  }
+
+  /**
+   * Renders the lines of some signs of this type for a player.
+   *
+   * @param player the player who sees the signs
+   * @param signs the signs to render
+   * @return a CompletableFuture that will be completed with the four lines of each sign, in the
+   *     order of the signs.
+   */
+  CompletableFuture<List<String[]>> render(Player player, List<SignDto> signs);
+
+}
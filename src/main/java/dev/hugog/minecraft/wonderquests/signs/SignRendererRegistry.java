@@ -0,0 +1,82 @@
+package dev.hugog.minecraft.wonderquests.signs;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import dev.hugog.minecraft.wonderquests.data.types.SignType;
+import dev.hugog.minecraft.wonderquests.events.QuestUpdateType;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps the renderer of each sign type, and the sign types invalidated by each quest update.
+ */
+@Singleton
+public class SignRendererRegistry {
+
+  private final Map<SignType, SignRenderer> renderers;
+  private final Map<QuestUpdateType, Set<SignType>> invalidatedTypes;
+
+  /**
+   * Constructor for the SignRendererRegistry class.
+   *
+   * @param renderers The renderers of the sign types.
+   */
+  @Inject
+  public SignRendererRegistry(List<SignRenderer> renderers) {
+
+    this.renderers = new EnumMap<>(SignType.class);
+    this.invalidatedTypes = new EnumMap<>(QuestUpdateType.class);
+
+    for (QuestUpdateType updateType : QuestUpdateType.values()) {
+      invalidatedTypes.put(updateType, EnumSet.noneOf(SignType.class));
+    }
+
+    for (SignRenderer renderer : renderers) {
+
+      if (this.renderers.put(renderer.getType(), renderer) != null) {
+        throw new IllegalArgumentException(
+            String.format("Duplicate renderer for %s signs!", renderer.getType()));
+      }
+
+      renderer.getInvalidatingUpdates()
+          .forEach(updateType -> invalidatedTypes.get(updateType).add(renderer.getType()));
+
+    }
+
+  }
+
+  /**
+   * Gets the renderer of a sign type.
+   *
+   * @param type the sign type
+   * @return the renderer, or null if the sign type has no renderer
+   */
+  public SignRenderer getRenderer(SignType type) {
+    return type != null ? renderers.get(type) : null;
+  }
+
+  /**
+   * Gets the renderers of all the sign types.
+   *
+   * @return the renderers
+   */
+  public Collection<SignRenderer> getRenderers() {
+    return Collections.unmodifiableCollection(renderers.values());
+  }
+
+  /**
+   * Gets the sign types whose lines change with a quest update.
+   *
+   * @param updateType the quest update
+   * @return the sign types invalidated by the update
+   */
+  public Set<SignType> getInvalidatedTypes(QuestUpdateType updateType) {
+    return Collections.unmodifiableSet(invalidatedTypes.get(updateType));
+  }
+
+}
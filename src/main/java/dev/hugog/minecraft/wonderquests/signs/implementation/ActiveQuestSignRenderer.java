@@ -0,0 +1,71 @@
+package dev.hugog.minecraft.wonderquests.signs.implementation;
+
+import com.google.inject.Inject;
+import dev.hugog.minecraft.wonderquests.data.dtos.ActiveQuestDto;
+import dev.hugog.minecraft.wonderquests.data.dtos.SignDto;
+import dev.hugog.minecraft.wonderquests.data.services.ActiveQuestsService;
+import dev.hugog.minecraft.wonderquests.data.types.SignType;
+import dev.hugog.minecraft.wonderquests.events.QuestUpdateType;
+import dev.hugog.minecraft.wonderquests.signs.QuestSignLines;
+import dev.hugog.minecraft.wonderquests.signs.SignRenderer;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import org.bukkit.entity.Player;
+
+/**
+ * Renders the signs that show the progress of the most recent active quest of the player.
+ */
+public class ActiveQuestSignRenderer implements SignRenderer {
+
+  private final ActiveQuestsService activeQuestsService;
+  private final QuestSignLines questSignLines;
+
+  /**
+   * Constructor for the ActiveQuestSignRenderer class.
+   *
+   * @param activeQuestsService The service for active quests.
+   * @param questSignLines The renderer of the quests signs lines.
+   */
+  @Inject
+  public ActiveQuestSignRenderer(ActiveQuestsService activeQuestsService,
+      QuestSignLines questSignLines) {
+    this.activeQuestsService = activeQuestsService;
+    this.questSignLines = questSignLines;
+  }
+
+  @Override
+  public SignType getType() {
+    return SignType.ACTIVE_QUEST;
+  }
+
+  @Override
+  public Set<QuestUpdateType> getInvalidatingUpdates() {
+    return EnumSet.allOf(QuestUpdateType.class);
+  }
+
+  @Override
+  public CompletableFuture<List<String[]>> render(Player player, List<SignDto> signs) {
+
+    return activeQuestsService.getActiveQuestsForPlayer(player.getUniqueId())
+        .thenApply(activeQuests -> {
+
+          ActiveQuestDto mostRecentQuest = activeQuests.stream()
+              .max(Comparator.comparing(ActiveQuestDto::getStartedAt))
+              .orElse(null);
+
+          // Every active quest sign of the player shows the same lines
+          String[] lines = mostRecentQuest != null
+              ? questSignLines.activeQuest(mostRecentQuest)
+              : questSignLines.noQuest(player.locale());
+
+          return Collections.nCopies(signs.size(), lines);
+
+        });
+
+  }
+
+}
@@ -0,0 +1,59 @@
+package dev.hugog.minecraft.wonderquests.signs.implementation;
+
+import com.google.inject.Inject;
+import dev.hugog.minecraft.wonderquests.data.dtos.SignDto;
+import dev.hugog.minecraft.wonderquests.data.types.SignType;
+import dev.hugog.minecraft.wonderquests.events.QuestUpdateType;
+import dev.hugog.minecraft.wonderquests.mediators.QuestsMediator;
+import dev.hugog.minecraft.wonderquests.signs.QuestSignLines;
+import dev.hugog.minecraft.wonderquests.signs.SignRenderer;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import org.bukkit.entity.Player;
+
+/**
+ * Renders the signs that show how many quests are available to the player.
+ *
+ * <p>Only completing a quest changes the available quests. Changes to the requirements of the
+ * player (e.g., the level) aren't quest updates, so they're shown when the signs come into view
+ * again.</p>
+ */
+public class AvailableQuestsSignRenderer implements SignRenderer {
+
+  private final QuestsMediator questsMediator;
+  private final QuestSignLines questSignLines;
+
+  /**
+   * Constructor for the AvailableQuestsSignRenderer class.
+   *
+   * @param questsMediator The mediator for quests, used to get the available quests.
+   * @param questSignLines The renderer of the quests signs lines.
+   */
+  @Inject
+  public AvailableQuestsSignRenderer(QuestsMediator questsMediator,
+      QuestSignLines questSignLines) {
+    this.questsMediator = questsMediator;
+    this.questSignLines = questSignLines;
+  }
+
+  @Override
+  public SignType getType() {
+    return SignType.AVAILABLE_QUESTS;
+  }
+
+  @Override
+  public Set<QuestUpdateType> getInvalidatingUpdates() {
+    return EnumSet.of(QuestUpdateType.COMPLETED);
+  }
+
+  @Override
+  public CompletableFuture<List<String[]>> render(Player player, List<SignDto> signs) {
+    return questsMediator.getAvailableQuests(player)
+        .thenApply(quests -> Collections.nCopies(signs.size(),
+            questSignLines.availableQuests(player.locale(), quests.size())));
+  }
+
+}
@@ -0,0 +1,107 @@
+package dev.hugog.minecraft.wonderquests.signs.implementation;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import dev.hugog.minecraft.wonderquests.data.dtos.SignDto;
+import dev.hugog.minecraft.wonderquests.data.services.CompletedQuestsService;
+import dev.hugog.minecraft.wonderquests.data.types.SignType;
+import dev.hugog.minecraft.wonderquests.events.QuestUpdateType;
+import dev.hugog.minecraft.wonderquests.signs.QuestSignLines;
+import dev.hugog.minecraft.wonderquests.signs.SignRenderer;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.bukkit.Server;
+import org.bukkit.entity.Player;
+
+/**
+ * Renders the signs that show the players who completed the most quests.
+ *
+ * <p>The leaderboard is the same for every player, so it's read from the database once, and kept
+ * until a player completes a quest.</p>
+ */
+@Singleton
+public class LeaderboardSignRenderer implements SignRenderer {
+
+  // Only three players fit in a sign, below the header
+  private static final int LEADERBOARD_SIZE = 3;
+
+  private final CompletedQuestsService completedQuestsService;
+  private final Server server;
+  private final QuestSignLines questSignLines;
+
+  private CompletableFuture<Map<String, Integer>> topPlayers;
+
+  /**
+   * Constructor for the LeaderboardSignRenderer class.
+   *
+   * @param completedQuestsService The service for completed quests.
+   * @param server The server instance, used to get the names of the players.
+   * @param questSignLines The renderer of the quests signs lines.
+   */
+  @Inject
+  public LeaderboardSignRenderer(CompletedQuestsService completedQuestsService, Server server,
+      QuestSignLines questSignLines) {
+    this.completedQuestsService = completedQuestsService;
+    this.server = server;
+    this.questSignLines = questSignLines;
+  }
+
+  @Override
+  public SignType getType() {
+    return SignType.LEADERBOARD;
+  }
+
+  @Override
+  public Set<QuestUpdateType> getInvalidatingUpdates() {
+    return EnumSet.of(QuestUpdateType.COMPLETED);
+  }
+
+  @Override
+  public boolean isShared() {
+    return true;
+  }
+
+  @Override
+  public synchronized void invalidate() {
+    topPlayers = null;
+  }
+
+  @Override
+  public CompletableFuture<List<String[]>> render(Player player, List<SignDto> signs) {
+    return getTopPlayers().thenApply(players -> Collections.nCopies(signs.size(),
+        questSignLines.leaderboard(player.locale(), players)));
+  }
+
+  private synchronized CompletableFuture<Map<String, Integer>> getTopPlayers() {
+
+    // A failed read is retried on the next render
+    if (topPlayers == null || topPlayers.isCompletedExceptionally()) {
+      topPlayers = completedQuestsService.getTopPlayers(LEADERBOARD_SIZE)
+          .thenApply(this::withNames);
+    }
+
+    return topPlayers;
+
+  }
+
+  private Map<String, Integer> withNames(Map<UUID, Integer> completedQuestsByPlayer) {
+
+    Map<String, Integer> completedQuestsByName = new LinkedHashMap<>();
+
+    completedQuestsByPlayer.forEach((playerId, completedQuests) -> {
+      String name = server.getOfflinePlayer(playerId).getName();
+      completedQuestsByName.put(name != null ? name : playerId.toString().substring(0, 8),
+          completedQuests);
+    });
+
+    return completedQuestsByName;
+
+  }
+
+}
@@ -0,0 +1,98 @@
+package dev.hugog.minecraft.wonderquests.signs.implementation;
+
+import com.google.inject.Inject;
+import dev.hugog.minecraft.wonderquests.cache.implementation.QuestIdSet;
+import dev.hugog.minecraft.wonderquests.data.dtos.ActiveQuestDto;
+import dev.hugog.minecraft.wonderquests.data.dtos.SignDto;
+import dev.hugog.minecraft.wonderquests.data.services.ActiveQuestsService;
+import dev.hugog.minecraft.wonderquests.data.services.CompletedQuestsService;
+import dev.hugog.minecraft.wonderquests.data.services.QuestsService;
+import dev.hugog.minecraft.wonderquests.data.types.SignType;
+import dev.hugog.minecraft.wonderquests.events.QuestUpdateType;
+import dev.hugog.minecraft.wonderquests.signs.QuestSignLines;
+import dev.hugog.minecraft.wonderquests.signs.SignRenderer;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import org.bukkit.entity.Player;
+
+/**
+ * Renders the signs that show the status of a specific quest for the player: not started, its
+ * progress while the player is doing it, or completed.
+ */
+public class QuestStatusSignRenderer implements SignRenderer {
+
+  private final QuestsService questsService;
+  private final ActiveQuestsService activeQuestsService;
+  private final CompletedQuestsService completedQuestsService;
+  private final QuestSignLines questSignLines;
+
+  /**
+   * Constructor for the QuestStatusSignRenderer class.
+   *
+   * @param questsService The service for quests.
+   * @param activeQuestsService The service for active quests.
+   * @param completedQuestsService The service for completed quests.
+   * @param questSignLines The renderer of the quests signs lines.
+   */
+  @Inject
+  public QuestStatusSignRenderer(QuestsService questsService,
+      ActiveQuestsService activeQuestsService, CompletedQuestsService completedQuestsService,
+      QuestSignLines questSignLines) {
+    this.questsService = questsService;
+    this.activeQuestsService = activeQuestsService;
+    this.completedQuestsService = completedQuestsService;
+    this.questSignLines = questSignLines;
+  }
+
+  @Override
+  public SignType getType() {
+    return SignType.QUEST_STATUS;
+  }
+
+  @Override
+  public Set<QuestUpdateType> getInvalidatingUpdates() {
+    return EnumSet.allOf(QuestUpdateType.class);
+  }
+
+  @Override
+  public CompletableFuture<List<String[]>> render(Player player, List<SignDto> signs) {
+
+    Locale locale = player.locale();
+
+    // The quests of the player are read once, and shared by all the signs
+    return activeQuestsService.getActiveQuestsForPlayer(player.getUniqueId())
+        .thenCombine(completedQuestsService.getCompletedQuestIds(player.getUniqueId()),
+            (activeQuests, completedQuestIds) -> signs.stream()
+                .map(sign -> renderSign(locale, sign.getQuestId(), activeQuests,
+                    completedQuestIds))
+                .toList())
+        .thenCompose(lines -> CompletableFuture.allOf(lines.toArray(CompletableFuture[]::new))
+            .thenApply(v -> lines.stream().map(CompletableFuture::join).toList()));
+
+  }
+
+  private CompletableFuture<String[]> renderSign(Locale locale, Integer questId,
+      Set<ActiveQuestDto> activeQuests, QuestIdSet completedQuestIds) {
+
+    if (questId == null) {
+      return CompletableFuture.completedFuture(questSignLines.unknownQuest(locale));
+    }
+
+    for (ActiveQuestDto activeQuest : activeQuests) {
+      if (questId.equals(activeQuest.getQuestId())) {
+        return CompletableFuture.completedFuture(questSignLines.activeQuest(activeQuest));
+      }
+    }
+
+    boolean completed = completedQuestIds.contains(questId);
+
+    return questsService.getQuestById(questId).thenApply(quest -> quest
+        .map(questDto -> questSignLines.questStatus(locale, questDto, completed))
+        .orElseGet(() -> questSignLines.unknownQuest(locale)));
+
+  }
+
+}
@@ -0,0 +1,176 @@
+package dev.hugog.minecraft.wonderquests.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the throughput of {@link AbstractCache} with the previous implementation, which
+ * synchronized every access on the cache instance.
+ *
+ * <p>The workload mimics the active quests cache: mostly lookups from the event listeners, some
+ * writes and a periodic expiry sweep. Run {@link #main(String[])} (after {@code mvn test-compile})
+ * to execute it with 1, 4 and 16 threads.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AbstractCacheBenchmark {
+
+  private static final int KEYS = 1024;
+
+  @Param({"lock-free", "synchronized"})
+  private String implementation;
+
+  private Cache<Integer, Integer> cache;
+
+  @Setup
+  public void setUp() {
+
+    Duration expirationTime = Duration.ofSeconds(30);
+
+    cache = implementation.equals("lock-free")
+        ? new AbstractCache<>(expirationTime) {}
+        : new SynchronizedCache<>(expirationTime);
+
+    for (int i = 0; i < KEYS; i++) {
+      cache.put(i, i);
+    }
+
+  }
+
+  @Benchmark
+  public Integer read() {
+    return cache.get(ThreadLocalRandom.current().nextInt(KEYS));
+  }
+
+  @Benchmark
+  public Integer readMostly() {
+
+    int key = ThreadLocalRandom.current().nextInt(KEYS);
+
+    // 1 write for every 16 reads
+    if ((key & 15) == 0) {
+      cache.put(key, key);
+      return key;
+    }
+
+    if (cache.has(key)) {
+      return cache.get(key);
+    }
+
+    return null;
+
+  }
+
+  @Benchmark
+  public void writeAndSweep() {
+
+    int key = ThreadLocalRandom.current().nextInt(KEYS);
+    cache.put(key, key);
+
+    if (key == 0) {
+      cache.invalidateExpired();
+    }
+
+  }
+
+  public static void main(String[] args) throws RunnerException {
+
+    for (int threads : new int[]{1, 4, 16}) {
+
+      Options options = new OptionsBuilder()
+          .include(AbstractCacheBenchmark.class.getSimpleName())
+          .threads(threads)
+          .build();
+
+      new Runner(options).run();
+
+    }
+
+  }
+
+  /**
+   * The previous cache implementation, kept as the benchmark baseline.
+   */
+  private static class SynchronizedCache<K, V> implements Cache<K, V> {
+
+    private final Map<K, V> cache = new ConcurrentHashMap<>();
+    private final Map<K, Long> writeTimestamps = new ConcurrentHashMap<>();
+    private final Duration expirationTime;
+
+    private SynchronizedCache(Duration expirationTime) {
+      this.expirationTime = expirationTime;
+    }
+
+    @Override
+    public synchronized boolean has(K key) {
+      return cache.containsKey(key);
+    }
+
+    @Override
+    public synchronized V get(K key) {
+      return cache.get(key);
+    }
+
+    @Override
+    public synchronized void put(K key, V value) {
+      writeTimestamps.put(key, System.currentTimeMillis());
+      cache.put(key, value);
+    }
+
+    @Override
+    public synchronized void invalidate(K key) {
+      writeTimestamps.remove(key);
+      cache.remove(key);
+    }
+
+    @Override
+    public void invalidateExpired() {
+      keysIterator().forEachRemaining(key -> {
+        if (isExpired(key)) {
+          invalidate(key);
+        }
+      });
+    }
+
+    @Override
+    public boolean isExpired(K key) {
+      return writeTimestamps.containsKey(key)
+          && System.currentTimeMillis() - writeTimestamps.get(key) > expirationTime.toMillis();
+    }
+
+    @Override
+    public Iterator<K> keysIterator() {
+      return cache.keySet().iterator();
+    }
+
+    @Override
+    public Iterator<V> valuesIterator() {
+      return cache.values().iterator();
+    }
+
+  }
+
+}
@@ -108,4 +108,32 @@ class AbstractCacheTest {
     assertFalse(expiredValues.contains(2));
   }
 
-}
\ No newline at end of file
+  @Test
+  @DisplayName("invalidateExpired() keeps values that were written again after the first write")
+  public void invalidateExpired_KeepsValuesWrittenAgain() throws InterruptedException {
+    abstractCache.put("TestKey", 1);
+    Thread.sleep(400);
+    abstractCache.put("TestKey", 2);
+    abstractCache.invalidateExpired();
+    assertTrue(abstractCache.has("TestKey"));
+    assertEquals(2, abstractCache.get("TestKey"));
+  }
+
+  @Test
+  @DisplayName("doForAllExpiredKeys() does not perform the action for invalidated keys")
+  public void doForAllExpiredKeys_DoesNotPerformActionForInvalidatedKeys()
+      throws InterruptedException {
+
+    List<Integer> expiredValues = new ArrayList<>();
+
+    abstractCache.put("TestKey1", 1);
+    abstractCache.put("TestKey2", 2);
+    abstractCache.invalidate("TestKey1");
+    Thread.sleep(400);
+
+    abstractCache.doForAllExpiredKeys(expiredValues::add);
+
+    assertEquals(List.of(2), expiredValues);
+  }
+
+}
@@ -0,0 +1,186 @@
+package dev.hugog.minecraft.wonderquests.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.hugog.minecraft.wonderquests.config.PluginConfigHandler;
+import dev.hugog.minecraft.wonderquests.data.dtos.ActiveQuestDto;
+import dev.hugog.minecraft.wonderquests.data.keys.PlayerQuestKey;
+import dev.hugog.minecraft.wonderquests.data.models.ActiveQuestModel;
+import dev.hugog.minecraft.wonderquests.data.repositories.ActiveQuestRepository;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Logger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ActiveQuestsWriteBehindTest {
+
+  @Mock
+  private ActiveQuestRepository activeQuestRepository;
+
+  @Mock
+  private PluginConfigHandler pluginConfigHandler;
+
+  private ActiveQuestsWriteBehind activeQuestsWriteBehind;
+
+  private UUID playerId;
+  private ActiveQuestDto activeQuestDto;
+
+  @BeforeEach
+  void setUp() {
+    when(pluginConfigHandler.getCacheActiveQuestsFlushBatchSize()).thenReturn(2);
+    when(pluginConfigHandler.getCacheActiveQuestsFlushInterval()).thenReturn(60);
+
+    activeQuestsWriteBehind = new ActiveQuestsWriteBehind(Logger.getLogger("test"),
+        activeQuestRepository, pluginConfigHandler);
+
+    playerId = UUID.randomUUID();
+    activeQuestDto = new ActiveQuestDto(playerId, 1, 10F, 2F, System.currentTimeMillis(), null);
+  }
+
+  @Test
+  @DisplayName("enqueue() ignores active quests that didn't change")
+  public void enqueue_IgnoresCleanActiveQuests() {
+    activeQuestsWriteBehind.enqueue(activeQuestDto);
+
+    assertEquals(0, activeQuestsWriteBehind.getPendingCount());
+    activeQuestsWriteBehind.flush().join();
+    verify(activeQuestRepository, never()).saveAll(any());
+  }
+
+  @Test
+  @DisplayName("enqueue() coalesces changes to the same active quest")
+  public void enqueue_CoalescesChangesToSameActiveQuest() {
+    activeQuestDto.setProgress(3F);
+    activeQuestsWriteBehind.enqueue(activeQuestDto);
+    activeQuestDto.setProgress(4F);
+    activeQuestsWriteBehind.enqueue(activeQuestDto);
+
+    assertEquals(1, activeQuestsWriteBehind.getPendingCount());
+    assertSame(activeQuestDto, activeQuestsWriteBehind.getPending(new PlayerQuestKey(playerId, 1)));
+  }
+
+  @Test
+  @DisplayName("enqueue() flushes the pending changes when the batch size is reached")
+  @SuppressWarnings("unchecked")
+  public void enqueue_FlushesWhenBatchSizeIsReached() {
+    when(activeQuestRepository.saveAll(anyCollection()))
+        .thenReturn(CompletableFuture.completedFuture(2));
+
+    ActiveQuestDto otherQuestDto = new ActiveQuestDto(playerId, 2, 10F, 0F,
+        System.currentTimeMillis(), null);
+    activeQuestDto.setProgress(3F);
+    otherQuestDto.setProgress(1F);
+
+    activeQuestsWriteBehind.enqueue(activeQuestDto);
+    activeQuestsWriteBehind.enqueue(otherQuestDto);
+
+    ArgumentCaptor<Collection<ActiveQuestModel>> captor = ArgumentCaptor.forClass(Collection.class);
+    verify(activeQuestRepository).saveAll(captor.capture());
+    assertEquals(2, captor.getValue().size());
+    assertEquals(0, activeQuestsWriteBehind.getPendingCount());
+    assertFalse(activeQuestDto.isDirty());
+  }
+
+  @Test
+  @DisplayName("enqueue() doesn't flush again while a flush is running")
+  public void enqueue_DoesNotFlushWhileFlushIsRunning() {
+    CompletableFuture<Integer> runningWrite = new CompletableFuture<>();
+    when(activeQuestRepository.saveAll(anyCollection()))
+        .thenReturn(runningWrite)
+        .thenReturn(CompletableFuture.completedFuture(2));
+
+    for (int questId = 1; questId <= 4; questId++) {
+      ActiveQuestDto questDto = new ActiveQuestDto(playerId, questId, 10F, 0F,
+          System.currentTimeMillis(), null);
+      questDto.setProgress(1F);
+      activeQuestsWriteBehind.enqueue(questDto);
+    }
+
+    verify(activeQuestRepository, times(1)).saveAll(anyCollection());
+    assertEquals(4, activeQuestsWriteBehind.getPendingCount());
+
+    runningWrite.complete(2);
+    activeQuestDto.setProgress(3F);
+    activeQuestsWriteBehind.enqueue(activeQuestDto);
+
+    verify(activeQuestRepository, times(2)).saveAll(anyCollection());
+    assertEquals(0, activeQuestsWriteBehind.getPendingCount());
+  }
+
+  @Test
+  @DisplayName("flushIfDue() doesn't flush before the flush interval elapses")
+  public void flushIfDue_DoesNotFlushBeforeInterval() {
+    activeQuestDto.setProgress(3F);
+    activeQuestsWriteBehind.enqueue(activeQuestDto);
+
+    activeQuestsWriteBehind.flushIfDue().join();
+
+    verify(activeQuestRepository, never()).saveAll(any());
+    assertEquals(1, activeQuestsWriteBehind.getPendingCount());
+  }
+
+  @Test
+  @DisplayName("flush() keeps the changes pending when the write fails")
+  public void flush_KeepsChangesWhenWriteFails() {
+    when(activeQuestRepository.saveAll(anyCollection()))
+        .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Database error")));
+
+    activeQuestDto.setProgress(3F);
+    activeQuestsWriteBehind.enqueue(activeQuestDto);
+
+    activeQuestsWriteBehind.flush().join();
+
+    assertEquals(1, activeQuestsWriteBehind.getPendingCount());
+    assertTrue(activeQuestDto.isDirty());
+  }
+
+  @Test
+  @DisplayName("flush() writes only the latest state of each active quest")
+  @SuppressWarnings("unchecked")
+  public void flush_WritesLatestState() {
+    when(activeQuestRepository.saveAll(anyCollection()))
+        .thenReturn(CompletableFuture.completedFuture(1));
+
+    activeQuestDto.setProgress(3F);
+    activeQuestsWriteBehind.enqueue(activeQuestDto);
+    activeQuestDto.setProgress(5F);
+
+    activeQuestsWriteBehind.flush().join();
+
+    ArgumentCaptor<Collection<ActiveQuestModel>> captor = ArgumentCaptor.forClass(Collection.class);
+    verify(activeQuestRepository).saveAll(captor.capture());
+    assertEquals(List.of(activeQuestDto.toModel()), List.copyOf(captor.getValue()));
+  }
+
+  @Test
+  @DisplayName("discard() removes the pending changes of an active quest")
+  public void discard_RemovesPendingChanges() {
+    PlayerQuestKey key = new PlayerQuestKey(playerId, 1);
+    activeQuestDto.setProgress(3F);
+    activeQuestsWriteBehind.enqueue(activeQuestDto);
+
+    activeQuestsWriteBehind.discard(key);
+
+    assertNull(activeQuestsWriteBehind.getPending(key));
+  }
+
+}
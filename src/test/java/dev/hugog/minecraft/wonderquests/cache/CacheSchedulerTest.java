@@ -0,0 +1,89 @@
+package dev.hugog.minecraft.wonderquests.cache;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.hugog.minecraft.wonderquests.cache.implementation.ActiveQuestsCache;
+import dev.hugog.minecraft.wonderquests.data.dtos.ActiveQuestDto;
+import dev.hugog.minecraft.wonderquests.data.dtos.QuestDto;
+import dev.hugog.minecraft.wonderquests.data.services.PlayerSessionService;
+import dev.hugog.minecraft.wonderquests.mediators.QuestsMediator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.bukkit.Server;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CacheSchedulerTest {
+
+  @Mock
+  private ActiveQuestsCache activeQuestsCache;
+
+  @Mock
+  private ActiveQuestsWriteBehind activeQuestsWriteBehind;
+
+  @Mock
+  private Server server;
+
+  @Mock
+  private QuestsMediator questsMediator;
+
+  @Mock
+  private PlayerSessionService playerSessionService;
+
+  @Mock
+  private Player player;
+
+  private final UUID playerId = UUID.randomUUID();
+
+  private CacheScheduler cacheScheduler;
+
+  @BeforeEach
+  void setUp() {
+    cacheScheduler = new CacheScheduler(activeQuestsCache, activeQuestsWriteBehind, server,
+        questsMediator, playerSessionService);
+    when(player.getUniqueId()).thenReturn(playerId);
+    doReturn(List.of(player)).when(server).getOnlinePlayers();
+  }
+
+  @Test
+  @DisplayName("run() notifies the expired quests of the online players, until they're handled")
+  void run_NotifiesExpiredQuestsUntilHandled() {
+
+    // Quests with a time limit of 1 minute, started an hour ago and now
+    ActiveQuestDto expiredQuest = activeQuest(1, System.currentTimeMillis() - 3_600_000);
+    ActiveQuestDto runningQuest = activeQuest(2, System.currentTimeMillis());
+
+    when(activeQuestsCache.get(playerId)).thenReturn(Set.of(expiredQuest, runningQuest));
+
+    cacheScheduler.run();
+
+    verify(questsMediator).notifyQuestUpdate(player, expiredQuest);
+    verify(questsMediator, never()).notifyQuestUpdate(any(), eq(runningQuest));
+
+    // Once the listener handles the expiration, the quest isn't notified again
+    expiredQuest.tryMarkExpiryHandled();
+    cacheScheduler.run();
+
+    verify(questsMediator).notifyQuestUpdate(player, expiredQuest);
+
+  }
+
+  private ActiveQuestDto activeQuest(int questId, long startedAt) {
+    QuestDto quest = new QuestDto(questId, "Quest", "Description", "1", "1", "1", 60, null, null,
+        null);
+    return new ActiveQuestDto(playerId, questId, 10f, 0f, startedAt, quest);
+  }
+
+}
@@ -0,0 +1,100 @@
+package dev.hugog.minecraft.wonderquests.cache.implementation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import dev.hugog.minecraft.wonderquests.data.keys.PlayerQuestKey;
+import dev.hugog.minecraft.wonderquests.data.types.ObjectiveType;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ActiveObjectivesIndexTest {
+
+  private ActiveObjectivesIndex activeObjectivesIndex;
+  private UUID playerId;
+
+  @BeforeEach
+  void setUp() {
+    activeObjectivesIndex = new ActiveObjectivesIndex();
+    playerId = UUID.randomUUID();
+  }
+
+  @Test
+  @DisplayName("getMatchingQuests() returns the quests indexed with the same objective")
+  public void getMatchingQuests_ReturnsQuestsWithSameObjective() {
+    activeObjectivesIndex.index(new PlayerQuestKey(playerId, 1), ObjectiveType.BREAK_BLOCK,
+        "STONE");
+    activeObjectivesIndex.index(new PlayerQuestKey(playerId, 2), ObjectiveType.BREAK_BLOCK,
+        "STONE");
+    activeObjectivesIndex.index(new PlayerQuestKey(playerId, 3), ObjectiveType.PLACE_BLOCK,
+        "STONE");
+
+    assertEquals(Set.of(1, 2),
+        activeObjectivesIndex.getMatchingQuests(playerId, ObjectiveType.BREAK_BLOCK, "STONE"));
+  }
+
+  @Test
+  @DisplayName("getMatchingQuests() returns an empty set when no objective matches")
+  public void getMatchingQuests_ReturnsEmptySetWhenNoObjectiveMatches() {
+    activeObjectivesIndex.index(new PlayerQuestKey(playerId, 1), ObjectiveType.BREAK_BLOCK,
+        "STONE");
+
+    assertTrue(activeObjectivesIndex.getMatchingQuests(playerId, ObjectiveType.BREAK_BLOCK, "DIRT")
+        .isEmpty());
+    assertTrue(activeObjectivesIndex.getMatchingQuests(playerId, ObjectiveType.KILL_MOBS, "STONE")
+        .isEmpty());
+  }
+
+  @Test
+  @DisplayName("getMatchingQuests() doesn't return quests of other players")
+  public void getMatchingQuests_DoesNotReturnQuestsOfOtherPlayers() {
+    activeObjectivesIndex.index(new PlayerQuestKey(UUID.randomUUID(), 1), ObjectiveType.KILL_MOBS,
+        "ZOMBIE");
+
+    assertTrue(activeObjectivesIndex.getMatchingQuests(playerId, ObjectiveType.KILL_MOBS, "ZOMBIE")
+        .isEmpty());
+  }
+
+  @Test
+  @DisplayName("remove() removes the quest from the index")
+  public void remove_RemovesQuestFromIndex() {
+    PlayerQuestKey key = new PlayerQuestKey(playerId, 1);
+    activeObjectivesIndex.index(key, ObjectiveType.BREAK_BLOCK, "STONE");
+
+    activeObjectivesIndex.remove(key);
+
+    assertFalse(activeObjectivesIndex.isIndexed(key));
+    assertTrue(activeObjectivesIndex.getMatchingQuests(playerId, ObjectiveType.BREAK_BLOCK, "STONE")
+        .isEmpty());
+  }
+
+  @Test
+  @DisplayName("index() replaces the previous objective of an already indexed quest")
+  public void index_ReplacesPreviousObjective() {
+    PlayerQuestKey key = new PlayerQuestKey(playerId, 1);
+    activeObjectivesIndex.index(key, ObjectiveType.BREAK_BLOCK, "STONE");
+
+    activeObjectivesIndex.index(key, ObjectiveType.BREAK_BLOCK, "DIRT");
+
+    assertTrue(activeObjectivesIndex.getMatchingQuests(playerId, ObjectiveType.BREAK_BLOCK, "STONE")
+        .isEmpty());
+    assertEquals(Set.of(1),
+        activeObjectivesIndex.getMatchingQuests(playerId, ObjectiveType.BREAK_BLOCK, "DIRT"));
+  }
+
+  @Test
+  @DisplayName("index() ignores objectives without type or value")
+  public void index_IgnoresIncompleteObjectives() {
+    PlayerQuestKey key = new PlayerQuestKey(playerId, 1);
+
+    activeObjectivesIndex.index(key, null, "STONE");
+    activeObjectivesIndex.index(key, ObjectiveType.BREAK_BLOCK, null);
+
+    assertFalse(activeObjectivesIndex.isIndexed(key));
+  }
+
+}
@@ -2,10 +2,13 @@ package dev.hugog.minecraft.wonderquests.cache.implementation;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import dev.hugog.minecraft.wonderquests.config.PluginConfigHandler;
 import dev.hugog.minecraft.wonderquests.data.dtos.ActiveQuestDto;
+import dev.hugog.minecraft.wonderquests.data.keys.PlayerQuestKey;
 import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -88,4 +91,90 @@ class ActiveQuestsCacheTest {
 
   }
 
-}
\ No newline at end of file
+  @Test
+  @DisplayName("get() returns the same view while the active quests of the player don't change")
+  public void get_ReturnsSameViewWhenNotChanged() {
+
+    activeQuestsCache.put(playerId, Set.of(activeQuestDto));
+    assertSame(activeQuestsCache.get(playerId), activeQuestsCache.get(playerId));
+
+  }
+
+  @Test
+  @DisplayName("get() returns the active quest of the player with the given id")
+  public void get_ReturnsActiveQuestById() {
+
+    activeQuestsCache.put(playerId, Set.of(activeQuestDto));
+
+    assertSame(activeQuestDto, activeQuestsCache.get(playerId, 1));
+    assertNull(activeQuestsCache.get(playerId, 2));
+
+  }
+
+  @Test
+  @DisplayName("invalidate() removes the active quest from the player's active quests")
+  public void invalidate_RemovesActiveQuestFromPlayer() {
+
+    ActiveQuestDto otherQuestDto = new ActiveQuestDto(playerId, 2, 5F, 0F,
+        System.currentTimeMillis(), null);
+    activeQuestsCache.put(playerId, Set.of(activeQuestDto, otherQuestDto));
+
+    activeQuestsCache.invalidate(new PlayerQuestKey(playerId, 1));
+
+    assertEquals(Set.of(otherQuestDto), activeQuestsCache.get(playerId));
+
+    activeQuestsCache.invalidate(new PlayerQuestKey(playerId, 2));
+
+    assertFalse(activeQuestsCache.has(playerId));
+    assertTrue(activeQuestsCache.get(playerId).isEmpty());
+
+  }
+
+  @Test
+  @DisplayName("put() replaces the active quest of the player with the same id")
+  public void put_ReplacesActiveQuestWithSameId() {
+
+    ActiveQuestDto updatedQuestDto = new ActiveQuestDto(playerId, 1, 10F, 5F,
+        System.currentTimeMillis(), null);
+    activeQuestsCache.put(playerId, Set.of(activeQuestDto));
+
+    activeQuestsCache.put(new PlayerQuestKey(playerId, 1), updatedQuestDto);
+
+    assertEquals(Set.of(updatedQuestDto), activeQuestsCache.get(playerId));
+
+  }
+
+  @Test
+  @DisplayName("getIfPresent() returns the active quests and records hits and misses")
+  public void getIfPresent_RecordsHitsAndMisses() {
+
+    assertNull(activeQuestsCache.getIfPresent(playerId));
+
+    activeQuestsCache.put(playerId, Set.of(activeQuestDto));
+
+    assertSame(activeQuestsCache.get(playerId), activeQuestsCache.getIfPresent(playerId));
+    assertEquals(1, activeQuestsCache.getStatistics().getHitCount());
+    assertEquals(1, activeQuestsCache.getStatistics().getMissCount());
+    assertEquals(0.5, activeQuestsCache.getStatistics().getHitRate());
+
+  }
+
+  @Test
+  @DisplayName("invalidateExpired() keeps the active quests of pinned players")
+  public void invalidateExpired_KeepsPinnedPlayers() throws InterruptedException {
+
+    // The mocked configuration has no TTL, so the entries expire right away
+    activeQuestsCache.pin(playerId);
+    activeQuestsCache.put(playerId, Set.of(activeQuestDto));
+    Thread.sleep(10);
+
+    activeQuestsCache.invalidateExpired();
+    assertTrue(activeQuestsCache.has(playerId));
+
+    activeQuestsCache.unpin(playerId);
+    activeQuestsCache.invalidate(playerId);
+    assertFalse(activeQuestsCache.has(playerId));
+
+  }
+
+}
@@ -0,0 +1,121 @@
+package dev.hugog.minecraft.wonderquests.cache.implementation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.hugog.minecraft.wonderquests.data.dtos.QuestDto;
+import dev.hugog.minecraft.wonderquests.data.dtos.QuestRequirementDto;
+import dev.hugog.minecraft.wonderquests.data.types.RequirementType;
+import dev.hugog.minecraft.wonderquests.hooks.EconomyHook;
+import dev.hugog.minecraft.wonderquests.requirements.RequirementContext;
+import dev.hugog.minecraft.wonderquests.requirements.RequirementsPlanCache;
+import java.util.List;
+import java.util.UUID;
+import java.util.logging.Logger;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AvailableQuestsCacheTest {
+
+  @Mock
+  private Player player;
+
+  @Mock
+  private EconomyHook economyHook;
+
+  private final UUID playerId = UUID.randomUUID();
+
+  private QuestCatalog questCatalog;
+  private RequirementsPlanCache requirementsPlanCache;
+  private AvailableQuestsCache availableQuestsCache;
+
+  @BeforeEach
+  void setUp() {
+    questCatalog = new QuestCatalog();
+    requirementsPlanCache = spy(new RequirementsPlanCache(Logger.getAnonymousLogger(),
+        questCatalog));
+    availableQuestsCache = new AvailableQuestsCache(questCatalog, requirementsPlanCache);
+    questCatalog.install(questCatalog.nextVersion(),
+        List.of(createQuest(1, 0), createQuest(2, 10), createQuest(3, 20)));
+  }
+
+  @Test
+  @DisplayName("get() returns the quests that weren't completed and whose requirements are met")
+  void get_ReturnsAvailableQuests() {
+
+    when(player.getLevel()).thenReturn(15);
+
+    assertEquals(List.of(2), getAvailableQuestIds(QuestIdSet.of(List.of(1))));
+
+  }
+
+  @Test
+  @DisplayName("get() doesn't check the tracked requirements again while the inputs don't change")
+  void get_ReusesEntryWhileInputsDontChange() {
+
+    when(player.getLevel()).thenReturn(15);
+    QuestIdSet completedQuestIds = QuestIdSet.empty();
+
+    getAvailableQuestIds(completedQuestIds);
+    clearInvocations(requirementsPlanCache);
+
+    assertEquals(List.of(1, 2), getAvailableQuestIds(completedQuestIds));
+    // Only the live requirements of the two cached quests are checked
+    verify(requirementsPlanCache, times(2)).getPlan(any());
+
+  }
+
+  @Test
+  @DisplayName("get() removes the completed quests without recomputing the entry")
+  void get_RemovesCompletedQuests() {
+
+    when(player.getLevel()).thenReturn(15);
+    QuestIdSet completedQuestIds = QuestIdSet.empty();
+
+    getAvailableQuestIds(completedQuestIds);
+    clearInvocations(requirementsPlanCache);
+
+    assertEquals(List.of(2), getAvailableQuestIds(completedQuestIds.with(1)));
+    verify(requirementsPlanCache, times(1)).getPlan(any());
+
+  }
+
+  @Test
+  @DisplayName("get() recomputes the entry after the level of the player or the catalog change")
+  void get_RecomputesEntryAfterInputsChange() {
+
+    when(player.getLevel()).thenReturn(15, 25);
+
+    assertEquals(List.of(1, 2), getAvailableQuestIds(QuestIdSet.empty()));
+    assertEquals(List.of(1, 2, 3), getAvailableQuestIds(QuestIdSet.empty()));
+
+    questCatalog.install(questCatalog.nextVersion(), List.of(createQuest(4, 0)));
+
+    assertEquals(List.of(4), getAvailableQuestIds(QuestIdSet.empty()));
+
+  }
+
+  private List<Integer> getAvailableQuestIds(QuestIdSet completedQuestIds) {
+    return availableQuestsCache.get(playerId, new RequirementContext(player, economyHook),
+            completedQuestIds).stream()
+        .map(QuestDto::getId)
+        .toList();
+  }
+
+  private QuestDto createQuest(Integer id, float level) {
+    return new QuestDto(id, "Quest " + id, "Description", "1", "1", "1", 1, null,
+        List.of(new QuestRequirementDto(id, id, RequirementType.EXPERIENCE, null, level)), null);
+  }
+
+}
@@ -0,0 +1,99 @@
+package dev.hugog.minecraft.wonderquests.cache.implementation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import dev.hugog.minecraft.wonderquests.data.dtos.QuestDto;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class QuestCatalogTest {
+
+  private QuestCatalog questCatalog;
+
+  @BeforeEach
+  void setUp() {
+    questCatalog = new QuestCatalog();
+  }
+
+  @Test
+  @DisplayName("isLoaded() returns false until the first snapshot is installed")
+  void isLoaded_ReturnsFalseUntilFirstInstall() {
+
+    assertFalse(questCatalog.isLoaded());
+
+    questCatalog.install(questCatalog.nextVersion(), List.of(createQuest(1)));
+
+    assertTrue(questCatalog.isLoaded());
+
+  }
+
+  @Test
+  @DisplayName("install() orders the quests by id")
+  void install_OrdersQuestsById() {
+
+    questCatalog.install(questCatalog.nextVersion(),
+        List.of(createQuest(3), createQuest(1), createQuest(2)));
+
+    QuestCatalog.Snapshot snapshot = questCatalog.getSnapshot();
+
+    assertEquals(List.of(1, 2, 3), snapshot.quests().stream().map(QuestDto::getId).toList());
+    assertEquals(Optional.of(createQuest(2)), snapshot.getQuest(2));
+
+  }
+
+  @Test
+  @DisplayName("install() doesn't replace a snapshot with a newer version")
+  void install_DoesNotReplaceNewerSnapshot() {
+
+    long olderVersion = questCatalog.nextVersion();
+    long newerVersion = questCatalog.nextVersion();
+
+    assertTrue(questCatalog.install(newerVersion, List.of(createQuest(1), createQuest(2))));
+    assertFalse(questCatalog.install(olderVersion, List.of(createQuest(1))));
+
+    assertEquals(newerVersion, questCatalog.getSnapshot().version());
+    assertEquals(2, questCatalog.getSnapshot().quests().size());
+
+  }
+
+  @Test
+  @DisplayName("getQuests() clamps the interval to the quests in the snapshot")
+  void getQuests_ClampsInterval() {
+
+    questCatalog.install(questCatalog.nextVersion(),
+        List.of(createQuest(1), createQuest(2), createQuest(3)));
+
+    QuestCatalog.Snapshot snapshot = questCatalog.getSnapshot();
+
+    assertEquals(List.of(createQuest(2), createQuest(3)), snapshot.getQuests(1, 10));
+    assertTrue(snapshot.getQuests(5, 10).isEmpty());
+    assertTrue(snapshot.getQuests(2, 1).isEmpty());
+
+  }
+
+  @Test
+  @DisplayName("getQuestsAfter() returns the quests with a greater id, skipping missing ids")
+  void getQuestsAfter_ReturnsQuestsWithGreaterId() {
+
+    questCatalog.install(questCatalog.nextVersion(),
+        List.of(createQuest(1), createQuest(2), createQuest(5), createQuest(8), createQuest(9)));
+
+    QuestCatalog.Snapshot snapshot = questCatalog.getSnapshot();
+
+    assertEquals(List.of(createQuest(5), createQuest(8)), snapshot.getQuestsAfter(2, 2));
+    assertEquals(List.of(createQuest(5), createQuest(8)), snapshot.getQuestsAfter(3, 2));
+    assertEquals(List.of(createQuest(1)), snapshot.getQuestsAfter(0, 1));
+    assertTrue(snapshot.getQuestsAfter(9, 10).isEmpty());
+
+  }
+
+  private QuestDto createQuest(Integer id) {
+    return new QuestDto(id, "Quest " + id, "Description", "1", "1", "1", 1, null, null, null);
+  }
+
+}
@@ -0,0 +1,82 @@
+package dev.hugog.minecraft.wonderquests.cache.implementation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class QuestIdSetTest {
+
+  @Test
+  @DisplayName("of() creates a set with the given quest ids, ignoring duplicates")
+  void of_ContainsGivenQuestIds() {
+
+    QuestIdSet questIds = QuestIdSet.of(List.of(1, 64, 200, 64));
+
+    assertEquals(3, questIds.size());
+    assertTrue(questIds.contains(1));
+    assertTrue(questIds.contains(64));
+    assertTrue(questIds.contains(200));
+    assertFalse(questIds.contains(2));
+    assertFalse(questIds.contains(1000));
+    assertFalse(questIds.contains(-1));
+
+  }
+
+  @Test
+  @DisplayName("with() returns a copy with the quest id, leaving the original set unchanged")
+  void with_ReturnsCopyWithQuestId() {
+
+    QuestIdSet questIds = QuestIdSet.of(Set.of(3));
+    QuestIdSet newQuestIds = questIds.with(500);
+
+    assertTrue(newQuestIds.contains(3));
+    assertTrue(newQuestIds.contains(500));
+    assertEquals(2, newQuestIds.size());
+    assertFalse(questIds.contains(500));
+    assertSame(newQuestIds, newQuestIds.with(500));
+
+  }
+
+  @Test
+  @DisplayName("Sets with the same quest ids are equal, regardless of how they were built")
+  void equals_ComparesQuestIds() {
+
+    QuestIdSet questIds = QuestIdSet.of(Set.of(1, 2));
+    QuestIdSet sameQuestIds = QuestIdSet.of(Set.of(1, 300)).with(2);
+
+    assertFalse(questIds.equals(sameQuestIds));
+    assertEquals(questIds.with(300), sameQuestIds);
+    assertEquals(questIds.with(300).hashCode(), sameQuestIds.hashCode());
+    assertEquals(QuestIdSet.empty(), QuestIdSet.of(List.of()));
+    assertEquals("[1, 2, 300]", sameQuestIds.toString());
+
+  }
+
+  @Test
+  @DisplayName("containsAll() checks if a set is a subset of another")
+  void containsAll_ChecksSubset() {
+
+    QuestIdSet questIds = QuestIdSet.of(List.of(1, 2, 300));
+
+    assertTrue(questIds.containsAll(QuestIdSet.of(List.of(2, 300))));
+    assertTrue(questIds.containsAll(QuestIdSet.empty()));
+    assertFalse(questIds.containsAll(QuestIdSet.of(List.of(2, 3))));
+    assertFalse(QuestIdSet.of(List.of(1)).containsAll(questIds));
+
+  }
+
+  @Test
+  @DisplayName("Negative quest ids are rejected")
+  void of_RejectsNegativeQuestIds() {
+    assertThrows(IllegalArgumentException.class, () -> QuestIdSet.of(List.of(-1)));
+    assertThrows(IllegalArgumentException.class, () -> QuestIdSet.empty().with(-1));
+  }
+
+}
@@ -0,0 +1,51 @@
+package dev.hugog.minecraft.wonderquests.cache.implementation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class QuestPageCursorsTest {
+
+  private QuestPageCursors questPageCursors;
+  private UUID playerId;
+
+  @BeforeEach
+  void setUp() {
+    questPageCursors = new QuestPageCursors();
+    playerId = UUID.randomUUID();
+  }
+
+  @Test
+  @DisplayName("get() returns 0 for the first page, even without cached cursors")
+  void get_ReturnsZeroForFirstPage() {
+    assertEquals(0, questPageCursors.get(playerId, 0));
+  }
+
+  @Test
+  @DisplayName("get() returns the cached cursor of a page, or null if it isn't cached")
+  void get_ReturnsCachedCursor() {
+
+    questPageCursors.put(playerId, 1, 12);
+
+    assertEquals(12, questPageCursors.get(playerId, 1));
+    assertNull(questPageCursors.get(playerId, 2));
+    assertNull(questPageCursors.get(UUID.randomUUID(), 1));
+
+  }
+
+  @Test
+  @DisplayName("invalidate() forgets the cursors of the player")
+  void invalidate_ForgetsCursors() {
+
+    questPageCursors.put(playerId, 1, 12);
+    questPageCursors.invalidate(playerId);
+
+    assertNull(questPageCursors.get(playerId, 1));
+
+  }
+
+}
@@ -0,0 +1,104 @@
+package dev.hugog.minecraft.wonderquests.cache.implementation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import dev.hugog.minecraft.wonderquests.data.dtos.SignDto;
+import dev.hugog.minecraft.wonderquests.data.types.SignType;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SignRegistryTest {
+
+  private SignRegistry signRegistry;
+
+  @BeforeEach
+  void setUp() {
+    signRegistry = new SignRegistry();
+  }
+
+  @Test
+  @DisplayName("load() adds the signs and marks the registry as loaded")
+  void load_AddsSignsAndMarksLoaded() {
+
+    assertFalse(signRegistry.isLoaded());
+
+    signRegistry.add(createSign(1, "world", 0, 0));
+    signRegistry.load(List.of(createSign(2, "world", 100, 100)));
+
+    assertTrue(signRegistry.isLoaded());
+    assertEquals(2, signRegistry.size());
+
+  }
+
+  @Test
+  @DisplayName("load() skips the read signs that were changed while the signs were being read")
+  void load_SkipsSignsChangedWhileReading() {
+
+    SignDto replacedSign = createSign(3, "world", 32, 32);
+
+    signRegistry.remove("world", 0, 64, 0);
+    signRegistry.add(replacedSign);
+    signRegistry.load(List.of(createSign(1, "world", 0, 0), createSign(2, "world", 32, 32)));
+
+    assertEquals(List.of(replacedSign), signRegistry.getSignsNear("world", 0, 0, 5));
+
+  }
+
+  @Test
+  @DisplayName("getSignsNear() returns the signs in the same world, within the chunk radius")
+  void getSignsNear_ReturnsSignsWithinRadius() {
+
+    SignDto nearSign = createSign(1, "world", 40, -40);
+    SignDto negativeSign = createSign(2, "world", -1, -1);
+    signRegistry.load(List.of(nearSign, negativeSign, createSign(3, "world", 500, 0),
+        createSign(4, "world_nether", 40, -40)));
+
+    // Block 40 is in chunk 2, block -40 in chunk -3 and block -1 in chunk -1
+    assertEquals(Set.of(nearSign, negativeSign),
+        Set.copyOf(signRegistry.getSignsNear("world", 0, 0, 3)));
+    assertEquals(List.of(nearSign), signRegistry.getSignsNear("world", 2, -3, 0));
+    assertTrue(signRegistry.getSignsNear("world_the_end", 0, 0, 10).isEmpty());
+
+  }
+
+  @Test
+  @DisplayName("getSignsNear() finds the same signs whether it probes chunks or scans the world")
+  void getSignsNear_SameResultForSmallAndLargeRadius() {
+
+    for (int i = 0; i < 30; i++) {
+      signRegistry.add(createSign(i, "world", i * 16, 0));
+    }
+
+    // A radius of 1 probes 9 chunks, while a radius of 5 scans the 30 chunks with signs
+    assertEquals(3, signRegistry.getSignsNear("world", 10, 0, 1).size());
+    assertEquals(11, signRegistry.getSignsNear("world", 10, 0, 5).size());
+
+  }
+
+  @Test
+  @DisplayName("add() replaces the sign at the same position and remove() removes it")
+  void addAndRemove_UpdateSignAtPosition() {
+
+    SignDto newSign = createSign(2, "world", 5, 5);
+
+    signRegistry.add(createSign(1, "world", 5, 5));
+    signRegistry.add(newSign);
+
+    assertEquals(List.of(newSign), signRegistry.getSignsNear("world", 0, 0, 0));
+
+    signRegistry.remove("world", 5, 64, 5);
+
+    assertEquals(0, signRegistry.size());
+
+  }
+
+  private SignDto createSign(Integer id, String worldName, int x, int z) {
+    return new SignDto(id, SignType.ACTIVE_QUEST, worldName, x, 64, z, null);
+  }
+
+}
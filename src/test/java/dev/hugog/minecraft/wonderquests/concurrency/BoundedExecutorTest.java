@@ -0,0 +1,87 @@
+package dev.hugog.minecraft.wonderquests.concurrency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BoundedExecutorTest {
+
+  private ExecutorService delegate;
+
+  @BeforeEach
+  void setUp() {
+    // A thread per task, like virtual threads, so only the bounded executor limits concurrency
+    delegate = Executors.newCachedThreadPool();
+  }
+
+  @AfterEach
+  void tearDown() {
+    delegate.shutdownNow();
+  }
+
+  @Test
+  @DisplayName("execute() never runs more tasks than the limit at the same time")
+  public void execute_NeverExceedsConcurrencyLimit() throws InterruptedException {
+
+    int maxConcurrentTasks = 3;
+    int tasks = 200;
+    BoundedExecutor boundedExecutor = new BoundedExecutor(delegate, maxConcurrentTasks);
+
+    AtomicInteger runningTasks = new AtomicInteger();
+    AtomicInteger maxRunningTasks = new AtomicInteger();
+    CountDownLatch finishedTasks = new CountDownLatch(tasks);
+
+    for (int i = 0; i < tasks; i++) {
+      boundedExecutor.execute(() -> {
+        maxRunningTasks.accumulateAndGet(runningTasks.incrementAndGet(), Math::max);
+        try {
+          Thread.sleep(1);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        runningTasks.decrementAndGet();
+        finishedTasks.countDown();
+      });
+    }
+
+    assertTrue(finishedTasks.await(10, TimeUnit.SECONDS));
+    assertTrue(maxRunningTasks.get() <= maxConcurrentTasks);
+
+  }
+
+  @Test
+  @DisplayName("execute() queues tasks over the limit until a running task finishes")
+  public void execute_QueuesTasksOverTheLimit() throws InterruptedException {
+
+    BoundedExecutor boundedExecutor = new BoundedExecutor(delegate, 1);
+    CountDownLatch releaseFirstTask = new CountDownLatch(1);
+    CountDownLatch secondTaskRan = new CountDownLatch(1);
+
+    boundedExecutor.execute(() -> {
+      try {
+        releaseFirstTask.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    boundedExecutor.execute(secondTaskRan::countDown);
+
+    assertEquals(1, boundedExecutor.getWaitingTaskCount());
+
+    releaseFirstTask.countDown();
+
+    assertTrue(secondTaskRan.await(10, TimeUnit.SECONDS));
+    assertEquals(0, boundedExecutor.getWaitingTaskCount());
+
+  }
+
+}
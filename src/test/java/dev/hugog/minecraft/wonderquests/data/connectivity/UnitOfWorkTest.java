@@ -0,0 +1,74 @@
+package dev.hugog.minecraft.wonderquests.data.connectivity;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class UnitOfWorkTest {
+
+  @Mock
+  private Connection connection;
+
+  @Test
+  @DisplayName("A unit of work begins a transaction on its connection")
+  void constructor_DisablesAutoCommit() throws SQLException {
+
+    new UnitOfWork(connection);
+
+    verify(connection).setAutoCommit(false);
+
+  }
+
+  @Test
+  @DisplayName("A unit of work closes its connection when the transaction can't be started")
+  void constructor_ClosesConnectionWhenTransactionFails() throws SQLException {
+
+    doThrow(new SQLException("Connection error")).when(connection).setAutoCommit(false);
+
+    assertThrows(SQLException.class, () -> new UnitOfWork(connection));
+
+    verify(connection).close();
+
+  }
+
+  @Test
+  @DisplayName("close() doesn't roll back a committed unit of work")
+  void close_KeepsCommittedWork() throws SQLException {
+
+    try (UnitOfWork unitOfWork = new UnitOfWork(connection)) {
+      unitOfWork.commit();
+    }
+
+    verify(connection).commit();
+    verify(connection, never()).rollback();
+    verify(connection).close();
+
+  }
+
+  @Test
+  @DisplayName("close() rolls back a unit of work that wasn't committed")
+  void close_RollsBackUncommittedWork() throws SQLException {
+
+    assertThrows(IllegalStateException.class, () -> {
+      try (UnitOfWork unitOfWork = new UnitOfWork(connection)) {
+        throw new IllegalStateException("Test exception");
+      }
+    });
+
+    verify(connection, never()).commit();
+    verify(connection).rollback();
+    verify(connection).close();
+
+  }
+
+}
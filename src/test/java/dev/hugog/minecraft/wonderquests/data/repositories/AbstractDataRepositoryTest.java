@@ -0,0 +1,130 @@
+package dev.hugog.minecraft.wonderquests.data.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.hugog.minecraft.wonderquests.concurrency.ConcurrencyHandler;
+import dev.hugog.minecraft.wonderquests.data.connectivity.DataSource;
+import dev.hugog.minecraft.wonderquests.data.connectivity.UnitOfWork;
+import dev.hugog.minecraft.wonderquests.data.models.QuestRewardModel;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AbstractDataRepositoryTest {
+
+  @Mock
+  private DataSource dataSource;
+
+  @Mock
+  private Connection connection;
+
+  @Mock
+  private PreparedStatement preparedStatement;
+
+  private QuestRewardsRepository questRewardsRepository;
+
+  @BeforeEach
+  void setUp() {
+    questRewardsRepository = new QuestRewardsRepository(Logger.getLogger(getClass().getName()),
+        dataSource, new ConcurrencyHandler());
+  }
+
+  @Test
+  @DisplayName("insertAll() sends the records in batches, committing each batch")
+  void insertAll_SendsRecordsInBatches() throws SQLException {
+
+    mockConnection();
+    // Rewritten inserts report success without the number of rows
+    when(preparedStatement.executeBatch()).thenAnswer(invocation -> {
+      int[] updateCounts = new int[AbstractDataRepository.BATCH_SIZE];
+      Arrays.fill(updateCounts, Statement.SUCCESS_NO_INFO);
+      return updateCounts;
+    }).thenReturn(new int[]{Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO});
+
+    int records = AbstractDataRepository.BATCH_SIZE + 2;
+    List<QuestRewardModel> questRewardModels = IntStream.range(0, records)
+        .mapToObj(id -> new QuestRewardModel(id, 1, "ITEMS", "DIAMOND", 1F))
+        .toList();
+
+    assertEquals(records, questRewardsRepository.insertAll(questRewardModels).join());
+
+    verify(connection).setAutoCommit(false);
+    verify(preparedStatement, times(records)).addBatch();
+    verify(preparedStatement, times(2)).executeBatch();
+    verify(connection, times(2)).commit();
+
+  }
+
+  @Test
+  @DisplayName("insertAll() in a unit of work leaves the commit to the unit of work")
+  void insertAll_InUnitOfWorkDoesNotCommit() throws SQLException {
+
+    UnitOfWork unitOfWork = mock(UnitOfWork.class);
+    when(unitOfWork.getConnection()).thenReturn(connection);
+    when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+    when(preparedStatement.executeBatch()).thenReturn(new int[]{1, 1});
+
+    assertEquals(2, questRewardsRepository.insertAll(unitOfWork, List.of(
+        new QuestRewardModel(null, 1, "ITEMS", "DIAMOND", 1F),
+        new QuestRewardModel(null, 1, "ITEMS", "GOLD_INGOT", 2F))));
+
+    verify(preparedStatement, times(2)).addBatch();
+    verify(connection, never()).commit();
+    verify(dataSource, never()).execute(any());
+
+  }
+
+  @Test
+  @DisplayName("deleteAll() rolls back the batch when it fails")
+  void deleteAll_RollsBackFailedBatch() throws SQLException {
+
+    mockConnection();
+    when(preparedStatement.executeBatch()).thenThrow(new SQLException("Test exception"));
+
+    assertThrows(CompletionException.class,
+        () -> questRewardsRepository.deleteAll(List.of(1, 2)).join());
+
+    verify(connection).rollback();
+    verify(connection, never()).commit();
+
+  }
+
+  @Test
+  @DisplayName("insertAll() completes without using the database when there are no records")
+  void insertAll_DoesNothingWithoutRecords() {
+
+    assertEquals(0, questRewardsRepository.insertAll(List.of()).join());
+
+    verify(dataSource, never()).execute(any());
+
+  }
+
+  @SuppressWarnings("unchecked")
+  private void mockConnection() throws SQLException {
+    when(dataSource.execute(any())).thenAnswer(
+        invocation -> ((Function<Connection, ?>) invocation.getArgument(0)).apply(connection));
+    when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+  }
+
+}
@@ -12,9 +12,11 @@ import dev.hugog.minecraft.wonderquests.data.models.ActiveQuestModel;
 import dev.hugog.minecraft.wonderquests.data.models.PlayerModel;
 import dev.hugog.minecraft.wonderquests.data.models.QuestModel;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -264,4 +266,35 @@ class ActiveQuestRepositoryIT {
 
   }
 
-}
\ No newline at end of file
+  @Test
+  @DisplayName("saveAll() successfully updates multiple active quests in the database")
+  public void saveAll_UpdatesActiveQuestsSuccessfully() {
+
+    QuestModel otherQuestModel = new QuestModel(2, "Other Quest", "Other Quest Description", "",
+        "", "", 0, null, new HashSet<>(), new HashSet<>());
+
+    playersRepository.insert(new PlayerModel(id.playerId())).join();
+    questsRepository.insert(questModel).join();
+    questsRepository.insert(otherQuestModel).join();
+
+    activeQuestRepository.insert(new ActiveQuestModel(id.playerId(), 1, 10.0f, 0.0f,
+        System.currentTimeMillis(), questModel)).join();
+    activeQuestRepository.insert(new ActiveQuestModel(id.playerId(), 2, 10.0f, 0.0f,
+        System.currentTimeMillis(), otherQuestModel)).join();
+
+    int updatedRows = activeQuestRepository.saveAll(List.of(
+        new ActiveQuestModel(id.playerId(), 1, 10.0f, 3.0f, null, null),
+        new ActiveQuestModel(id.playerId(), 2, 10.0f, 7.0f, null, null)
+    )).join();
+
+    assertEquals(2, updatedRows);
+
+    activeQuestRepository.findAllByPlayerId(id.playerId())
+        .thenAccept(activeQuests -> assertEquals(Set.of(3.0f, 7.0f), activeQuests.stream()
+            .map(ActiveQuestModel::progress)
+            .collect(Collectors.toSet())))
+        .join();
+
+  }
+
+}
@@ -3,6 +3,8 @@ package dev.hugog.minecraft.wonderquests.data.repositories;
 import dev.hugog.minecraft.wonderquests.concurrency.ConcurrencyHandler;
 import dev.hugog.minecraft.wonderquests.data.connectivity.DataSource;
 import dev.hugog.minecraft.wonderquests.data.models.PlayerModel;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.logging.Logger;
 import org.junit.jupiter.api.AfterAll;
@@ -97,6 +99,34 @@ class PlayersRepositoryIT {
 
   }
 
+  @Test
+  @DisplayName("insertIfAbsent() inserts a player only when it does not exist in the database")
+  public void insertIfAbsent_InsertsPlayerOnlyWhenNotExists() {
+    UUID id = UUID.randomUUID();
+
+    Assertions.assertTrue(playersRepository.insertIfAbsent(new PlayerModel(id)).join());
+    Assertions.assertFalse(playersRepository.insertIfAbsent(new PlayerModel(id)).join());
+
+    playersRepository.findById(id)
+        .thenAccept(player -> Assertions.assertTrue(player.isPresent())).join();
+  }
+
+  @Test
+  @DisplayName("insertAllIfAbsent() inserts only the players that do not exist in the database")
+  public void insertAllIfAbsent_InsertsOnlyMissingPlayers() {
+    UUID existingId = UUID.randomUUID();
+    UUID newId = UUID.randomUUID();
+
+    playersRepository.insert(new PlayerModel(existingId)).join();
+
+    Set<UUID> insertedIds = playersRepository.insertAllIfAbsent(
+        List.of(new PlayerModel(existingId), new PlayerModel(newId))).join();
+
+    Assertions.assertEquals(Set.of(newId), insertedIds);
+    playersRepository.findById(newId)
+        .thenAccept(player -> Assertions.assertTrue(player.isPresent())).join();
+  }
+
   @Test
   @DisplayName("delete() successfully deletes a player from the database")
   public void delete_DeletesPlayer_FromDatabase() {
@@ -0,0 +1,78 @@
+package dev.hugog.minecraft.wonderquests.data.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class QueryExecutorTest {
+
+  @Mock
+  private Connection connection;
+
+  @Mock
+  private PreparedStatement preparedStatement;
+
+  @Mock
+  private ResultSet resultSet;
+
+  @BeforeEach
+  void setUp() throws SQLException {
+    when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+  }
+
+  @Test
+  @DisplayName("query() closes the statement and the result set after reading it")
+  void query_ClosesStatementAndResultSet() throws SQLException {
+
+    when(preparedStatement.executeQuery()).thenReturn(resultSet);
+    when(resultSet.next()).thenReturn(true);
+    when(resultSet.getInt(1)).thenReturn(7);
+
+    assertEquals(7, QueryExecutor.queryFirst(connection, "SELECT 7;",
+        QueryExecutor.QueryParameters.NONE, rs -> rs.getInt(1)).orElseThrow());
+
+    verify(resultSet).close();
+    verify(preparedStatement).close();
+
+  }
+
+  @Test
+  @DisplayName("queryFirst() returns empty when the query has no rows")
+  void queryFirst_ReturnsEmptyWithoutRows() throws SQLException {
+
+    when(preparedStatement.executeQuery()).thenReturn(resultSet);
+
+    assertTrue(QueryExecutor.queryFirst(connection, "SELECT 7 WHERE false;",
+        QueryExecutor.QueryParameters.NONE, rs -> rs.getInt(1)).isEmpty());
+
+  }
+
+  @Test
+  @DisplayName("update() closes the statement when it fails")
+  void update_ClosesStatementOnFailure() throws SQLException {
+
+    when(preparedStatement.executeUpdate()).thenThrow(new SQLException("Test exception"));
+
+    assertThrows(SQLException.class, () -> QueryExecutor.update(connection,
+        "DELETE FROM quest WHERE id = ?;", ps -> ps.setInt(1, 1)));
+
+    verify(preparedStatement).close();
+
+  }
+
+}
@@ -0,0 +1,189 @@
+package dev.hugog.minecraft.wonderquests.data.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import dev.hugog.minecraft.wonderquests.concurrency.ConcurrencyHandler;
+import dev.hugog.minecraft.wonderquests.data.connectivity.DataSource;
+import dev.hugog.minecraft.wonderquests.data.models.QuestModel;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Compares the quest loading strategies on a catalog where every quest has several requirements
+ * and rewards. Besides checking that every strategy loads the same quests, it logs the average
+ * time each strategy takes to load the whole catalog and a page of it.
+ */
+class QuestLoadingStrategyIT {
+
+  private static final int QUESTS = 500;
+  private static final int REQUIREMENTS_PER_QUEST = 5;
+  private static final int REWARDS_PER_QUEST = 5;
+
+  private static final int WARMUP_ITERATIONS = 5;
+  private static final int MEASURED_ITERATIONS = 20;
+
+  private final Logger logger = Logger.getLogger(this.getClass().getName());
+
+  private DataSource dataSource;
+  private ConcurrencyHandler concurrencyHandler;
+
+  final static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16.1-alpine");
+
+  @BeforeAll
+  static void setUpAll() {
+    postgres.start();
+  }
+
+  @AfterAll
+  static void tearDownAll() {
+    postgres.stop();
+  }
+
+  @BeforeEach
+  void setUp() {
+
+    concurrencyHandler = new ConcurrencyHandler();
+
+    dataSource = new DataSource(logger);
+    dataSource.initDataSource(postgres.getHost(), postgres.getFirstMappedPort().toString(),
+        postgres.getDatabaseName(), postgres.getUsername(), postgres.getPassword(), 5);
+
+    new QuestsRepository(logger, dataSource, concurrencyHandler).createTable().join();
+    new QuestObjectivesRepository(logger, dataSource, concurrencyHandler).createTable().join();
+    new QuestRequirementsRepository(logger, dataSource, concurrencyHandler).createTable().join();
+    new QuestRewardsRepository(logger, dataSource, concurrencyHandler).createTable().join();
+
+    dataSource.apply(con -> {
+      try {
+
+        Statement statement = con.createStatement();
+
+        statement.execute(String.format("INSERT INTO quest "
+            + "(name, description, opening_msg, closing_msg, item, time_limit) "
+            + "SELECT 'Quest ' || i, 'Description', 'Opening', 'Closing', 'STONE', 0 "
+            + "FROM generate_series(1, %d) AS i;", QUESTS));
+        statement.execute("INSERT INTO quest_objective (quest_id, type, str_value, num_value) "
+            + "SELECT id, 'BREAK_BLOCK', 'SAND', 10 FROM quest;");
+        statement.execute(String.format("INSERT INTO quest_requirement "
+            + "(quest_id, type, str_value, num_value) "
+            + "SELECT id, 'MONEY', NULL, i FROM quest, generate_series(1, %d) AS i;",
+            REQUIREMENTS_PER_QUEST));
+        statement.execute(String.format("INSERT INTO quest_reward "
+            + "(quest_id, type, str_value, num_value) "
+            + "SELECT id, 'ITEMS', 'DIAMOND', i FROM quest, generate_series(1, %d) AS i;",
+            REWARDS_PER_QUEST));
+
+      } catch (SQLException e) {
+        throw new RuntimeException(e);
+      }
+    });
+
+  }
+
+  @AfterEach
+  void tearDown() {
+    new QuestsRepository(logger, dataSource, concurrencyHandler).deleteTable().join();
+    new QuestObjectivesRepository(logger, dataSource, concurrencyHandler).deleteTable().join();
+    new QuestRequirementsRepository(logger, dataSource, concurrencyHandler).deleteTable().join();
+    new QuestRewardsRepository(logger, dataSource, concurrencyHandler).deleteTable().join();
+    dataSource.closeDataSource();
+  }
+
+  @Test
+  @DisplayName("findAll() loads the same quests with every loading strategy")
+  public void findAll_LoadsSameQuestsWithEveryStrategy() {
+
+    Map<QuestLoadingStrategy, Set<QuestModel>> questsByStrategy =
+        new EnumMap<>(QuestLoadingStrategy.class);
+
+    for (QuestLoadingStrategy loadingStrategy : QuestLoadingStrategy.values()) {
+
+      QuestsRepository questsRepository = createRepository(loadingStrategy);
+      Set<QuestModel> quests = questsRepository.findAll().join();
+
+      assertEquals(QUESTS, quests.size());
+      quests.forEach(quest -> {
+        assertEquals(REQUIREMENTS_PER_QUEST, quest.requirements().size());
+        assertEquals(REWARDS_PER_QUEST, quest.rewards().size());
+      });
+
+      questsByStrategy.put(loadingStrategy, quests);
+
+    }
+
+    assertEquals(questsByStrategy.get(QuestLoadingStrategy.JOIN),
+        questsByStrategy.get(QuestLoadingStrategy.KEYED));
+    assertEquals(questsByStrategy.get(QuestLoadingStrategy.JOIN),
+        questsByStrategy.get(QuestLoadingStrategy.JSON));
+
+  }
+
+  @Test
+  @DisplayName("findAllInInterval() counts quests, not joined rows, with every loading strategy")
+  public void findAllInInterval_CountsQuests() {
+
+    for (QuestLoadingStrategy loadingStrategy : QuestLoadingStrategy.values()) {
+
+      List<QuestModel> quests = createRepository(loadingStrategy).findAllInInterval(10, 20).join();
+
+      assertEquals(10, quests.size());
+      assertEquals(11, quests.get(0).id());
+      quests.forEach(quest -> {
+        assertEquals(REQUIREMENTS_PER_QUEST, quest.requirements().size());
+        assertEquals(REWARDS_PER_QUEST, quest.rewards().size());
+      });
+
+    }
+
+  }
+
+  @Test
+  @DisplayName("Benchmark of findAll() and findAllInInterval() with every loading strategy")
+  public void benchmarkLoadingStrategies() {
+
+    for (QuestLoadingStrategy loadingStrategy : QuestLoadingStrategy.values()) {
+
+      QuestsRepository questsRepository = createRepository(loadingStrategy);
+
+      double findAllMillis = measure(() -> questsRepository.findAll().join());
+      double findPageMillis = measure(() -> questsRepository.findAllInInterval(0, 20).join());
+
+      logger.info(String.format("%-5s findAll: %8.2f ms | findAllInInterval: %8.2f ms",
+          loadingStrategy, findAllMillis, findPageMillis));
+
+    }
+
+  }
+
+  private QuestsRepository createRepository(QuestLoadingStrategy loadingStrategy) {
+    return new QuestsRepository(logger, dataSource, concurrencyHandler, loadingStrategy);
+  }
+
+  private double measure(Runnable operation) {
+
+    for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+      operation.run();
+    }
+
+    long start = System.nanoTime();
+    for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+      operation.run();
+    }
+
+    return (System.nanoTime() - start) / 1_000_000.0 / MEASURED_ITERATIONS;
+
+  }
+
+}
@@ -0,0 +1,131 @@
+package dev.hugog.minecraft.wonderquests.data.repositories;
+
+import dev.hugog.minecraft.wonderquests.data.models.QuestModel;
+import dev.hugog.minecraft.wonderquests.data.models.QuestRequirementModel;
+import dev.hugog.minecraft.wonderquests.data.models.QuestRewardModel;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares {@link QuestModelAssembler} with the previous assembly of the quests, which scanned
+ * all the quests found so far to find the owner of each row.
+ *
+ * <p>The rows are those of a synthetic catalog, read from an in-memory result set, so only the
+ * assembly is measured. Run {@link #main(String[])} (after {@code mvn test-compile}) to execute
+ * it.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QuestModelAssemblerBenchmark {
+
+  @Param({"200", "2000"})
+  private int quests;
+
+  @Param({"3"})
+  private int requirementsPerQuest;
+
+  @Param({"3"})
+  private int rewardsPerQuest;
+
+  private QuestRows questRows;
+
+  @Setup
+  public void setUp() {
+    questRows = QuestRows.catalog(quests, requirementsPerQuest, rewardsPerQuest);
+  }
+
+  @Benchmark
+  public List<QuestModel> assembler() throws SQLException {
+    return new QuestModelAssembler().addRows(questRows.toResultSet()).getQuests();
+  }
+
+  @Benchmark
+  public Set<QuestModel> linearScan() throws SQLException {
+    return assembleWithLinearScan(questRows.toResultSet());
+  }
+
+  public static void main(String[] args) throws RunnerException {
+
+    Options options = new OptionsBuilder()
+        .include(QuestModelAssemblerBenchmark.class.getSimpleName())
+        .build();
+
+    new Runner(options).run();
+
+  }
+
+  /**
+   * The previous assembly of the quests, kept as the benchmark baseline.
+   */
+  private static Set<QuestModel> assembleWithLinearScan(ResultSet rs) throws SQLException {
+
+    Set<QuestModel> questModels = new HashSet<>();
+
+    while (rs.next()) {
+
+      int questId = rs.getInt("id");
+
+      Optional<QuestModel> questModelOptional = questModels.stream()
+          .filter(questModel -> questModel.id() == questId)
+          .findFirst();
+
+      if (questModelOptional.isEmpty()) {
+        questModels.add(new QuestModel(questId, rs.getString("name"),
+            rs.getString("description"), rs.getString("opening_msg"),
+            rs.getString("closing_msg"), rs.getString("item"), rs.getInt("time_limit"), null,
+            new HashSet<>(), new HashSet<>()));
+        questModelOptional = questModels.stream()
+            .filter(questModel -> questModel.id() == questId)
+            .findFirst();
+      }
+
+      QuestModel ownerQuestModel = questModelOptional.orElseThrow();
+
+      rs.getInt("quest_requirement_id");
+
+      if (!rs.wasNull()) {
+        ownerQuestModel.requirements().add(new QuestRequirementModel(
+            rs.getInt("quest_requirement_id"), questId, rs.getString("quest_requirement_type"),
+            rs.getString("quest_requirement_str_value"),
+            rs.getFloat("quest_requirement_num_value")));
+      }
+
+      rs.getInt("quest_reward_id");
+
+      if (!rs.wasNull()) {
+        ownerQuestModel.rewards().add(new QuestRewardModel(
+            rs.getInt("quest_reward_id"), questId, rs.getString("quest_reward_type"),
+            rs.getString("quest_reward_str_value"), rs.getFloat("quest_reward_num_value")));
+      }
+
+    }
+
+    return questModels;
+
+  }
+
+}
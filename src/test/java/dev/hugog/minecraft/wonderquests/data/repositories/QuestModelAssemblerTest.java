@@ -0,0 +1,120 @@
+package dev.hugog.minecraft.wonderquests.data.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import dev.hugog.minecraft.wonderquests.data.models.QuestModel;
+import dev.hugog.minecraft.wonderquests.data.models.QuestRequirementModel;
+import dev.hugog.minecraft.wonderquests.data.models.QuestRewardModel;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class QuestModelAssemblerTest {
+
+  @Test
+  @DisplayName("addRows() assembles each quest once, in the order of the rows")
+  void addRows_AssemblesEachQuestOnceInRowOrder() throws SQLException {
+
+    QuestRows questRows = new QuestRows()
+        .add(3, 30, 300, 3000)
+        .add(1, 10, 100, 1000)
+        .add(3, 30, 301, 3000);
+
+    List<QuestModel> questModels = new QuestModelAssembler()
+        .addRows(questRows.toResultSet())
+        .getQuests();
+
+    assertEquals(List.of(3, 1), questModels.stream().map(QuestModel::id).toList());
+
+  }
+
+  @Test
+  @DisplayName("addRows() keeps each requirement and reward once, whatever the number of rows")
+  void addRows_DeduplicatesRequirementsAndRewards() throws SQLException {
+
+    QuestRows questRows = QuestRows.catalog(2, 3, 4);
+
+    List<QuestModel> questModels = new QuestModelAssembler()
+        .addRows(questRows.toResultSet())
+        .getQuests();
+
+    assertEquals(24, questRows.size());
+    assertEquals(2, questModels.size());
+
+    QuestModel questModel = questModels.get(0);
+    assertEquals(Set.of(3, 4, 5), questModel.requirements().stream()
+        .map(QuestRequirementModel::id)
+        .collect(Collectors.toSet()));
+    assertEquals(Set.of(4, 5, 6, 7), questModel.rewards().stream()
+        .map(QuestRewardModel::id)
+        .collect(Collectors.toSet()));
+    assertTrue(questModel.requirements().stream()
+        .allMatch(requirement -> requirement.questId() == 1));
+
+  }
+
+  @Test
+  @DisplayName("addRows() leaves out the missing objective, requirements and rewards")
+  void addRows_HandlesQuestsWithoutDetails() throws SQLException {
+
+    QuestRows questRows = new QuestRows()
+        .add(1, null, null, null)
+        .add(2, 20, null, null);
+
+    List<QuestModel> questModels = new QuestModelAssembler()
+        .addRows(questRows.toResultSet())
+        .getQuests();
+
+    assertNull(questModels.get(0).objective());
+    assertTrue(questModels.get(0).requirements().isEmpty());
+    assertTrue(questModels.get(0).rewards().isEmpty());
+
+    assertNotNull(questModels.get(1).objective());
+    assertEquals(20, questModels.get(1).objective().id());
+
+  }
+
+  @Test
+  @DisplayName("addRequirementRows() and addRewardRows() add the details to the loaded quests")
+  void addDetailRows_AddDetailsToLoadedQuests() throws SQLException {
+
+    QuestModelAssembler assembler = new QuestModelAssembler()
+        .addQuestRows(new QuestRows().add(1, 10, null, null).add(2, null, null, null)
+            .toResultSet());
+
+    assembler
+        .addRequirementRows(QuestRows.toResultSet(List.of(
+            detailRow(100, 1, "MONEY"),
+            detailRow(101, 2, "PERMISSION"),
+            detailRow(102, 3, "MONEY"))))
+        .addRewardRows(QuestRows.toResultSet(List.of(
+            detailRow(1000, 1, "ITEMS"))));
+
+    List<QuestModel> questModels = assembler.getQuests();
+
+    assertArrayEquals(new Integer[]{1, 2}, assembler.getQuestIds());
+    assertEquals(Set.of(100), questModels.get(0).requirements().stream()
+        .map(QuestRequirementModel::id)
+        .collect(Collectors.toSet()));
+    assertEquals(1, questModels.get(0).rewards().size());
+    assertEquals(Set.of(101), questModels.get(1).requirements().stream()
+        .map(QuestRequirementModel::id)
+        .collect(Collectors.toSet()));
+    assertTrue(questModels.get(1).rewards().isEmpty());
+
+  }
+
+  private Map<String, Object> detailRow(int id, int questId, String type) {
+    return Map.of("id", id, "quest_id", questId, "type", type, "str_value", "value",
+        "num_value", 1F);
+  }
+
+}
@@ -14,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.testcontainers.containers.PostgreSQLContainer;
 
 import java.util.List;
+import java.util.stream.IntStream;
 import java.util.logging.Logger;
 
 class QuestRewardsRepositoryIT {
@@ -157,4 +158,39 @@ class QuestRewardsRepositoryIT {
     questRewardsRepository.findAllByQuestId(questId)
         .thenAccept(questRewards -> Assertions.assertTrue(questRewards.isEmpty())).join();
   }
-}
\ No newline at end of file
+
+  @Test
+  @DisplayName("insertAll() inserts multiple quest rewards in batches")
+  public void insertAll_InsertsQuestRewardsInBatches() {
+    int questId = 1;
+    int rewards = 1200;
+
+    List<QuestRewardModel> questRewardModels = IntStream.rangeClosed(1, rewards)
+        .mapToObj(id -> new QuestRewardModel(id, questId, "Test Reward " + id, null, 1.0f))
+        .toList();
+
+    Assertions.assertEquals(rewards, questRewardsRepository.insertAll(questRewardModels).join());
+    Assertions.assertEquals(rewards, questRewardsRepository.findAllByQuestId(questId).join().size());
+  }
+
+  @Test
+  @DisplayName("deleteAll() deletes multiple quest rewards from the database")
+  public void deleteAll_DeletesQuestRewardsFromDatabase() {
+    int questId = 1;
+
+    questRewardsRepository.insertAll(List.of(
+        new QuestRewardModel(1, questId, "Test Reward 1", "Test Reward Description", 1.0f),
+        new QuestRewardModel(2, questId, "Test Reward 2", "Test Reward Description", 1.0f),
+        new QuestRewardModel(3, questId, "Test Reward 3", "Test Reward Description", 1.0f)
+    )).join();
+
+    Assertions.assertEquals(2, questRewardsRepository.deleteAll(List.of(1, 3, 4)).join());
+
+    questRewardsRepository.findAllByQuestId(questId)
+        .thenAccept(questRewards -> {
+          Assertions.assertEquals(1, questRewards.size());
+          Assertions.assertEquals(2, questRewards.get(0).id());
+        }).join();
+  }
+
+}
@@ -0,0 +1,135 @@
+package dev.hugog.minecraft.wonderquests.data.repositories;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds in-memory result sets with the rows returned by the quests query, for the tests and
+ * benchmarks that don't need a database.
+ */
+class QuestRows {
+
+  private final List<Map<String, Object>> rows;
+
+  QuestRows() {
+    this.rows = new ArrayList<>();
+  }
+
+  /**
+   * Builds the rows of a synthetic catalog, as returned by the join: a row for every combination
+   * of requirement and reward of each quest.
+   *
+   * @param quests the number of quests
+   * @param requirementsPerQuest the number of requirements of each quest
+   * @param rewardsPerQuest the number of rewards of each quest
+   * @return the rows
+   */
+  static QuestRows catalog(int quests, int requirementsPerQuest, int rewardsPerQuest) {
+
+    QuestRows questRows = new QuestRows();
+
+    for (int questId = 1; questId <= quests; questId++) {
+      for (int requirement = 0; requirement < requirementsPerQuest; requirement++) {
+        for (int reward = 0; reward < rewardsPerQuest; reward++) {
+          questRows.add(questId, questId,
+              questId * requirementsPerQuest + requirement,
+              questId * rewardsPerQuest + reward);
+        }
+      }
+    }
+
+    return questRows;
+
+  }
+
+  /**
+   * Adds a row.
+   *
+   * @param questId the id of the quest
+   * @param objectiveId the id of the objective, or null
+   * @param requirementId the id of the requirement, or null
+   * @param rewardId the id of the reward, or null
+   * @return this instance, to add more rows
+   */
+  QuestRows add(int questId, Integer objectiveId, Integer requirementId, Integer rewardId) {
+
+    Map<String, Object> row = new HashMap<>();
+
+    row.put("id", questId);
+    row.put("name", "Quest " + questId);
+    row.put("description", "Description");
+    row.put("opening_msg", "Opening");
+    row.put("closing_msg", "Closing");
+    row.put("item", "STONE");
+    row.put("time_limit", 0);
+
+    row.put("quest_objective_id", objectiveId);
+    row.put("quest_objective_type", objectiveId != null ? "BREAK_BLOCK" : null);
+    row.put("quest_objective_str_value", objectiveId != null ? "SAND" : null);
+    row.put("quest_objective_num_value", objectiveId != null ? 10F : null);
+
+    row.put("quest_requirement_id", requirementId);
+    row.put("quest_requirement_type", requirementId != null ? "MONEY" : null);
+    row.put("quest_requirement_str_value", null);
+    row.put("quest_requirement_num_value", requirementId != null ? 100F : null);
+
+    row.put("quest_reward_id", rewardId);
+    row.put("quest_reward_type", rewardId != null ? "ITEMS" : null);
+    row.put("quest_reward_str_value", rewardId != null ? "DIAMOND" : null);
+    row.put("quest_reward_num_value", rewardId != null ? 1F : null);
+
+    rows.add(row);
+
+    return this;
+
+  }
+
+  int size() {
+    return rows.size();
+  }
+
+  /**
+   * Creates a result set over the rows, positioned before the first row. Only the methods used to
+   * read the quests are supported.
+   *
+   * @return the result set
+   */
+  ResultSet toResultSet() {
+    return toResultSet(rows);
+  }
+
+  /**
+   * Creates a result set over the given rows, positioned before the first row.
+   *
+   * @param rows the rows, by column name
+   * @return the result set
+   */
+  static ResultSet toResultSet(List<Map<String, Object>> rows) {
+
+    int[] position = {-1};
+    boolean[] wasNull = {false};
+
+    return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(),
+        new Class<?>[]{ResultSet.class}, (proxy, method, args) -> switch (method.getName()) {
+          case "next" -> ++position[0] < rows.size();
+          case "wasNull" -> wasNull[0];
+          case "getInt", "getString", "getFloat" -> {
+            Object value = rows.get(position[0]).get((String) args[0]);
+            wasNull[0] = value == null;
+            if (value != null) {
+              yield value;
+            }
+            yield method.getName().equals("getString") ? null
+                : method.getName().equals("getInt") ? (Object) 0 : (Object) 0F;
+          }
+          case "close" -> null;
+          default -> throw new UnsupportedOperationException(method.getName());
+        });
+
+  }
+
+}
@@ -193,4 +193,24 @@ class QuestsRepositoryIT {
 
   }
 
-}
\ No newline at end of file
+  @Test
+  @DisplayName("findAllAfter() returns the quests after the given id, skipping deleted quests")
+  public void findAllAfter_ReturnsQuestsAfterId() {
+
+    for (int i = 1; i <= 4; i++) {
+      questsRepository.insert(new QuestModel(i, "Test Name", "Test Description",
+          "Test Opening Msg", "Test Closing Msg", "Test Item", 1,
+          null, new HashSet<>(), new HashSet<>())).join();
+    }
+
+    questsRepository.delete(3).join();
+
+    questsRepository.findAllAfter(1, 2)
+        .thenAccept(quests -> Assertions.assertThat(quests)
+            .extracting(QuestModel::id)
+            .containsExactly(2, 4))
+        .join();
+
+  }
+
+}
@@ -7,6 +7,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import dev.hugog.minecraft.wonderquests.concurrency.ConcurrencyHandler;
 import dev.hugog.minecraft.wonderquests.data.connectivity.DataSource;
 import dev.hugog.minecraft.wonderquests.data.models.SignModel;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Set;
 import java.util.logging.Logger;
 import org.junit.jupiter.api.AfterAll;
@@ -51,7 +53,7 @@ class SignsRepositoryIT {
 
     signsRepository.createTable().join();
 
-    signModel = new SignModel(1, "Test Type", "Test World", 1, 1, 1);
+    signModel = new SignModel(1, "Test Type", "Test World", 1, 1, 1, null);
 
   }
 
@@ -117,8 +119,8 @@ class SignsRepositoryIT {
   @DisplayName("findAll() returns all signs in the database")
   public void findAll_ReturnsAllSignsInDatabase() {
 
-    SignModel signModel1 = new SignModel(1, "Test Type", "Test World", 1, 1, 1);
-    SignModel signModel2 = new SignModel(2, "Test Type", "Test World", 2, 2, 2);
+    SignModel signModel1 = new SignModel(1, "Test Type", "Test World", 1, 1, 1, null);
+    SignModel signModel2 = new SignModel(2, "Test Type", "Test World", 2, 2, 2, null);
 
     signsRepository.insert(signModel1).join();
     signsRepository.insert(signModel2).join();
@@ -144,4 +146,53 @@ class SignsRepositoryIT {
 
   }
 
-}
\ No newline at end of file
+  @Test
+  @DisplayName("insert() and findAll() keep the quest of a sign")
+  public void insert_KeepsQuestIdOfSign() {
+
+    SignModel questSign = new SignModel(1, "Test Type", "Test World", 1, 1, 1, 7);
+
+    signsRepository.insert(questSign).join();
+
+    assertEquals(Set.of(questSign), signsRepository.findAll().join());
+
+  }
+
+  @Test
+  @DisplayName("updateTable() adds the quest_id column to a signs table created without it")
+  public void updateTable_AddsQuestIdColumnToOldSignsTable() {
+
+    signsRepository.deleteTable().join();
+
+    // The signs table as it was created before the quest_id column was added
+    dataSource.apply(con -> {
+      try (Statement statement = con.createStatement()) {
+
+        statement.execute("CREATE TABLE sign ("
+            + "id SERIAL PRIMARY KEY,"
+            + "type VARCHAR(64) NOT NULL,"
+            + "world_name VARCHAR(128) NOT NULL,"
+            + "x INTEGER NOT NULL,"
+            + "y INTEGER NOT NULL,"
+            + "z INTEGER NOT NULL"
+            + ");");
+        statement.execute("INSERT INTO sign (type, world_name, x, y, z) "
+            + "VALUES ('Test Type', 'Test World', 1, 1, 1);");
+
+      } catch (SQLException e) {
+        throw new RuntimeException(e);
+      }
+    });
+
+    // Running the migration again must not fail, as it runs on every start
+    signsRepository.updateTable().join();
+    signsRepository.updateTable().join();
+
+    SignModel questSign = new SignModel(2, "Test Type", "Test World", 2, 2, 2, 7);
+    signsRepository.insert(questSign).join();
+
+    assertEquals(Set.of(signModel, questSign), signsRepository.findAll().join());
+
+  }
+
+}
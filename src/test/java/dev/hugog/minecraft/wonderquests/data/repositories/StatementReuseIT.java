@@ -0,0 +1,172 @@
+package dev.hugog.minecraft.wonderquests.data.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import dev.hugog.minecraft.wonderquests.concurrency.ConcurrencyHandler;
+import dev.hugog.minecraft.wonderquests.data.connectivity.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.logging.Logger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Checks that the hot findAllByPlayerId() query is prepared once per connection and reused, and
+ * logs its average latency against the previous way of running it, which left its statements open
+ * and so was parsed and planned on every execution.
+ */
+class StatementReuseIT {
+
+  private static final int ACTIVE_QUESTS = 20;
+
+  private static final int WARMUP_ITERATIONS = 50;
+  private static final int MEASURED_ITERATIONS = 1000;
+
+  private static final String FIND_ALL_BY_PLAYER_ID =
+      "SELECT * FROM active_quest JOIN quest ON active_quest.quest_id = quest.id WHERE player_id = ?;";
+
+  private final Logger logger = Logger.getLogger(this.getClass().getName());
+
+  private DataSource dataSource;
+  private ConcurrencyHandler concurrencyHandler;
+  private ActiveQuestRepository activeQuestRepository;
+
+  private UUID playerId;
+
+  final static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16.1-alpine");
+
+  @BeforeAll
+  static void setUpAll() {
+    postgres.start();
+  }
+
+  @AfterAll
+  static void tearDownAll() {
+    postgres.stop();
+  }
+
+  @BeforeEach
+  void setUp() {
+
+    concurrencyHandler = new ConcurrencyHandler();
+
+    // A single connection, so every query runs on the same session
+    dataSource = new DataSource(logger);
+    dataSource.initDataSource(postgres.getHost(), postgres.getFirstMappedPort().toString(),
+        postgres.getDatabaseName(), postgres.getUsername(), postgres.getPassword(), 1);
+
+    new QuestsRepository(logger, dataSource, concurrencyHandler).createTable().join();
+    new PlayersRepository(logger, dataSource, concurrencyHandler).createTable().join();
+    activeQuestRepository = new ActiveQuestRepository(logger, dataSource, concurrencyHandler);
+    activeQuestRepository.createTable().join();
+
+    playerId = UUID.randomUUID();
+
+    dataSource.apply(con -> {
+      try (Statement statement = con.createStatement()) {
+
+        statement.execute(String.format("INSERT INTO quest "
+            + "(name, description, opening_msg, closing_msg, item, time_limit) "
+            + "SELECT 'Quest ' || i, 'Description', 'Opening', 'Closing', 'STONE', 0 "
+            + "FROM generate_series(1, %d) AS i;", ACTIVE_QUESTS));
+        statement.execute(String.format("INSERT INTO player (id) VALUES ('%s');", playerId));
+        statement.execute(String.format("INSERT INTO active_quest (player_id, quest_id, target) "
+            + "SELECT '%s', id, 10 FROM quest;", playerId));
+
+      } catch (SQLException e) {
+        throw new RuntimeException(e);
+      }
+    });
+
+  }
+
+  @AfterEach
+  void tearDown() {
+    activeQuestRepository.deleteTable().join();
+    new PlayersRepository(logger, dataSource, concurrencyHandler).deleteTable().join();
+    new QuestsRepository(logger, dataSource, concurrencyHandler).deleteTable().join();
+    dataSource.closeDataSource();
+  }
+
+  @Test
+  @DisplayName("findAllByPlayerId() prepares its query once per connection and reuses it")
+  public void findAllByPlayerId_ReusesPreparedStatement() {
+
+    for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+      assertEquals(ACTIVE_QUESTS, activeQuestRepository.findAllByPlayerId(playerId).join().size());
+    }
+
+    assertEquals(1, countPreparedStatements());
+
+  }
+
+  @Test
+  @DisplayName("Benchmark of findAllByPlayerId() against unclosed, unprepared statements")
+  public void benchmarkFindAllByPlayerId() throws SQLException {
+
+    double reusedMillis = measure(() -> activeQuestRepository.findAllByPlayerId(playerId).join());
+
+    // The previous implementation: a new statement on every call, which is never closed
+    try (Connection con = DriverManager.getConnection(postgres.getJdbcUrl(),
+        postgres.getUsername(), postgres.getPassword())) {
+
+      double unclosedMillis = measure(() -> {
+        try {
+          PreparedStatement ps = con.prepareStatement(FIND_ALL_BY_PLAYER_ID);
+          ps.setObject(1, playerId);
+          ResultSet rs = ps.executeQuery();
+          while (rs.next()) {
+            rs.getInt("quest_id");
+          }
+        } catch (SQLException e) {
+          throw new RuntimeException(e);
+        }
+      });
+
+      logger.info(String.format("findAllByPlayerId - reused statement: %6.3f ms/query "
+              + "| unclosed statements: %6.3f ms/query | server-side statements: %d",
+          reusedMillis, unclosedMillis, countPreparedStatements()));
+
+    }
+
+  }
+
+  private long countPreparedStatements() {
+    return dataSource.execute(con -> {
+      try {
+        return QueryExecutor.queryFirst(con,
+            "SELECT count(*) FROM pg_prepared_statements WHERE statement LIKE ?;",
+            ps -> ps.setString(1, "%FROM active_quest JOIN quest%"), rs -> rs.getLong(1))
+            .orElse(0L);
+      } catch (SQLException e) {
+        throw new RuntimeException(e);
+      }
+    });
+  }
+
+  private double measure(Runnable operation) {
+
+    for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+      operation.run();
+    }
+
+    long start = System.nanoTime();
+    for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+      operation.run();
+    }
+
+    return (System.nanoTime() - start) / 1_000_000.0 / MEASURED_ITERATIONS;
+
+  }
+
+}
@@ -3,22 +3,31 @@ package dev.hugog.minecraft.wonderquests.data.services;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import dev.hugog.minecraft.wonderquests.cache.ActiveQuestsWriteBehind;
+import dev.hugog.minecraft.wonderquests.cache.implementation.ActiveObjectivesIndex;
 import dev.hugog.minecraft.wonderquests.cache.implementation.ActiveQuestsCache;
 import dev.hugog.minecraft.wonderquests.data.dtos.ActiveQuestDto;
 import dev.hugog.minecraft.wonderquests.data.dtos.QuestDto;
+import dev.hugog.minecraft.wonderquests.data.dtos.QuestObjectiveDto;
 import dev.hugog.minecraft.wonderquests.data.keys.PlayerQuestKey;
 import dev.hugog.minecraft.wonderquests.data.models.ActiveQuestModel;
 import dev.hugog.minecraft.wonderquests.data.repositories.ActiveQuestRepository;
+import dev.hugog.minecraft.wonderquests.data.types.ObjectiveType;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -35,6 +44,15 @@ public class ActiveQuestsServiceTest {
   @Mock
   private ActiveQuestRepository activeQuestRepository;
 
+  @Mock
+  private ActiveObjectivesIndex activeObjectivesIndex;
+
+  @Mock
+  private QuestsService questsService;
+
+  @Mock
+  private ActiveQuestsWriteBehind activeQuestsWriteBehind;
+
   @Mock
   private QuestDto questDto;
 
@@ -65,11 +83,16 @@ public class ActiveQuestsServiceTest {
   public void startQuestSuccessfully() {
     when(activeQuestRepository.insert(any(ActiveQuestModel.class)))
         .thenReturn(CompletableFuture.completedFuture(playerQuestKey));
+    when(questsService.getQuestById(questId, true))
+        .thenReturn(CompletableFuture.completedFuture(Optional.of(questDto)));
+    when(questDto.getObjective()).thenReturn(
+        new QuestObjectiveDto(1, questId, ObjectiveType.BREAK_BLOCK, "STONE", objectiveTarget));
 
     CompletableFuture<Boolean> result = activeQuestsService.startQuest(playerId, questId,
         objectiveTarget);
 
     assertTrue(result.join());
+    verify(activeObjectivesIndex).index(playerQuestKey, ObjectiveType.BREAK_BLOCK, "STONE");
   }
 
   @Test
@@ -81,6 +104,7 @@ public class ActiveQuestsServiceTest {
         objectiveTarget);
 
     assertFalse(result.join());
+    verify(activeObjectivesIndex, never()).index(any(), any(), any());
   }
 
   @Test
@@ -109,8 +133,7 @@ public class ActiveQuestsServiceTest {
   public void getActiveQuestsForPlayerReturnsCachedQuests() {
     Set<ActiveQuestDto> activeQuests = new HashSet<>();
     activeQuests.add(activeQuestDto);
-    when(activeQuestsCache.has(any(UUID.class))).thenReturn(true);
-    when(activeQuestsCache.get(any(UUID.class))).thenReturn(activeQuests);
+    when(activeQuestsCache.getIfPresent(any(UUID.class))).thenReturn(activeQuests);
 
     CompletableFuture<Set<ActiveQuestDto>> result = activeQuestsService.getActiveQuestsForPlayer(
         playerId);
@@ -122,16 +145,72 @@ public class ActiveQuestsServiceTest {
   public void getActiveQuestsForPlayerReturnsQuestsFromRepository() {
     Set<ActiveQuestDto> activeQuests = new HashSet<>();
     activeQuests.add(activeQuestDto);
-    when(activeQuestsCache.has(any(UUID.class))).thenReturn(false);
+    when(activeQuestsCache.getIfPresent(any(UUID.class))).thenReturn(null);
     when(activeQuestRepository.findAllByPlayerId(any(UUID.class)))
         .thenReturn(CompletableFuture.completedFuture(
             activeQuests.stream().map(ActiveQuestDto::toModel).collect(
                 Collectors.toSet())));
+    when(questsService.getQuestById(questId, true))
+        .thenReturn(CompletableFuture.completedFuture(Optional.of(questDto)));
+    when(questDto.getObjective()).thenReturn(
+        new QuestObjectiveDto(1, questId, ObjectiveType.KILL_MOBS, "ZOMBIE", objectiveTarget));
 
     CompletableFuture<Set<ActiveQuestDto>> result = activeQuestsService.getActiveQuestsForPlayer(
         playerId);
 
     assertEquals(activeQuests, result.join());
+    verify(activeObjectivesIndex).index(playerQuestKey, ObjectiveType.KILL_MOBS, "ZOMBIE");
+  }
+
+  @Test
+  public void acceptActiveQuestsForPlayerRunsSynchronouslyOnCacheHit() {
+    Set<ActiveQuestDto> activeQuests = Set.of(activeQuestDto);
+    when(activeQuestsCache.getIfPresent(playerId)).thenReturn(activeQuests);
+
+    AtomicReference<Set<ActiveQuestDto>> acceptedQuests = new AtomicReference<>();
+    activeQuestsService.acceptActiveQuestsForPlayer(playerId, acceptedQuests::set);
+
+    assertSame(activeQuests, acceptedQuests.get());
+    verify(activeQuestRepository, never()).findAllByPlayerId(any(UUID.class));
+  }
+
+  @Test
+  public void acceptActiveQuestsForPlayerLoadsQuestsOnCacheMiss() {
+    when(activeQuestsCache.getIfPresent(playerId)).thenReturn(null);
+    when(activeQuestRepository.findAllByPlayerId(playerId))
+        .thenReturn(CompletableFuture.completedFuture(Set.of(activeQuestDto.toModel())));
+    when(activeObjectivesIndex.isIndexed(playerQuestKey)).thenReturn(true);
+
+    AtomicReference<Set<ActiveQuestDto>> acceptedQuests = new AtomicReference<>();
+    activeQuestsService.acceptActiveQuestsForPlayer(playerId, acceptedQuests::set);
+
+    assertEquals(Set.of(activeQuestDto), acceptedQuests.get());
+    verify(activeQuestsCache).put(playerId, acceptedQuests.get());
+  }
+
+  @Test
+  public void pinActiveQuestsForPlayerPinsPlayerBeforeLoading() {
+    Set<ActiveQuestDto> activeQuests = Set.of(activeQuestDto);
+    when(activeQuestsCache.getIfPresent(playerId)).thenReturn(activeQuests);
+
+    Set<ActiveQuestDto> result = activeQuestsService.pinActiveQuestsForPlayer(playerId).join();
+
+    assertSame(activeQuests, result);
+    verify(activeQuestsCache).pin(playerId);
+  }
+
+  @Test
+  public void unpinActiveQuestsForPlayerWritesChangesAndInvalidatesPlayer() {
+    when(activeQuestsCache.get(playerId)).thenReturn(Set.of(activeQuestDto));
+    when(activeQuestsWriteBehind.flush()).thenReturn(CompletableFuture.completedFuture(null));
+
+    activeQuestsService.unpinActiveQuestsForPlayer(playerId).join();
+
+    verify(activeQuestsCache).unpin(playerId);
+    verify(activeQuestsWriteBehind).enqueue(activeQuestDto);
+    verify(activeObjectivesIndex).remove(playerQuestKey);
+    verify(activeQuestsCache).invalidate(playerId);
+    verify(activeQuestsWriteBehind).flush();
   }
 
   @Test
@@ -142,11 +221,63 @@ public class ActiveQuestsServiceTest {
     CompletableFuture<Void> result = activeQuestsService.removeQuest(playerQuestKey);
 
     assertNull(result.join());
+    verify(activeObjectivesIndex).remove(playerQuestKey);
+    verify(activeQuestsWriteBehind).discard(playerQuestKey);
+  }
+
+  @Test
+  public void getActiveQuestsForPlayerPrefersPendingChanges() {
+    ActiveQuestDto pendingQuestDto = new ActiveQuestDto(playerId, questId, objectiveTarget, 5.0f,
+        activeQuestDto.getStartedAt(), null);
+    when(activeQuestsCache.getIfPresent(any(UUID.class))).thenReturn(null);
+    when(activeQuestRepository.findAllByPlayerId(any(UUID.class)))
+        .thenReturn(CompletableFuture.completedFuture(Set.of(activeQuestDto.toModel())));
+    when(activeQuestsWriteBehind.getPending(playerQuestKey)).thenReturn(pendingQuestDto);
+    when(activeObjectivesIndex.isIndexed(playerQuestKey)).thenReturn(true);
+
+    Set<ActiveQuestDto> result = activeQuestsService.getActiveQuestsForPlayer(playerId).join();
+
+    assertEquals(1, result.size());
+    assertSame(pendingQuestDto, result.iterator().next());
+  }
+
+  @Test
+  public void incrementQuestProgressEnqueuesChangedQuest() {
+    boolean result = activeQuestsService.incrementQuestProgress(activeQuestDto);
+
+    assertFalse(result);
+    assertEquals(1.0f, activeQuestDto.getProgress());
+    assertTrue(activeQuestDto.isDirty());
+    verify(activeQuestsWriteBehind).enqueue(activeQuestDto);
+  }
+
+  @Test
+  public void incrementQuestProgressReportsCompletionOnce() {
+    ActiveQuestDto almostCompletedQuestDto = new ActiveQuestDto(playerId, questId,
+        objectiveTarget, 9.0f, System.currentTimeMillis(), questDto);
+
+    assertTrue(activeQuestsService.incrementQuestProgress(almostCompletedQuestDto));
+    assertFalse(activeQuestsService.incrementQuestProgress(almostCompletedQuestDto));
+    assertEquals(11.0f, almostCompletedQuestDto.getProgress());
+  }
+
+  @Test
+  public void incrementQuestProgressConcurrentlyCompletesQuestOnce() {
+    int increments = 1000;
+    ActiveQuestDto concurrentQuestDto = new ActiveQuestDto(playerId, questId,
+        (float) increments, 0f, System.currentTimeMillis(), questDto);
+
+    long completions = IntStream.range(0, increments).parallel()
+        .filter(i -> activeQuestsService.incrementQuestProgress(concurrentQuestDto))
+        .count();
+
+    assertEquals(1, completions);
+    assertEquals((float) increments, concurrentQuestDto.getProgress());
   }
 
   @Test
   public void isQuestCompletedReturnsTrue() {
-    when(activeQuestsCache.get(any(UUID.class))).thenReturn(Set.of(completedQuestDto));
+    when(activeQuestsCache.get(playerId, questId)).thenReturn(completedQuestDto);
 
     boolean result = activeQuestsService.isQuestCompleted(playerId, questId);
 
@@ -155,7 +286,7 @@ public class ActiveQuestsServiceTest {
 
   @Test
   public void isQuestCompletedReturnsFalse() {
-    when(activeQuestsCache.get(any(UUID.class))).thenReturn(Set.of(activeQuestDto));
+    when(activeQuestsCache.get(playerId, questId)).thenReturn(activeQuestDto);
 
     boolean result = activeQuestsService.isQuestCompleted(playerId, questId);
 
@@ -165,8 +296,7 @@ public class ActiveQuestsServiceTest {
   @Test
   public void isQuestExpiredReturnsTrue() {
 
-    when(activeQuestsCache.get(any(UUID.class)))
-        .thenReturn(Set.of(completedQuestDto));
+    when(activeQuestsCache.get(playerId, questId)).thenReturn(completedQuestDto);
 
     // A low time limit to ensure that the quest is expired
     when(questDto.getTimeLimit()).thenReturn(-1);
@@ -179,7 +309,7 @@ public class ActiveQuestsServiceTest {
 
   @Test
   public void isQuestExpiredReturnsFalse() {
-    when(activeQuestsCache.get(any(UUID.class))).thenReturn(Set.of(completedQuestDto));
+    when(activeQuestsCache.get(playerId, questId)).thenReturn(completedQuestDto);
 
     // A high time limit to ensure that the quest is not expired
     when(questDto.getTimeLimit()).thenReturn(60000);
@@ -4,13 +4,19 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import dev.hugog.minecraft.wonderquests.cache.implementation.CompletedQuestsCache;
+import dev.hugog.minecraft.wonderquests.cache.implementation.QuestIdSet;
 import dev.hugog.minecraft.wonderquests.data.dtos.CompletedQuestDto;
 import dev.hugog.minecraft.wonderquests.data.keys.PlayerQuestKey;
 import dev.hugog.minecraft.wonderquests.data.models.CompletedQuestModel;
 import dev.hugog.minecraft.wonderquests.data.repositories.CompletedQuestRepository;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -29,6 +35,9 @@ public class CompletedQuestsServiceTest {
   @Mock
   private CompletedQuestRepository completedQuestRepository;
 
+  @Mock
+  private CompletedQuestsCache completedQuestsCache;
+
   @InjectMocks
   private CompletedQuestsService completedQuestsService;
 
@@ -58,6 +67,7 @@ public class CompletedQuestsServiceTest {
     CompletableFuture<Boolean> result = completedQuestsService.addCompletedQuest(completedQuestDto);
 
     assertTrue(result.join());
+    verify(completedQuestsCache).add(playerId, questId);
 
   }
 
@@ -111,12 +121,14 @@ public class CompletedQuestsServiceTest {
   @DisplayName("Has completed quest returns true")
   public void hasCompletedQuestReturnsTrue() {
 
-    when(completedQuestRepository.findAllByPlayer(any(UUID.class))).thenReturn(
-        CompletableFuture.completedFuture(Set.of(completedQuestDto.toModel())));
+    when(completedQuestsCache.get(playerId)).thenReturn(null);
+    when(completedQuestRepository.findById(playerQuestKey)).thenReturn(
+        CompletableFuture.completedFuture(Optional.of(completedQuestDto.toModel())));
 
     CompletableFuture<Boolean> result = completedQuestsService.hasCompletedQuest(playerId, questId);
 
     assertTrue(result.join());
+    verify(completedQuestRepository, never()).findAllByPlayer(any(UUID.class));
 
   }
 
@@ -124,12 +136,67 @@ public class CompletedQuestsServiceTest {
   @DisplayName("Has completed quest returns false")
   public void hasCompletedQuestReturnsFalse() {
 
-    when(completedQuestRepository.findAllByPlayer(any(UUID.class))).thenReturn(
-        CompletableFuture.completedFuture(new HashSet<>()));
+    when(completedQuestsCache.get(playerId)).thenReturn(null);
+    when(completedQuestRepository.findById(playerQuestKey)).thenReturn(
+        CompletableFuture.completedFuture(Optional.empty()));
 
     CompletableFuture<Boolean> result = completedQuestsService.hasCompletedQuest(playerId, questId);
 
     assertFalse(result.join());
 
   }
-}
\ No newline at end of file
+
+  @Test
+  @DisplayName("Has completed quest uses the cached completed quests")
+  public void hasCompletedQuestUsesCachedQuests() {
+
+    when(completedQuestsCache.get(playerId)).thenReturn(QuestIdSet.of(Set.of(questId)));
+
+    CompletableFuture<Boolean> result = completedQuestsService.hasCompletedQuest(playerId, questId);
+
+    assertTrue(result.join());
+    verify(completedQuestRepository, never()).findById(any(PlayerQuestKey.class));
+
+  }
+
+  @Test
+  @DisplayName("Load completed quests caches the completed quest ids")
+  public void loadCompletedQuestsCachesQuestIds() {
+
+    when(completedQuestRepository.findAllByPlayer(playerId)).thenReturn(
+        CompletableFuture.completedFuture(Set.of(completedQuestDto.toModel())));
+
+    completedQuestsService.loadCompletedQuests(playerId).join();
+
+    verify(completedQuestsCache).put(playerId, List.of(questId));
+
+  }
+
+  @Test
+  @DisplayName("Get completed quest ids uses the cached completed quests")
+  public void getCompletedQuestIdsUsesCachedQuests() {
+
+    QuestIdSet completedQuestIds = QuestIdSet.of(Set.of(questId));
+    when(completedQuestsCache.get(playerId)).thenReturn(completedQuestIds);
+
+    assertEquals(completedQuestIds, completedQuestsService.getCompletedQuestIds(playerId).join());
+    verify(completedQuestRepository, never()).findAllByPlayer(any(UUID.class));
+
+  }
+
+  @Test
+  @DisplayName("Get completed quest ids reads the quests of players who aren't cached")
+  public void getCompletedQuestIdsReadsUncachedPlayers() {
+
+    when(completedQuestsCache.get(playerId)).thenReturn(null);
+    when(completedQuestRepository.findAllByPlayer(playerId)).thenReturn(
+        CompletableFuture.completedFuture(Set.of(completedQuestDto.toModel())));
+
+    QuestIdSet completedQuestIds = completedQuestsService.getCompletedQuestIds(playerId).join();
+
+    assertTrue(completedQuestIds.contains(questId));
+    assertEquals(1, completedQuestIds.size());
+
+  }
+
+}
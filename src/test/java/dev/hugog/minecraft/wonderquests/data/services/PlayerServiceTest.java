@@ -3,11 +3,15 @@ package dev.hugog.minecraft.wonderquests.data.services;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import dev.hugog.minecraft.wonderquests.data.models.PlayerModel;
 import dev.hugog.minecraft.wonderquests.data.repositories.PlayersRepository;
-import java.util.Optional;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
@@ -38,8 +42,8 @@ public class PlayerServiceTest {
   @DisplayName("Check player returns true when the player exists in the database")
   public void checkPlayerReturnsTrueWhenPlayerExists() {
 
-    when(playersRepository.findById(any(UUID.class)))
-        .thenReturn(CompletableFuture.completedFuture(Optional.of(new PlayerModel(playerId))));
+    when(playersRepository.insertIfAbsent(any(PlayerModel.class)))
+        .thenReturn(CompletableFuture.completedFuture(false));
 
     CompletableFuture<Boolean> result = playerService.checkPlayer(playerId);
 
@@ -51,15 +55,56 @@ public class PlayerServiceTest {
   @DisplayName("Check player returns true when the player does not exist in the database")
   public void checkPlayerReturnsTrueWhenPlayerDoesNotExist() {
 
-    when(playersRepository.findById(any(UUID.class)))
-        .thenReturn(CompletableFuture.completedFuture(Optional.empty()));
-
-    when(playersRepository.insert(any(PlayerModel.class)))
-        .thenReturn(CompletableFuture.completedFuture(playerId));
+    when(playersRepository.insertIfAbsent(any(PlayerModel.class)))
+        .thenReturn(CompletableFuture.completedFuture(true));
 
     CompletableFuture<Boolean> result = playerService.checkPlayer(playerId);
 
     assertTrue(result.join());
+    verify(playersRepository).insertIfAbsent(new PlayerModel(playerId));
+  }
+
+  @Test
+  @DisplayName("Check players registers all the players with a single call")
+  public void checkPlayersRegistersAllPlayers() {
+
+    UUID otherPlayerId = UUID.randomUUID();
+    when(playersRepository.insertAllIfAbsent(anyCollection()))
+        .thenReturn(CompletableFuture.completedFuture(Set.of(otherPlayerId)));
+
+    playerService.checkPlayers(List.of(playerId, otherPlayerId)).join();
+
+    verify(playersRepository).insertAllIfAbsent(
+        List.of(new PlayerModel(playerId), new PlayerModel(otherPlayerId)));
+
+  }
+
+  @Test
+  @DisplayName("Check player checks the players queued while a check is running together")
+  public void checkPlayerCoalescesChecksQueuedWhileRunning() {
+
+    UUID secondPlayerId = UUID.randomUUID();
+    UUID thirdPlayerId = UUID.randomUUID();
+    CompletableFuture<Boolean> runningCheck = new CompletableFuture<>();
+    when(playersRepository.insertIfAbsent(any(PlayerModel.class))).thenReturn(runningCheck);
+    when(playersRepository.insertAllIfAbsent(anyCollection()))
+        .thenReturn(CompletableFuture.completedFuture(Set.of(secondPlayerId, thirdPlayerId)));
+
+    CompletableFuture<Boolean> firstResult = playerService.checkPlayer(playerId);
+    CompletableFuture<Boolean> secondResult = playerService.checkPlayer(secondPlayerId);
+    CompletableFuture<Boolean> thirdResult = playerService.checkPlayer(thirdPlayerId);
+
+    verify(playersRepository, never()).insertAllIfAbsent(anyCollection());
+
+    runningCheck.complete(true);
+
+    assertTrue(firstResult.join());
+    assertTrue(secondResult.join());
+    assertTrue(thirdResult.join());
+    verify(playersRepository).insertIfAbsent(new PlayerModel(playerId));
+    verify(playersRepository).insertAllIfAbsent(
+        List.of(new PlayerModel(secondPlayerId), new PlayerModel(thirdPlayerId)));
+
   }
 
   @Test
@@ -0,0 +1,193 @@
+package dev.hugog.minecraft.wonderquests.data.services;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.hugog.minecraft.wonderquests.cache.implementation.AvailableQuestsCache;
+import dev.hugog.minecraft.wonderquests.data.dtos.ActiveQuestDto;
+import dev.hugog.minecraft.wonderquests.hooks.EconomyHook;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PlayerSessionServiceTest {
+
+  @Mock
+  private PlayerService playerService;
+
+  @Mock
+  private ActiveQuestsService activeQuestsService;
+
+  @Mock
+  private CompletedQuestsService completedQuestsService;
+
+  @Mock
+  private QuestsService questsService;
+
+  @Mock
+  private AvailableQuestsCache availableQuestsCache;
+
+  @Mock
+  private EconomyHook economyHook;
+
+  private final UUID playerId = UUID.randomUUID();
+  private final Object connection = new Object();
+
+  private CompletableFuture<Set<ActiveQuestDto>> activeQuestsLoad;
+
+  @BeforeEach
+  void setUp() {
+
+    activeQuestsLoad = new CompletableFuture<>();
+
+    when(playerService.checkPlayer(playerId)).thenReturn(CompletableFuture.completedFuture(true));
+    when(activeQuestsService.pinActiveQuestsForPlayer(playerId)).thenReturn(activeQuestsLoad);
+    when(completedQuestsService.loadCompletedQuests(playerId))
+        .thenReturn(CompletableFuture.completedFuture(null));
+
+  }
+
+  @Test
+  @DisplayName("The data loaded after the session ended is removed from memory")
+  void startSession_RemovesDataLoadedAfterTheSessionEnded() {
+
+    PlayerSessionService playerSessionService = createService(Duration.ofMinutes(1));
+    when(activeQuestsService.unpinActiveQuestsForPlayer(playerId))
+        .thenReturn(CompletableFuture.completedFuture(null));
+
+    playerSessionService.startSession(playerId);
+    playerSessionService.cancelSession(playerId);
+
+    // The login was denied before the data was loaded
+    activeQuestsLoad.complete(Set.of());
+
+    verify(activeQuestsService, times(2)).unpinActiveQuestsForPlayer(playerId);
+    verify(completedQuestsService, times(2)).unloadCompletedQuests(playerId);
+
+  }
+
+  @Test
+  @DisplayName("The data loaded during the session stays in memory")
+  void startSession_KeepsDataLoadedDuringTheSession() {
+
+    PlayerSessionService playerSessionService = createService(Duration.ofMinutes(1));
+
+    playerSessionService.startSession(playerId);
+    playerSessionService.confirmSession(playerId, connection);
+    activeQuestsLoad.complete(Set.of());
+
+    verify(activeQuestsService, never()).unpinActiveQuestsForPlayer(any());
+    verify(completedQuestsService, never()).unloadCompletedQuests(any());
+
+  }
+
+  @Test
+  @DisplayName("endSession() ends the session of the connection that confirmed it")
+  void endSession_EndsSessionOfConnection() {
+
+    PlayerSessionService playerSessionService = createService(Duration.ofMinutes(1));
+    when(activeQuestsService.unpinActiveQuestsForPlayer(playerId))
+        .thenReturn(CompletableFuture.completedFuture(null));
+
+    playerSessionService.startSession(playerId);
+    activeQuestsLoad.complete(Set.of());
+    playerSessionService.confirmSession(playerId, connection);
+
+    playerSessionService.endSession(playerId, connection);
+
+    verify(activeQuestsService, times(1)).unpinActiveQuestsForPlayer(playerId);
+    verify(completedQuestsService, times(1)).unloadCompletedQuests(playerId);
+
+  }
+
+  @Test
+  @DisplayName("endSession() keeps the session of a newer login of the same player")
+  void endSession_KeepsSessionOfNewerLogin() {
+
+    PlayerSessionService playerSessionService = createService(Duration.ofMinutes(1));
+    Object newConnection = new Object();
+
+    playerSessionService.startSession(playerId);
+    activeQuestsLoad.complete(Set.of());
+    playerSessionService.confirmSession(playerId, connection);
+
+    // The same account logs in again before the old connection leaves
+    playerSessionService.startSession(playerId);
+    playerSessionService.endSession(playerId, connection);
+    playerSessionService.confirmSession(playerId, newConnection);
+    playerSessionService.endSession(playerId, connection);
+
+    verify(activeQuestsService, never()).unpinActiveQuestsForPlayer(any());
+    verify(completedQuestsService, never()).unloadCompletedQuests(any());
+
+  }
+
+  @Test
+  @DisplayName("startSessions() skips the players who already have a session")
+  void startSessions_SkipsPlayersWithSession() {
+
+    PlayerSessionService playerSessionService = createService(Duration.ofMinutes(1));
+
+    playerSessionService.startSession(playerId);
+    playerSessionService.startSessions(List.of(playerId)).join();
+
+    verify(activeQuestsService, times(1)).pinActiveQuestsForPlayer(playerId);
+    verify(playerService, never()).checkPlayers(anyCollection());
+
+  }
+
+  @Test
+  @DisplayName("endAbandonedSessions() ends the sessions of the players who never logged in")
+  void endAbandonedSessions_EndsUnconfirmedSessions() {
+
+    PlayerSessionService playerSessionService = createService(Duration.ZERO);
+    when(activeQuestsService.unpinActiveQuestsForPlayer(playerId))
+        .thenReturn(CompletableFuture.completedFuture(null));
+
+    playerSessionService.startSession(playerId);
+    activeQuestsLoad.complete(Set.of());
+
+    playerSessionService.endAbandonedSessions();
+    playerSessionService.endAbandonedSessions();
+
+    verify(activeQuestsService, times(1)).unpinActiveQuestsForPlayer(playerId);
+    verify(completedQuestsService, times(1)).unloadCompletedQuests(playerId);
+    verify(economyHook, times(1)).invalidateBalance(playerId);
+
+  }
+
+  @Test
+  @DisplayName("endAbandonedSessions() keeps the sessions of the players who logged in")
+  void endAbandonedSessions_KeepsConfirmedSessions() {
+
+    PlayerSessionService playerSessionService = createService(Duration.ZERO);
+
+    playerSessionService.startSession(playerId);
+    activeQuestsLoad.complete(Set.of());
+    playerSessionService.confirmSession(playerId, connection);
+
+    playerSessionService.endAbandonedSessions();
+
+    verify(activeQuestsService, never()).unpinActiveQuestsForPlayer(any());
+
+  }
+
+  private PlayerSessionService createService(Duration loginTimeout) {
+    return new PlayerSessionService(playerService, activeQuestsService, completedQuestsService,
+        questsService, availableQuestsCache, economyHook, loginTimeout);
+  }
+
+}
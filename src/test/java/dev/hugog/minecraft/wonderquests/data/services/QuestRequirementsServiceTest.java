@@ -3,6 +3,8 @@ package dev.hugog.minecraft.wonderquests.data.services;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import dev.hugog.minecraft.wonderquests.data.models.QuestRequirementModel;
@@ -24,6 +26,9 @@ public class QuestRequirementsServiceTest {
   @Mock
   private QuestRequirementsRepository questRequirementsRepository;
 
+  @Mock
+  private QuestsService questsService;
+
   @InjectMocks
   private QuestRequirementsService questRequirementsService;
 
@@ -43,10 +48,13 @@ public class QuestRequirementsServiceTest {
 
     when(questRequirementsRepository.delete(requirementId))
         .thenReturn(CompletableFuture.completedFuture(null));
+    when(questsService.reloadCatalogAfter(any()))
+        .thenAnswer(invocation -> invocation.getArgument(0));
 
     CompletableFuture<Void> result = questRequirementsService.deleteRequirement(requirementId);
 
     assertNull(result.join());
+    verify(questsService).reloadCatalogAfter(any());
 
   }
 
@@ -17,6 +17,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,6 +27,9 @@ public class QuestRewardsServiceTest {
   @Mock
   private QuestRewardsRepository questRewardsRepository;
 
+  @Mock
+  private QuestsService questsService;
+
   @InjectMocks
   private QuestRewardsService questRewardsService;
 
@@ -43,10 +48,13 @@ public class QuestRewardsServiceTest {
 
     when(questRewardsRepository.delete(rewardId))
         .thenReturn(CompletableFuture.completedFuture(null));
+    when(questsService.reloadCatalogAfter(any()))
+        .thenAnswer(invocation -> invocation.getArgument(0));
 
     CompletableFuture<Void> result = questRewardsService.deleteReward(rewardId);
 
     assertNull(result.join());
+    verify(questsService).reloadCatalogAfter(any());
 
   }
 
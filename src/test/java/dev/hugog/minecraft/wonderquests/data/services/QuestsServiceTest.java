@@ -5,11 +5,17 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import dev.hugog.minecraft.wonderquests.cache.implementation.QuestsCache;
+import dev.hugog.minecraft.wonderquests.cache.implementation.QuestCatalog;
+import dev.hugog.minecraft.wonderquests.cache.implementation.QuestPageCursors;
+import dev.hugog.minecraft.wonderquests.concurrency.ConcurrencyHandler;
+import dev.hugog.minecraft.wonderquests.data.connectivity.DataSource;
+import dev.hugog.minecraft.wonderquests.data.connectivity.UnitOfWork;
 import dev.hugog.minecraft.wonderquests.data.dtos.QuestDto;
 import dev.hugog.minecraft.wonderquests.data.dtos.QuestObjectiveDto;
 import dev.hugog.minecraft.wonderquests.data.dtos.QuestRewardDto;
@@ -30,12 +36,15 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -53,8 +62,20 @@ public class QuestsServiceTest {
   @Mock
   private QuestObjectivesRepository questObjectivesRepository;
 
+  @Spy
+  private QuestCatalog questCatalog = new QuestCatalog();
+
+  @Spy
+  private QuestPageCursors questPageCursors = new QuestPageCursors();
+
+  @Mock
+  private DataSource dataSource;
+
+  @Spy
+  private ConcurrencyHandler concurrencyHandler = new ConcurrencyHandler();
+
   @Mock
-  private QuestsCache questsCache;
+  private UnitOfWork unitOfWork;
 
   @InjectMocks
   private QuestsService questsService;
@@ -82,6 +103,7 @@ public class QuestsServiceTest {
   @Test
   public void createNewQuestSuccessfully() {
 
+    when(questsRepository.findAll()).thenReturn(CompletableFuture.completedFuture(Set.of()));
     when(questsRepository.insert(any(QuestModel.class))).thenReturn(
         CompletableFuture.completedFuture(questId));
 
@@ -94,6 +116,7 @@ public class QuestsServiceTest {
   @Test
   public void createNewQuestFails() {
 
+    when(questsRepository.findAll()).thenReturn(CompletableFuture.completedFuture(Set.of()));
     when(questsRepository.insert(any(QuestModel.class))).thenReturn(
         CompletableFuture.completedFuture(null));
 
@@ -103,6 +126,36 @@ public class QuestsServiceTest {
 
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  public void createQuestAggregateWritesQuestAndChildrenInOneUnitOfWork() {
+
+    when(questsRepository.findAll()).thenReturn(CompletableFuture.completedFuture(Set.of()));
+    when(dataSource.executeInTransaction(any())).thenAnswer(
+        invocation -> ((Function<UnitOfWork, ?>) invocation.getArgument(0)).apply(unitOfWork));
+    when(questsRepository.insert(eq(unitOfWork), any(QuestModel.class))).thenReturn(questId);
+
+    QuestObjectiveDto objective = new QuestObjectiveDto(null, null, ObjectiveType.KILL_MOBS,
+        "ZOMBIE", 10F);
+    QuestRequirementDto requirement = new QuestRequirementDto(null, null, RequirementType.MONEY,
+        null, 100F);
+    QuestRewardDto reward = new QuestRewardDto(null, null, RewardType.ITEMS, "DIAMOND", 1F);
+
+    questDto.setObjective(objective);
+    questDto.setRequirements(List.of(requirement));
+    questDto.setRewards(List.of(reward));
+
+    assertEquals(questId, questsService.createQuestAggregate(questDto).join());
+
+    assertEquals(questId, objective.getQuestId());
+    assertEquals(questId, requirement.getQuestId());
+    assertEquals(questId, reward.getQuestId());
+    verify(questObjectivesRepository).insert(eq(unitOfWork), any(QuestObjectiveModel.class));
+    verify(questRequirementsRepository).insertAll(eq(unitOfWork), anyList());
+    verify(questRewardsRepository).insertAll(eq(unitOfWork), anyList());
+
+  }
+
   @Test
   public void getQuestByIdReturnsQuest() {
 
@@ -155,6 +208,7 @@ public class QuestsServiceTest {
   @Test
   public void deleteQuestSuccessfully() {
 
+    when(questsRepository.findAll()).thenReturn(CompletableFuture.completedFuture(Set.of()));
     when(questsRepository.delete(any(Integer.class))).thenReturn(
         CompletableFuture.completedFuture(null));
 
@@ -178,22 +232,33 @@ public class QuestsServiceTest {
   }
 
   @Test
-  public void getQuestByIdWithCacheEnabledAndQuestInCacheReturnsQuest() {
+  public void getQuestByIdWithCatalogLoadedReturnsQuestFromCatalog() {
 
-    when(questsCache.has(any(Integer.class))).thenReturn(true);
-    when(questsCache.get(any(Integer.class))).thenReturn(questDto);
+    questCatalog.install(questCatalog.nextVersion(), List.of(questDto));
 
     CompletableFuture<Optional<QuestDto>> result = questsService.getQuestById(questId, true);
 
     assertTrue(result.join().isPresent());
     assertEquals(questDto, result.join().get());
+    verify(questsRepository, never()).findById(any(Integer.class));
+
+  }
+
+  @Test
+  public void getQuestByIdWithCatalogLoadedAndQuestNotInCatalogReturnsEmpty() {
+
+    questCatalog.install(questCatalog.nextVersion(), List.of(questDto));
+
+    CompletableFuture<Optional<QuestDto>> result = questsService.getQuestById(questId + 1);
+
+    assertFalse(result.join().isPresent());
+    verify(questsRepository, never()).findById(any(Integer.class));
 
   }
 
   @Test
-  public void getQuestByIdWithCacheEnabledAndQuestNotInCacheReturnsQuest() {
+  public void getQuestByIdWithCatalogNotLoadedReturnsQuestFromDatabase() {
 
-    when(questsCache.has(any(Integer.class))).thenReturn(false);
     when(questsRepository.findById(any(Integer.class))).thenReturn(
         CompletableFuture.completedFuture(Optional.of(questDto.toModel())));
 
@@ -205,15 +270,30 @@ public class QuestsServiceTest {
   }
 
   @Test
-  public void getQuestByIdWithCacheEnabledAndQuestNotInCacheStoresQuestInCache() {
+  public void reloadCatalogLoadsAllQuests() {
 
-    when(questsCache.has(any(Integer.class))).thenReturn(false);
-    when(questsRepository.findById(any(Integer.class))).thenReturn(
-        CompletableFuture.completedFuture(Optional.of(questDto.toModel())));
+    when(questsRepository.findAll())
+        .thenReturn(CompletableFuture.completedFuture(Set.of(questDto.toModel())));
 
-    questsService.getQuestById(questId, true);
+    questsService.reloadCatalog().join();
 
-    verify(questsCache).put(eq(questId), any(QuestDto.class));
+    assertTrue(questCatalog.isLoaded());
+    assertEquals(Optional.of(questDto), questCatalog.getSnapshot().getQuest(questId));
+
+  }
+
+  @Test
+  public void deleteQuestReloadsCatalog() {
+
+    questCatalog.install(questCatalog.nextVersion(), List.of(questDto));
+
+    when(questsRepository.delete(any(Integer.class))).thenReturn(
+        CompletableFuture.completedFuture(null));
+    when(questsRepository.findAll()).thenReturn(CompletableFuture.completedFuture(Set.of()));
+
+    questsService.deleteQuest(questId).join();
+
+    assertFalse(questsService.getQuestById(questId).join().isPresent());
 
   }
 
@@ -225,6 +305,7 @@ public class QuestsServiceTest {
     QuestObjectiveDto questObjectiveDto = new QuestObjectiveDto(questObjectiveId, 1,
         ObjectiveType.BREAK_BLOCK, "SAND", 1F);
 
+    when(questsRepository.findAll()).thenReturn(CompletableFuture.completedFuture(Set.of()));
     when(questObjectivesRepository.insert(any(QuestObjectiveModel.class))).thenReturn(
         CompletableFuture.completedFuture(questObjectiveId));
 
@@ -240,6 +321,7 @@ public class QuestsServiceTest {
     QuestObjectiveDto questObjectiveDto = new QuestObjectiveDto(1, 1,
         ObjectiveType.BREAK_BLOCK, "SAND", 1F);
 
+    when(questsRepository.findAll()).thenReturn(CompletableFuture.completedFuture(Set.of()));
     when(questObjectivesRepository.insert(any(QuestObjectiveModel.class))).thenReturn(
         CompletableFuture.completedFuture(null));
 
@@ -256,6 +338,7 @@ public class QuestsServiceTest {
     QuestRequirementDto questRequirementDto = new QuestRequirementDto(
         questRequirementId, 1, RequirementType.MONEY, null, 1F);
 
+    when(questsRepository.findAll()).thenReturn(CompletableFuture.completedFuture(Set.of()));
     when(questRequirementsRepository.insert(any(QuestRequirementModel.class))).thenReturn(
         CompletableFuture.completedFuture(questRequirementId));
 
@@ -271,6 +354,7 @@ public class QuestsServiceTest {
     QuestRequirementDto questRequirementDto = new QuestRequirementDto(
         1, 1, RequirementType.MONEY, null, 1F);
 
+    when(questsRepository.findAll()).thenReturn(CompletableFuture.completedFuture(Set.of()));
     when(questRequirementsRepository.insert(any(QuestRequirementModel.class))).thenReturn(
         CompletableFuture.completedFuture(null));
 
@@ -287,6 +371,7 @@ public class QuestsServiceTest {
     QuestRewardDto questRewardDto = new QuestRewardDto(
         questRewardId, 1, RewardType.MONEY, "", 1F);
 
+    when(questsRepository.findAll()).thenReturn(CompletableFuture.completedFuture(Set.of()));
     when(questRewardsRepository.insert(any(QuestRewardModel.class))).thenReturn(
         CompletableFuture.completedFuture(questRewardId));
 
@@ -302,6 +387,7 @@ public class QuestsServiceTest {
     QuestRewardDto questRewardDto = new QuestRewardDto(
         1, 1, RewardType.MONEY, "", 1F);
 
+    when(questsRepository.findAll()).thenReturn(CompletableFuture.completedFuture(Set.of()));
     when(questRewardsRepository.insert(any(QuestRewardModel.class))).thenReturn(
         CompletableFuture.completedFuture(null));
 
@@ -338,6 +424,65 @@ public class QuestsServiceTest {
 
   }
 
+  @Test
+  public void getAllQuestsInIntervalWithCatalogLoadedReturnsQuestsFromCatalog() {
+
+    List<QuestDto> quests = List.of(copyWithId(1), copyWithId(2), copyWithId(3));
+    questCatalog.install(questCatalog.nextVersion(), quests);
+
+    CompletableFuture<List<QuestDto>> result = questsService.getAllQuestsInInterval(1, 3);
+
+    assertEquals(quests.subList(1, 3), result.join());
+    verify(questsRepository, never()).findAllInInterval(any(Integer.class), any(Integer.class));
+
+  }
+
+  @Test
+  public void getQuestsAfterWithCatalogLoadedSkipsDeletedQuests() {
+
+    // Quest 3 was deleted
+    questCatalog.install(questCatalog.nextVersion(),
+        List.of(copyWithId(1), copyWithId(2), copyWithId(4), copyWithId(5)));
+
+    CompletableFuture<List<QuestDto>> result = questsService.getQuestsAfter(2, 2);
+
+    assertEquals(List.of(copyWithId(4), copyWithId(5)), result.join());
+
+  }
+
+  @Test
+  public void getQuestsPageWithoutCursorCountsQuestsAndStoresNextCursor() {
+
+    UUID playerId = UUID.randomUUID();
+
+    when(questsRepository.findAllInInterval(10, 20)).thenReturn(CompletableFuture.completedFuture(
+        List.of(copyWithId(11).toModel(), copyWithId(14).toModel())));
+
+    List<QuestDto> result = questsService.getQuestsPage(playerId, 1, 10).join();
+
+    assertEquals(2, result.size());
+    assertEquals(14, questPageCursors.get(playerId, 2));
+
+  }
+
+  @Test
+  public void getQuestsPageWithCursorReadsQuestsAfterCursor() {
+
+    UUID playerId = UUID.randomUUID();
+
+    when(questsRepository.findAllAfter(0, 10)).thenReturn(CompletableFuture.completedFuture(
+        List.of(copyWithId(1).toModel(), copyWithId(3).toModel())));
+    when(questsRepository.findAllAfter(3, 10)).thenReturn(CompletableFuture.completedFuture(
+        List.of(copyWithId(7).toModel())));
+
+    questsService.getQuestsPage(playerId, 0, 10).join();
+    List<QuestDto> result = questsService.getQuestsPage(playerId, 1, 10).join();
+
+    assertEquals(List.of(copyWithId(7)), result);
+    verify(questsRepository, never()).findAllInInterval(any(Integer.class), any(Integer.class));
+
+  }
+
   @Test
   public void getAllQuestsReturnsQuests() {
 
@@ -363,4 +508,9 @@ public class QuestsServiceTest {
 
   }
 
-}
\ No newline at end of file
+  private QuestDto copyWithId(Integer id) {
+    return new QuestDto(id, "Quest " + id, "Test Description", "1", "1", "1", 1, null, null,
+        null);
+  }
+
+}
@@ -5,13 +5,18 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import dev.hugog.minecraft.wonderquests.cache.implementation.SignRegistry;
 import dev.hugog.minecraft.wonderquests.data.dtos.SignDto;
 import dev.hugog.minecraft.wonderquests.data.models.SignModel;
 import dev.hugog.minecraft.wonderquests.data.repositories.SignsRepository;
 import dev.hugog.minecraft.wonderquests.data.types.SignType;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import org.bukkit.Location;
@@ -21,6 +26,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +41,9 @@ public class SignServiceTest {
   @Mock
   private World world;
 
+  @Spy
+  private SignRegistry signRegistry = new SignRegistry();
+
   @InjectMocks
   private SignService signService;
 
@@ -48,7 +57,8 @@ public class SignServiceTest {
         "world",
         1,
         1,
-        1
+        1,
+        null
     );
   }
 
@@ -156,4 +166,71 @@ public class SignServiceTest {
     assertTrue(result.join().isEmpty());
 
   }
-}
\ No newline at end of file
+
+  @Test
+  public void registerAndUnregisterSignUpdateRegistry() {
+
+    when(signsRepository.insert(any(SignModel.class)))
+        .thenReturn(CompletableFuture.completedFuture(1));
+    when(signsRepository.deleteByLocation("world", 1, 1, 1))
+        .thenReturn(CompletableFuture.completedFuture(1));
+    when(location.getWorld()).thenReturn(world);
+    when(world.getName()).thenReturn("world");
+    when(location.getBlockX()).thenReturn(1);
+    when(location.getBlockY()).thenReturn(1);
+    when(location.getBlockZ()).thenReturn(1);
+
+    signService.registerSign(SignType.ACTIVE_QUEST, location).join();
+    assertEquals(List.of(signDto), signRegistry.getSignsNear("world", 0, 0, 0));
+
+    signService.unregisterSign(location).join();
+    assertTrue(signRegistry.getSignsNear("world", 0, 0, 0).isEmpty());
+
+  }
+
+  @Test
+  public void getSignsNearReadsRegistryOnceLoaded() {
+
+    Set<SignModel> signs = new HashSet<>();
+    signs.add(signDto.toModel());
+    signs.add(new SignDto(2, SignType.ACTIVE_QUEST, "world", 1000, 1, 1000, null).toModel());
+    signs.add(new SignDto(3, SignType.ACTIVE_QUEST, "world_nether", 1, 1, 1, null).toModel());
+
+    when(signsRepository.findAll()).thenReturn(CompletableFuture.completedFuture(signs));
+    when(location.getWorld()).thenReturn(world);
+    when(world.getName()).thenReturn("world");
+    when(location.getBlockX()).thenReturn(20);
+    when(location.getBlockZ()).thenReturn(20);
+
+    // Before the registry is loaded, the signs are read from the database
+    assertEquals(List.of(signDto), signService.getSignsNear(location, 2).join());
+
+    signService.loadSigns().join();
+
+    assertEquals(List.of(signDto), signService.getSignsNear(location, 2).join());
+    verify(signsRepository, times(2)).findAll();
+
+  }
+
+  @Test
+  public void getSignsEnteringViewReturnsOnlyNewlyVisibleSigns() {
+
+    SignDto visibleSign = new SignDto(2, SignType.ACTIVE_QUEST, "world", 0, 64, 0, null);
+    SignDto enteringSign = new SignDto(3, SignType.ACTIVE_QUEST, "world", 48, 64, 0, null);
+    signRegistry.load(List.of(visibleSign, enteringSign));
+
+    Location to = mock(Location.class);
+    when(location.getWorld()).thenReturn(world);
+    when(to.getWorld()).thenReturn(world);
+    when(world.getName()).thenReturn("world");
+    when(location.getBlockX()).thenReturn(0);
+    when(location.getBlockZ()).thenReturn(0);
+    when(to.getBlockX()).thenReturn(16);
+    when(to.getBlockZ()).thenReturn(0);
+
+    // Moving from chunk 0 to chunk 1, with a radius of 2, brings chunk 3 into view
+    assertEquals(List.of(enteringSign), signService.getSignsEnteringView(location, to, 2));
+
+  }
+
+}
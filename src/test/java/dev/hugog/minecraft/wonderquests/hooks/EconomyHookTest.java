@@ -0,0 +1,126 @@
+package dev.hugog.minecraft.wonderquests.hooks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.logging.Logger;
+import net.milkbowl.vault.economy.Economy;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.Server;
+import org.bukkit.plugin.RegisteredServiceProvider;
+import org.bukkit.plugin.ServicesManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class EconomyHookTest {
+
+  @Mock
+  private Logger logger;
+
+  @Mock
+  private Server server;
+
+  @Mock
+  private ServicesManager servicesManager;
+
+  @Mock
+  private RegisteredServiceProvider<Economy> economyProvider;
+
+  @Mock
+  private Economy economy;
+
+  @Mock
+  private OfflinePlayer offlinePlayer;
+
+  private final UUID playerId = UUID.randomUUID();
+
+  @BeforeEach
+  void setUp() {
+    when(server.getServicesManager()).thenReturn(servicesManager);
+    when(servicesManager.getRegistration(Economy.class)).thenReturn(economyProvider);
+    when(economyProvider.getProvider()).thenReturn(economy);
+    when(server.getOfflinePlayer(playerId)).thenReturn(offlinePlayer);
+  }
+
+  @Test
+  @DisplayName("getBalance() reads the balance from the economy once while it's cached")
+  void getBalance_ReadsEconomyOnceWhileCached() {
+
+    EconomyHook economyHook = createEconomyHook(Duration.ofMinutes(1));
+    when(economy.getBalance(offlinePlayer)).thenReturn(20.0);
+
+    assertEquals(20.0, economyHook.getBalance(playerId));
+    assertEquals(20.0, economyHook.getBalance(playerId));
+    assertTrue(economyHook.has(playerId, 15));
+    assertFalse(economyHook.has(playerId, 25));
+
+    verify(economy, times(1)).getBalance(offlinePlayer);
+    assertEquals(3, economyHook.getBalanceStatistics().getHitCount());
+    assertEquals(1, economyHook.getBalanceStatistics().getMissCount());
+    assertEquals(1, economyHook.getEconomyStatistics().getCallCount());
+
+  }
+
+  @Test
+  @DisplayName("getBalance() reads the balance from the economy again once it expires")
+  void getBalance_ReadsEconomyAgainAfterExpiry() {
+
+    EconomyHook economyHook = createEconomyHook(Duration.ZERO);
+    when(economy.getBalance(offlinePlayer)).thenReturn(20.0, 30.0);
+
+    assertEquals(20.0, economyHook.getBalance(playerId));
+    assertEquals(30.0, economyHook.getBalance(playerId));
+
+    verify(economy, times(2)).getBalance(offlinePlayer);
+
+  }
+
+  @Test
+  @DisplayName("invalidateBalance() drops the cached balance of the player")
+  void invalidateBalance_RemovesCachedBalance() {
+
+    EconomyHook economyHook = createEconomyHook(Duration.ofMinutes(1));
+    when(economy.getBalance(offlinePlayer)).thenReturn(20.0);
+
+    economyHook.getBalance(playerId);
+    economyHook.invalidateBalance(playerId);
+    economyHook.getBalance(playerId);
+
+    verify(economy, times(2)).getBalance(offlinePlayer);
+
+  }
+
+  @Test
+  @DisplayName("depositPlayer() drops the cached balance of the player")
+  void depositPlayer_InvalidatesCachedBalance() {
+
+    EconomyHook economyHook = createEconomyHook(Duration.ofMinutes(1));
+    when(economy.getBalance(offlinePlayer)).thenReturn(20.0, 30.0);
+
+    assertEquals(20.0, economyHook.getBalance(playerId));
+    economyHook.depositPlayer(playerId, 10);
+    assertEquals(30.0, economyHook.getBalance(playerId));
+
+    verify(economy).depositPlayer(offlinePlayer, 10);
+    assertEquals(3, economyHook.getEconomyStatistics().getCallCount());
+
+  }
+
+  private EconomyHook createEconomyHook(Duration balanceTimeToLive) {
+    EconomyHook economyHook = new EconomyHook(logger, server, balanceTimeToLive);
+    economyHook.setupEconomy();
+    return economyHook;
+  }
+
+}
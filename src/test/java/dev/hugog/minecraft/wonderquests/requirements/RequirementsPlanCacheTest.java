@@ -0,0 +1,67 @@
+package dev.hugog.minecraft.wonderquests.requirements;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import dev.hugog.minecraft.wonderquests.cache.implementation.QuestCatalog;
+import dev.hugog.minecraft.wonderquests.data.dtos.QuestDto;
+import dev.hugog.minecraft.wonderquests.data.dtos.QuestRequirementDto;
+import dev.hugog.minecraft.wonderquests.data.types.RequirementType;
+import java.util.List;
+import java.util.logging.Logger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RequirementsPlanCacheTest {
+
+  private QuestCatalog questCatalog;
+  private RequirementsPlanCache requirementsPlanCache;
+
+  @BeforeEach
+  void setUp() {
+    questCatalog = new QuestCatalog();
+    requirementsPlanCache = new RequirementsPlanCache(Logger.getAnonymousLogger(), questCatalog);
+  }
+
+  @Test
+  @DisplayName("getPlan() reuses the plans of the catalog quests until the catalog changes")
+  void getPlan_ReusesPlansOfCatalogQuests() {
+
+    QuestDto quest = createQuest(1, 5f);
+    questCatalog.install(questCatalog.nextVersion(), List.of(quest));
+
+    RequirementsPlan plan = requirementsPlanCache.getPlan(quest);
+
+    assertSame(plan, requirementsPlanCache.getPlan(quest));
+    assertEquals(List.of(new CompiledRequirement.Experience(5)), plan.requirements());
+
+    QuestDto updatedQuest = createQuest(1, 10f);
+    questCatalog.install(questCatalog.nextVersion(), List.of(updatedQuest));
+
+    assertEquals(List.of(new CompiledRequirement.Experience(10)),
+        requirementsPlanCache.getPlan(updatedQuest).requirements());
+
+  }
+
+  @Test
+  @DisplayName("getPlan() compiles quests that aren't in the catalog every time")
+  void getPlan_CompilesQuestsOutsideCatalog() {
+
+    questCatalog.install(questCatalog.nextVersion(), List.of(createQuest(1, 5f)));
+
+    QuestDto quest = createQuest(1, 20f);
+    RequirementsPlan plan = requirementsPlanCache.getPlan(quest);
+
+    assertEquals(List.of(new CompiledRequirement.Experience(20)), plan.requirements());
+    assertNotSame(plan, requirementsPlanCache.getPlan(quest));
+
+  }
+
+  private QuestDto createQuest(Integer id, Float level) {
+    return new QuestDto(id, "Quest " + id, "Description", "1", "1", "1", 1, null,
+        List.of(new QuestRequirementDto(id, id, RequirementType.EXPERIENCE, null, level)), null);
+  }
+
+}
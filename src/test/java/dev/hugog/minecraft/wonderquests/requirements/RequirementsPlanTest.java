@@ -0,0 +1,121 @@
+package dev.hugog.minecraft.wonderquests.requirements;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.hugog.minecraft.wonderquests.data.dtos.QuestRequirementDto;
+import dev.hugog.minecraft.wonderquests.data.types.RequirementType;
+import dev.hugog.minecraft.wonderquests.hooks.EconomyHook;
+import java.util.List;
+import java.util.UUID;
+import java.util.logging.Logger;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class RequirementsPlanTest {
+
+  @Mock
+  private Logger logger;
+
+  @Mock
+  private Player player;
+
+  @Mock
+  private EconomyHook economyHook;
+
+  @Test
+  @DisplayName("compile() orders the requirements from the cheapest to the most expensive")
+  void compile_OrdersRequirementsByCost() {
+
+    RequirementsPlan plan = RequirementsPlan.compile(List.of(
+        createRequirement(RequirementType.MONEY, null, 10f),
+        createRequirement(RequirementType.PERMISSION, "quests.vip", null),
+        createRequirement(RequirementType.EXPERIENCE, null, 5f)
+    ), logger);
+
+    assertEquals(List.of(
+        new CompiledRequirement.Experience(5),
+        new CompiledRequirement.Permission("quests.vip"),
+        new CompiledRequirement.Money(10)
+    ), plan.requirements());
+
+  }
+
+  @Test
+  @DisplayName("compile() turns a requirement with an unknown item into one that is never met")
+  void compile_UnknownItemIsNeverMet() {
+
+    RequirementsPlan plan = RequirementsPlan.compile(List.of(
+        createRequirement(RequirementType.ITEM, "NOT_AN_ITEM", null)
+    ), logger);
+
+    assertEquals(List.of(new CompiledRequirement.Unsatisfiable()), plan.requirements());
+    assertFalse(plan.isMetBy(new RequirementContext(player, economyHook)));
+    verify(logger).warning(anyString());
+
+  }
+
+  @Test
+  @DisplayName("isMetBy() stops at the first requirement that isn't met")
+  void isMetBy_StopsAtFirstUnmetRequirement() {
+
+    when(player.getLevel()).thenReturn(2);
+
+    RequirementsPlan plan = RequirementsPlan.compile(List.of(
+        createRequirement(RequirementType.MONEY, null, 10f),
+        createRequirement(RequirementType.EXPERIENCE, null, 5f)
+    ), logger);
+
+    assertFalse(plan.isMetBy(new RequirementContext(player, economyHook)));
+    verify(economyHook, never()).getBalance(any());
+
+  }
+
+  @Test
+  @DisplayName("A context reads the balance of the player once, however many plans use it")
+  void isMetBy_ReadsBalanceOncePerContext() {
+
+    UUID playerId = UUID.randomUUID();
+    when(player.getUniqueId()).thenReturn(playerId);
+    when(economyHook.getBalance(playerId)).thenReturn(50.0);
+
+    RequirementsPlan cheapPlan = RequirementsPlan.compile(List.of(
+        createRequirement(RequirementType.MONEY, null, 10f)
+    ), logger);
+    RequirementsPlan expensivePlan = RequirementsPlan.compile(List.of(
+        createRequirement(RequirementType.MONEY, null, 100f)
+    ), logger);
+
+    RequirementContext context = new RequirementContext(player, economyHook);
+
+    assertTrue(cheapPlan.isMetBy(context));
+    assertFalse(expensivePlan.isMetBy(context));
+    verify(economyHook, times(1)).getBalance(playerId);
+
+  }
+
+  @Test
+  @DisplayName("A plan without requirements is always met")
+  void isMetBy_EmptyPlanIsMet() {
+    assertTrue(RequirementsPlan.compile(null, logger)
+        .isMetBy(new RequirementContext(player, economyHook)));
+  }
+
+  private QuestRequirementDto createRequirement(RequirementType type, String stringValue,
+      Float numericValue) {
+    return new QuestRequirementDto(1, 1, type, stringValue, numericValue);
+  }
+
+}
@@ -0,0 +1,92 @@
+package dev.hugog.minecraft.wonderquests.signs;
+
+import dev.hugog.minecraft.wonderquests.data.dtos.ActiveQuestDto;
+import dev.hugog.minecraft.wonderquests.data.dtos.QuestDto;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the cost of rendering the lines of a quests sign with {@link QuestSignLines} with the
+ * previous implementation, which created and serialized a component per line.
+ *
+ * <p>Run {@link #main(String[])} (after {@code mvn test-compile}) to execute it with the GC
+ * profiler - the {@code gc.alloc.rate.norm} metric is the number of bytes allocated per
+ * update.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QuestSignLinesBenchmark {
+
+  private QuestSignLines questSignLines;
+  private ActiveQuestDto activeQuest;
+
+  @Setup
+  public void setUp() {
+
+    QuestDto quest = new QuestDto(1, "Mine the stone", "Description", "1", "1", "1", 1, null,
+        null, null);
+
+    // The lines of an active quest don't use the messages
+    questSignLines = new QuestSignLines(null);
+    activeQuest = new ActiveQuestDto(UUID.randomUUID(), 1, 64f, 17f, 0L, quest);
+
+  }
+
+  @Benchmark
+  public String[] template() {
+    return questSignLines.activeQuest(activeQuest);
+  }
+
+  @Benchmark
+  public String[] components() {
+    return new String[]{
+        LegacyComponentSerializer.legacySection().serialize(
+            Component.text("WonderQuests", NamedTextColor.GREEN)
+        ),
+        LegacyComponentSerializer.legacySection().serialize(
+            Component.text(activeQuest.getQuestDetails().getName(), NamedTextColor.BLUE)
+        ),
+        LegacyComponentSerializer.legacySection().serialize(
+            Component.text(activeQuest.getProgressPercentage() + "%", NamedTextColor.YELLOW)
+        ),
+        LegacyComponentSerializer.legacySection().serialize(
+            Component.text(activeQuest.getProgress() + "/" + activeQuest.getTarget(),
+                NamedTextColor.GRAY)
+        )
+    };
+  }
+
+  public static void main(String[] args) throws RunnerException {
+
+    Options options = new OptionsBuilder()
+        .include(QuestSignLinesBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build();
+
+    new Runner(options).run();
+
+  }
+
+}
@@ -0,0 +1,110 @@
+package dev.hugog.minecraft.wonderquests.signs;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.hugog.minecraft.wonderquests.data.dtos.ActiveQuestDto;
+import dev.hugog.minecraft.wonderquests.data.dtos.QuestDto;
+import dev.hugog.minecraft.wonderquests.language.Messaging;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class QuestSignLinesTest {
+
+  @Mock
+  private Messaging messaging;
+
+  private QuestSignLines questSignLines;
+
+  @BeforeEach
+  void setUp() {
+    questSignLines = new QuestSignLines(messaging);
+  }
+
+  @Test
+  @DisplayName("activeQuest() renders the same lines as serializing a component per line")
+  void activeQuest_MatchesSerializedComponents() {
+
+    QuestDto quest = new QuestDto(1, "Miner", "Description", "1", "1", "1", 1, null, null, null);
+    ActiveQuestDto activeQuest = new ActiveQuestDto(UUID.randomUUID(), 1, 40f, 10f, 0L, quest);
+
+    LegacyComponentSerializer serializer = LegacyComponentSerializer.legacySection();
+
+    assertArrayEquals(new String[]{
+        serializer.serialize(Component.text("WonderQuests", NamedTextColor.GREEN)),
+        serializer.serialize(Component.text("Miner", NamedTextColor.BLUE)),
+        serializer.serialize(Component.text("25%", NamedTextColor.YELLOW)),
+        serializer.serialize(Component.text("10.0/40.0", NamedTextColor.GRAY))
+    }, questSignLines.activeQuest(activeQuest));
+
+  }
+
+  @Test
+  @DisplayName("noQuest() renders the lines once per locale")
+  void noQuest_RendersOncePerLocale() {
+
+    when(messaging.getLocalizedRawMessage("signs.quests.none"))
+        .thenReturn(Component.translatable("signs.quests.none"));
+
+    String[] lines = questSignLines.noQuest(Locale.US);
+
+    assertSame(lines, questSignLines.noQuest(Locale.US));
+    assertArrayEquals(new String[]{
+        LegacyComponentSerializer.legacySection()
+            .serialize(Component.text("WonderQuests", NamedTextColor.GREEN)),
+        null,
+        LegacyComponentSerializer.legacySection()
+            .serialize(Component.translatable("signs.quests.none", NamedTextColor.GRAY)),
+        null
+    }, lines);
+
+    questSignLines.noQuest(Locale.GERMAN);
+
+    verify(messaging, times(2)).getLocalizedRawMessage("signs.quests.none");
+
+  }
+
+  @Test
+  @DisplayName("leaderboard() shows the first three players, in order")
+  void leaderboard_ShowsTheFirstThreePlayers() {
+
+    Map<String, Integer> topPlayers = new LinkedHashMap<>();
+    topPlayers.put("Alex", 9);
+    topPlayers.put("Steve", 7);
+    topPlayers.put("Herobrine", 3);
+    topPlayers.put("Notch", 1);
+
+    String[] lines = questSignLines.leaderboard(Locale.US, topPlayers);
+
+    LegacyComponentSerializer serializer = LegacyComponentSerializer.legacySection();
+
+    assertEquals(4, lines.length);
+    assertEquals(serializer.serialize(Component.text("WonderQuests", NamedTextColor.GREEN)),
+        lines[0]);
+    assertEquals(serializer.serialize(Component.text()
+        .append(Component.text("1. ", NamedTextColor.GRAY))
+        .append(Component.text("Alex ", NamedTextColor.BLUE))
+        .append(Component.text("9", NamedTextColor.YELLOW))
+        .build()), lines[1]);
+    assertTrue(lines[3].contains("Herobrine"));
+
+  }
+
+}
@@ -0,0 +1,167 @@
+package dev.hugog.minecraft.wonderquests.signs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.hugog.minecraft.wonderquests.data.dtos.SignDto;
+import dev.hugog.minecraft.wonderquests.data.types.SignType;
+import dev.hugog.minecraft.wonderquests.events.QuestUpdateType;
+import dev.hugog.minecraft.wonderquests.mediators.SignsMediator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.bukkit.Server;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SignRefreshSchedulerTest {
+
+  @Mock
+  private Server server;
+
+  @Mock
+  private SignsMediator signsMediator;
+
+  @Mock
+  private Player player;
+
+  @Mock
+  private Player otherPlayer;
+
+  private final UUID playerId = UUID.randomUUID();
+
+  private TestRenderer leaderboardRenderer;
+  private SignRefreshScheduler signRefreshScheduler;
+
+  @BeforeEach
+  void setUp() {
+
+    leaderboardRenderer = new TestRenderer(SignType.LEADERBOARD,
+        EnumSet.of(QuestUpdateType.COMPLETED), true);
+
+    SignRendererRegistry signRendererRegistry = new SignRendererRegistry(List.of(
+        new TestRenderer(SignType.ACTIVE_QUEST, EnumSet.allOf(QuestUpdateType.class), false),
+        new TestRenderer(SignType.AVAILABLE_QUESTS, EnumSet.of(QuestUpdateType.COMPLETED), false),
+        leaderboardRenderer
+    ));
+
+    signRefreshScheduler = new SignRefreshScheduler(server, signsMediator, signRendererRegistry);
+    when(player.getUniqueId()).thenReturn(playerId);
+
+  }
+
+  @Test
+  @DisplayName("run() refreshes the signs of a player once, however many times they were marked")
+  void run_RefreshesEachDirtyPlayerOnce() {
+
+    when(server.getPlayer(playerId)).thenReturn(player);
+    when(player.isOnline()).thenReturn(true);
+
+    signRefreshScheduler.markDirty(player, QuestUpdateType.UPDATED);
+    signRefreshScheduler.markDirty(player, QuestUpdateType.UPDATED);
+    signRefreshScheduler.markDirty(player, QuestUpdateType.UPDATED);
+
+    assertEquals(1, signRefreshScheduler.getDirtyCount());
+
+    signRefreshScheduler.run();
+    signRefreshScheduler.run();
+
+    // Progress only changes the active quest signs
+    verify(signsMediator, times(1)).updateSigns(player, EnumSet.of(SignType.ACTIVE_QUEST));
+    assertEquals(0, signRefreshScheduler.getDirtyCount());
+
+  }
+
+  @Test
+  @DisplayName("markDirty() marks the shared signs of all the online players, once invalidated")
+  void markDirty_MarksSharedSignsOfAllPlayers() {
+
+    UUID otherPlayerId = UUID.randomUUID();
+
+    when(otherPlayer.getUniqueId()).thenReturn(otherPlayerId);
+    doReturn(List.of(player, otherPlayer)).when(server).getOnlinePlayers();
+    when(server.getPlayer(playerId)).thenReturn(player);
+    when(server.getPlayer(otherPlayerId)).thenReturn(otherPlayer);
+    when(player.isOnline()).thenReturn(true);
+    when(otherPlayer.isOnline()).thenReturn(true);
+
+    signRefreshScheduler.markDirty(player, QuestUpdateType.COMPLETED);
+    signRefreshScheduler.run();
+
+    assertEquals(1, leaderboardRenderer.invalidations);
+    verify(signsMediator).updateSigns(player, EnumSet.of(SignType.ACTIVE_QUEST,
+        SignType.AVAILABLE_QUESTS, SignType.LEADERBOARD));
+    verify(signsMediator).updateSigns(otherPlayer, EnumSet.of(SignType.LEADERBOARD));
+
+  }
+
+  @Test
+  @DisplayName("run() skips the players that left since they were marked")
+  void run_SkipsOfflinePlayers() {
+
+    when(server.getPlayer(playerId)).thenReturn(null);
+
+    signRefreshScheduler.markDirty(player, QuestUpdateType.STARTED);
+    signRefreshScheduler.run();
+
+    verify(signsMediator, never()).updateSigns(any(), anySet());
+    assertEquals(0, signRefreshScheduler.getDirtyCount());
+
+  }
+
+  private static class TestRenderer implements SignRenderer {
+
+    private final SignType type;
+    private final Set<QuestUpdateType> invalidatingUpdates;
+    private final boolean shared;
+
+    private int invalidations;
+
+    TestRenderer(SignType type, Set<QuestUpdateType> invalidatingUpdates, boolean shared) {
+      this.type = type;
+      this.invalidatingUpdates = invalidatingUpdates;
+      this.shared = shared;
+    }
+
+    @Override
+    public SignType getType() {
+      return type;
+    }
+
+    @Override
+    public Set<QuestUpdateType> getInvalidatingUpdates() {
+      return invalidatingUpdates;
+    }
+
+    @Override
+    public boolean isShared() {
+      return shared;
+    }
+
+    @Override
+    public void invalidate() {
+      invalidations++;
+    }
+
+    @Override
+    public CompletableFuture<List<String[]>> render(Player player, List<SignDto> signs) {
+      return CompletableFuture.completedFuture(List.of());
+    }
+
+  }
+
+}
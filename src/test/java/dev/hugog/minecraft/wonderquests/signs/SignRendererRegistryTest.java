@@ -0,0 +1,75 @@
+package dev.hugog.minecraft.wonderquests.signs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import dev.hugog.minecraft.wonderquests.data.types.SignType;
+import dev.hugog.minecraft.wonderquests.events.QuestUpdateType;
+import java.util.EnumSet;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SignRendererRegistryTest {
+
+  @Mock
+  private SignRenderer activeQuestRenderer;
+
+  @Mock
+  private SignRenderer leaderboardRenderer;
+
+  @Test
+  @DisplayName("getInvalidatedTypes() returns the types of the renderers invalidated by an update")
+  void getInvalidatedTypes_ReturnsTypesOfInvalidatedRenderers() {
+
+    when(activeQuestRenderer.getType()).thenReturn(SignType.ACTIVE_QUEST);
+    when(activeQuestRenderer.getInvalidatingUpdates())
+        .thenReturn(EnumSet.allOf(QuestUpdateType.class));
+    when(leaderboardRenderer.getType()).thenReturn(SignType.LEADERBOARD);
+    when(leaderboardRenderer.getInvalidatingUpdates())
+        .thenReturn(EnumSet.of(QuestUpdateType.COMPLETED));
+
+    SignRendererRegistry registry = new SignRendererRegistry(
+        List.of(activeQuestRenderer, leaderboardRenderer));
+
+    assertEquals(EnumSet.of(SignType.ACTIVE_QUEST),
+        registry.getInvalidatedTypes(QuestUpdateType.UPDATED));
+    assertEquals(EnumSet.of(SignType.ACTIVE_QUEST, SignType.LEADERBOARD),
+        registry.getInvalidatedTypes(QuestUpdateType.COMPLETED));
+
+    assertSame(leaderboardRenderer, registry.getRenderer(SignType.LEADERBOARD));
+    assertNull(registry.getRenderer(SignType.QUEST_STATUS));
+    assertNull(registry.getRenderer(null));
+
+  }
+
+  @Test
+  @DisplayName("The registry has no invalidated types for updates that no renderer declares")
+  void getInvalidatedTypes_IsEmptyWithoutRenderers() {
+    SignRendererRegistry registry = new SignRendererRegistry(List.of());
+    assertTrue(registry.getInvalidatedTypes(QuestUpdateType.STARTED).isEmpty());
+  }
+
+  @Test
+  @DisplayName("The registry rejects two renderers for the same sign type")
+  void constructor_RejectsDuplicateRenderers() {
+
+    when(activeQuestRenderer.getType()).thenReturn(SignType.ACTIVE_QUEST);
+    when(activeQuestRenderer.getInvalidatingUpdates())
+        .thenReturn(EnumSet.allOf(QuestUpdateType.class));
+    when(leaderboardRenderer.getType()).thenReturn(SignType.ACTIVE_QUEST);
+
+    assertThrows(IllegalArgumentException.class,
+        () -> new SignRendererRegistry(List.of(activeQuestRenderer, leaderboardRenderer)));
+
+  }
+
+}
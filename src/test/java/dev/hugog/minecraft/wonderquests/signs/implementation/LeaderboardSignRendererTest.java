@@ -0,0 +1,85 @@
+package dev.hugog.minecraft.wonderquests.signs.implementation;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.hugog.minecraft.wonderquests.data.dtos.SignDto;
+import dev.hugog.minecraft.wonderquests.data.services.CompletedQuestsService;
+import dev.hugog.minecraft.wonderquests.data.types.SignType;
+import dev.hugog.minecraft.wonderquests.signs.QuestSignLines;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.Server;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class LeaderboardSignRendererTest {
+
+  @Mock
+  private CompletedQuestsService completedQuestsService;
+
+  @Mock
+  private Server server;
+
+  @Mock
+  private OfflinePlayer offlinePlayer;
+
+  @Mock
+  private Player player;
+
+  private final SignDto sign = new SignDto(1, SignType.LEADERBOARD, "world", 0, 64, 0, null);
+
+  private LeaderboardSignRenderer renderer;
+
+  @BeforeEach
+  void setUp() {
+
+    renderer = new LeaderboardSignRenderer(completedQuestsService, server,
+        new QuestSignLines(null));
+
+    UUID playerId = UUID.randomUUID();
+    Map<UUID, Integer> topPlayers = new LinkedHashMap<>();
+    topPlayers.put(playerId, 7);
+
+    when(completedQuestsService.getTopPlayers(anyInt()))
+        .thenReturn(CompletableFuture.completedFuture(topPlayers));
+    when(server.getOfflinePlayer(playerId)).thenReturn(offlinePlayer);
+    when(offlinePlayer.getName()).thenReturn("Steve");
+    when(player.locale()).thenReturn(Locale.US);
+
+  }
+
+  @Test
+  @DisplayName("render() reads the leaderboard once, until it's invalidated")
+  void render_ReadsTheLeaderboardOnceUntilInvalidated() {
+
+    String[] expectedLines = new QuestSignLines(null)
+        .leaderboard(Locale.US, Map.of("Steve", 7));
+
+    assertArrayEquals(expectedLines, renderer.render(player, List.of(sign)).join().get(0));
+    assertArrayEquals(expectedLines, renderer.render(player, List.of(sign, sign)).join().get(1));
+
+    verify(completedQuestsService, times(1)).getTopPlayers(anyInt());
+
+    renderer.invalidate();
+    renderer.render(player, List.of(sign)).join();
+
+    verify(completedQuestsService, times(2)).getTopPlayers(anyInt());
+
+  }
+
+}
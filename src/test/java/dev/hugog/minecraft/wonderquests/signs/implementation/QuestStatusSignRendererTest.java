@@ -0,0 +1,104 @@
+package dev.hugog.minecraft.wonderquests.signs.implementation;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.hugog.minecraft.wonderquests.cache.implementation.QuestIdSet;
+import dev.hugog.minecraft.wonderquests.data.dtos.ActiveQuestDto;
+import dev.hugog.minecraft.wonderquests.data.dtos.QuestDto;
+import dev.hugog.minecraft.wonderquests.data.dtos.SignDto;
+import dev.hugog.minecraft.wonderquests.data.services.ActiveQuestsService;
+import dev.hugog.minecraft.wonderquests.data.services.CompletedQuestsService;
+import dev.hugog.minecraft.wonderquests.data.services.QuestsService;
+import dev.hugog.minecraft.wonderquests.data.types.SignType;
+import dev.hugog.minecraft.wonderquests.signs.QuestSignLines;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class QuestStatusSignRendererTest {
+
+  @Mock
+  private QuestsService questsService;
+
+  @Mock
+  private ActiveQuestsService activeQuestsService;
+
+  @Mock
+  private CompletedQuestsService completedQuestsService;
+
+  @Mock
+  private QuestSignLines questSignLines;
+
+  @Mock
+  private Player player;
+
+  private final UUID playerId = UUID.randomUUID();
+
+  private QuestStatusSignRenderer renderer;
+
+  @BeforeEach
+  void setUp() {
+    renderer = new QuestStatusSignRenderer(questsService, activeQuestsService,
+        completedQuestsService, questSignLines);
+    when(player.getUniqueId()).thenReturn(playerId);
+    when(player.locale()).thenReturn(Locale.US);
+  }
+
+  @Test
+  @DisplayName("render() shows the progress, completion or absence of the quest of each sign")
+  void render_ShowsTheStatusOfTheQuestOfEachSign() {
+
+    QuestDto activeQuestDetails = new QuestDto(1, "Miner", "Description", "1", "1", "1", 1, null,
+        null, null);
+    QuestDto completedQuest = new QuestDto(2, "Hunter", "Description", "1", "1", "1", 1, null,
+        null, null);
+    ActiveQuestDto activeQuest = new ActiveQuestDto(playerId, 1, 10f, 5f, 0L, activeQuestDetails);
+
+    String[] activeLines = {"active"};
+    String[] completedLines = {"completed"};
+    String[] unknownLines = {"unknown"};
+
+    when(activeQuestsService.getActiveQuestsForPlayer(playerId))
+        .thenReturn(CompletableFuture.completedFuture(Set.of(activeQuest)));
+    when(completedQuestsService.getCompletedQuestIds(playerId))
+        .thenReturn(CompletableFuture.completedFuture(QuestIdSet.of(List.of(2))));
+    when(questsService.getQuestById(2))
+        .thenReturn(CompletableFuture.completedFuture(Optional.of(completedQuest)));
+    when(questsService.getQuestById(3))
+        .thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+    when(questSignLines.activeQuest(activeQuest)).thenReturn(activeLines);
+    when(questSignLines.questStatus(Locale.US, completedQuest, true)).thenReturn(completedLines);
+    when(questSignLines.unknownQuest(Locale.US)).thenReturn(unknownLines);
+
+    List<String[]> lines = renderer.render(player, List.of(sign(1), sign(2), sign(3))).join();
+
+    assertEquals(3, lines.size());
+    assertArrayEquals(activeLines, lines.get(0));
+    assertArrayEquals(completedLines, lines.get(1));
+    assertArrayEquals(unknownLines, lines.get(2));
+
+    // The active quest is rendered from the active quests of the player
+    verify(questsService, never()).getQuestById(1);
+
+  }
+
+  private SignDto sign(int questId) {
+    return new SignDto(questId, SignType.QUEST_STATUS, "world", questId, 64, 0, questId);
+  }
+
+}